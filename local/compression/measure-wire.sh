@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# ===================================
+# Bytes on the Wire per Encoding - Base API
+# ===================================
+# Requests each path with and without gzip, over HTTP/1.1 and h2c (HTTP/2 without TLS,
+# prior knowledge), and records per combination:
+#   - bytes received for the body (size_download, compressed when gzip is used)
+#   - Content-Encoding of the response
+#   - median total time of the requests
+#
+# The first gzip request of a precompressed path (app.compression.precompressed.paths) pays the
+# compression; the following ones reuse it. Run it against an application already started,
+# e.g. ./local/start.sh, and compare with server.compression / precompressed disabled.
+#
+# Usage: ./measure-wire.sh [requests-per-combination]
+
+set -e
+
+REQUESTS=${1:-20}
+BASE_URL=${BASE_URL:-http://localhost:8080/base-api}
+PATHS=(/api-docs /example-status /example-status/active /example-status/1)
+
+median_ms() {
+    sort -n | awk '{ values[NR] = $1 } END { printf "%.2f", values[int((NR + 1) / 2)] * 1000 }'
+}
+
+measure() {
+    local path=$1 protocol=$2 encoding=$3
+    local protocol_flag="--http1.1"
+    [ "$protocol" = "h2c" ] && protocol_flag="--http2-prior-knowledge"
+
+    local result bytes content_encoding
+    result=$(curl -s -o /dev/null $protocol_flag -H "Accept-Encoding: ${encoding}" \
+        -w '%{size_download} %header{content-encoding}' "${BASE_URL}${path}")
+    bytes=${result%% *}
+    content_encoding=${result#* }
+
+    local time
+    time=$(for _ in $(seq "$REQUESTS"); do
+        curl -s -o /dev/null $protocol_flag -H "Accept-Encoding: ${encoding}" \
+            -w '%{time_total}\n' "${BASE_URL}${path}"
+    done | median_ms)
+
+    printf "%-24s %-8s %-9s %10s %-9s %10s\n" "$path" "$protocol" "$encoding" "$bytes" \
+        "${content_encoding:--}" "$time"
+}
+
+if ! curl -fs -o /dev/null "${BASE_URL}/actuator/health"; then
+    echo "No application answering at ${BASE_URL}" >&2
+    exit 1
+fi
+
+echo "Requests per combination: $REQUESTS"
+printf "%-24s %-8s %-9s %10s %-9s %10s\n" "path" "protocol" "accept" "bytes" "encoding" "median_ms"
+for path in "${PATHS[@]}"; do
+    for protocol in http1.1 h2c; do
+        for encoding in identity gzip; do
+            measure "$path" "$protocol" "$encoding"
+        done
+    done
+done
@@ -0,0 +1,74 @@
+// Carga sobre POST /examples para medir creaciones por segundo con un pool de conexiones fijo.
+//
+// Uso:
+//   k6 run local/k6/create-examples.js
+//   k6 run -e RATE=200 -e DURATION=2m -e CUIT_DELAY_MS=200 local/k6/create-examples.js
+//
+// Variables:
+//   BASE_URL       URL base de la API (default http://localhost:8080/base-api)
+//   WIREMOCK_URL   URL de WireMock (default http://localhost:8090)
+//   CUIT_DELAY_MS  Latencia fija que WireMock agrega al servicio de CUIT (default 200)
+//   RATE           Requests por segundo a intentar (default 100)
+//   DURATION       Duración de la prueba (default 1m)
+//   MAX_VUS        Máximo de usuarios virtuales (default 200)
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/base-api';
+const WIREMOCK_URL = __ENV.WIREMOCK_URL || 'http://localhost:8090';
+const CUIT_DELAY_MS = parseInt(__ENV.CUIT_DELAY_MS || '200', 10);
+
+const created = new Counter('examples_created');
+const duplicated = new Counter('examples_duplicated');
+
+export const options = {
+  scenarios: {
+    create: {
+      executor: 'constant-arrival-rate',
+      rate: parseInt(__ENV.RATE || '100', 10),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '1m',
+      preAllocatedVUs: 50,
+      maxVUs: parseInt(__ENV.MAX_VUS || '200', 10),
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  // Simula un servicio de CUIT lento para que el tiempo de retención de conexiones sea visible
+  http.post(`${WIREMOCK_URL}/__admin/settings`, JSON.stringify({ fixedDelay: CUIT_DELAY_MS }),
+    { headers: { 'Content-Type': 'application/json' } });
+  return { runId: Date.now() % 1000 };
+}
+
+export function teardown() {
+  http.post(`${WIREMOCK_URL}/__admin/settings`, JSON.stringify({ fixedDelay: 0 }),
+    { headers: { 'Content-Type': 'application/json' } });
+}
+
+export default function (data) {
+  // DNI único por iteración: 3 dígitos de la corrida + 5 del número de iteración
+  const iteration = exec.scenario.iterationInTest % 100000;
+  const dni = `${String(data.runId).padStart(3, '0')}${String(iteration).padStart(5, '0')}`;
+  const payload = JSON.stringify({
+    nombre: 'Carga',
+    apellido: 'K6',
+    dni: dni,
+    genero: iteration % 2 === 0 ? 'H' : 'M',
+  });
+
+  const res = http.post(`${BASE_URL}/examples`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'POST /examples' },
+  });
+
+  if (res.status === 201 || res.status === 202) {
+    created.add(1);
+  } else if (res.status === 400) {
+    duplicated.add(1);
+  }
+  check(res, { 'created': (r) => r.status === 201 || r.status === 202 });
+}
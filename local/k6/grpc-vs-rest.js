@@ -0,0 +1,85 @@
+// Compara la misma lectura por REST y por gRPC: GET /example-status/{id} contra
+// baseapi.v1.ExampleStatusService/GetStatus, con la misma tasa y duración.
+// Los escenarios corren uno después del otro para que no compitan por CPU.
+//
+// Uso:
+//   k6 run local/k6/grpc-vs-rest.js
+//   k6 run -e RATE=2000 -e DURATION=2m -e ACCEPT=application/x-protobuf local/k6/grpc-vs-rest.js
+//
+// Variables:
+//   BASE_URL   URL base de la API (default http://localhost:8080/base-api)
+//   GRPC_ADDR  Dirección del servidor gRPC (default localhost:9090)
+//   ACCEPT     Formato de la respuesta REST (default application/json)
+//   STATUS_ID  ID del estado a leer (default 1)
+//   RATE       Requests por segundo a intentar en cada escenario (default 500)
+//   DURATION   Duración de cada escenario (default 1m)
+//   MAX_VUS    Máximo de usuarios virtuales por escenario (default 200)
+import http from 'k6/http';
+import grpc from 'k6/net/grpc';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/base-api';
+const GRPC_ADDR = __ENV.GRPC_ADDR || 'localhost:9090';
+const ACCEPT = __ENV.ACCEPT || 'application/json';
+const STATUS_ID = __ENV.STATUS_ID || '1';
+const DURATION = __ENV.DURATION || '1m';
+const RATE = parseInt(__ENV.RATE || '500', 10);
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '200', 10);
+
+const client = new grpc.Client();
+client.load(['../../src/main/proto'], 'base_api.proto');
+
+// El escenario gRPC arranca cuando termina el REST, con 10s de margen
+function after(duration) {
+  const match = /^(\d+)([smh])$/.exec(duration);
+  const seconds = parseInt(match[1], 10) * { s: 1, m: 60, h: 3600 }[match[2]];
+  return `${seconds + 10}s`;
+}
+
+function scenario(exec, startTime) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec: exec,
+    rate: RATE,
+    timeUnit: '1s',
+    duration: DURATION,
+    startTime: startTime,
+    preAllocatedVUs: 50,
+    maxVUs: MAX_VUS,
+  };
+}
+
+export const options = {
+  scenarios: {
+    rest: scenario('rest', '0s'),
+    grpc: scenario('grpcCall', after(DURATION)),
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    // Separa las métricas de cada escenario en el resumen
+    'http_req_duration{scenario:rest}': [],
+    'grpc_req_duration{scenario:grpc}': [],
+  },
+};
+
+export function rest() {
+  const res = http.get(`${BASE_URL}/example-status/${STATUS_ID}`, {
+    headers: { Accept: ACCEPT },
+    tags: { name: 'GET /example-status/{id}' },
+  });
+  check(res, { 'rest ok': (r) => r.status === 200 });
+}
+
+let connected = false;
+
+export function grpcCall() {
+  // Una conexión HTTP/2 por usuario virtual, reutilizada entre iteraciones
+  if (!connected) {
+    client.connect(GRPC_ADDR, { plaintext: true });
+    connected = true;
+  }
+  const res = client.invoke('baseapi.v1.ExampleStatusService/GetStatus', { id: STATUS_ID }, {
+    timeout: '2s',
+  });
+  check(res, { 'grpc ok': (r) => r && r.status === grpc.StatusOK });
+}
@@ -0,0 +1,69 @@
+// Throughput máximo de lectura: la tasa de requests sube por etapas hasta que la API deja de
+// sostenerla. Sirve para comparar builds (JVM, JVM + AOT, nativo) con los mismos límites de
+// CPU y memoria.
+//
+// Uso:
+//   k6 run local/k6/peak-throughput.js
+//   k6 run -e START_RATE=500 -e STEP=500 -e STEPS=10 local/k6/peak-throughput.js
+//
+// Variables:
+//   BASE_URL    URL base de la API (default http://localhost:8080/base-api)
+//   START_RATE  Requests por segundo de la primera etapa (default 200)
+//   STEP        Incremento de cada etapa (default 200)
+//   STEPS       Cantidad de etapas (default 10)
+//   STEP_TIME   Duración de cada etapa (default 30s)
+//   MAX_VUS     Máximo de usuarios virtuales (default 500)
+//
+// El throughput máximo es la tasa de la última etapa en la que `dropped_iterations` no crece
+// y el p99 de `http_req_duration` sigue por debajo del umbral; k6 reporta ambas métricas
+// por etapa con la salida de Prometheus o JSON (--out json=peak.json).
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/base-api';
+const START_RATE = parseInt(__ENV.START_RATE || '200', 10);
+const STEP = parseInt(__ENV.STEP || '200', 10);
+const STEPS = parseInt(__ENV.STEPS || '10', 10);
+const STEP_TIME = __ENV.STEP_TIME || '30s';
+
+const rateLimited = new Counter('rate_limited');
+
+const stages = [];
+for (let i = 0; i < STEPS; i++) {
+  // Subida corta y meseta, para medir cada tasa ya estabilizada
+  stages.push({ target: START_RATE + STEP * i, duration: '5s' });
+  stages.push({ target: START_RATE + STEP * i, duration: STEP_TIME });
+}
+
+export const options = {
+  scenarios: {
+    read: {
+      executor: 'ramping-arrival-rate',
+      startRate: START_RATE,
+      timeUnit: '1s',
+      stages: stages,
+      preAllocatedVUs: 100,
+      maxVUs: parseInt(__ENV.MAX_VUS || '500', 10),
+    },
+  },
+  thresholds: {
+    http_req_duration: [{ threshold: 'p(99)<250', abortOnFail: false }],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  // Una API key por VU: el rate limit es por cliente y no debe ser el cuello de botella
+  const params = { headers: { 'X-API-Key': `k6-peak-${__VU}` } };
+  const id = (__ITER % 3) + 1;
+
+  const res = __ITER % 2 === 0
+    ? http.get(`${BASE_URL}/example-status/${id}`, Object.assign({ tags: { name: 'GET /example-status/{id}' } }, params))
+    : http.get(`${BASE_URL}/example-status`, Object.assign({ tags: { name: 'GET /example-status' } }, params));
+
+  if (res.status === 429) {
+    rateLimited.add(1);
+  }
+  check(res, { 'ok': (r) => r.status === 200 });
+}
@@ -0,0 +1,90 @@
+#!/bin/bash
+
+# ===================================
+# Startup per Deployment Role - Base API
+# ===================================
+# Builds one image per role from the repository Dockerfile and records, per run:
+#   - time from `docker run` until the readiness probe answers
+#   - startup time reported by Spring Boot
+#   - resident memory (RSS) of the JVM once ready
+#   - classes loaded by the JVM (jvm.classes.loaded)
+#
+# Roles (SPRING_PROFILES build argument, fixed at build time by Spring AOT):
+#   full    - prod
+#   status  - prod,role-status (GET /example-status only, no database)
+#   write   - prod,role-write  (/examples only, no in-memory status repository)
+#
+# RSS is read from /proc of the host, so it must run on a Linux Docker host.
+# Requires PostgreSQL and Redis from local/docker-compose.yml listening on localhost.
+# Set SKIP_BUILD=1 to reuse base-api:role-<role> images from a previous run.
+#
+# Usage: [SKIP_BUILD=1] ./measure-roles.sh [runs]
+
+set -e
+
+RUNS=${1:-5}
+SKIP_BUILD=${SKIP_BUILD:-}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}/base-api"
+READY_URL="${BASE_URL}/actuator/health/readiness"
+TIMEOUT_SECONDS=60
+ROOT_DIR="$(cd "$(dirname "$0")/../.." && pwd)"
+
+declare -A PROFILES=(
+    [full]="prod"
+    [status]="prod,role-status"
+    [write]="prod,role-write"
+)
+ROLES=(full status write)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+run_once() {
+    local role=$1
+    local start cid elapsed
+    start=$(now_ms)
+    cid=$(docker run -d --rm --network host "base-api:role-${role}")
+
+    until curl -fs -o /dev/null "$READY_URL"; do
+        if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+            echo "Timeout waiting for $READY_URL" >&2
+            docker logs "$cid" | tail -20 >&2
+            docker stop "$cid" > /dev/null
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    local rss started classes
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$(docker inspect -f '{{.State.Pid}}' "$cid")/status")
+    started=$(docker logs "$cid" 2>&1 | grep -o "Started BaseApiApplication in [0-9.]* seconds" | awk '{print $4}')
+    classes=$(curl -fs "${BASE_URL}/actuator/metrics/jvm.classes.loaded" \
+        | grep -o '"value":[0-9.E]*' | head -1 | cut -d: -f2)
+
+    docker stop "$cid" > /dev/null
+    printf "%-7s %8d %10s %10d %9s\n" "$role" "$elapsed" "${started:-?}" "$(( rss / 1024 ))" "${classes:-?}"
+}
+
+if curl -s -o /dev/null "http://localhost:${PORT}"; then
+    echo "Port ${PORT} is already in use; stop the running application first." >&2
+    exit 1
+fi
+
+if [ -z "$SKIP_BUILD" ]; then
+    for role in "${ROLES[@]}"; do
+        echo "Building base-api:role-${role} (${PROFILES[$role]})"
+        docker build -q --build-arg SPRING_PROFILES="${PROFILES[$role]}" \
+            -t "base-api:role-${role}" "$ROOT_DIR" > /dev/null
+    done
+fi
+
+echo "Runs per role: $RUNS"
+printf "%-7s %8s %10s %10s %9s\n" "role" "ready_ms" "started_s" "rss_mb" "classes"
+for role in "${ROLES[@]}"; do
+    for _ in $(seq "$RUNS"); do
+        run_once "$role"
+    done
+done
@@ -0,0 +1,86 @@
+#!/bin/bash
+
+# ===================================
+# Startup Benchmark - Base API
+# ===================================
+# Starts the image several times and records, per run:
+#   - time from `docker run` until the first successful request
+#   - startup time reported by Spring Boot
+#   - resident memory (RSS) of the JVM right after the first request
+#
+# Two modes run from the same image:
+#   aot      - image entrypoint: Spring AOT + JDK AOT cache (app.aot)
+#   baseline - same jar without AOT cache and without Spring AOT
+# With NATIVE_IMAGE set (built from Dockerfile.native), a third mode runs that image:
+#   native   - GraalVM native executable
+#
+# RSS is read from /proc of the host, so it must run on a Linux Docker host.
+# Requires PostgreSQL and Redis from local/docker-compose.yml listening on localhost.
+#
+# Usage: [NATIVE_IMAGE=base-api:native] ./measure-startup.sh [image] [runs]
+
+set -e
+
+IMAGE=${1:-base-api:latest}
+RUNS=${2:-5}
+NATIVE_IMAGE=${NATIVE_IMAGE:-}
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}/base-api/example-status"
+TIMEOUT_SECONDS=60
+
+BASELINE_ARGS=(-XX:+UseContainerSupport -XX:MaxRAMPercentage=75.0 -XX:+UseG1GC
+               -XX:+ExitOnOutOfMemoryError -jar app.jar)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+run_once() {
+    local mode=$1
+    local start cid elapsed
+    start=$(now_ms)
+    if [ "$mode" = "baseline" ]; then
+        cid=$(docker run -d --rm --network host -e SPRING_PROFILES_ACTIVE=prod --entrypoint java \
+            "$IMAGE" "${BASELINE_ARGS[@]}")
+    elif [ "$mode" = "native" ]; then
+        cid=$(docker run -d --rm --network host -e SPRING_PROFILES_ACTIVE=prod "$NATIVE_IMAGE")
+    else
+        cid=$(docker run -d --rm --network host -e SPRING_PROFILES_ACTIVE=prod "$IMAGE")
+    fi
+
+    until curl -fs -o /dev/null "$URL"; do
+        if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+            echo "Timeout waiting for $URL" >&2
+            docker logs "$cid" | tail -20 >&2
+            docker stop "$cid" > /dev/null
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    local rss started
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$(docker inspect -f '{{.State.Pid}}' "$cid")/status")
+    started=$(docker logs "$cid" 2>&1 | grep -o "Started BaseApiApplication in [0-9.]* seconds" | awk '{print $4}')
+
+    docker stop "$cid" > /dev/null
+    printf "%-9s %8d %10s %10d\n" "$mode" "$elapsed" "${started:-?}" "$(( rss / 1024 ))"
+}
+
+if curl -s -o /dev/null "http://localhost:${PORT}"; then
+    echo "Port ${PORT} is already in use; stop the running application first." >&2
+    exit 1
+fi
+
+MODES=(baseline aot)
+if [ -n "$NATIVE_IMAGE" ]; then
+    MODES+=(native)
+fi
+
+echo "Image: $IMAGE${NATIVE_IMAGE:+, native image: $NATIVE_IMAGE}, runs per mode: $RUNS"
+printf "%-9s %8s %10s %10s\n" "mode" "first_ms" "started_s" "rss_mb"
+for mode in "${MODES[@]}"; do
+    for _ in $(seq "$RUNS"); do
+        run_once "$mode"
+    done
+done
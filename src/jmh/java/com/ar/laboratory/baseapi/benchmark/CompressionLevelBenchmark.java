@@ -0,0 +1,89 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.filter.PrecompressedResponseFilter;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of gzipping a status list at each Deflater level, against the cost of serving it
+ * precompressed. Compressed sizes are printed at setup, so one run gives bytes on the wire and
+ * time per response for each level.
+ *
+ * Parameters:
+ * level - Deflater level (1 fastest, 6 the default of server.compression, 9 smallest)
+ * items - statuses in the JSON array
+ *
+ * Benchmarks:
+ * compress      - gzip of the body, what server.compression pays on every response
+ * precompressed - byte comparison with the stored body, what PrecompressedResponseFilter pays on a hit
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionLevelBenchmark {
+
+    @Param({"1", "4", "6", "9"})
+    public int level;
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private byte[] body;
+    private byte[] storedBody;
+    private byte[] storedGzip;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 10, 30, 15);
+        List<ExampleStatusResponse> statuses = new ArrayList<>(items);
+        for (int i = 1; i <= items; i++) {
+            statuses.add(ExampleStatusResponse.builder()
+                    .id(String.valueOf(i))
+                    .name("Service " + i)
+                    .status(i % 3 == 0 ? "IDLE" : "RUNNING")
+                    .description("Generated status " + i)
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now)
+                    .active(i % 2 == 0)
+                    .version(i % 7)
+                    .build());
+        }
+        body = JacksonMappers.create(new JsonFactory()).writeValueAsBytes(statuses);
+        storedBody = body.clone();
+        storedGzip = compress();
+        System.out.printf("%nlevel=%d items=%d: %d bytes -> %d bytes gzip%n",
+                level, items, body.length, storedGzip.length);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return PrecompressedResponseFilter.gzip(body, level);
+    }
+
+    @Benchmark
+    public byte[] precompressed() {
+        return Arrays.equals(storedBody, body) ? storedGzip : null;
+    }
+}
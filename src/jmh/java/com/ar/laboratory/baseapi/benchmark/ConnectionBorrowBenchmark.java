@@ -0,0 +1,83 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.config.datasource.MonitoredDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of borrowing and returning a connection from a Hikari pool over in-memory H2,
+ * with and without the MonitoredDataSource wrapper. The borrow happens depth frames
+ * below the benchmark method, standing in for the filters, proxies and interceptors
+ * on a request thread that the origin stack walk has to go through.
+ *
+ * Modes:
+ * hikari    - the pool alone
+ * monitored - MonitoredDataSource, origin capture off (default)
+ * origin    - MonitoredDataSource, origin capture on
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionBorrowBenchmark {
+
+    @Param({"hikari", "monitored", "origin"})
+    public String mode;
+
+    @Param({"20", "150"})
+    public int depth;
+
+    private HikariDataSource pool;
+    private DataSource dataSource;
+
+    @Setup
+    public void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:borrow;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(2);
+        dataSource = switch (mode) {
+            case "monitored" -> new MonitoredDataSource(pool, "main", Duration.ofMinutes(1), false, null);
+            case "origin" -> new MonitoredDataSource(pool, "main", Duration.ofMinutes(1), true, null);
+            default -> pool;
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public boolean borrowAndClose() throws SQLException {
+        return borrow(depth);
+    }
+
+    private boolean borrow(int remaining) throws SQLException {
+        if (remaining > 0) {
+            return borrow(remaining - 1);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getAutoCommit();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.domain.validation.DocumentValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating the DNI, genero and CUIT of one request with the previous regex
+ * constraints and with DocumentValidator, called directly and through Bean Validation.
+ * Results are in ns per validation, which is also ms per million validations.
+ *
+ * Parameters:
+ * input - valid or invalid documents (invalid ones fail on the last character)
+ *
+ * Benchmarks:
+ * regex                 - Pattern.matches of the previous @Pattern expressions (CUIT: format only)
+ * documentValidator     - DocumentValidator for DNI and genero, as a bulk import would call it
+ * cuitRegexFormat       - CUIT format regex, without the check digit
+ * cuitDocumentValidator - CUIT format, prefix and check digit
+ * beanValidationRegex   - Validator.validate of a request with the previous @Pattern constraints
+ * beanValidationFast    - Validator.validate of CreateExampleRequest (@Dni, @Genero)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentValidationBenchmark {
+
+    private static final java.util.regex.Pattern DNI_PATTERN = java.util.regex.Pattern.compile("^[0-9]{7,8}$");
+    private static final java.util.regex.Pattern GENERO_PATTERN = java.util.regex.Pattern.compile("^[HM]$");
+    private static final java.util.regex.Pattern CUIT_PATTERN =
+            java.util.regex.Pattern.compile("^[0-9]{2}-?[0-9]{8}-?[0-9]$");
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String dni;
+    private String genero;
+    private String cuit;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private RegexCreateExampleRequest regexRequest;
+    private CreateExampleRequest fastRequest;
+
+    @Setup
+    public void setUp() {
+        boolean valid = "valid".equals(input);
+        dni = valid ? "30123456" : "3012345x";
+        genero = valid ? "M" : "X";
+        cuit = valid ? "27-30123456-8" : "27-30123456-x";
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        regexRequest = new RegexCreateExampleRequest("María", "Fernández", dni, genero);
+        fastRequest = CreateExampleRequest.builder()
+                .nombre("María")
+                .apellido("Fernández")
+                .dni(dni)
+                .genero(genero)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return DNI_PATTERN.matcher(dni).matches() && GENERO_PATTERN.matcher(genero).matches();
+    }
+
+    @Benchmark
+    public boolean documentValidator() {
+        return DocumentValidator.isValidDni(dni) && DocumentValidator.isValidGenero(genero);
+    }
+
+    @Benchmark
+    public boolean cuitRegexFormat() {
+        return CUIT_PATTERN.matcher(cuit).matches();
+    }
+
+    @Benchmark
+    public boolean cuitDocumentValidator() {
+        return DocumentValidator.isValidCuit(cuit);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegexCreateExampleRequest>> beanValidationRegex() {
+        return validator.validate(regexRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateExampleRequest>> beanValidationFast() {
+        return validator.validate(fastRequest);
+    }
+
+    /**
+     * CreateExampleRequest as it was validated before the document constraints.
+     */
+    public static class RegexCreateExampleRequest {
+
+        @NotBlank
+        @Size(min = 2, max = 100)
+        private final String nombre;
+
+        @NotBlank
+        @Size(min = 2, max = 100)
+        private final String apellido;
+
+        @NotBlank
+        @Pattern(regexp = "^[0-9]{7,8}$")
+        private final String dni;
+
+        @NotBlank
+        @Pattern(regexp = "^[HM]$")
+        private final String genero;
+
+        RegexCreateExampleRequest(String nombre, String apellido, String dni, String genero) {
+            this.nombre = nombre;
+            this.apellido = apellido;
+            this.dni = dni;
+            this.genero = genero;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.ar.laboratory.baseapi.adapters.out.persistence.InMemoryExampleRepository;
+import com.ar.laboratory.baseapi.application.service.ExampleStatusService;
+import com.ar.laboratory.baseapi.config.logging.RingBufferAppender;
+import com.ar.laboratory.baseapi.config.logging.SamplingTurboFilter;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the ExampleStatus read path under different logging setups.
+ * Every call goes through the service and the in-memory repository and emits the same
+ * log lines a request does. Output is written to a discarding stream, so the numbers
+ * reflect the cost paid by the calling thread (formatting, queuing, contention) and
+ * not the speed of the console.
+ *
+ * Modes:
+ * off     - application loggers disabled
+ * sync    - synchronous appender
+ * async   - previous setup: AsyncAppender, queueSize 512, discardingThreshold 0
+ * ring    - current setup: SamplingTurboFilter + RingBufferAppender
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class LoggingOverheadBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n";
+
+    @Param({"off", "sync", "async", "ring"})
+    public String mode;
+
+    private LoggerContext loggerContext;
+    private ExampleStatusService service;
+
+    @Setup
+    public void setUp() {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+
+        ch.qos.logback.classic.Logger appLogger = loggerContext.getLogger("com.ar.laboratory");
+        appLogger.setAdditive(false);
+        appLogger.setLevel("off".equals(mode) ? Level.OFF : Level.INFO);
+        loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.WARN);
+
+        if (!"off".equals(mode)) {
+            appLogger.addAppender(buildAppender());
+        }
+
+        service = new ExampleStatusService(new InMemoryExampleRepository(event -> { }), new NoOpCache());
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public Optional<ExampleStatus> getExampleStatusById() {
+        return service.getExampleStatusById("1");
+    }
+
+    private Appender<ILoggingEvent> buildAppender() {
+        Appender<ILoggingEvent> sink = nullAppender();
+        switch (mode) {
+            case "async" -> {
+                AsyncAppender async = new AsyncAppender();
+                async.setContext(loggerContext);
+                async.setName("async");
+                async.setQueueSize(512);
+                async.setDiscardingThreshold(0);
+                async.addAppender(sink);
+                async.start();
+                return async;
+            }
+            case "ring" -> {
+                SamplingTurboFilter sampling = new SamplingTurboFilter();
+                sampling.setContext(loggerContext);
+                sampling.start();
+                loggerContext.addTurboFilter(sampling);
+
+                RingBufferAppender ring = new RingBufferAppender();
+                ring.setContext(loggerContext);
+                ring.setName("ring");
+                ring.addAppender(sink);
+                ring.start();
+                return ring;
+            }
+            default -> {
+                return sink;
+            }
+        }
+    }
+
+    private Appender<ILoggingEvent> nullAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setName("null");
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * Cache that never hits, so every call reaches the repository.
+     */
+    private static final class NoOpCache implements CachePort<ExampleStatus> {
+
+        @Override
+        public Optional<ExampleStatus> get(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(String key, ExampleStatus value) {
+        }
+
+        @Override
+        public boolean putIfAbsent(String key, ExampleStatus value) {
+            return false;
+        }
+
+        @Override
+        public void evict(String key) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper.ExampleEntityMapper;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper.ExampleEntityMapperImpl;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping whole lists, as GET /example-status and the multi-get lookups do.
+ * Run with -prof gc to compare the bytes allocated per list as well.
+ *
+ * Benchmarks:
+ * statusResponsesBuilder    - previous ExampleStatusMapper: one Lombok builder per element
+ * statusResponsesGenerated  - generated ExampleStatusMapperImpl
+ * examplesFromEntitiesBuilder   - previous ExampleJpaAdapter.toDomain: one builder per row
+ * examplesFromEntitiesGenerated - generated ExampleEntityMapperImpl
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private final ExampleStatusMapper exampleStatusMapper = new ExampleStatusMapperImpl();
+    private final ExampleEntityMapper exampleEntityMapper = new ExampleEntityMapperImpl();
+
+    private List<ExampleStatus> statuses;
+    private List<ExampleEntity> entities;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        statuses = new ArrayList<>(size);
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            statuses.add(ExampleStatus.builder()
+                    .id(String.valueOf(i))
+                    .name("Service " + i)
+                    .status(i % 2 == 0 ? "RUNNING" : "IDLE")
+                    .description("Description " + i)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .active(true)
+                    .version(i)
+                    .build());
+            entities.add(ExampleEntity.builder()
+                    .id((long) i)
+                    .nombre("Nombre" + i)
+                    .apellido("Apellido" + i)
+                    .dni(String.valueOf(20_000_000 + i))
+                    .genero(i % 2 == 0 ? "M" : "F")
+                    .cuit("20" + (20_000_000 + i) + "0")
+                    .cuitStatus(CuitStatus.READY)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ExampleStatusResponse> statusResponsesBuilder() {
+        return statuses.stream()
+                .map(status -> ExampleStatusResponse.builder()
+                        .id(status.getId())
+                        .name(status.getName())
+                        .status(status.getStatus())
+                        .description(status.getDescription())
+                        .createdAt(status.getCreatedAt())
+                        .updatedAt(status.getUpdatedAt())
+                        .active(status.isActive())
+                        .version(status.getVersion())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<ExampleStatusResponse> statusResponsesGenerated() {
+        return exampleStatusMapper.toResponseList(statuses);
+    }
+
+    @Benchmark
+    public List<Example> examplesFromEntitiesBuilder() {
+        return entities.stream()
+                .map(entity -> Example.builder()
+                        .id(entity.getId())
+                        .nombre(entity.getNombre())
+                        .apellido(entity.getApellido())
+                        .dni(entity.getDni())
+                        .genero(entity.getGenero())
+                        .cuit(entity.getCuit())
+                        .cuitStatus(entity.getCuitStatus())
+                        .createdAt(entity.getCreatedAt())
+                        .updatedAt(entity.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<Example> examplesFromEntitiesGenerated() {
+        return exampleEntityMapper.toDomainList(entities);
+    }
+}
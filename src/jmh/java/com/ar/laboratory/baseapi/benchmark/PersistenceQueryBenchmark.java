@@ -0,0 +1,152 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-query latency of the DNI lookups of the JPA adapter against an in-memory H2 database.
+ * Each call opens a session on a pooled connection, as a request does.
+ *
+ * Parameters:
+ * planCache       - Hibernate query plan cache on or off
+ * statementCache  - commands H2 keeps parsed per connection (QUERY_CACHE_SIZE), the
+ *                   stand-in for pgjdbc server-prepared statements; 0 re-parses every call
+ *
+ * Benchmarks:
+ * findByDniJpql      - previous path: JPQL string, as Spring Data derived queries run it
+ * findByDniNamed     - current path: named query compiled at startup
+ * existsByDniDerived - previous exists query: select of the id with a row limit
+ * existsByDniNative  - current exists query: SELECT EXISTS with a fixed text
+ *
+ * Plan cache hits and misses per trial are printed at tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceQueryBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final String FIND_BY_DNI_JPQL = "SELECT e FROM ExampleEntity e WHERE e.dni = :dni";
+    private static final String EXISTS_BY_DNI_DERIVED = "SELECT e.id FROM ExampleEntity e WHERE e.dni = :dni";
+    private static final String EXISTS_BY_DNI_NATIVE = "SELECT EXISTS (SELECT 1 FROM examples WHERE dni = :dni)";
+
+    @Param({"true", "false"})
+    public boolean planCache;
+
+    @Param({"0", "64"})
+    public int statementCache;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(ExampleEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=" + statementCache)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.POOL_SIZE, "2")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.QUERY_PLAN_CACHE_ENABLED, String.valueOf(planCache))
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(ExampleEntity.builder()
+                        .nombre("Nombre" + i)
+                        .apellido("Apellido" + i)
+                        .dni(dni(i))
+                        .genero(i % 2 == 0 ? "M" : "F")
+                        .cuit("20" + dni(i) + "0")
+                        .cuitStatus(CuitStatus.READY)
+                        .build());
+                if (i % 500 == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+        sessionFactory.getStatistics().clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Statistics statistics = sessionFactory.getStatistics();
+        System.out.printf("%nplanCache=%s statementCache=%d: plan cache hits=%d misses=%d, queries=%d%n",
+                planCache, statementCache, statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount(), statistics.getQueryExecutionCount());
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Optional<ExampleEntity> findByDniJpql() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery(FIND_BY_DNI_JPQL, ExampleEntity.class)
+                    .setParameter("dni", randomDni())
+                    .uniqueResultOptional();
+        }
+    }
+
+    @Benchmark
+    public Optional<ExampleEntity> findByDniNamed() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createNamedQuery(ExampleEntity.FIND_BY_DNI, ExampleEntity.class)
+                    .setParameter("dni", randomDni())
+                    .uniqueResultOptional();
+        }
+    }
+
+    @Benchmark
+    public boolean existsByDniDerived() {
+        try (Session session = sessionFactory.openSession()) {
+            return !session.createQuery(EXISTS_BY_DNI_DERIVED, Long.class)
+                    .setParameter("dni", randomDni())
+                    .setMaxResults(1)
+                    .list()
+                    .isEmpty();
+        }
+    }
+
+    @Benchmark
+    public boolean existsByDniNative() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createNativeQuery(EXISTS_BY_DNI_NATIVE, Boolean.class)
+                    .setParameter("dni", randomDni())
+                    .getSingleResult();
+        }
+    }
+
+    private static String randomDni() {
+        return dni(ThreadLocalRandom.current().nextInt(ROWS * 2));
+    }
+
+    private static String dni(int i) {
+        return String.valueOf(20_000_000 + i);
+    }
+}
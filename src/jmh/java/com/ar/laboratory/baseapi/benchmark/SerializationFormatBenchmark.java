@@ -0,0 +1,135 @@
+package com.ar.laboratory.baseapi.benchmark;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleStatusResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of one payload in each format offered by the API.
+ * Uses the same mappers and codecs as the message converters. Payload sizes are printed
+ * at setup, so one run gives both columns of the comparison.
+ *
+ * Parameters:
+ * format  - json, cbor, smile or protobuf
+ * payload - status (ExampleStatusResponse) or example (ExampleResponse)
+ *
+ * Benchmarks:
+ * encode - DTO to bytes
+ * decode - bytes to DTO
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"status", "example"})
+    public String payload;
+
+    private Object value;
+    private Class<?> type;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ProtobufCodec<Object> codec;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_000_000);
+        if ("status".equals(payload)) {
+            type = ExampleStatusResponse.class;
+            value = ExampleStatusResponse.builder()
+                    .id("42")
+                    .name("Payment Service")
+                    .status("RUNNING")
+                    .description("Processes card payments for the checkout flow")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .active(true)
+                    .version(12)
+                    .build();
+            codec = cast(new ExampleStatusResponseCodec());
+        } else {
+            type = ExampleResponse.class;
+            value = ExampleResponse.builder()
+                    .id(123_456L)
+                    .nombre("María José")
+                    .apellido("Fernández")
+                    .dni("30123456")
+                    .genero("M")
+                    .cuit("27-30123456-4")
+                    .cuitStatus("READY")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            codec = cast(new ExampleResponseCodec());
+        }
+
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> JacksonMappers.create(new CBORFactory());
+            case "smile" -> JacksonMappers.create(new SmileFactory());
+            default -> JacksonMappers.create(new JsonFactory());
+        };
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+
+        encoded = encode();
+        System.out.printf("%nformat=%s payload=%s: %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if ("protobuf".equals(format)) {
+            byte[] bytes = new byte[codec.serializedSize(value)];
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+            codec.write(value, output);
+            output.checkNoSpaceLeft();
+            return bytes;
+        }
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if ("protobuf".equals(format)) {
+            return codec.read(CodedInputStream.newInstance(encoded));
+        }
+        return reader.readValue(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProtobufCodec<Object> cast(ProtobufCodec<?> codec) {
+        return (ProtobufCodec<Object>) codec;
+    }
+}
@@ -0,0 +1,213 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.CreateExamplesResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.GetExampleRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExampleError;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.CreateExampleRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleMapper;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import io.grpc.BindableService;
+import io.grpc.Context;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC service for Examples (baseapi.v1.ExampleService).
+ * This is an input adapter over the same use case as ExampleController.
+ * CreateExamples takes a client stream of requests and answers once with a summary;
+ * each request is processed before the next one is asked for, so a fast client cannot
+ * queue more work than the server is doing.
+ */
+@Component
+@ConditionalOnExamples
+public class ExampleGrpcService implements BindableService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleGrpcService.class);
+
+    public static final String SERVICE_NAME = "baseapi.v1.ExampleService";
+
+    public static final MethodDescriptor<GetExampleRequest, ExampleResponse> GET_EXAMPLE =
+            MethodDescriptor.<GetExampleRequest, ExampleResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "GetExample"))
+                    .setRequestMarshaller(ProtobufMarshaller.of(new GetExampleRequestCodec()))
+                    .setResponseMarshaller(ProtobufMarshaller.of(new ExampleResponseCodec()))
+                    .build();
+
+    public static final MethodDescriptor<CreateExampleRequest, CreateExamplesResponse> CREATE_EXAMPLES =
+            MethodDescriptor.<CreateExampleRequest, CreateExamplesResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.CLIENT_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "CreateExamples"))
+                    .setRequestMarshaller(ProtobufMarshaller.of(new CreateExampleRequestCodec()))
+                    .setResponseMarshaller(ProtobufMarshaller.of(new CreateExamplesResponseCodec()))
+                    .build();
+
+    private final CreateExampleUseCase createExampleUseCase;
+    private final ExampleMapper exampleMapper;
+    private final Validator validator;
+    private final boolean asyncCreate;
+    private final int maxItems;
+
+    public ExampleGrpcService(CreateExampleUseCase createExampleUseCase,
+                              ExampleMapper exampleMapper,
+                              Validator validator,
+                              @Value("${app.examples.async-create:false}") boolean asyncCreate,
+                              @Value("${app.grpc.bulk-create.max-items:1000}") int maxItems) {
+        this.createExampleUseCase = createExampleUseCase;
+        this.exampleMapper = exampleMapper;
+        this.validator = validator;
+        this.asyncCreate = asyncCreate;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(GET_EXAMPLE, ServerCalls.asyncUnaryCall(this::getExample))
+                .addMethod(CREATE_EXAMPLES, ServerCalls.asyncClientStreamingCall(this::createExamples))
+                .build();
+    }
+
+    void getExample(GetExampleRequest request, StreamObserver<ExampleResponse> responseObserver) {
+        if (Context.current().isCancelled()) {
+            responseObserver.onError(Status.CANCELLED.withDescription("Call cancelled before it started")
+                    .asRuntimeException());
+            return;
+        }
+
+        Example example;
+        if (request.getId() != null) {
+            logger.info("gRPC GetExample - Finding example by ID: {}", request.getId());
+            example = createExampleUseCase.findById(request.getId());
+        } else if (request.getDni() != null && !request.getDni().isBlank()) {
+            logger.info("gRPC GetExample - Finding example by DNI: {}", request.getDni());
+            example = createExampleUseCase.findByDni(request.getDni());
+        } else {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("id or dni is required")
+                    .asRuntimeException());
+            return;
+        }
+
+        if (example == null) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription("Example not found").asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(exampleMapper.toResponse(example));
+        responseObserver.onCompleted();
+    }
+
+    StreamObserver<CreateExampleRequest> createExamples(StreamObserver<CreateExamplesResponse> responseObserver) {
+        ServerCallStreamObserver<CreateExamplesResponse> call =
+                (ServerCallStreamObserver<CreateExamplesResponse>) responseObserver;
+        return new BulkCreate(call);
+    }
+
+    /**
+     * State of one CreateExamples call. gRPC delivers the messages of a call one at a time,
+     * so no synchronization is needed.
+     */
+    private final class BulkCreate implements StreamObserver<CreateExampleRequest> {
+
+        private final ServerCallStreamObserver<CreateExamplesResponse> call;
+        private final List<CreateExampleError> errors = new ArrayList<>();
+        private int received;
+        private int created;
+        private boolean closed;
+
+        private BulkCreate(ServerCallStreamObserver<CreateExamplesResponse> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onNext(CreateExampleRequest request) {
+            if (closed || call.isCancelled()) {
+                return;
+            }
+            int index = received++;
+            if (index >= maxItems) {
+                fail(Status.RESOURCE_EXHAUSTED.withDescription("At most " + maxItems + " examples per call"));
+                return;
+            }
+
+            String violations = violations(request);
+            if (violations != null) {
+                errors.add(CreateExampleError.builder().index(index).message(violations).build());
+                return;
+            }
+
+            try {
+                Example example = exampleMapper.toDomain(request);
+                if (asyncCreate) {
+                    createExampleUseCase.submitExample(example);
+                } else {
+                    createExampleUseCase.createExample(example);
+                }
+                created++;
+            } catch (IllegalArgumentException e) {
+                errors.add(CreateExampleError.builder().index(index).message(e.getMessage()).build());
+            } catch (RuntimeException e) {
+                logger.error("gRPC CreateExamples - Failed to create example {}", index, e);
+                fail(Status.INTERNAL.withDescription("Failed to create example " + index));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            closed = true;
+            logger.info("gRPC CreateExamples - Call ended by the client after {} examples ({} created): {}",
+                    received, created, Status.fromThrowable(t).getCode());
+        }
+
+        @Override
+        public void onCompleted() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            logger.info("gRPC CreateExamples - Created {} of {} examples", created, received);
+            call.onNext(CreateExamplesResponse.builder()
+                    .created(created)
+                    .errors(errors)
+                    .build());
+            call.onCompleted();
+        }
+
+        private void fail(Status status) {
+            closed = true;
+            call.onError(status.asRuntimeException());
+        }
+
+        private String violations(CreateExampleRequest request) {
+            Set<ConstraintViolation<CreateExampleRequest>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                return null;
+            }
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+    }
+}
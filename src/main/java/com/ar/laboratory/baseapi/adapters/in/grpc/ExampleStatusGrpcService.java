@@ -0,0 +1,145 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.GetStatusRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.StreamStatusesRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.StreamStatusesRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleStatusResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsBeanPostProcessor;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import io.grpc.BindableService;
+import io.grpc.Context;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * gRPC service for ExampleStatus reads (baseapi.v1.ExampleStatusService).
+ * This is an input adapter over the same use case as ExampleStatusController; messages use
+ * the protobuf codecs of the REST API, so no generated stubs are needed.
+ * StreamStatuses writes a snapshot of the statuses as they are read, waiting for the
+ * client whenever its flow-control window is full.
+ */
+@Component
+@ConditionalOnExampleStatus
+public class ExampleStatusGrpcService implements BindableService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleStatusGrpcService.class);
+
+    public static final String SERVICE_NAME = "baseapi.v1.ExampleStatusService";
+
+    public static final MethodDescriptor<GetStatusRequest, ExampleStatusResponse> GET_STATUS =
+            MethodDescriptor.<GetStatusRequest, ExampleStatusResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "GetStatus"))
+                    .setRequestMarshaller(ProtobufMarshaller.of(new GetStatusRequestCodec()))
+                    .setResponseMarshaller(ProtobufMarshaller.of(new ExampleStatusResponseCodec()))
+                    .build();
+
+    public static final MethodDescriptor<StreamStatusesRequest, ExampleStatusResponse> STREAM_STATUSES =
+            MethodDescriptor.<StreamStatusesRequest, ExampleStatusResponse>newBuilder()
+                    .setType(MethodDescriptor.MethodType.SERVER_STREAMING)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "StreamStatuses"))
+                    .setRequestMarshaller(ProtobufMarshaller.of(new StreamStatusesRequestCodec()))
+                    .setResponseMarshaller(ProtobufMarshaller.of(new ExampleStatusResponseCodec()))
+                    .build();
+
+    /** Producers of server streams; the call executor stays free to deliver onReady and cancellation. */
+    private static final ThreadFactory STREAM_THREADS = Thread.ofVirtual().name("grpc-stream-", 0).factory();
+
+    private final ExampleStatusUseCase exampleStatusUseCase;
+    private final ExampleStatusMapper exampleStatusMapper;
+    /** Maps streamed elements without one port observation per status. */
+    private final ExampleStatusMapper elementMapper;
+
+    public ExampleStatusGrpcService(ExampleStatusUseCase exampleStatusUseCase,
+                                    ExampleStatusMapper exampleStatusMapper) {
+        this.exampleStatusUseCase = exampleStatusUseCase;
+        this.exampleStatusMapper = exampleStatusMapper;
+        this.elementMapper = PortMetricsBeanPostProcessor.unobserved(exampleStatusMapper);
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(GET_STATUS, ServerCalls.asyncUnaryCall(this::getStatus))
+                .addMethod(STREAM_STATUSES, ServerCalls.asyncServerStreamingCall(this::streamStatuses))
+                .build();
+    }
+
+    void getStatus(GetStatusRequest request, StreamObserver<ExampleStatusResponse> responseObserver) {
+        if (Context.current().isCancelled()) {
+            responseObserver.onError(Status.CANCELLED.withDescription("Call cancelled before it started")
+                    .asRuntimeException());
+            return;
+        }
+        if (request.getId() == null || request.getId().isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("id is required").asRuntimeException());
+            return;
+        }
+        logger.info("gRPC GetStatus - Retrieving status with ID: {}", request.getId());
+
+        exampleStatusUseCase.getExampleStatusById(request.getId())
+                .map(exampleStatusMapper::toResponse)
+                .ifPresentOrElse(response -> {
+                    responseObserver.onNext(response);
+                    responseObserver.onCompleted();
+                }, () -> responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("Status not found with ID: " + request.getId())
+                        .asRuntimeException()));
+    }
+
+    void streamStatuses(StreamStatusesRequest request, StreamObserver<ExampleStatusResponse> responseObserver) {
+        ServerCallStreamObserver<ExampleStatusResponse> call =
+                (ServerCallStreamObserver<ExampleStatusResponse>) responseObserver;
+        OutboundFlowControl flowControl = new OutboundFlowControl(call);
+        logger.info("gRPC StreamStatuses - Streaming {} statuses", request.isActiveOnly() ? "active" : "all");
+
+        STREAM_THREADS.newThread(Context.current().wrap(() -> produce(request, call, flowControl))).start();
+    }
+
+    private void produce(StreamStatusesRequest request, ServerCallStreamObserver<ExampleStatusResponse> call,
+                         OutboundFlowControl flowControl) {
+        AtomicLong sent = new AtomicLong();
+        Consumer<ExampleStatus> sink = exampleStatus -> {
+            flowControl.awaitReady();
+            call.onNext(elementMapper.toResponse(exampleStatus));
+            sent.incrementAndGet();
+        };
+        try {
+            if (request.isActiveOnly()) {
+                exampleStatusUseCase.forEachActiveExampleStatus(sink);
+            } else {
+                exampleStatusUseCase.forEachExampleStatus(sink);
+            }
+            call.onCompleted();
+            logger.debug("gRPC StreamStatuses - Sent {} statuses", sent.get());
+        } catch (StatusRuntimeException e) {
+            if (flowControl.isCancelled()) {
+                logger.info("gRPC StreamStatuses - Client went away after {} statuses", sent.get());
+            } else {
+                call.onError(e);
+            }
+        } catch (RuntimeException e) {
+            logger.error("gRPC StreamStatuses - Failed after {} statuses", sent.get(), e);
+            if (!flowControl.isCancelled()) {
+                call.onError(Status.INTERNAL.withDescription("Failed to stream statuses").asRuntimeException());
+            }
+        }
+    }
+}
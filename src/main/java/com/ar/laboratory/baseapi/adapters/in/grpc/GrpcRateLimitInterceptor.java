@@ -0,0 +1,117 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Locale;
+
+/**
+ * Applies the REST rate limits to gRPC calls.
+ * The client is resolved as in RateLimitFilter, from the API key metadata entry or the peer
+ * address, so a client has one bucket whatever protocol it uses. Reads cost one token per
+ * call; CreateExamples costs write-cost tokens per message, as one POST /examples each.
+ * Rejected calls end with RESOURCE_EXHAUSTED and a retry-after trailer.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcRateLimitInterceptor implements ServerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcRateLimitInterceptor.class);
+    static final Metadata.Key<String> RETRY_AFTER = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final RateLimitUseCase rateLimitUseCase;
+    private final ClientIdResolver clientIdResolver;
+    private final Metadata.Key<String> apiKeyHeader;
+    private final int writeCost;
+
+    public GrpcRateLimitInterceptor(RateLimitUseCase rateLimitUseCase,
+                                    ClientIdResolver clientIdResolver,
+                                    @Value("${app.rate-limit.write-cost:5}") int writeCost) {
+        this.rateLimitUseCase = rateLimitUseCase;
+        this.clientIdResolver = clientIdResolver;
+        this.apiKeyHeader = Metadata.Key.of(clientIdResolver.apiKeyHeader().toLowerCase(Locale.ROOT),
+                Metadata.ASCII_STRING_MARSHALLER);
+        this.writeCost = writeCost;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String clientId = clientIdResolver.clientId(headers.get(apiKeyHeader), remoteAddress(call));
+        if (ExampleGrpcService.CREATE_EXAMPLES.getFullMethodName().equals(call.getMethodDescriptor().getFullMethodName())) {
+            return new WriteListener<>(next.startCall(call, headers), call, clientId);
+        }
+
+        RateLimitDecision decision = rateLimitUseCase.tryConsume(clientId, 1);
+        if (!decision.isAllowed()) {
+            reject(call, decision);
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return next.startCall(call, headers);
+    }
+
+    private void reject(ServerCall<?, ?> call, RateLimitDecision decision) {
+        logger.debug("Rate limit exceeded for gRPC method {}", call.getMethodDescriptor().getFullMethodName());
+        Metadata trailers = new Metadata();
+        trailers.put(RETRY_AFTER, Long.toString(Math.max(1, decision.getResetSeconds())));
+        call.close(Status.RESOURCE_EXHAUSTED.withDescription("Rate limit exceeded"), trailers);
+    }
+
+    private static String remoteAddress(ServerCall<?, ?> call) {
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        return address instanceof InetSocketAddress inet ? inet.getHostString() : String.valueOf(address);
+    }
+
+    /**
+     * Charges every message of a write call, and ends the call at the first one over the limit.
+     */
+    private final class WriteListener<ReqT> extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final ServerCall<ReqT, ?> call;
+        private final String clientId;
+        private boolean rejected;
+
+        WriteListener(ServerCall.Listener<ReqT> delegate, ServerCall<ReqT, ?> call, String clientId) {
+            super(delegate);
+            this.call = call;
+            this.clientId = clientId;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            if (rejected) {
+                return;
+            }
+            RateLimitDecision decision = rateLimitUseCase.tryConsume(clientId, writeCost);
+            if (!decision.isAllowed()) {
+                rejected = true;
+                reject(call, decision);
+                return;
+            }
+            super.onMessage(message);
+        }
+
+        @Override
+        public void onHalfClose() {
+            if (!rejected) {
+                super.onHalfClose();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty gRPC server next to the servlet container, serving the BindableService beans of
+ * the subsystems wired on this node, behind the ServerInterceptor beans (rate limiting).
+ * Service methods run on virtual threads, one per call event, so blocking use cases do not
+ * hold the event loop; worker-threads sizes the event loop itself (0 keeps Netty's default).
+ * Client deadlines cancel the call context, which the services check before doing work and
+ * while waiting on flow control.
+ */
+@Component
+@ConditionalOnProperty(name = "app.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final List<BindableService> services;
+    private final List<ServerInterceptor> interceptors;
+    private final int port;
+    private final int workerThreads;
+    private final DataSize flowControlWindow;
+    private final int maxConcurrentCallsPerConnection;
+    private final DataSize maxInboundMessageSize;
+    private final Duration keepAliveTime;
+    private final Duration permitKeepAliveTime;
+    private final Duration maxConnectionIdle;
+    private final Duration shutdownGracePeriod;
+    private final ExecutorService executor;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Server server;
+
+    public GrpcServer(List<BindableService> services,
+                      List<ServerInterceptor> interceptors,
+                      @Value("${app.grpc.port:9090}") int port,
+                      @Value("${app.grpc.worker-threads:0}") int workerThreads,
+                      @Value("${app.grpc.flow-control-window:1MB}") DataSize flowControlWindow,
+                      @Value("${app.grpc.max-concurrent-calls-per-connection:100}") int maxConcurrentCallsPerConnection,
+                      @Value("${app.grpc.max-inbound-message-size:4MB}") DataSize maxInboundMessageSize,
+                      @Value("${app.grpc.keep-alive-time:30s}") Duration keepAliveTime,
+                      @Value("${app.grpc.permit-keep-alive-time:10s}") Duration permitKeepAliveTime,
+                      @Value("${app.grpc.max-connection-idle:5m}") Duration maxConnectionIdle,
+                      @Value("${app.grpc.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+        this.services = services;
+        this.interceptors = interceptors;
+        this.port = port;
+        this.workerThreads = workerThreads;
+        this.flowControlWindow = flowControlWindow;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.keepAliveTime = keepAliveTime;
+        this.permitKeepAliveTime = permitKeepAliveTime;
+        this.maxConnectionIdle = maxConnectionIdle;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-", 0).factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (services.isEmpty()) {
+            logger.info("No gRPC services wired on this node; gRPC server not started");
+            return;
+        }
+
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .executor(executor)
+                .flowControlWindow((int) flowControlWindow.toBytes())
+                .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection)
+                .maxInboundMessageSize((int) maxInboundMessageSize.toBytes())
+                .keepAliveTime(keepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveTime(permitKeepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionIdle(maxConnectionIdle.toMillis(), TimeUnit.MILLISECONDS);
+        if (workerThreads > 0) {
+            bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("grpc-boss", true));
+            workerGroup = new NioEventLoopGroup(workerThreads, new DefaultThreadFactory("grpc-worker", true));
+            builder.bossEventLoopGroup(bossGroup)
+                    .workerEventLoopGroup(workerGroup)
+                    .channelType(NioServerSocketChannel.class);
+        }
+        services.forEach(service -> builder.addService(ServerInterceptors.intercept(service, interceptors)));
+
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start gRPC server on port " + port, e);
+        }
+        logger.info("gRPC server listening on port {} with {} services", server.getPort(), services.size());
+    }
+
+    /**
+     * Stops taking new calls and lets running ones finish for up to the grace period.
+     */
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.shutdown();
+            try {
+                if (!server.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                    logger.warn("gRPC calls still running after {}; cancelling them", shutdownGracePeriod);
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                server.shutdownNow();
+            }
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully();
+            bossGroup.shutdownGracefully();
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Port the server is bound to, or -1 before it starts.
+     */
+    public int getPort() {
+        return server != null ? server.getPort() : -1;
+    }
+}
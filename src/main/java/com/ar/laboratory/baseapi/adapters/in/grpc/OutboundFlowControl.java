@@ -0,0 +1,69 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lets a producer thread wait for the client to take more messages before calling onNext.
+ * Without it a slow client makes the transport buffer every pending message in memory.
+ * The handlers run on the call's serializing executor, so the producer must not run there:
+ * it would block the very onReady notification it is waiting for.
+ */
+final class OutboundFlowControl {
+
+    private final ServerCallStreamObserver<?> observer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition readyOrCancelled = lock.newCondition();
+    private volatile boolean cancelled;
+
+    /**
+     * Registers the onReady and onCancel handlers; call it before the service method returns.
+     * A call cancelled by the client or past its deadline counts as cancelled.
+     */
+    OutboundFlowControl(ServerCallStreamObserver<?> observer) {
+        this.observer = observer;
+        observer.setOnReadyHandler(this::signal);
+        observer.setOnCancelHandler(() -> {
+            cancelled = true;
+            signal();
+        });
+    }
+
+    /**
+     * Blocks until the transport accepts another message.
+     *
+     * @throws io.grpc.StatusRuntimeException with CANCELLED when the call ends while waiting
+     */
+    void awaitReady() {
+        lock.lock();
+        try {
+            while (!cancelled && !observer.isReady()) {
+                readyOrCancelled.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Status.CANCELLED.withDescription("Interrupted while waiting for the client").asRuntimeException();
+        } finally {
+            lock.unlock();
+        }
+        if (cancelled) {
+            throw Status.CANCELLED.withDescription("Call cancelled by the client").asRuntimeException();
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            readyOrCancelled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * gRPC marshaller over a hand-written protobuf codec, so the gRPC services share the
+ * message encoding of the REST protobuf format without generated stubs.
+ *
+ * @param <T> the message type
+ */
+public class ProtobufMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+
+    private final ProtobufCodec<T> codec;
+
+    public ProtobufMarshaller(ProtobufCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    public static <T> ProtobufMarshaller<T> of(ProtobufCodec<T> codec) {
+        return new ProtobufMarshaller<>(codec);
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        byte[] bytes = new byte[codec.serializedSize(value)];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            codec.write(value, output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Failed to encode " + codec.type().getSimpleName())
+                    .withCause(e)
+                    .asRuntimeException();
+        }
+        return new KnownLengthInputStream(bytes);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try {
+            return codec.read(CodedInputStream.newInstance(stream));
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Invalid " + codec.type().getSimpleName() + " message")
+                    .withCause(e)
+                    .asRuntimeException();
+        }
+    }
+
+    /**
+     * Lets the transport size the frame up front instead of copying the stream into a buffer.
+     */
+    private static final class KnownLengthInputStream extends ByteArrayInputStream implements KnownLength {
+
+        private KnownLengthInputStream(byte[] bytes) {
+            super(bytes);
+        }
+    }
+}
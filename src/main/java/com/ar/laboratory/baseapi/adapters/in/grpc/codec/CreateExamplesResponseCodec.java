@@ -0,0 +1,90 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExampleError;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.*;
+
+/**
+ * Protobuf codec for CreateExamplesResponse (message {@code CreateExamplesResponse}),
+ * with its errors as embedded {@code CreateExampleError} messages.
+ */
+public class CreateExamplesResponseCodec implements ProtobufCodec<CreateExamplesResponse> {
+
+    private static final int CREATED = 1;
+    private static final int ERRORS = 2;
+
+    private static final int ERROR_INDEX = 1;
+    private static final int ERROR_MESSAGE = 2;
+
+    @Override
+    public Class<CreateExamplesResponse> type() {
+        return CreateExamplesResponse.class;
+    }
+
+    @Override
+    public int serializedSize(CreateExamplesResponse value) {
+        int size = value.getCreated() != 0 ? CodedOutputStream.computeInt32Size(CREATED, value.getCreated()) : 0;
+        for (CreateExampleError error : value.getErrors()) {
+            size += messageSize(ERRORS, errorSize(error));
+        }
+        return size;
+    }
+
+    @Override
+    public void write(CreateExamplesResponse value, CodedOutputStream output) throws IOException {
+        if (value.getCreated() != 0) {
+            output.writeInt32(CREATED, value.getCreated());
+        }
+        for (CreateExampleError error : value.getErrors()) {
+            writeMessageHeader(output, ERRORS, errorSize(error));
+            if (error.getIndex() != 0) {
+                output.writeInt32(ERROR_INDEX, error.getIndex());
+            }
+            writeString(output, ERROR_MESSAGE, error.getMessage());
+        }
+    }
+
+    @Override
+    public CreateExamplesResponse read(CodedInputStream input) throws IOException {
+        CreateExamplesResponse value = new CreateExamplesResponse();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case CREATED << 3 | WireFormat.WIRETYPE_VARINT -> value.setCreated(input.readInt32());
+                case ERRORS << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.getErrors().add(readError(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+
+    private static int errorSize(CreateExampleError error) {
+        int size = stringSize(ERROR_MESSAGE, error.getMessage());
+        if (error.getIndex() != 0) {
+            size += CodedOutputStream.computeInt32Size(ERROR_INDEX, error.getIndex());
+        }
+        return size;
+    }
+
+    private static CreateExampleError readError(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        CreateExampleError error = new CreateExampleError();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ERROR_INDEX << 3 | WireFormat.WIRETYPE_VARINT -> error.setIndex(input.readInt32());
+                case ERROR_MESSAGE << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> error.setMessage(input.readStringRequireUtf8());
+                default -> input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return error;
+    }
+}
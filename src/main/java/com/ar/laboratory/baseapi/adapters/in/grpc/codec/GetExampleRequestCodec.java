@@ -0,0 +1,57 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.stringSize;
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.writeString;
+
+/**
+ * Protobuf codec for GetExampleRequest (message {@code GetExampleRequest}, a oneof of id and dni).
+ */
+public class GetExampleRequestCodec implements ProtobufCodec<GetExampleRequest> {
+
+    private static final int ID = 1;
+    private static final int DNI = 2;
+
+    @Override
+    public Class<GetExampleRequest> type() {
+        return GetExampleRequest.class;
+    }
+
+    @Override
+    public int serializedSize(GetExampleRequest value) {
+        int size = stringSize(DNI, value.getDni());
+        if (value.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(ID, value.getId());
+        }
+        return size;
+    }
+
+    @Override
+    public void write(GetExampleRequest value, CodedOutputStream output) throws IOException {
+        if (value.getId() != null) {
+            output.writeInt64(ID, value.getId());
+        }
+        writeString(output, DNI, value.getDni());
+    }
+
+    @Override
+    public GetExampleRequest read(CodedInputStream input) throws IOException {
+        GetExampleRequest value = new GetExampleRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ID << 3 | WireFormat.WIRETYPE_VARINT -> value.setId(input.readInt64());
+                case DNI << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setDni(input.readStringRequireUtf8());
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
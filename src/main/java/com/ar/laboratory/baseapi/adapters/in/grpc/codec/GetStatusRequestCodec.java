@@ -0,0 +1,48 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.stringSize;
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.writeString;
+
+/**
+ * Protobuf codec for GetStatusRequest (message {@code GetStatusRequest}).
+ */
+public class GetStatusRequestCodec implements ProtobufCodec<GetStatusRequest> {
+
+    private static final int ID = 1;
+
+    @Override
+    public Class<GetStatusRequest> type() {
+        return GetStatusRequest.class;
+    }
+
+    @Override
+    public int serializedSize(GetStatusRequest value) {
+        return stringSize(ID, value.getId());
+    }
+
+    @Override
+    public void write(GetStatusRequest value, CodedOutputStream output) throws IOException {
+        writeString(output, ID, value.getId());
+    }
+
+    @Override
+    public GetStatusRequest read(CodedInputStream input) throws IOException {
+        GetStatusRequest value = new GetStatusRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ID << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setId(input.readStringRequireUtf8());
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.StreamStatusesRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Protobuf codec for StreamStatusesRequest (message {@code StreamStatusesRequest}).
+ */
+public class StreamStatusesRequestCodec implements ProtobufCodec<StreamStatusesRequest> {
+
+    private static final int ACTIVE_ONLY = 1;
+
+    @Override
+    public Class<StreamStatusesRequest> type() {
+        return StreamStatusesRequest.class;
+    }
+
+    @Override
+    public int serializedSize(StreamStatusesRequest value) {
+        return value.isActiveOnly() ? CodedOutputStream.computeBoolSize(ACTIVE_ONLY, true) : 0;
+    }
+
+    @Override
+    public void write(StreamStatusesRequest value, CodedOutputStream output) throws IOException {
+        if (value.isActiveOnly()) {
+            output.writeBool(ACTIVE_ONLY, true);
+        }
+    }
+
+    @Override
+    public StreamStatusesRequest read(CodedInputStream input) throws IOException {
+        StreamStatusesRequest value = new StreamStatusesRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ACTIVE_ONLY << 3 | WireFormat.WIRETYPE_VARINT -> value.setActiveOnly(input.readBool());
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item of a bulk create that was not created, by its position in the request stream.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateExampleError {
+    
+    private int index;
+    private String message;
+}
@@ -0,0 +1,24 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * gRPC response of ExampleService/CreateExamples.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateExamplesResponse {
+    
+    private int created;
+    
+    @Builder.Default
+    private List<CreateExampleError> errors = new ArrayList<>();
+}
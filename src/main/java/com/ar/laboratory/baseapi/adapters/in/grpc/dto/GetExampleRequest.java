@@ -0,0 +1,19 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * gRPC request of ExampleService/GetExample. Exactly one of id and dni is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetExampleRequest {
+    
+    private Long id;
+    private String dni;
+}
@@ -0,0 +1,18 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * gRPC request of ExampleStatusService/GetStatus.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetStatusRequest {
+    
+    private String id;
+}
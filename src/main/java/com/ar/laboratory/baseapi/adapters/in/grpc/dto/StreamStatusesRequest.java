@@ -0,0 +1,19 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * gRPC request of ExampleStatusService/StreamStatuses.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamStatusesRequest {
+    
+    /** Only active statuses when true. */
+    private boolean activeOnly;
+}
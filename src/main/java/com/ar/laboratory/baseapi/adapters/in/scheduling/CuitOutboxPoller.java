@@ -0,0 +1,118 @@
+package com.ar.laboratory.baseapi.adapters.in.scheduling;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnPostgreSql;
+import com.ar.laboratory.baseapi.domain.model.OutboxBacklog;
+import com.ar.laboratory.baseapi.domain.ports.in.CuitEnrichmentUseCase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background workers that drain the CUIT outbox.
+ * Each worker claims batches until the outbox has no due tasks, then sleeps for the poll
+ * interval. Workers on every node share the outbox safely because claims skip rows locked
+ * by others. The backlog is sampled periodically and published as gauges, so the lag is
+ * visible without querying the database on every scrape. Claims rely on FOR UPDATE SKIP
+ * LOCKED, so the workers only run on PostgreSQL.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cuit-outbox.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExamples
+@ConditionalOnPostgreSql
+public class CuitOutboxPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(CuitOutboxPoller.class);
+    private static final long BACKLOG_SAMPLE_SECONDS = 5;
+
+    private final CuitEnrichmentUseCase cuitEnrichmentUseCase;
+    private final int workers;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public CuitOutboxPoller(CuitEnrichmentUseCase cuitEnrichmentUseCase,
+                            @Value("${app.cuit-outbox.workers:2}") int workers,
+                            @Value("${app.cuit-outbox.batch-size:50}") int batchSize,
+                            @Value("${app.cuit-outbox.poll-interval:500ms}") Duration pollInterval,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cuitEnrichmentUseCase = cuitEnrichmentUseCase;
+        this.workers = Math.max(1, workers);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.scheduler = Executors.newScheduledThreadPool(this.workers + 1,
+                Thread.ofPlatform().name("cuit-outbox-", 0).daemon().factory());
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long intervalMillis = pollInterval.toMillis();
+        for (int i = 0; i < workers; i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::sampleBacklog, 0, BACKLOG_SAMPLE_SECONDS, TimeUnit.SECONDS);
+        logger.info("CUIT outbox polling started with {} workers", workers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warn("CUIT outbox workers did not stop in time; claimed tasks will be retried after their lease");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        try {
+            int claimed;
+            do {
+                claimed = cuitEnrichmentUseCase.processPendingCuits(batchSize);
+            } while (claimed == batchSize && !scheduler.isShutdown());
+        } catch (Exception e) {
+            logger.warn("CUIT outbox batch failed: {}", e.getMessage());
+        }
+    }
+
+    private void sampleBacklog() {
+        try {
+            OutboxBacklog backlog = cuitEnrichmentUseCase.getBacklog();
+            pending.set(backlog.getPending());
+            LocalDateTime oldest = backlog.getOldestCreatedAt();
+            lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+        } catch (Exception e) {
+            logger.debug("Could not sample CUIT outbox backlog: {}", e.getMessage());
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("baseapi.cuit.outbox.pending", pending, AtomicLong::get)
+                .description("CUIT lookups waiting in the outbox")
+                .register(registry);
+        Gauge.builder("baseapi.cuit.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest CUIT lookup waiting in the outbox")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types of the binary formats offered to internal clients next to JSON.
+ * CBOR uses {@link MediaType#APPLICATION_CBOR}.
+ */
+public final class BinaryMediaTypes {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf(APPLICATION_PROTOBUF_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
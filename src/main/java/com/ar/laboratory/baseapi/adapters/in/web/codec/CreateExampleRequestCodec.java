@@ -0,0 +1,59 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.*;
+
+/**
+ * Protobuf codec for CreateExampleRequest (message {@code CreateExampleRequest}).
+ * Decoded requests go through the same bean validation as JSON ones.
+ */
+public class CreateExampleRequestCodec implements ProtobufCodec<CreateExampleRequest> {
+
+    private static final int NOMBRE = 1;
+    private static final int APELLIDO = 2;
+    private static final int DNI = 3;
+    private static final int GENERO = 4;
+
+    @Override
+    public Class<CreateExampleRequest> type() {
+        return CreateExampleRequest.class;
+    }
+
+    @Override
+    public int serializedSize(CreateExampleRequest value) {
+        return stringSize(NOMBRE, value.getNombre())
+                + stringSize(APELLIDO, value.getApellido())
+                + stringSize(DNI, value.getDni())
+                + stringSize(GENERO, value.getGenero());
+    }
+
+    @Override
+    public void write(CreateExampleRequest value, CodedOutputStream output) throws IOException {
+        writeString(output, NOMBRE, value.getNombre());
+        writeString(output, APELLIDO, value.getApellido());
+        writeString(output, DNI, value.getDni());
+        writeString(output, GENERO, value.getGenero());
+    }
+
+    @Override
+    public CreateExampleRequest read(CodedInputStream input) throws IOException {
+        CreateExampleRequest value = new CreateExampleRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case NOMBRE << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setNombre(input.readStringRequireUtf8());
+                case APELLIDO << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setApellido(input.readStringRequireUtf8());
+                case DNI << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setDni(input.readStringRequireUtf8());
+                case GENERO << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setGenero(input.readStringRequireUtf8());
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.*;
+
+/**
+ * Protobuf codec for ExampleResponse (message {@code Example}).
+ */
+public class ExampleResponseCodec implements ProtobufCodec<ExampleResponse> {
+
+    private static final int ID = 1;
+    private static final int NOMBRE = 2;
+    private static final int APELLIDO = 3;
+    private static final int DNI = 4;
+    private static final int GENERO = 5;
+    private static final int CUIT = 6;
+    private static final int CUIT_STATUS = 7;
+    private static final int CREATED_AT = 8;
+    private static final int UPDATED_AT = 9;
+
+    @Override
+    public Class<ExampleResponse> type() {
+        return ExampleResponse.class;
+    }
+
+    @Override
+    public int serializedSize(ExampleResponse value) {
+        int size = stringSize(NOMBRE, value.getNombre())
+                + stringSize(APELLIDO, value.getApellido())
+                + stringSize(DNI, value.getDni())
+                + stringSize(GENERO, value.getGenero())
+                + stringSize(CUIT, value.getCuit())
+                + stringSize(CUIT_STATUS, value.getCuitStatus())
+                + timestampSize(CREATED_AT, value.getCreatedAt())
+                + timestampSize(UPDATED_AT, value.getUpdatedAt());
+        if (value.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(ID, value.getId());
+        }
+        return size;
+    }
+
+    @Override
+    public void write(ExampleResponse value, CodedOutputStream output) throws IOException {
+        if (value.getId() != null) {
+            output.writeInt64(ID, value.getId());
+        }
+        writeString(output, NOMBRE, value.getNombre());
+        writeString(output, APELLIDO, value.getApellido());
+        writeString(output, DNI, value.getDni());
+        writeString(output, GENERO, value.getGenero());
+        writeString(output, CUIT, value.getCuit());
+        writeString(output, CUIT_STATUS, value.getCuitStatus());
+        writeTimestamp(output, CREATED_AT, value.getCreatedAt());
+        writeTimestamp(output, UPDATED_AT, value.getUpdatedAt());
+    }
+
+    @Override
+    public ExampleResponse read(CodedInputStream input) throws IOException {
+        ExampleResponse value = new ExampleResponse();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ID << 3 | WireFormat.WIRETYPE_VARINT -> value.setId(input.readInt64());
+                case NOMBRE << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setNombre(input.readStringRequireUtf8());
+                case APELLIDO << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setApellido(input.readStringRequireUtf8());
+                case DNI << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setDni(input.readStringRequireUtf8());
+                case GENERO << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setGenero(input.readStringRequireUtf8());
+                case CUIT << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setCuit(input.readStringRequireUtf8());
+                case CUIT_STATUS << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setCuitStatus(input.readStringRequireUtf8());
+                case CREATED_AT << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setCreatedAt(readTimestamp(input));
+                case UPDATED_AT << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setUpdatedAt(readTimestamp(input));
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
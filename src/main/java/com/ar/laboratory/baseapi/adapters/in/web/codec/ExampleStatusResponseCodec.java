@@ -0,0 +1,83 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import static com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufFields.*;
+
+/**
+ * Protobuf codec for ExampleStatusResponse (message {@code ExampleStatus}).
+ */
+public class ExampleStatusResponseCodec implements ProtobufCodec<ExampleStatusResponse> {
+
+    private static final int ID = 1;
+    private static final int NAME = 2;
+    private static final int STATUS = 3;
+    private static final int DESCRIPTION = 4;
+    private static final int CREATED_AT = 5;
+    private static final int UPDATED_AT = 6;
+    private static final int ACTIVE = 7;
+    private static final int VERSION = 8;
+
+    @Override
+    public Class<ExampleStatusResponse> type() {
+        return ExampleStatusResponse.class;
+    }
+
+    @Override
+    public int serializedSize(ExampleStatusResponse value) {
+        int size = stringSize(ID, value.getId())
+                + stringSize(NAME, value.getName())
+                + stringSize(STATUS, value.getStatus())
+                + stringSize(DESCRIPTION, value.getDescription())
+                + timestampSize(CREATED_AT, value.getCreatedAt())
+                + timestampSize(UPDATED_AT, value.getUpdatedAt());
+        if (value.isActive()) {
+            size += CodedOutputStream.computeBoolSize(ACTIVE, true);
+        }
+        if (value.getVersion() != 0) {
+            size += CodedOutputStream.computeInt64Size(VERSION, value.getVersion());
+        }
+        return size;
+    }
+
+    @Override
+    public void write(ExampleStatusResponse value, CodedOutputStream output) throws IOException {
+        writeString(output, ID, value.getId());
+        writeString(output, NAME, value.getName());
+        writeString(output, STATUS, value.getStatus());
+        writeString(output, DESCRIPTION, value.getDescription());
+        writeTimestamp(output, CREATED_AT, value.getCreatedAt());
+        writeTimestamp(output, UPDATED_AT, value.getUpdatedAt());
+        if (value.isActive()) {
+            output.writeBool(ACTIVE, true);
+        }
+        if (value.getVersion() != 0) {
+            output.writeInt64(VERSION, value.getVersion());
+        }
+    }
+
+    @Override
+    public ExampleStatusResponse read(CodedInputStream input) throws IOException {
+        ExampleStatusResponse value = new ExampleStatusResponse();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case ID << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setId(input.readStringRequireUtf8());
+                case NAME << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setName(input.readStringRequireUtf8());
+                case STATUS << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setStatus(input.readStringRequireUtf8());
+                case DESCRIPTION << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setDescription(input.readStringRequireUtf8());
+                case CREATED_AT << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setCreatedAt(readTimestamp(input));
+                case UPDATED_AT << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED -> value.setUpdatedAt(readTimestamp(input));
+                case ACTIVE << 3 | WireFormat.WIRETYPE_VARINT -> value.setActive(input.readBool());
+                case VERSION << 3 | WireFormat.WIRETYPE_VARINT -> value.setVersion(input.readInt64());
+                default -> input.skipField(tag);
+            }
+        }
+        return value;
+    }
+}
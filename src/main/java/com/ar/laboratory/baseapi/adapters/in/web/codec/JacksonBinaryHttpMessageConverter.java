@@ -0,0 +1,55 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Reads and writes a Jackson binary format (CBOR, Smile) for the DTO types offered to
+ * internal clients.
+ * It only writes when the handler lists the media type in {@code produces}: converters
+ * registered as beans go before the JSON one, and would otherwise win on a wildcard Accept.
+ */
+public class JacksonBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final Set<Class<?>> types;
+
+    public JacksonBinaryHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType, Set<Class<?>> types) {
+        super(mediaType);
+        this.objectMapper = objectMapper;
+        this.types = Set.copyOf(types);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return types.contains(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return objectMapper.readValue(inputMessage.getBody(), clazz);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Invalid " + getSupportedMediaTypes().get(0)
+                    + " payload: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        objectMapper.writeValue(outputMessage.getBody(), value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * ObjectMappers for the web adapters that write outside the JSON message converter.
+ * They are derived from the application's mapper, so spring.jackson.* settings apply to
+ * streamed lists, SSE frames and the CBOR and Smile bodies as well, and a payload decodes
+ * to the same values whatever format the client picked.
+ */
+public final class JacksonMappers {
+
+    private JacksonMappers() {
+    }
+
+    /**
+     * Copy of the application's mapper for JSON output written straight to the response.
+     */
+    public static ObjectMapper json(ObjectMapper applicationMapper) {
+        return forStreaming(applicationMapper.copy());
+    }
+
+    /**
+     * Copy of the application's mapper over another format, such as CBOR or Smile.
+     */
+    public static ObjectMapper derive(ObjectMapper applicationMapper, JsonFactory factory) {
+        return forStreaming(applicationMapper.copyWith(factory));
+    }
+
+    /**
+     * Mapper with the defaults Spring Boot applies (Java time types, ISO-8601 dates), for
+     * code that runs without the application context, such as tests and benchmarks.
+     */
+    public static ObjectMapper applicationDefaults() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+
+    /**
+     * Shorthand for deriving from {@link #applicationDefaults()}.
+     */
+    public static ObjectMapper create(JsonFactory factory) {
+        return derive(applicationDefaults(), factory);
+    }
+
+    /**
+     * No flush after every value and the target stream left open for the container to close.
+     */
+    private static ObjectMapper forStreaming(ObjectMapper objectMapper) {
+        objectMapper.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        objectMapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return objectMapper;
+    }
+}
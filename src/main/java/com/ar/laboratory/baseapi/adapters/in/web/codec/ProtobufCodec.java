@@ -0,0 +1,31 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Hand-written protobuf encoding of a DTO, following a message of
+ * {@code src/main/proto/base_api.proto}.
+ * Codecs write the DTOs directly, so no generated classes or copies are involved.
+ *
+ * @param <T> the DTO type
+ */
+public interface ProtobufCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * Size in bytes of the encoded message, needed for length-delimited streams.
+     */
+    int serializedSize(T value);
+
+    void write(T value, CodedOutputStream output) throws IOException;
+
+    /**
+     * Reads one message until the end of the input or the current limit.
+     * Unknown fields are skipped.
+     */
+    T read(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,69 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes application/x-protobuf bodies with the hand-written codecs.
+ * Like the other binary converters it only writes when the handler lists the media type
+ * in {@code produces}, so a wildcard Accept keeps getting JSON.
+ */
+public class ProtobufCodecHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ProtobufCodecs codecs;
+
+    public ProtobufCodecHttpMessageConverter(ProtobufCodecs codecs) {
+        super(BinaryMediaTypes.APPLICATION_PROTOBUF);
+        this.codecs = codecs;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codecs.supports(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return codecs.codecFor(clazz).read(CodedInputStream.newInstance(inputMessage.getBody()));
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        write(codecs.codecFor(value.getClass()), value, outputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        return (long) serializedSize(codecs.codecFor(value.getClass()), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void write(ProtobufCodec<T> codec, Object value, HttpOutputMessage outputMessage)
+            throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody());
+        codec.write((T) value, output);
+        output.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int serializedSize(ProtobufCodec<T> codec, Object value) {
+        return codec.serializedSize((T) value);
+    }
+}
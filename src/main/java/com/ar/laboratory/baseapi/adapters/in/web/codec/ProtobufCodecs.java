@@ -0,0 +1,39 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the protobuf codecs, by DTO type.
+ * The registered types are also the ones offered as CBOR and Smile, so every binary
+ * format covers the same payloads.
+ */
+public class ProtobufCodecs {
+
+    private final Map<Class<?>, ProtobufCodec<?>> codecs = new LinkedHashMap<>();
+
+    public ProtobufCodecs(List<ProtobufCodec<?>> codecs) {
+        for (ProtobufCodec<?> codec : codecs) {
+            this.codecs.put(codec.type(), codec);
+        }
+    }
+
+    public boolean supports(Class<?> type) {
+        return codecs.containsKey(type);
+    }
+
+    public Set<Class<?>> types() {
+        return codecs.keySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ProtobufCodec<T> codecFor(Class<T> type) {
+        ProtobufCodec<T> codec = (ProtobufCodec<T>) codecs.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No protobuf codec for " + type.getName());
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Field helpers shared by the protobuf codecs of the web and gRPC adapters.
+ * Null values are left out of the message, as proto3 does with defaults, and read back as null.
+ * Dates are google.protobuf.Timestamp messages holding the LocalDateTime as UTC.
+ */
+public final class ProtobufFields {
+
+    private static final int TIMESTAMP_SECONDS = 1;
+    private static final int TIMESTAMP_NANOS = 2;
+
+    private ProtobufFields() {
+    }
+
+    public static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    public static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    public static int timestampSize(int field, LocalDateTime value) {
+        if (value == null) {
+            return 0;
+        }
+        return messageSize(field, timestampLength(value));
+    }
+
+    public static void writeTimestamp(CodedOutputStream output, int field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writeMessageHeader(output, field, timestampLength(value));
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        if (seconds != 0) {
+            output.writeInt64(TIMESTAMP_SECONDS, seconds);
+        }
+        if (value.getNano() != 0) {
+            output.writeInt32(TIMESTAMP_NANOS, value.getNano());
+        }
+    }
+
+    public static LocalDateTime readTimestamp(CodedInputStream input) throws IOException {
+        int limit = input.pushLimit(input.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (tag) {
+                case TIMESTAMP_SECONDS << 3 | WireFormat.WIRETYPE_VARINT -> seconds = input.readInt64();
+                case TIMESTAMP_NANOS << 3 | WireFormat.WIRETYPE_VARINT -> nanos = input.readInt32();
+                default -> input.skipField(tag);
+            }
+        }
+        input.popLimit(limit);
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    /**
+     * Size of an embedded message field whose content is length bytes long.
+     */
+    public static int messageSize(int field, int length) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+    }
+
+    /**
+     * Writes the tag and length of an embedded message; the caller writes its fields next.
+     */
+    public static void writeMessageHeader(CodedOutputStream output, int field, int length) throws IOException {
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(length);
+    }
+
+    private static int timestampLength(LocalDateTime value) {
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        int length = 0;
+        if (seconds != 0) {
+            length += CodedOutputStream.computeInt64Size(TIMESTAMP_SECONDS, seconds);
+        }
+        if (value.getNano() != 0) {
+            length += CodedOutputStream.computeInt32Size(TIMESTAMP_NANOS, value.getNano());
+        }
+        return length;
+    }
+}
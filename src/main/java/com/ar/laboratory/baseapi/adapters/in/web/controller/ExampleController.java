@@ -1,9 +1,20 @@
 package com.ar.laboratory.baseapi.adapters.in.web.controller;
 
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
 import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupItemResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupRequest;
 import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsBeanPostProcessor;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
 import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupKey;
 import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import com.ar.laboratory.baseapi.domain.ports.in.LookupExamplesUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,9 +22,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
 
 /**
  * Controller for Example operations.
@@ -22,23 +45,49 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/examples")
 @Tag(name = "Examples", description = "Operations for managing examples with database persistence")
+@ConditionalOnExamples
 public class ExampleController {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleController.class);
     
     private final CreateExampleUseCase createExampleUseCase;
+    /** Resolved on the first lookup; absent where the database is not PostgreSQL. */
+    private final ObjectProvider<LookupExamplesUseCase> lookupExamplesUseCase;
+    private final ConditionalGetSupport conditionalGetSupport;
+    private final ExampleMapper exampleMapper;
+    /** Maps streamed lookup results without one port observation per item. */
+    private final ExampleMapper elementMapper;
+    private final JsonStreamingSupport jsonStreamingSupport;
+    private final boolean asyncCreate;
 
-    public ExampleController(CreateExampleUseCase createExampleUseCase) {
+    public ExampleController(CreateExampleUseCase createExampleUseCase,
+                             ObjectProvider<LookupExamplesUseCase> lookupExamplesUseCase,
+                             ConditionalGetSupport conditionalGetSupport,
+                             ExampleMapper exampleMapper,
+                             JsonStreamingSupport jsonStreamingSupport,
+                             @Value("${app.examples.async-create:false}") boolean asyncCreate) {
         this.createExampleUseCase = createExampleUseCase;
+        this.lookupExamplesUseCase = lookupExamplesUseCase;
+        this.conditionalGetSupport = conditionalGetSupport;
+        this.exampleMapper = exampleMapper;
+        this.elementMapper = PortMetricsBeanPostProcessor.unobserved(exampleMapper);
+        this.jsonStreamingSupport = jsonStreamingSupport;
+        this.asyncCreate = asyncCreate;
     }
 
-    @PostMapping
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
     @Operation(
         summary = "Create a new example",
-        description = "Creates a new example with nombre, apellido, and DNI. DNI must be unique."
+        description = "Creates a new example with nombre, apellido, and DNI. DNI must be unique. "
+                + "In async mode the example is accepted with a pending CUIT and the Location header "
+                + "points to the resource to poll until cuitStatus is READY."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Example created successfully"),
+        @ApiResponse(responseCode = "202", description = "Example accepted, CUIT pending (async mode)"),
         @ApiResponse(responseCode = "400", description = "Invalid input or DNI already exists"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -46,16 +95,23 @@ public class ExampleController {
         logger.info("POST /examples - Creating example with DNI: {}", request.getDni());
         
         try {
-            Example example = Example.builder()
-                    .nombre(request.getNombre())
-                    .apellido(request.getApellido())
-                    .dni(request.getDni())
-                    .genero(request.getGenero())
-                    .build();
+            Example example = exampleMapper.toDomain(request);
+            
+            if (asyncCreate) {
+                Example submittedExample = createExampleUseCase.submitExample(example);
+                URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(submittedExample.getId())
+                        .toUri();
+                
+                logger.info("Example accepted with ID: {}", submittedExample.getId());
+                
+                return ResponseEntity.accepted().location(location).body(exampleMapper.toResponse(submittedExample));
+            }
             
             Example createdExample = createExampleUseCase.createExample(example);
             
-            ExampleResponse response = toResponse(createdExample);
+            ExampleResponse response = exampleMapper.toResponse(createdExample);
             
             logger.info("Example created successfully with ID: {}", response.getId());
             
@@ -66,16 +122,57 @@ public class ExampleController {
         }
     }
 
-    @GetMapping("/dni/{dni}")
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
+    @Operation(
+        summary = "Find example by ID",
+        description = "Retrieves an example by its ID. Used to poll examples accepted in async mode: "
+                + "while cuitStatus is PENDING the response is not cacheable and carries Retry-After."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Example found"),
+        @ApiResponse(responseCode = "304", description = "Example not modified since the client's copy"),
+        @ApiResponse(responseCode = "404", description = "Example not found")
+    })
+    public ResponseEntity<ExampleResponse> findById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        logger.info("GET /examples/{} - Finding example by ID", id);
+        
+        Example example = createExampleUseCase.findById(id);
+        
+        if (example == null) {
+            logger.info("Example not found for ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        
+        if (example.getCuitStatus() == CuitStatus.PENDING) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(exampleMapper.toResponse(example));
+        }
+        
+        return conditionalResponse(example, accept, webRequest);
+    }
+
+    @GetMapping(value = "/dni/{dni}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
     @Operation(
         summary = "Find example by DNI",
-        description = "Retrieves an example by its DNI"
+        description = "Retrieves an example by its DNI. Supports conditional requests "
+                + "through If-None-Match and If-Modified-Since."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Example found"),
+        @ApiResponse(responseCode = "304", description = "Example not modified since the client's copy"),
         @ApiResponse(responseCode = "404", description = "Example not found")
     })
-    public ResponseEntity<ExampleResponse> findByDni(@PathVariable String dni) {
+    public ResponseEntity<ExampleResponse> findByDni(
+            @PathVariable String dni,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
         logger.info("GET /examples/dni/{} - Finding example by DNI", dni);
         
         Example example = createExampleUseCase.findByDni(dni);
@@ -85,21 +182,57 @@ public class ExampleController {
             return ResponseEntity.notFound().build();
         }
         
-        ExampleResponse response = toResponse(example);
+        return conditionalResponse(example, accept, webRequest);
+    }
+
+    @PostMapping(value = "/lookup", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+        summary = "Look up several examples",
+        description = "Looks up up to 500 examples by DNI or by CUIT in one request. The response is a "
+                + "JSON array with one item per requested key, in request order, marked found or not. "
+                + "Items are streamed as they are resolved, as NDJSON when Accept asks for application/x-ndjson."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup results, one per key"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "501", description = "Lookups are not available on this database")
+    })
+    public ResponseEntity<StreamingResponseBody> lookup(
+            @Valid @RequestBody ExampleLookupRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        ExampleLookupKey keyType = request.getDni() != null ? ExampleLookupKey.DNI : ExampleLookupKey.CUIT;
+        List<String> keys = keyType == ExampleLookupKey.DNI ? request.getDni() : request.getCuit();
+        logger.info("POST /examples/lookup - Looking up {} examples by {}", keys.size(), keyType);
+        
+        LookupExamplesUseCase lookupUseCase = lookupExamplesUseCase.getIfAvailable();
+        if (lookupUseCase == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "Lookups require PostgreSQL");
+        }
         
-        return ResponseEntity.ok(response);
+        return jsonStreamingSupport.stream(accept, ExampleLookupItemResponse.class,
+                sink -> lookupUseCase.lookupExamples(keyType, keys,
+                        result -> sink.accept(elementMapper.toLookupItemResponse(result))));
     }
 
-    private ExampleResponse toResponse(Example example) {
-        return ExampleResponse.builder()
-                .id(example.getId())
-                .nombre(example.getNombre())
-                .apellido(example.getApellido())
-                .dni(example.getDni())
-                .genero(example.getGenero())
-                .cuit(example.getCuit())
-                .createdAt(example.getCreatedAt())
-                .updatedAt(example.getUpdatedAt())
-                .build();
+    private ResponseEntity<ExampleResponse> conditionalResponse(Example example, String accept, WebRequest webRequest) {
+        MediaType format = conditionalGetSupport.representation(accept);
+        String etag = conditionalGetSupport.etagFor(example, format);
+        if (webRequest.checkNotModified(etag, conditionalGetSupport.lastModified(example))) {
+            logger.debug("Example {} not modified", example.getId());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(conditionalGetSupport.cacheControl())
+                    .build();
+        }
+        
+        ExampleResponse response = exampleMapper.toResponse(example);
+        
+        return ResponseEntity.ok()
+                .contentType(format)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(conditionalGetSupport.cacheControl())
+                .body(response);
     }
 }
@@ -1,8 +1,12 @@
 package com.ar.laboratory.baseapi.adapters.in.web.controller;
 
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
 import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
 import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
-import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsBeanPostProcessor;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
 import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,88 +15,129 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
- * Controller for ExampleStatus operations.
+ * Controller for ExampleStatus reads.
  * This is an input adapter demonstrating hexagonal architecture.
+ * Updates live in ExampleStatusUpdateController, so read-only nodes can leave them out.
+ * Nodes on the reactive profile serve these reads through ExampleStatusRoutes instead.
  */
 @RestController
 @RequestMapping("/example-status")
 @Tag(name = "Example Status", description = "Example status operations demonstrating hexagonal architecture")
+@ConditionalOnExampleStatus
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ExampleStatusController {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleStatusController.class);
     
     private final ExampleStatusUseCase exampleStatusUseCase;
     private final ExampleStatusMapper exampleStatusMapper;
+    /** Maps streamed elements without one port observation per status. */
+    private final ExampleStatusMapper elementMapper;
+    private final ConditionalGetSupport conditionalGetSupport;
+    private final JsonStreamingSupport jsonStreamingSupport;
 
     public ExampleStatusController(ExampleStatusUseCase exampleStatusUseCase, 
-                                   ExampleStatusMapper exampleStatusMapper) {
+                                   ExampleStatusMapper exampleStatusMapper,
+                                   ConditionalGetSupport conditionalGetSupport,
+                                   JsonStreamingSupport jsonStreamingSupport) {
         this.exampleStatusUseCase = exampleStatusUseCase;
         this.exampleStatusMapper = exampleStatusMapper;
+        this.elementMapper = PortMetricsBeanPostProcessor.unobserved(exampleStatusMapper);
+        this.conditionalGetSupport = conditionalGetSupport;
+        this.jsonStreamingSupport = jsonStreamingSupport;
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE,
+            BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
     @Operation(
         summary = "Get all example statuses",
-        description = "Retrieves all example statuses from the in-memory repository"
+        description = "Retrieves all example statuses from the in-memory repository. Items are streamed "
+                + "as a JSON array, or as NDJSON (one status per line) when Accept asks for application/x-ndjson. "
+                + "Internal clients can ask for CBOR, Smile or length-delimited protobuf."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved all statuses")
     })
-    public ResponseEntity<List<ExampleStatusResponse>> getAllStatuses() {
+    public ResponseEntity<StreamingResponseBody> getAllStatuses(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         logger.info("GET /example-status - Retrieving all statuses");
         
-        List<ExampleStatus> statuses = exampleStatusUseCase.getAllExampleStatuses();
-        List<ExampleStatusResponse> response = exampleStatusMapper.toResponseList(statuses);
-        
-        logger.debug("Returning {} example statuses", response.size());
-        
-        return ResponseEntity.ok(response);
+        return jsonStreamingSupport.stream(accept, ExampleStatusResponse.class,
+                sink -> exampleStatusUseCase.forEachExampleStatus(
+                        exampleStatus -> sink.accept(elementMapper.toResponse(exampleStatus))));
     }
 
-    @GetMapping("/active")
+    @GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryMediaTypes.APPLICATION_SMILE_VALUE,
+            BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
     @Operation(
         summary = "Get active example statuses",
-        description = "Retrieves only active example statuses from the in-memory repository"
+        description = "Retrieves only active example statuses from the in-memory repository. Items are "
+                + "streamed as a JSON array, or as NDJSON when Accept asks for application/x-ndjson. "
+                + "Internal clients can ask for CBOR, Smile or length-delimited protobuf."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved active statuses")
     })
-    public ResponseEntity<List<ExampleStatusResponse>> getActiveStatuses() {
+    public ResponseEntity<StreamingResponseBody> getActiveStatuses(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         logger.info("GET /example-status/active - Retrieving active statuses");
         
-        List<ExampleStatus> activeStatuses = exampleStatusUseCase.getActiveExampleStatuses();
-        List<ExampleStatusResponse> response = exampleStatusMapper.toResponseList(activeStatuses);
-        
-        logger.debug("Returning {} active example statuses", response.size());
-        
-        return ResponseEntity.ok(response);
+        return jsonStreamingSupport.stream(accept, ExampleStatusResponse.class,
+                sink -> exampleStatusUseCase.forEachActiveExampleStatus(
+                        exampleStatus -> sink.accept(elementMapper.toResponse(exampleStatus))));
     }
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            BinaryMediaTypes.APPLICATION_SMILE_VALUE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE})
     @Operation(
         summary = "Get example status by ID",
-        description = "Retrieves a specific example status by its ID"
+        description = "Retrieves a specific example status by its ID. Supports conditional requests "
+                + "through If-None-Match and If-Modified-Since; each format has its own ETag."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved the status"),
+        @ApiResponse(responseCode = "304", description = "Status not modified since the client's copy"),
         @ApiResponse(responseCode = "404", description = "Status not found")
     })
     public ResponseEntity<ExampleStatusResponse> getStatusById(
             @Parameter(description = "ID of the status to retrieve", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
         logger.info("GET /example-status/{} - Retrieving status by id", id);
         
         return exampleStatusUseCase.getExampleStatusById(id)
-                .map(exampleStatusMapper::toResponse)
-                .map(response -> {
+                .map(exampleStatus -> {
+                    MediaType format = conditionalGetSupport.representation(accept);
+                    String etag = conditionalGetSupport.etagFor(exampleStatus, format);
+                    if (webRequest.checkNotModified(etag, conditionalGetSupport.lastModified(exampleStatus))) {
+                        logger.debug("Example status {} not modified", id);
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .cacheControl(conditionalGetSupport.cacheControl())
+                                .<ExampleStatusResponse>build();
+                    }
+                    ExampleStatusResponse response = exampleStatusMapper.toResponse(exampleStatus);
                     logger.debug("Found example status: {}", response.getName());
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok()
+                            .contentType(format)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .cacheControl(conditionalGetSupport.cacheControl())
+                            .body(response);
                 })
                 .orElseGet(() -> {
                     logger.warn("Example status not found for id: {}", id);
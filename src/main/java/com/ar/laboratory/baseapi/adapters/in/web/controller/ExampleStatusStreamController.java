@@ -0,0 +1,56 @@
+package com.ar.laboratory.baseapi.adapters.in.web.controller;
+
+import com.ar.laboratory.baseapi.adapters.in.web.stream.ExampleStatusStreamBroadcaster;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller streaming ExampleStatus changes as Server-Sent Events.
+ * This is an input adapter that replaces client-side polling of /example-status.
+ */
+@RestController
+@RequestMapping("/example-status")
+@Tag(name = "Example Status", description = "Example status operations demonstrating hexagonal architecture")
+@ConditionalOnExampleStatus
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ExampleStatusStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleStatusStreamController.class);
+    
+    private final ExampleStatusStreamBroadcaster broadcaster;
+
+    public ExampleStatusStreamController(ExampleStatusStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream example status changes",
+        description = "Pushes a 'status-change' event every time an example status changes. "
+                + "Clients reconnecting with Last-Event-ID receive the events they missed, or a "
+                + "'reset' event when those are no longer available and a full reload is required."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    public SseEmitter streamStatusChanges(
+            @Parameter(description = "Id of the last event received, to resume the stream")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.debug("GET /example-status/stream - Subscribing, Last-Event-ID: {}", lastEventId);
+        
+        return broadcaster.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ar.laboratory.baseapi.adapters.in.web.controller;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.BatchPatchExampleStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.BatchPatchExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusPatchItem;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.PatchExampleStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ReplaceExampleStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.UpdateExampleStatusUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for ExampleStatus updates.
+ * Left out on read-only status nodes (app.example-status.writes-enabled=false).
+ */
+@RestController
+@RequestMapping("/example-status")
+@Tag(name = "Example Status", description = "Example status operations demonstrating hexagonal architecture")
+@ConditionalOnExampleStatus
+@ConditionalOnProperty(name = "app.example-status.writes-enabled", havingValue = "true", matchIfMissing = true)
+public class ExampleStatusUpdateController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleStatusUpdateController.class);
+    
+    private final UpdateExampleStatusUseCase updateExampleStatusUseCase;
+    private final ExampleStatusMapper exampleStatusMapper;
+    private final ConditionalGetSupport conditionalGetSupport;
+
+    public ExampleStatusUpdateController(UpdateExampleStatusUseCase updateExampleStatusUseCase,
+                                         ExampleStatusMapper exampleStatusMapper,
+                                         ConditionalGetSupport conditionalGetSupport) {
+        this.updateExampleStatusUseCase = updateExampleStatusUseCase;
+        this.exampleStatusMapper = exampleStatusMapper;
+        this.conditionalGetSupport = conditionalGetSupport;
+    }
+
+    @PutMapping("/{id}")
+    @Operation(
+        summary = "Replace example status",
+        description = "Replaces every mutable field of an existing example status"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Status not found")
+    })
+    public ResponseEntity<ExampleStatusResponse> replaceStatus(
+            @Parameter(description = "ID of the status to replace", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody ReplaceExampleStatusRequest request) {
+        logger.info("PUT /example-status/{} - Replacing status", id);
+        
+        return updateExampleStatusUseCase.replaceExampleStatus(exampleStatusMapper.toUpdate(id, request))
+                .map(this::toUpdatedResponse)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(
+        summary = "Update example status",
+        description = "Updates the provided fields of an existing example status"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "Status not found")
+    })
+    public ResponseEntity<ExampleStatusResponse> patchStatus(
+            @Parameter(description = "ID of the status to update", required = true)
+            @PathVariable String id,
+            @Valid @RequestBody PatchExampleStatusRequest request) {
+        logger.info("PATCH /example-status/{} - Updating status", id);
+        
+        return updateExampleStatusUseCase.patchExampleStatus(exampleStatusMapper.toUpdate(id, request))
+                .map(this::toUpdatedResponse)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping
+    @Operation(
+        summary = "Update several example statuses",
+        description = "Applies a list of partial updates. Unknown ids are reported in notFound."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Updates applied"),
+        @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    public ResponseEntity<BatchPatchExampleStatusResponse> patchStatuses(
+            @Valid @RequestBody BatchPatchExampleStatusRequest request) {
+        logger.info("PATCH /example-status - Updating {} statuses", request.getUpdates().size());
+        
+        List<ExampleStatus> updated = updateExampleStatusUseCase.patchExampleStatuses(
+                request.getUpdates().stream().map(exampleStatusMapper::toUpdate).toList());
+        
+        Set<String> updatedIds = updated.stream().map(ExampleStatus::getId).collect(Collectors.toSet());
+        List<String> notFound = request.getUpdates().stream()
+                .map(ExampleStatusPatchItem::getId)
+                .filter(id -> !updatedIds.contains(id))
+                .distinct()
+                .toList();
+        
+        return ResponseEntity.ok(BatchPatchExampleStatusResponse.builder()
+                .updated(exampleStatusMapper.toResponseList(updated))
+                .notFound(notFound)
+                .build());
+    }
+
+    private ResponseEntity<ExampleStatusResponse> toUpdatedResponse(ExampleStatus exampleStatus) {
+        return ResponseEntity.ok()
+                .eTag(conditionalGetSupport.etagFor(exampleStatus))
+                .body(exampleStatusMapper.toResponse(exampleStatus));
+    }
+}
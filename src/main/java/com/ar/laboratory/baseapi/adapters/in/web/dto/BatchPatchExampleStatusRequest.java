@@ -0,0 +1,25 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for updating several ExampleStatus entities in one request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPatchExampleStatusRequest {
+    
+    @NotEmpty(message = "La lista de actualizaciones no puede estar vacía")
+    @Size(max = 500, message = "No se pueden actualizar más de 500 estados por solicitud")
+    private List<@Valid ExampleStatusPatchItem> updates;
+}
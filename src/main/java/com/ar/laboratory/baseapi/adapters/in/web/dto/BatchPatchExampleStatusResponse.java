@@ -0,0 +1,21 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch ExampleStatus update.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPatchExampleStatusResponse {
+    
+    private List<ExampleStatusResponse> updated;
+    private List<String> notFound;
+}
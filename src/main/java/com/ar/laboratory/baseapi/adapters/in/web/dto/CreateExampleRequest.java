@@ -1,7 +1,8 @@
 package com.ar.laboratory.baseapi.adapters.in.web.dto;
 
+import com.ar.laboratory.baseapi.adapters.in.web.validation.Dni;
+import com.ar.laboratory.baseapi.adapters.in.web.validation.Genero;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,10 +28,10 @@ public class CreateExampleRequest {
     private String apellido;
     
     @NotBlank(message = "El DNI no puede estar vacío")
-    @Pattern(regexp = "^[0-9]{7,8}$", message = "El DNI debe tener 7 u 8 dígitos numéricos")
+    @Dni
     private String dni;
     
     @NotBlank(message = "El género no puede estar vacío")
-    @Pattern(regexp = "^[HM]$", message = "El género debe ser H (Hombre) o M (Mujer)")
+    @Genero
     private String genero;
 }
@@ -0,0 +1,22 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of one key of an example lookup.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ExampleLookupItemResponse {
+    
+    private String key;
+    private boolean found;
+    private ExampleResponse example;
+}
@@ -0,0 +1,35 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for looking up several examples by DNI or by CUIT.
+ * Exactly one of the two lists must be present.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleLookupRequest {
+    
+    @Size(min = 1, max = 500, message = "Se pueden consultar entre 1 y 500 DNIs por solicitud")
+    private List<@NotBlank(message = "El DNI no puede estar vacío") String> dni;
+    
+    @Size(min = 1, max = 500, message = "Se pueden consultar entre 1 y 500 CUITs por solicitud")
+    private List<@NotBlank(message = "El CUIT no puede estar vacío") String> cuit;
+    
+    @JsonIgnore
+    @AssertTrue(message = "Debe indicarse una lista de DNIs o una de CUITs, no ambas")
+    public boolean isSingleKeyType() {
+        return (dni == null) != (cuit == null);
+    }
+}
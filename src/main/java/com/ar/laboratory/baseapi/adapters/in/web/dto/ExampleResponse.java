@@ -20,6 +20,9 @@ public class ExampleResponse {
     private String nombre;
     private String apellido;
     private String dni;
+    private String genero;
+    private String cuit;
+    private String cuitStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
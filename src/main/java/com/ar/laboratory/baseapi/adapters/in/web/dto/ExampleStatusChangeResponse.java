@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for ExampleStatus change events pushed through the status stream.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleStatusChangeResponse {
+    
+    private String statusId;
+    private String previousStatus;
+    private ExampleStatusResponse current;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,33 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one entry of a batch ExampleStatus update.
+ * Fields left null are not modified.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleStatusPatchItem {
+    
+    @NotBlank(message = "El id no puede estar vacío")
+    private String id;
+    
+    @Size(min = 1, max = 100, message = "El nombre debe tener entre 1 y 100 caracteres")
+    private String name;
+    
+    @Size(min = 1, max = 30, message = "El estado debe tener entre 1 y 30 caracteres")
+    private String status;
+    
+    @Size(max = 255, message = "La descripción no puede superar los 255 caracteres")
+    private String description;
+    
+    private Boolean active;
+}
@@ -21,5 +21,7 @@ public class ExampleStatusResponse {
     private String status;
     private String description;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private boolean active;
+    private long version;
 }
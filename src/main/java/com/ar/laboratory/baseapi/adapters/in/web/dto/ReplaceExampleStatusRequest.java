@@ -0,0 +1,34 @@
+package com.ar.laboratory.baseapi.adapters.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for replacing an ExampleStatus (PUT).
+ * Every mutable field is required.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplaceExampleStatusRequest {
+    
+    @NotBlank(message = "El nombre no puede estar vacío")
+    @Size(max = 100, message = "El nombre no puede superar los 100 caracteres")
+    private String name;
+    
+    @NotBlank(message = "El estado no puede estar vacío")
+    @Size(max = 30, message = "El estado no puede superar los 30 caracteres")
+    private String status;
+    
+    @Size(max = 255, message = "La descripción no puede superar los 255 caracteres")
+    private String description;
+    
+    @NotNull(message = "El indicador de activo es obligatorio")
+    private Boolean active;
+}
@@ -0,0 +1,195 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Load shedding for the API endpoints.
+ * The endpoint groups (/example-status, /examples) share one adaptive concurrency limit,
+ * since they compete for the same server threads and database pool. Requests over the
+ * limit are rejected with 503 and Retry-After before reaching the controllers. Reads
+ * (GET/HEAD and POST /examples/lookup) may use the whole limit while writes only get a
+ * share of it, so under overload writes are shed before cheap reads. Streamed responses
+ * hold their slot until the async dispatch completes. The status stream is long-lived
+ * and not limited.
+ * Registered by WebFiltersConfig.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    private static final String STREAM_PATH = "/example-status/stream";
+    private static final String LOOKUP_PATH = "/examples/lookup";
+    private static final List<String> GROUPS = List.of("/example-status", "/examples");
+
+    private final GradientConcurrencyLimit limit;
+    private final Map<String, Counter[]> rejectedCounters = new LinkedHashMap<>();
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(int initialLimit, int minLimit, int maxLimit, double tolerance, double writeShare,
+                                  Duration retryAfter, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, writeShare);
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String group = groupOf(path);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean write = isWrite(request.getMethod(), path);
+        if (!limit.tryAcquire(write)) {
+            reject(group, write, response);
+            return;
+        }
+
+        Slot slot = new Slot(System.nanoTime(), response);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                // Streamed bodies are written after doFilter returns; release when the dispatch ends
+                request.getAsyncContext().addListener(slot);
+            } else {
+                slot.release(failed || slot.serverError());
+            }
+        }
+    }
+
+    private static boolean isWrite(String method, String path) {
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return false;
+        }
+        // The lookup is a read sent over POST only because its keys do not fit a query string
+        return !(HttpMethod.POST.matches(method) && path.equals(LOOKUP_PATH));
+    }
+
+    private String groupOf(String path) {
+        if (path.startsWith(STREAM_PATH)) {
+            return null;
+        }
+        for (String group : GROUPS) {
+            if (path.equals(group) || path.startsWith(group + "/")) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void reject(String group, boolean write, HttpServletResponse response) {
+        Counter[] counters = rejectedCounters.get(group);
+        if (counters != null) {
+            counters[write ? 1 : 0].increment();
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Shedding {} request for {}, limit {}", write ? "write" : "read", group, limit.getLimit());
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        Gauge.builder("baseapi.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("baseapi.concurrency.inflight", limit, GradientConcurrencyLimit::getInFlight)
+                .description("Requests currently being processed")
+                .register(registry);
+        for (String group : GROUPS) {
+            rejectedCounters.put(group, new Counter[] {
+                    rejectedCounter(registry, group, "read"),
+                    rejectedCounter(registry, group, "write")});
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String group, String priority) {
+        return Counter.builder("baseapi.concurrency.rejected")
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("group", group)
+                .tag("priority", priority)
+                .register(registry);
+    }
+
+    /**
+     * One acquired slot. Released exactly once, either when doFilter returns or, for async
+     * requests, when the async dispatch completes, fails or times out.
+     */
+    private class Slot implements AsyncListener {
+
+        private final long start;
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Slot(long start, HttpServletResponse response) {
+            this.start = start;
+            this.response = response;
+        }
+
+        boolean serverError() {
+            return response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+
+        void release(boolean failed) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (failed) {
+                limit.onDropped();
+            } else {
+                limit.onSample(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(serverError());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A new async cycle drops the registered listeners
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
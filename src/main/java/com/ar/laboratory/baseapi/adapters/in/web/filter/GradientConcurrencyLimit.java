@@ -0,0 +1,99 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit for the API endpoints, following the gradient approach.
+ * A slow moving average of latency approximates the latency without queuing; when recent
+ * latency rises above it (beyond the tolerance) the limit shrinks proportionally, and
+ * while latency stays close to it the limit grows by roughly sqrt(limit). Failed calls
+ * cut the limit multiplicatively (AIMD). Low priority calls may only use part of the
+ * limit, so they are shed first when the limit is saturated.
+ */
+class GradientConcurrencyLimit {
+
+    private static final double LONG_WINDOW_WEIGHT = 0.01;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double lowPriorityShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double longRtt;
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double lowPriorityShare) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.lowPriorityShare = lowPriorityShare;
+    }
+
+    /**
+     * Reserves a slot if the call fits under the current limit.
+     *
+     * @param lowPriority whether the call belongs to the low priority class
+     * @return true if the call may proceed; it must then be completed with onSample or onDropped
+     */
+    boolean tryAcquire(boolean lowPriority) {
+        int allowed = (int) (lowPriority ? Math.max(1, limit * lowPriorityShare) : limit);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and feeds the measured latency into the limit.
+     */
+    void onSample(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    /**
+     * Releases a slot for a failed call and backs off.
+     */
+    synchronized void onDropped() {
+        inFlight.decrementAndGet();
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = rtt;
+        }
+        longRtt = longRtt * (1 - LONG_WINDOW_WEIGHT) + rtt * LONG_WINDOW_WEIGHT;
+        if (longRtt / rtt > 2) {
+            // Latency dropped a lot (e.g. after a slow period): let the baseline catch up faster
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / rtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        // Do not grow the limit when the group is not using it; latency then says nothing about capacity
+        if (next > current && inFlightAtCompletion < current / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,241 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.IdempotencyClaim;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import com.ar.laboratory.baseapi.domain.ports.in.IdempotencyUseCase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Idempotency-Key support for POST /examples.
+ * Keys are scoped to the client (ClientIdResolver), so two clients choosing the same key
+ * never see each other's responses. The first request with a key executes and its response
+ * (status, content type, Location, ETag, Last-Modified and body) is stored; retries with the
+ * same key and body get the stored response byte for byte, marked with Idempotent-Replayed.
+ * Reusing a key with a different body is rejected with 422, and a retry arriving while the
+ * first request is still running gets 409 with Retry-After at once, without holding a
+ * request thread. Server errors are not stored, so a retry after a 5xx executes again.
+ * Registered by WebFiltersConfig.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<String> REPLAYED_RESPONSE_HEADERS =
+            List.of(HttpHeaders.LOCATION, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final IdempotencyUseCase idempotencyUseCase;
+    private final ClientIdResolver clientIdResolver;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyUseCase idempotencyUseCase,
+                             ClientIdResolver clientIdResolver,
+                             int maxBodyBytes) {
+        this.idempotencyUseCase = idempotencyUseCase;
+        this.clientIdResolver = clientIdResolver;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !"/examples".equals(path)
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+            return;
+        }
+
+        String key = "POST:/examples:" + clientIdResolver.clientId(request) + ":" + idempotencyKey;
+        String fingerprint = fingerprint(body);
+        IdempotencyClaim claim = idempotencyUseCase.begin(key, fingerprint);
+        switch (claim.getOutcome()) {
+            case REPLAY -> replay(claim.getResponse(), response);
+            case MISMATCH -> response.setStatus(HttpStatus.UNPROCESSABLE_CONTENT.value());
+            case IN_PROGRESS -> {
+                response.setStatus(HttpStatus.CONFLICT.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            }
+            case ACQUIRED -> execute(new CachedBodyRequest(request, body), response, filterChain,
+                    key, fingerprint, claim.getLockToken());
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String fingerprint, String lockToken) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            if (isStorable(cachingResponse.getStatus())) {
+                idempotencyUseCase.complete(key, lockToken, IdempotentResponse.builder()
+                        .fingerprint(fingerprint)
+                        .status(cachingResponse.getStatus())
+                        .contentType(cachingResponse.getContentType())
+                        .headers(replayedHeaders(cachingResponse))
+                        .body(cachingResponse.getContentAsByteArray())
+                        .build());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyUseCase.abandon(key, lockToken);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Responses that would be the same on a retry. Server errors and rejections caused by
+     * load or concurrency are transient, so those retries must execute again.
+     */
+    private static boolean isStorable(int status) {
+        return status >= 200 && status < 500
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_RESPONSE_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getHeaders() != null) {
+            stored.getHeaders().forEach(response::setHeader);
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.getBody() != null ? stored.getBody() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request whose body was already read by the filter and is served from memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * The whole body is already in memory, so it is available at once.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (input.available() > 0) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
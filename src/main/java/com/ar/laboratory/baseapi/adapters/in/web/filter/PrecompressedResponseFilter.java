@@ -0,0 +1,362 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip for GET responses that rarely change (the OpenAPI document by default), compressed once
+ * instead of on every request.
+ * The response of a configured path is buffered; when its bytes equal the last body sent for
+ * the same path and content type the stored gzip is written as is, otherwise the body is
+ * compressed at the configured level and stored. Comparing the bytes is much cheaper than
+ * deflating them and needs no invalidation when the content changes.
+ * The buffer never holds more than max-body-bytes: a larger body, or a streamed one that flushes
+ * (StreamingResponseBody), switches to pass-through and is left, like non-200 responses and
+ * clients that do not accept gzip, to the server compression (server.compression).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.compression.precompressed.enabled", havingValue = "true", matchIfMissing = true)
+public class PrecompressedResponseFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final Set<String> paths;
+    private final int level;
+    private final int minBodyBytes;
+    private final int maxBodyBytes;
+    private final ConcurrentMap<String, PrecompressedBody> bodies = new ConcurrentHashMap<>();
+
+    public PrecompressedResponseFilter(
+            @Value("${app.compression.precompressed.paths:/api-docs}") String[] paths,
+            @Value("${app.compression.precompressed.level:9}") int level,
+            @Value("${app.compression.precompressed.min-body-bytes:1024}") int minBodyBytes,
+            @Value("${app.compression.precompressed.max-body-bytes:1048576}") int maxBodyBytes) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 1 and 9: " + level);
+        }
+        this.paths = Set.of(paths);
+        this.level = level;
+        this.minBodyBytes = minBodyBytes;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Gzips the body at the given Deflater level (1 fastest, 9 smallest).
+     */
+    public static byte[] gzip(byte[] body, int level) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new LeveledGzipOutputStream(output, level)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !paths.contains(pathOf(request))
+                || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    /**
+     * Streamed bodies finish in an async dispatch, after the first pass through the chain.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletResponse responseToUse = response;
+        if (!isAsyncDispatch(request) && !(response instanceof BufferingResponse)) {
+            responseToUse = new BufferingResponse(request, response, maxBodyBytes);
+        }
+
+        filterChain.doFilter(request, responseToUse);
+
+        if (!isAsyncStarted(request)) {
+            BufferingResponse bufferingResponse = WebUtils.getNativeResponse(responseToUse, BufferingResponse.class);
+            if (bufferingResponse != null) {
+                writeResponse(pathOf(request), bufferingResponse);
+            }
+        }
+    }
+
+    private void writeResponse(String path, BufferingResponse bufferingResponse) throws IOException {
+        bufferingResponse.flushWriter();
+        if (bufferingResponse.isPassThrough()) {
+            return;
+        }
+        HttpServletResponse rawResponse = (HttpServletResponse) bufferingResponse.getResponse();
+        byte[] body = bufferingResponse.body();
+        String contentType = rawResponse.getContentType();
+        if (rawResponse.getStatus() != HttpStatus.OK.value()
+                || body.length < minBodyBytes
+                || contentType == null
+                || rawResponse.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            bufferingResponse.copyBodyToResponse();
+            return;
+        }
+
+        byte[] gzip = compressed(path + " " + contentType, body);
+        rawResponse.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        if (rawResponse.getHeaders(HttpHeaders.VARY).stream()
+                .noneMatch(vary -> vary.toLowerCase().contains("accept-encoding"))) {
+            rawResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        rawResponse.setContentLength(gzip.length);
+        rawResponse.getOutputStream().write(gzip);
+    }
+
+    private byte[] compressed(String key, byte[] body) {
+        PrecompressedBody cached = bodies.get(key);
+        if (cached != null && Arrays.equals(cached.body(), body)) {
+            return cached.gzip();
+        }
+        byte[] gzip = gzip(body, level);
+        bodies.put(key, new PrecompressedBody(body, gzip));
+        return gzip;
+    }
+
+    /**
+     * True when gzip, or a wildcard, is listed with a quality above zero.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(name) && !"*".equals(name)) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (quality > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record PrecompressedBody(byte[] body, byte[] gzip) {
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        private LeveledGzipOutputStream(OutputStream output, int level) throws IOException {
+            super(output);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Holds the body in memory up to a limit. Past the limit, or when an async (streamed) handler
+     * flushes, the buffered bytes and any declared Content-Length go to the response and later
+     * writes pass straight through, so memory stays bounded and the first element is not held back.
+     * Flushes of synchronous handlers, such as the one message converters do after writing, keep
+     * the body buffered.
+     */
+    static final class BufferingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final int limit;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final ServletOutputStream outputStream = new BufferingOutputStream();
+        private PrintWriter writer;
+        private long contentLength = -1;
+        private boolean passThrough;
+
+        BufferingResponse(HttpServletRequest request, HttpServletResponse response, int limit) {
+            super(response);
+            this.request = request;
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (passThrough) {
+                super.setContentLengthLong(length);
+            } else {
+                contentLength = length;
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (request.isAsyncStarted()) {
+                switchToPassThrough();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (!passThrough) {
+                buffer.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (!passThrough) {
+                buffer.reset();
+                contentLength = -1;
+            }
+            super.reset();
+        }
+
+        boolean isPassThrough() {
+            return passThrough;
+        }
+
+        byte[] body() {
+            return buffer.toByteArray();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        void copyBodyToResponse() throws IOException {
+            HttpServletResponse rawResponse = (HttpServletResponse) getResponse();
+            if (buffer.size() > 0) {
+                rawResponse.setContentLength(buffer.size());
+                buffer.writeTo(rawResponse.getOutputStream());
+                buffer.reset();
+            } else if (contentLength >= 0) {
+                rawResponse.setContentLengthLong(contentLength);
+            }
+        }
+
+        private void switchToPassThrough() throws IOException {
+            if (passThrough) {
+                return;
+            }
+            passThrough = true;
+            HttpServletResponse rawResponse = (HttpServletResponse) getResponse();
+            if (contentLength >= 0) {
+                rawResponse.setContentLengthLong(contentLength);
+            }
+            buffer.writeTo(rawResponse.getOutputStream());
+            buffer.reset();
+        }
+
+        private final class BufferingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().write(b);
+                    return;
+                }
+                buffer.write(b);
+                if (buffer.size() > limit) {
+                    switchToPassThrough();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (passThrough) {
+                    getResponse().getOutputStream().write(b, off, len);
+                    return;
+                }
+                buffer.write(b, off, len);
+                if (buffer.size() > limit) {
+                    switchToPassThrough();
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (request.isAsyncStarted()) {
+                    switchToPassThrough();
+                }
+                if (passThrough) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return !passThrough || getResponse().getOutputStream().isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-client rate limiting for the API endpoints.
+ * Clients are identified by ClientIdResolver: a configured API key, or the remote address for
+ * unknown or missing keys.
+ * Reads cost one token and writes cost write-cost tokens. Every response carries the
+ * RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset headers; rejected requests get
+ * 429 with Retry-After. Metrics are tagged per API key (by a short hash, never the key
+ * itself); clients identified by address share a single tag.
+ * Registered by WebFiltersConfig.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String STREAM_PATH = "/example-status/stream";
+    private static final List<String> GROUPS = List.of("/example-status", "/examples");
+    private static final String ANONYMOUS_CLIENT = "anonymous";
+    private static final String OTHER_CLIENT = "other";
+    private static final int MAX_CLIENT_TAGS = 100;
+
+    private final RateLimitUseCase rateLimitUseCase;
+    private final ClientIdResolver clientIdResolver;
+    private final int writeCost;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> clientCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitUseCase rateLimitUseCase,
+                           ClientIdResolver clientIdResolver,
+                           int writeCost,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.rateLimitUseCase = rateLimitUseCase;
+        this.clientIdResolver = clientIdResolver;
+        this.writeCost = writeCost;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return isUnder(path, STREAM_PATH) || GROUPS.stream().noneMatch(group -> isUnder(path, group));
+    }
+
+    /**
+     * Whether the path is the given one or below it, matching whole segments only.
+     */
+    private static boolean isUnder(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = clientIdResolver.clientId(request);
+        boolean write = !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+
+        RateLimitDecision decision = rateLimitUseCase.tryConsume(clientId, write ? writeCost : 1);
+        response.setHeader("RateLimit-Limit", Long.toString(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.getResetSeconds()));
+        count(ClientIdResolver.isApiKeyClient(clientId) ? clientId : ANONYMOUS_CLIENT, decision.isAllowed());
+
+        if (!decision.isAllowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.getResetSeconds()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void count(String client, boolean allowed) {
+        if (meterRegistry == null) {
+            return;
+        }
+        String tag = clientCounters.containsKey(client) || clientCounters.size() < MAX_CLIENT_TAGS ? client : OTHER_CLIENT;
+        Counter[] counters = clientCounters.computeIfAbsent(tag, key -> new Counter[] {
+                counter(key, "allowed"), counter(key, "rejected")});
+        counters[allowed ? 0 : 1].increment();
+    }
+
+    private Counter counter(String client, String outcome) {
+        return Counter.builder("baseapi.ratelimit.requests")
+                .description("Requests checked against the per-client rate limit")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ar.laboratory.baseapi.adapters.in.web.mapper;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupItemResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.config.MappingConfig;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupResult;
+import org.mapstruct.AnnotateWith;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper for converting between Example domain model and DTOs.
+ * The implementation is generated at compile time (see MappingConfig).
+ */
+@Mapper(config = MappingConfig.class)
+@AnnotateWith(ConditionalOnExamples.class)
+public interface ExampleMapper {
+
+    /** Identity, CUIT and timestamps are assigned by the service and the database. */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "cuit", ignore = true)
+    @Mapping(target = "cuitStatus", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Example toDomain(CreateExampleRequest request);
+
+    ExampleResponse toResponse(Example example);
+
+    ExampleLookupItemResponse toLookupItemResponse(ExampleLookupResult result);
+}
@@ -1,40 +1,43 @@
 package com.ar.laboratory.baseapi.adapters.in.web.mapper;
 
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusChangeResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusPatchItem;
 import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.PatchExampleStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ReplaceExampleStatusRequest;
+import com.ar.laboratory.baseapi.config.MappingConfig;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
-import org.springframework.stereotype.Component;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusUpdate;
+import org.mapstruct.AnnotateWith;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper for converting between ExampleStatus domain model and DTOs.
+ * The implementation is generated at compile time (see MappingConfig).
  */
-@Component
-public class ExampleStatusMapper {
-
-    public ExampleStatusResponse toResponse(ExampleStatus exampleStatus) {
-        if (exampleStatus == null) {
-            return null;
-        }
-        
-        return ExampleStatusResponse.builder()
-                .id(exampleStatus.getId())
-                .name(exampleStatus.getName())
-                .status(exampleStatus.getStatus())
-                .description(exampleStatus.getDescription())
-                .createdAt(exampleStatus.getCreatedAt())
-                .active(exampleStatus.isActive())
-                .build();
-    }
-
-    public List<ExampleStatusResponse> toResponseList(List<ExampleStatus> exampleStatuses) {
-        if (exampleStatuses == null) {
-            return List.of();
-        }
-        
-        return exampleStatuses.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
-    }
+@Mapper(config = MappingConfig.class)
+@AnnotateWith(ConditionalOnExampleStatus.class)
+public interface ExampleStatusMapper {
+
+    ExampleStatusResponse toResponse(ExampleStatus exampleStatus);
+
+    List<ExampleStatusResponse> toResponseList(List<ExampleStatus> exampleStatuses);
+
+    /** The origin node only matters for relaying between nodes; clients do not see it. */
+    @BeanMapping(ignoreUnmappedSourceProperties = "origin")
+    ExampleStatusChangeResponse toChangeResponse(ExampleStatusChange change);
+
+    @Mapping(target = "id", source = "id")
+    ExampleStatusUpdate toUpdate(String id, ReplaceExampleStatusRequest request);
+
+    @Mapping(target = "id", source = "id")
+    ExampleStatusUpdate toUpdate(String id, PatchExampleStatusRequest request);
+
+    ExampleStatusUpdate toUpdate(ExampleStatusPatchItem item);
 }
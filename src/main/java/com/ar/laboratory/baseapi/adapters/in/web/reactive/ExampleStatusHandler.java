@@ -0,0 +1,113 @@
+package com.ar.laboratory.baseapi.adapters.in.web.reactive;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsBeanPostProcessor;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnReactiveExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ReactiveExampleStatusUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Functional handlers for the reactive ExampleStatus reads.
+ * Same responses as ExampleStatusController in JSON: collections are written as they are
+ * emitted, as a JSON array or as NDJSON picked by the same Accept rule, and single reads carry
+ * the same ETag, Last-Modified, Cache-Control and Vary headers and support conditional requests.
+ */
+@Component
+@ConditionalOnReactiveExampleStatus
+public class ExampleStatusHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleStatusHandler.class);
+    private static final List<MediaType> COLLECTION_FORMATS = List.of(MediaType.APPLICATION_NDJSON);
+    
+    private final ReactiveExampleStatusUseCase reactiveExampleStatusUseCase;
+    private final ExampleStatusMapper exampleStatusMapper;
+    /** Maps streamed elements without one port observation per status. */
+    private final ExampleStatusMapper elementMapper;
+    private final ConditionalGetSupport conditionalGetSupport;
+
+    public ExampleStatusHandler(ReactiveExampleStatusUseCase reactiveExampleStatusUseCase,
+                                ExampleStatusMapper exampleStatusMapper,
+                                ConditionalGetSupport conditionalGetSupport) {
+        this.reactiveExampleStatusUseCase = reactiveExampleStatusUseCase;
+        this.exampleStatusMapper = exampleStatusMapper;
+        this.elementMapper = PortMetricsBeanPostProcessor.unobserved(exampleStatusMapper);
+        this.conditionalGetSupport = conditionalGetSupport;
+    }
+
+    public Mono<ServerResponse> getAllStatuses(ServerRequest request) {
+        logger.info("GET /example-status - Retrieving all statuses (reactive)");
+        return collection(request, reactiveExampleStatusUseCase.getAllExampleStatuses());
+    }
+
+    public Mono<ServerResponse> getActiveStatuses(ServerRequest request) {
+        logger.info("GET /example-status/active - Retrieving active statuses (reactive)");
+        return collection(request, reactiveExampleStatusUseCase.getActiveExampleStatuses());
+    }
+
+    public Mono<ServerResponse> getStatusById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        logger.info("GET /example-status/{} - Retrieving status by id (reactive)", id);
+        
+        return reactiveExampleStatusUseCase.getExampleStatusById(id)
+                .flatMap(exampleStatus -> conditionalResponse(request, exampleStatus))
+                .switchIfEmpty(Mono.defer(() -> {
+                    logger.warn("Example status not found for id: {}", id);
+                    return ServerResponse.notFound().build();
+                }));
+    }
+
+    private Mono<ServerResponse> conditionalResponse(ServerRequest request, ExampleStatus exampleStatus) {
+        String etag = conditionalGetSupport.etagFor(exampleStatus);
+        long lastModified = conditionalGetSupport.lastModified(exampleStatus);
+        Mono<ServerResponse> notModified = lastModified >= 0
+                ? request.checkNotModified(Instant.ofEpochMilli(lastModified), etag)
+                : request.checkNotModified(etag);
+        
+        return notModified
+                .flatMap(response -> ServerResponse.from(response)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .cacheControl(conditionalGetSupport.cacheControl())
+                        .build())
+                .switchIfEmpty(Mono.defer(() -> {
+                    ServerResponse.BodyBuilder ok = ServerResponse.ok()
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .cacheControl(conditionalGetSupport.cacheControl())
+                            .contentType(MediaType.APPLICATION_JSON);
+                    if (lastModified >= 0) {
+                        ok.lastModified(Instant.ofEpochMilli(lastModified));
+                    }
+                    return ok.bodyValue(exampleStatusMapper.toResponse(exampleStatus));
+                }));
+    }
+
+    private Mono<ServerResponse> collection(ServerRequest request, Flux<ExampleStatus> statuses) {
+        return ServerResponse.ok()
+                .contentType(selectMediaType(request))
+                .body(statuses.map(elementMapper::toResponse), ExampleStatusResponse.class);
+    }
+
+    /**
+     * NDJSON only when the client lists it with at least the quality of JSON; anything else,
+     * wildcards included, gets a JSON array (JsonStreamingSupport.selectMediaType).
+     */
+    static MediaType selectMediaType(ServerRequest request) {
+        String accept = String.join(", ", request.headers().header(HttpHeaders.ACCEPT));
+        return JsonStreamingSupport.selectMediaType(accept, COLLECTION_FORMATS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ar.laboratory.baseapi.adapters.in.web.reactive;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnReactiveExampleStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Functional endpoint for /example-status on nodes running the reactive profile.
+ * Requests are served on the Netty event loop; no thread is held while Redis answers or
+ * while a slow client drains the response.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnReactiveExampleStatus
+public class ExampleStatusRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> exampleStatusRouterFunction(ExampleStatusHandler handler) {
+        return RouterFunctions.route()
+                .GET("/example-status", handler::getAllStatuses)
+                .GET("/example-status/active", handler::getActiveStatuses)
+                .GET("/example-status/{id}", handler::getStatusById)
+                .build();
+    }
+}
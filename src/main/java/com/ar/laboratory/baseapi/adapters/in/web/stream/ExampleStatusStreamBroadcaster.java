@@ -0,0 +1,198 @@
+package com.ar.laboratory.baseapi.adapters.in.web.stream;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusChangeResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.stream.StatusChangeRingBuffer.StreamEvent;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-node fan-out of ExampleStatus changes to Server-Sent Events subscribers.
+ * Each change is serialized once and the same frame is queued to every subscriber.
+ * Subscribers have a bounded buffer; a subscriber that falls behind is disconnected
+ * instead of slowing down the publisher. Recent events are kept in a ring buffer
+ * so reconnecting clients can resume through Last-Event-ID. Frames are written with a copy
+ * of the application's ObjectMapper (JacksonMappers), the same as the other JSON responses.
+ */
+@Component
+@ConditionalOnExampleStatus
+public class ExampleStatusStreamBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleStatusStreamBroadcaster.class);
+    private static final String CHANGE_EVENT = "status-change";
+    private static final String RESET_EVENT = "reset";
+    private static final StreamEvent CLOSE = new StreamEvent(-1, "", "");
+
+    private final ExampleStatusMapper exampleStatusMapper;
+    private final ObjectMapper objectMapper;
+    private final StatusChangeRingBuffer ringBuffer;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final int subscriberBufferSize;
+    private final long timeoutMillis;
+    private long sequence;
+
+    @Autowired
+    public ExampleStatusStreamBroadcaster(ExampleStatusMapper exampleStatusMapper,
+                                          ObjectProvider<ObjectMapper> applicationMapper,
+                                          @Value("${app.status-stream.replay-size:1024}") int replaySize,
+                                          @Value("${app.status-stream.subscriber-buffer:256}") int subscriberBufferSize,
+                                          @Value("${app.status-stream.timeout:30m}") Duration timeout) {
+        this(exampleStatusMapper, applicationMapper.getIfAvailable(JacksonMappers::applicationDefaults), replaySize,
+                subscriberBufferSize, timeout, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * For tests that need to control when subscribers are drained.
+     */
+    ExampleStatusStreamBroadcaster(ExampleStatusMapper exampleStatusMapper, ObjectMapper applicationMapper,
+                                   int replaySize, int subscriberBufferSize, Duration timeout,
+                                   ExecutorService senders) {
+        this.exampleStatusMapper = exampleStatusMapper;
+        this.ringBuffer = new StatusChangeRingBuffer(replaySize);
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = senders;
+        this.objectMapper = JacksonMappers.json(applicationMapper);
+    }
+
+    /**
+     * Registers a new subscriber, replaying the events it missed if possible.
+     *
+     * @param lastEventId the Last-Event-ID sent by the client, or null
+     * @return the emitter bound to the HTTP response
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(subscriberBufferSize));
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        senders.execute(subscriber::drain);
+        logger.debug("Status stream subscriber registered, {} active", subscribers.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onStatusChange(ExampleStatusChange change) {
+        ExampleStatusChangeResponse payload = exampleStatusMapper.toChangeResponse(change);
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize status change for id: {}", change.getStatusId(), e);
+            return;
+        }
+
+        synchronized (this) {
+            StreamEvent event = new StreamEvent(++sequence, CHANGE_EVENT, data);
+            ringBuffer.append(event);
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(event)) {
+                    dropSlowSubscriber(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        List<StreamEvent> missed;
+        try {
+            missed = ringBuffer.eventsAfter(Long.parseLong(lastEventId));
+        } catch (NumberFormatException e) {
+            missed = null;
+        }
+        if (missed == null || missed.size() > subscriberBufferSize) {
+            // The client cannot be brought up to date incrementally; ask it to reload
+            subscriber.queue.offer(new StreamEvent(sequence, RESET_EVENT, "{}"));
+            return;
+        }
+        missed.forEach(subscriber.queue::offer);
+    }
+
+    private void dropSlowSubscriber(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            droppedSubscribers.incrementAndGet();
+            logger.warn("Dropping slow status stream subscriber, buffer of {} events is full", subscriberBufferSize);
+            subscriber.queue.clear();
+            subscriber.queue.offer(CLOSE);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(CLOSE);
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<StreamEvent> queue) {
+
+        void drain() {
+            try {
+                while (true) {
+                    StreamEvent event = queue.take();
+                    if (event == CLOSE) {
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.id()))
+                            .name(event.name())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        }
+    }
+}
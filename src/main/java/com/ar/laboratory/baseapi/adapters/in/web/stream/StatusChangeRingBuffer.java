@@ -0,0 +1,62 @@
+package com.ar.laboratory.baseapi.adapters.in.web.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring buffer of recently broadcast status change events.
+ * Used to replay missed events to clients reconnecting with Last-Event-ID.
+ * Not thread-safe; callers synchronize externally.
+ */
+class StatusChangeRingBuffer {
+
+    private final StreamEvent[] events;
+    private int next;
+    private int size;
+
+    StatusChangeRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive: " + capacity);
+        }
+        this.events = new StreamEvent[capacity];
+    }
+
+    void append(StreamEvent event) {
+        events[next] = event;
+        next = (next + 1) % events.length;
+        if (size < events.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Returns the events after the given id, in order.
+     *
+     * @param lastEventId the last id seen by the client
+     * @return the missed events, or null if the id is unknown to this buffer
+     *         (already overwritten, or issued by another node or a previous run)
+     */
+    List<StreamEvent> eventsAfter(long lastEventId) {
+        List<StreamEvent> missed = new ArrayList<>();
+        if (size == 0) {
+            return lastEventId == 0 ? missed : null;
+        }
+        StreamEvent oldest = events[(next - size + events.length) % events.length];
+        StreamEvent newest = events[(next - 1 + events.length) % events.length];
+        if (lastEventId < oldest.id() - 1 || lastEventId > newest.id()) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            StreamEvent event = events[(next - size + i + events.length) % events.length];
+            if (event.id() > lastEventId) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * A serialized event, shared by every subscriber it is delivered to.
+     */
+    record StreamEvent(long id, String name, String data) {}
+}
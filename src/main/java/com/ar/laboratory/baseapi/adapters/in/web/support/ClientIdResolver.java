@@ -0,0 +1,78 @@
+package com.ar.laboratory.baseapi.adapters.in.web.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Identifies the client behind a request, for per-client quotas and keys.
+ * Only API keys listed in app.rate-limit.api-keys identify a client (key:&lt;hash&gt;); any
+ * other value of the header is ignored and the client is its remote address (ip:&lt;address&gt;),
+ * so sending random keys does not open new buckets. Keys are hashed once at startup and
+ * the raw key never leaves this class.
+ */
+@Component
+public class ClientIdResolver {
+
+    private static final String KEY_PREFIX = "key:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final String apiKeyHeader;
+    private final Map<String, String> knownKeys;
+
+    public ClientIdResolver(@Value("${app.rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+                            @Value("${app.rate-limit.api-keys:}") String[] apiKeys) {
+        this.apiKeyHeader = apiKeyHeader;
+        Map<String, String> hashedKeys = new HashMap<>();
+        for (String apiKey : apiKeys) {
+            if (!apiKey.isBlank()) {
+                hashedKeys.put(apiKey.trim(), KEY_PREFIX + hash(apiKey.trim()));
+            }
+        }
+        this.knownKeys = Map.copyOf(hashedKeys);
+    }
+
+    /**
+     * Name of the header carrying the API key.
+     */
+    public String apiKeyHeader() {
+        return apiKeyHeader;
+    }
+
+    public String clientId(HttpServletRequest request) {
+        return clientId(request.getHeader(apiKeyHeader), request.getRemoteAddr());
+    }
+
+    /**
+     * @param apiKey the API key sent by the client, may be null
+     * @param remoteAddress the address the request came from
+     * @return key:&lt;hash&gt; for a configured API key, ip:&lt;address&gt; otherwise
+     */
+    public String clientId(String apiKey, String remoteAddress) {
+        String keyClient = apiKey != null ? knownKeys.get(apiKey) : null;
+        return keyClient != null ? keyClient : IP_PREFIX + remoteAddress;
+    }
+
+    /**
+     * True for client ids resolved from a configured API key.
+     */
+    public static boolean isApiKeyClient(String clientId) {
+        return clientId.startsWith(KEY_PREFIX);
+    }
+
+    private static String hash(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
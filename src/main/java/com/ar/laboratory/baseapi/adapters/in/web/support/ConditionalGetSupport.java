@@ -0,0 +1,108 @@
+package com.ar.laboratory.baseapi.adapters.in.web.support;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper for conditional GET handling in the web adapters.
+ * ETags are derived from version metadata of the domain objects, so they can be
+ * compared against If-None-Match without mapping or serializing the response body.
+ * A resource sent in a binary format gets the format in its ETag, and responses vary by
+ * Accept, so a cache never answers a JSON request with CBOR bytes or the other way round.
+ */
+@Component
+public class ConditionalGetSupport {
+
+    /** Formats of a single resource besides JSON, in order of preference on equal quality. */
+    private static final List<MediaType> RESOURCE_FORMATS = List.of(
+            BinaryMediaTypes.APPLICATION_PROTOBUF, MediaType.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE);
+    private static final Map<MediaType, String> FORMAT_SUFFIXES = Map.of(
+            BinaryMediaTypes.APPLICATION_PROTOBUF, "pb",
+            MediaType.APPLICATION_CBOR, "cbor",
+            BinaryMediaTypes.APPLICATION_SMILE, "smile");
+
+    private final CacheControl cacheControl;
+
+    public ConditionalGetSupport(@Value("${app.http-cache.max-age:5s}") Duration maxAge,
+                                 @Value("${app.http-cache.stale-while-revalidate:0s}") Duration staleWhileRevalidate,
+                                 @Value("${app.http-cache.public:false}") boolean shared) {
+        this.cacheControl = buildCacheControl(maxAge, staleWhileRevalidate, shared);
+    }
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Format a single resource is written in for the given Accept header. Controllers set it
+     * as the response content type, so the format-specific ETag names the bytes actually sent.
+     */
+    public MediaType representation(String accept) {
+        return JsonStreamingSupport.selectMediaType(accept, RESOURCE_FORMATS);
+    }
+
+    /**
+     * ETag of the status as written in the given format; JSON keeps the plain tag.
+     */
+    public String etagFor(ExampleStatus exampleStatus, MediaType format) {
+        return withFormat(etagFor(exampleStatus), format);
+    }
+
+    /**
+     * ETag of the example as written in the given format; JSON keeps the plain tag.
+     */
+    public String etagFor(Example example, MediaType format) {
+        return withFormat(etagFor(example), format);
+    }
+
+    public String etagFor(ExampleStatus exampleStatus) {
+        return "\"es-" + exampleStatus.getId()
+                + "-" + Long.toHexString(toEpochMilli(exampleStatus.getCreatedAt()))
+                + "-" + exampleStatus.getVersion() + "\"";
+    }
+
+    public String etagFor(Example example) {
+        return "\"ex-" + example.getId()
+                + "-" + Long.toHexString(toEpochMilli(example.getUpdatedAt())) + "\"";
+    }
+
+    public long lastModified(ExampleStatus exampleStatus) {
+        LocalDateTime updatedAt = exampleStatus.getUpdatedAt();
+        return toEpochMilli(updatedAt != null ? updatedAt : exampleStatus.getCreatedAt());
+    }
+
+    public long lastModified(Example example) {
+        return toEpochMilli(example.getUpdatedAt());
+    }
+
+    private static String withFormat(String etag, MediaType format) {
+        String suffix = FORMAT_SUFFIXES.get(format);
+        return suffix == null ? etag : etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return -1;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static CacheControl buildCacheControl(Duration maxAge, Duration staleWhileRevalidate, boolean shared) {
+        CacheControl control = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        if (!staleWhileRevalidate.isZero()) {
+            control = control.staleWhileRevalidate(staleWhileRevalidate);
+        }
+        return shared ? control.cachePublic() : control.cachePrivate();
+    }
+}
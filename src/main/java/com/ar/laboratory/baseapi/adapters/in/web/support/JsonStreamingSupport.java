@@ -0,0 +1,225 @@
+package com.ar.laboratory.baseapi.adapters.in.web.support;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodecs;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Helper for collection responses that are written while they are read.
+ * Elements go through a JsonGenerator straight to the response stream, either as a JSON
+ * array or as NDJSON (one document per line) when the client asks for application/x-ndjson,
+ * so memory use does not grow with the size of the collection.
+ * Types with a protobuf codec can also be streamed as a CBOR or Smile array, or as
+ * length-delimited protobuf messages. Every format is written with a copy of the
+ * application's ObjectMapper (see {@link JacksonMappers}).
+ */
+@Component
+public class JsonStreamingSupport {
+
+    /** Formats a client has to ask for explicitly, in order of preference on equal quality. */
+    private static final List<MediaType> TEXT_FORMATS = List.of(MediaType.APPLICATION_NDJSON);
+    private static final List<MediaType> ALL_FORMATS = List.of(
+            MediaType.APPLICATION_NDJSON, BinaryMediaTypes.APPLICATION_PROTOBUF,
+            MediaType.APPLICATION_CBOR, BinaryMediaTypes.APPLICATION_SMILE);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final ProtobufCodecs protobufCodecs;
+
+    @Autowired
+    public JsonStreamingSupport(ObjectProvider<ObjectMapper> applicationMapper, ProtobufCodecs protobufCodecs) {
+        this(applicationMapper.getIfAvailable(JacksonMappers::applicationDefaults), protobufCodecs);
+    }
+
+    public JsonStreamingSupport(ObjectMapper applicationMapper, ProtobufCodecs protobufCodecs) {
+        this.objectMapper = JacksonMappers.json(applicationMapper);
+        this.cborMapper = JacksonMappers.derive(applicationMapper, new CBORFactory());
+        this.smileMapper = JacksonMappers.derive(applicationMapper, new SmileFactory());
+        this.protobufCodecs = protobufCodecs;
+    }
+
+    /**
+     * Source of the elements to write, pushed one at a time.
+     */
+    @FunctionalInterface
+    public interface ElementSource<T> {
+
+        void forEach(Consumer<? super T> sink);
+    }
+
+    /**
+     * Builds a streamed response for the elements of the source.
+     *
+     * @param accept the Accept header of the request, may be null
+     * @param type the element type
+     * @param source pushes the elements, called once when the body is written
+     * @return a 200 response with a JSON array or NDJSON body, or a binary one for types with a codec
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(String accept, Class<T> type, ElementSource<T> source) {
+        MediaType mediaType = selectMediaType(accept, protobufCodecs.supports(type));
+
+        StreamingResponseBody body;
+        if (BinaryMediaTypes.APPLICATION_PROTOBUF.equals(mediaType)) {
+            body = delimited(protobufCodecs.codecFor(type), source);
+        } else if (MediaType.APPLICATION_NDJSON.equals(mediaType)) {
+            body = lines(type, source);
+        } else {
+            body = array(mapperFor(mediaType), type, source);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(body);
+    }
+
+    /**
+     * Picks a format other than JSON only when the client lists it explicitly with at least
+     * the quality of JSON. Wildcards and a missing or unparseable header fall back to a JSON array.
+     */
+    MediaType selectMediaType(String accept, boolean binary) {
+        return selectMediaType(accept, binary ? ALL_FORMATS : TEXT_FORMATS);
+    }
+
+    /**
+     * Same rule for any list of candidate formats, in order of preference on equal quality.
+     * Shared with the single-resource reads and the reactive handlers.
+     */
+    public static MediaType selectMediaType(String accept, List<MediaType> candidates) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType selected = null;
+        double selectedQuality = 0;
+        double jsonQuality = 0;
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                    jsonQuality = Math.max(jsonQuality, mediaType.getQualityValue());
+                    continue;
+                }
+                for (MediaType candidate : candidates) {
+                    if (mediaType.equalsTypeAndSubtype(candidate) && mediaType.getQualityValue() > selectedQuality) {
+                        selected = candidate;
+                        selectedQuality = mediaType.getQualityValue();
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return selected != null && selectedQuality >= jsonQuality ? selected : MediaType.APPLICATION_JSON;
+    }
+
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equals(mediaType)) {
+            return cborMapper;
+        }
+        if (BinaryMediaTypes.APPLICATION_SMILE.equals(mediaType)) {
+            return smileMapper;
+        }
+        return objectMapper;
+    }
+
+    private static <T> StreamingResponseBody array(ObjectMapper mapper, Class<T> type, ElementSource<T> source) {
+        ObjectWriter writer = mapper.writerFor(type);
+        return outputStream -> {
+            try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                source.forEach(new ElementWriter<>(generator, element -> writer.writeValue(generator, element)));
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private <T> StreamingResponseBody lines(Class<T> type, ElementSource<T> source) {
+        ObjectWriter writer = objectMapper.writerFor(type);
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.forEach(new ElementWriter<>(generator, element -> {
+                    writer.writeValue(generator, element);
+                    generator.writeRaw('\n');
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * Each message is preceded by its size as a varint, the framing of writeDelimitedTo
+     * and parseDelimitedFrom in the protobuf libraries.
+     */
+    private static <T> StreamingResponseBody delimited(ProtobufCodec<T> codec, ElementSource<T> source) {
+        return outputStream -> {
+            CodedOutputStream output = CodedOutputStream.newInstance(outputStream);
+            try {
+                source.forEach(new ElementWriter<>(output::flush, element -> {
+                    output.writeUInt32NoTag(codec.serializedSize(element));
+                    codec.write(element, output);
+                }));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            output.flush();
+        };
+    }
+
+    @FunctionalInterface
+    private interface ElementWrite<T> {
+
+        void write(T element) throws IOException;
+    }
+
+    /**
+     * Writes each element as it arrives. The first one is flushed so the client gets the
+     * status and headers without waiting for the output buffer to fill.
+     */
+    private static final class ElementWriter<T> implements Consumer<T> {
+
+        private final Flushable output;
+        private final ElementWrite<T> write;
+        private boolean first = true;
+
+        private ElementWriter(Flushable output, ElementWrite<T> write) {
+            this.output = output;
+            this.write = write;
+        }
+
+        @Override
+        public void accept(T element) {
+            try {
+                write.write(element);
+                if (first) {
+                    output.flush();
+                    first = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ar.laboratory.baseapi.adapters.in.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated value must be a CUIT with a valid prefix and check digit, with or without dashes.
+ * Null is valid; combine with NotBlank when the value is required.
+ */
+@Documented
+@Constraint(validatedBy = CuitValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cuit {
+
+    String message() default "El CUIT debe tener 11 dígitos, con o sin guiones, y un dígito verificador válido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,27 @@
+package com.ar.laboratory.baseapi.adapters.in.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated value must be the genero H (Hombre) or M (Mujer).
+ * Null is valid; combine with NotBlank when the value is required.
+ */
+@Documented
+@Constraint(validatedBy = GeneroValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Genero {
+
+    String message() default "El género debe ser H (Hombre) o M (Mujer)";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,16 @@
+package com.ar.laboratory.baseapi.adapters.in.web.validation;
+
+import com.ar.laboratory.baseapi.domain.validation.DocumentValidator;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Checks {@link Genero} with DocumentValidator.
+ */
+public class GeneroValidator implements ConstraintValidator<Genero, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || DocumentValidator.isValidGenero(value);
+    }
+}
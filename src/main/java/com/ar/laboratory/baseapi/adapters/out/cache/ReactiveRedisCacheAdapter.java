@@ -0,0 +1,47 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnReactiveExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveCachePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive Redis implementation of ReactiveCachePort, over Lettuce's non-blocking API.
+ * Uses the keys, TTL and serializer of RedisCacheAdapter, so both read paths share entries.
+ */
+@Component
+@ConditionalOnReactiveExampleStatus
+public class ReactiveRedisCacheAdapter implements ReactiveCachePort<ExampleStatus> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRedisCacheAdapter.class);
+    private static final String CACHE_PREFIX = "example-status:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    public ReactiveRedisCacheAdapter(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    @Override
+    public Mono<ExampleStatus> get(String key) {
+        String fullKey = CACHE_PREFIX + key;
+        return reactiveRedisTemplate.opsForValue().get(fullKey)
+                .filter(ExampleStatus.class::isInstance)
+                .cast(ExampleStatus.class)
+                .doOnNext(value -> logger.debug("Cache hit for key: {}", fullKey));
+    }
+
+    @Override
+    public Mono<Boolean> putIfAbsent(String key, ExampleStatus value) {
+        String fullKey = CACHE_PREFIX + key;
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(fullKey, value, TTL)
+                .defaultIfEmpty(false);
+    }
+}
@@ -1,12 +1,17 @@
 package com.ar.laboratory.baseapi.adapters.out.cache;
 
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
 import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -15,6 +20,7 @@ import java.util.concurrent.TimeUnit;
  * This is an output adapter that provides caching functionality using Redis.
  */
 @Component
+@ConditionalOnExampleStatus
 public class RedisCacheAdapter implements CachePort<ExampleStatus> {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisCacheAdapter.class);
@@ -43,6 +49,7 @@ public class RedisCacheAdapter implements CachePort<ExampleStatus> {
             logger.debug("Cache miss for key: {}", fullKey);
             return Optional.empty();
         } catch (Exception e) {
+            PortOutcome.error();
             logger.error("Error getting value from cache for key: {}", key, e);
             return Optional.empty();
         }
@@ -58,10 +65,52 @@ public class RedisCacheAdapter implements CachePort<ExampleStatus> {
             
             logger.debug("Successfully cached value for key: {}", fullKey);
         } catch (Exception e) {
+            PortOutcome.error();
             logger.error("Error putting value in cache for key: {}", key, e);
         }
     }
 
+    @Override
+    public boolean putIfAbsent(String key, ExampleStatus value) {
+        try {
+            String fullKey = CACHE_PREFIX + key;
+            logger.debug("Putting value in cache if absent with key: {}", fullKey);
+            
+            Boolean stored = redisTemplate.opsForValue().setIfAbsent(fullKey, value, TTL_MINUTES, TimeUnit.MINUTES);
+            return Boolean.TRUE.equals(stored);
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error putting value in cache if absent for key: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean putAll(Map<String, ExampleStatus> values) {
+        if (values.isEmpty()) {
+            return true;
+        }
+        try {
+            logger.debug("Pipelining {} cache writes", values.size());
+            
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    values.forEach((key, value) ->
+                            ops.opsForValue().set(CACHE_PREFIX + key, value, TTL_MINUTES, TimeUnit.MINUTES));
+                    return null;
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error pipelining {} cache writes", values.size(), e);
+            return false;
+        }
+    }
+
     @Override
     public void evict(String key) {
         try {
@@ -76,6 +125,7 @@ public class RedisCacheAdapter implements CachePort<ExampleStatus> {
                 logger.debug("No cache entry found to evict for key: {}", fullKey);
             }
         } catch (Exception e) {
+            PortOutcome.error();
             logger.error("Error evicting cache for key: {}", key, e);
         }
     }
@@ -93,6 +143,7 @@ public class RedisCacheAdapter implements CachePort<ExampleStatus> {
                 logger.info("No cache entries to clear");
             }
         } catch (Exception e) {
+            PortOutcome.error();
             logger.error("Error clearing cache", e);
         }
     }
@@ -104,6 +155,7 @@ public class RedisCacheAdapter implements CachePort<ExampleStatus> {
             Boolean exists = redisTemplate.hasKey(fullKey);
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
+            PortOutcome.error();
             logger.error("Error checking if key exists in cache: {}", key, e);
             return false;
         }
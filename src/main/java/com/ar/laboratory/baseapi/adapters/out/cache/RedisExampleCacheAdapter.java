@@ -0,0 +1,147 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis implementation of CachePort for Example.
+ * Multi-gets are served with a single MGET and multi-puts with one pipeline, so a lookup
+ * of hundreds of keys costs two round trips.
+ */
+@Component
+@ConditionalOnExamples
+public class RedisExampleCacheAdapter implements CachePort<Example> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisExampleCacheAdapter.class);
+    private static final String CACHE_PREFIX = "example:";
+    private static final long TTL_MINUTES = 10;
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisExampleCacheAdapter(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<Example> get(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(CACHE_PREFIX + key);
+            return value instanceof Example example ? Optional.of(example) : Optional.empty();
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error getting example from cache for key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<String, Example> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            List<String> keyList = List.copyOf(keys);
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                    keyList.stream().map(key -> CACHE_PREFIX + key).toList());
+            
+            Map<String, Example> found = new HashMap<>();
+            if (values != null) {
+                for (int i = 0; i < keyList.size(); i++) {
+                    if (values.get(i) instanceof Example example) {
+                        found.put(keyList.get(i), example);
+                    }
+                }
+            }
+            logger.debug("Example cache multi-get: {} of {} keys found", found.size(), keyList.size());
+            return found;
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error getting {} examples from cache", keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void put(String key, Example value) {
+        try {
+            redisTemplate.opsForValue().set(CACHE_PREFIX + key, value, TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error putting example in cache for key: {}", key, e);
+        }
+    }
+
+    @Override
+    public boolean putAll(Map<String, Example> values) {
+        if (values.isEmpty()) {
+            return true;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    values.forEach((key, value) ->
+                            ops.opsForValue().set(CACHE_PREFIX + key, value, TTL_MINUTES, TimeUnit.MINUTES));
+                    return null;
+                }
+            });
+            return true;
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error pipelining {} example cache writes", values.size(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public void evict(String key) {
+        try {
+            redisTemplate.delete(CACHE_PREFIX + key);
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error evicting example cache for key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            var keys = redisTemplate.keys(CACHE_PREFIX + "*");
+            if (keys != null && !keys.isEmpty()) {
+                Long deleted = redisTemplate.delete(keys);
+                logger.info("Cleared {} example cache entries", deleted);
+            }
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error clearing example cache", e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(CACHE_PREFIX + key));
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.error("Error checking if example key exists in cache: {}", key, e);
+            return false;
+        }
+    }
+}
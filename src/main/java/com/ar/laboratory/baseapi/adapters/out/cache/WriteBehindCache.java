@@ -0,0 +1,161 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind decorator for a CachePort.
+ * Writes are buffered and coalesced per key, then flushed to the delegate in a single
+ * batch every flush interval. Pending writes are served to readers of this instance
+ * before the delegate, so a value is visible here from the moment it is accepted. Other
+ * nodes read the delegate and see it only after the next flush. Entries are only removed
+ * from the buffer once the delegate confirmed the write and no newer value replaced them.
+ * The buffer holds at most maxPending keys: once full, writes to new keys go straight to
+ * the delegate, and the ones it rejects are dropped and counted, so an unavailable
+ * delegate cannot grow the buffer without limit.
+ */
+public class WriteBehindCache<T> implements CachePort<T>, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindCache.class);
+
+    private final CachePort<T> delegate;
+    private final Map<String, T> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final int maxBatchSize;
+    private final int maxPending;
+    private final Counter droppedWrites;
+
+    public WriteBehindCache(String name, CachePort<T> delegate, Duration flushInterval, int maxBatchSize,
+                            int maxPending, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPending = maxPending;
+        this.droppedWrites = Counter.builder("baseapi.cache.write-behind.dropped")
+                .description("Writes dropped because the write-behind buffer was full and the delegate rejected them")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("write-behind-" + name).daemon().factory());
+        long intervalMillis = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<T> get(String key) {
+        T value = pending.get(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+        return delegate.get(key);
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        Map<String, T> values = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : keys) {
+            T value = pending.get(key);
+            if (value != null) {
+                values.put(key, value);
+            } else {
+                misses.add(key);
+            }
+        }
+        if (!misses.isEmpty()) {
+            values.putAll(delegate.getAll(misses));
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String key, T value) {
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            writeThrough(key, value);
+            return;
+        }
+        pending.put(key, value);
+        if (pending.size() >= maxBatchSize) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, T value) {
+        if (pending.containsKey(key)) {
+            return false;
+        }
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean putAll(Map<String, T> values) {
+        values.forEach(this::put);
+        return true;
+    }
+
+    @Override
+    public void evict(String key) {
+        pending.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        pending.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return pending.containsKey(key) || delegate.exists(key);
+    }
+
+    /**
+     * Writes every pending value to the delegate.
+     * Values replaced while the flush was in progress stay pending for the next one.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, T> batch = new HashMap<>(pending);
+        if (!delegate.putAll(batch)) {
+            logger.warn("Write-behind flush of {} entries failed, keeping them pending", batch.size());
+            return;
+        }
+        batch.forEach(pending::remove);
+        logger.debug("Flushed {} write-behind entries", batch.size());
+    }
+
+    private void writeThrough(String key, T value) {
+        if (!delegate.putAll(Map.of(key, value))) {
+            droppedWrites.increment();
+            logger.warn("Write-behind buffer full ({} entries) and delegate unavailable, dropping write", maxPending);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flush();
+    }
+}
@@ -1,5 +1,7 @@
 package com.ar.laboratory.baseapi.adapters.out.external;
 
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
 import com.ar.laboratory.baseapi.domain.ports.out.CuitServicePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -7,10 +9,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Optional;
+
 /**
  * Adapter for CUIT service using WireMock.
  */
 @Component
+@ConditionalOnExamples
 public class CuitServiceAdapter implements CuitServicePort {
 
     private static final Logger logger = LoggerFactory.getLogger(CuitServiceAdapter.class);
@@ -25,6 +30,15 @@ public class CuitServiceAdapter implements CuitServicePort {
 
     @Override
     public String getCuit(String dni, String genero) {
+        return findCuit(dni, genero).orElseGet(() -> {
+            PortOutcome.fallback();
+            logger.debug("Calculating CUIT locally for DNI: {}", dni);
+            return calculateCuitLocally(dni, genero);
+        });
+    }
+    
+    @Override
+    public Optional<String> findCuit(String dni, String genero) {
         logger.info("Getting CUIT for DNI: {} and gender: {}", dni, genero);
         
         try {
@@ -37,12 +51,18 @@ public class CuitServiceAdapter implements CuitServicePort {
                     .retrieve()
                     .body(CuitResponse.class);
             
-            String cuit = response != null ? response.cuit() : calculateCuitLocally(dni, genero);
-            logger.info("CUIT obtained: {}", cuit);
-            return cuit;
+            if (response == null || response.cuit() == null) {
+                PortOutcome.error();
+                return Optional.empty();
+            }
+            String cuit = response.cuit();
+            logger.debug("CUIT obtained: {}", cuit);
+            return Optional.of(cuit);
         } catch (Exception e) {
-            logger.error("Error calling CUIT service, calculating locally", e);
-            return calculateCuitLocally(dni, genero);
+            PortOutcome.error();
+            // Repeated stack traces are collapsed by the dEx converter in logback-spring.xml
+            logger.warn("Error calling CUIT service", e);
+            return Optional.empty();
         }
     }
     
@@ -0,0 +1,95 @@
+package com.ar.laboratory.baseapi.adapters.out.idempotency;
+
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import com.ar.laboratory.baseapi.domain.ports.out.IdempotencyStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis implementation of IdempotencyStorePort.
+ * Responses are stored as JSON values; locks are plain string keys taken with SET NX PX
+ * and released only by their holder. When Redis is not available the adapter fails open:
+ * locks are reported as taken and nothing is stored, so requests run as if they carried
+ * no idempotency key.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisIdempotencyStoreAdapter implements IdempotencyStorePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisIdempotencyStoreAdapter.class);
+    private static final String RESPONSE_PREFIX = "idempotency:";
+    private static final String LOCK_PREFIX = "idempotency-lock:";
+
+    private static final RedisScript<Long> LOCK_SCRIPT = RedisScript.of(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // Script arguments are plain strings; integer replies are not passed through the serializer
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisSerializer<Long> REPLY_SERIALIZER = (RedisSerializer) RedisSerializer.string();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisIdempotencyStoreAdapter(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(RESPONSE_PREFIX + key);
+            return value instanceof IdempotentResponse response ? Optional.of(response) : Optional.empty();
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.warn("Could not read idempotent response for key {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(RESPONSE_PREFIX + key, response, ttl);
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.warn("Could not store idempotent response for key {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key, String lockToken, Duration ttl) {
+        try {
+            Long taken = redisTemplate.execute(LOCK_SCRIPT, RedisSerializer.string(), REPLY_SERIALIZER,
+                    List.of(LOCK_PREFIX + key), lockToken, Long.toString(ttl.toMillis()));
+            return taken == null || taken == 1L;
+        } catch (Exception e) {
+            PortOutcome.fallback();
+            logger.warn("Could not lock idempotency key {}, running without lock: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void unlock(String key, String lockToken) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, RedisSerializer.string(), REPLY_SERIALIZER,
+                    List.of(LOCK_PREFIX + key), lockToken);
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.warn("Could not unlock idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ar.laboratory.baseapi.adapters.out.messaging;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propagates ExampleStatus changes between nodes through Redis pub/sub.
+ * Local changes are published tagged with this node's id; changes received from
+ * other nodes are re-published as application events so local subscribers see them.
+ */
+@Component
+@ConditionalOnProperty(name = "app.status-stream.redis.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExampleStatus
+public class RedisExampleStatusChangeRelay implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisExampleStatusChangeRelay.class);
+    
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final String nodeId;
+
+    public RedisExampleStatusChangeRelay(RedisTemplate<String, Object> redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         ApplicationEventPublisher eventPublisher,
+                                         @Value("${app.status-stream.redis.channel:example-status-changes}") String channel,
+                                         @Value("${app.node-id}") String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.nodeId = nodeId;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @EventListener(condition = "#change.origin == null")
+    public void onLocalChange(ExampleStatusChange change) {
+        try {
+            redisTemplate.convertAndSend(channel, change.toBuilder().origin(nodeId).build());
+        } catch (Exception e) {
+            logger.warn("Could not relay status change for id {} to other nodes: {}",
+                    change.getStatusId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object value = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(value instanceof ExampleStatusChange change)) {
+            logger.warn("Ignoring unexpected message on channel {}", channel);
+            return;
+        }
+        if (nodeId.equals(change.getOrigin())) {
+            return;
+        }
+        logger.debug("Received status change for id {} from node {}", change.getStatusId(), change.getOrigin());
+        eventPublisher.publishEvent(change);
+    }
+}
@@ -1,28 +1,36 @@
 package com.ar.laboratory.baseapi.adapters.out.persistence;
 
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
 import com.ar.laboratory.baseapi.domain.ports.out.ExampleRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * In-memory implementation of ExampleRepositoryPort.
  * This is an output adapter that simulates persistence with static data.
+ * Publishes an {@link ExampleStatusChange} whenever a save modifies the stored value.
  */
 @Repository
+@ConditionalOnExampleStatus
 public class InMemoryExampleRepository implements ExampleRepositoryPort {
 
     private static final Logger logger = LoggerFactory.getLogger(InMemoryExampleRepository.class);
     
     private final Map<String, ExampleStatus> storage = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
 
-    public InMemoryExampleRepository() {
+    public InMemoryExampleRepository(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
         initializeData();
     }
 
@@ -83,10 +91,35 @@ public class InMemoryExampleRepository implements ExampleRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public void forEach(Consumer<ExampleStatus> consumer) {
+        logger.debug("Streaming all example statuses");
+        storage.values().forEach(consumer);
+    }
+
+    @Override
+    public void forEachActive(Consumer<ExampleStatus> consumer) {
+        logger.debug("Streaming active example statuses");
+        for (ExampleStatus exampleStatus : storage.values()) {
+            if (exampleStatus.isActive()) {
+                consumer.accept(exampleStatus);
+            }
+        }
+    }
+
     @Override
     public ExampleStatus save(ExampleStatus exampleStatus) {
         logger.debug("Saving example status: {}", exampleStatus.getId());
-        storage.put(exampleStatus.getId(), exampleStatus);
+        ExampleStatus previous = storage.put(exampleStatus.getId(), exampleStatus);
+        
+        if (!exampleStatus.equals(previous)) {
+            eventPublisher.publishEvent(ExampleStatusChange.builder()
+                    .statusId(exampleStatus.getId())
+                    .previousStatus(previous != null ? previous.getStatus() : null)
+                    .current(exampleStatus)
+                    .changedAt(LocalDateTime.now())
+                    .build());
+        }
         return exampleStatus;
     }
 }
@@ -0,0 +1,40 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnReactiveExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.ExampleRepositoryPort;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveExampleRepositoryPort;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive view of the in-memory ExampleStatus repository.
+ * Reads of the in-memory store never wait, so they can run on the event loop as they are;
+ * a repository backed by a database would need a non-blocking driver (R2DBC) instead.
+ */
+@Repository
+@ConditionalOnReactiveExampleStatus
+public class InMemoryReactiveExampleRepository implements ReactiveExampleRepositoryPort {
+
+    private final ExampleRepositoryPort exampleRepositoryPort;
+
+    public InMemoryReactiveExampleRepository(ExampleRepositoryPort exampleRepositoryPort) {
+        this.exampleRepositoryPort = exampleRepositoryPort;
+    }
+
+    @Override
+    public Mono<ExampleStatus> findById(String id) {
+        return Mono.defer(() -> Mono.justOrEmpty(exampleRepositoryPort.findById(id)));
+    }
+
+    @Override
+    public Flux<ExampleStatus> findAll() {
+        return Flux.defer(() -> Flux.fromIterable(exampleRepositoryPort.findAll()));
+    }
+
+    @Override
+    public Flux<ExampleStatus> findAllActive() {
+        return Flux.defer(() -> Flux.fromIterable(exampleRepositoryPort.findAllActive()));
+    }
+}
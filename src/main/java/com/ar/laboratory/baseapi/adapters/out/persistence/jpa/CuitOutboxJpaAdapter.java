@@ -0,0 +1,95 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.CuitOutboxEntity;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper.CuitOutboxEntityMapper;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.repository.CuitOutboxJpaRepository;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.model.OutboxBacklog;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitOutboxPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA implementation of CuitOutboxPort.
+ * Claiming locks due rows with FOR UPDATE SKIP LOCKED and pushes their next attempt past
+ * the lease in the same short transaction, so concurrent workers on any node never claim
+ * the same row and no transaction stays open while the CUIT service is called.
+ */
+@Component
+@ConditionalOnExamples
+public class CuitOutboxJpaAdapter implements CuitOutboxPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CuitOutboxJpaAdapter.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final CuitOutboxJpaRepository cuitOutboxJpaRepository;
+    private final CuitOutboxEntityMapper cuitOutboxEntityMapper;
+
+    public CuitOutboxJpaAdapter(CuitOutboxJpaRepository cuitOutboxJpaRepository,
+                                CuitOutboxEntityMapper cuitOutboxEntityMapper) {
+        this.cuitOutboxJpaRepository = cuitOutboxJpaRepository;
+        this.cuitOutboxEntityMapper = cuitOutboxEntityMapper;
+    }
+
+    @Override
+    public void enqueue(CuitEnrichmentTask task) {
+        cuitOutboxJpaRepository.save(CuitOutboxEntity.builder()
+                .exampleId(task.getExampleId())
+                .dni(task.getDni())
+                .genero(task.getGenero())
+                .build());
+        logger.debug("Queued CUIT lookup for example {}", task.getExampleId());
+    }
+
+    @Override
+    @Transactional
+    public List<CuitEnrichmentTask> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CuitOutboxEntity> due = cuitOutboxJpaRepository.lockDue(now, limit);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        cuitOutboxJpaRepository.postpone(due.stream().map(CuitOutboxEntity::getId).toList(), now.plus(lease));
+        logger.debug("Claimed {} CUIT lookups", due.size());
+        return cuitOutboxEntityMapper.toDomainList(due);
+    }
+
+    @Override
+    @Transactional
+    public void extendLease(List<Long> taskIds, Duration lease) {
+        if (!taskIds.isEmpty()) {
+            cuitOutboxJpaRepository.postpone(taskIds, LocalDateTime.now().plus(lease));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void delete(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            cuitOutboxJpaRepository.deleteByIds(taskIds);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reschedule(Long taskId, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        cuitOutboxJpaRepository.recordFailure(taskId, nextAttemptAt, lastError);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OutboxBacklog backlog() {
+        return OutboxBacklog.builder()
+                .pending(cuitOutboxJpaRepository.count())
+                .oldestCreatedAt(cuitOutboxJpaRepository.findOldestCreatedAt().orElse(null))
+                .build();
+    }
+}
@@ -1,42 +1,48 @@
 package com.ar.laboratory.baseapi.adapters.out.persistence.jpa;
 
 import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper.ExampleEntityMapper;
 import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.repository.ExampleJpaRepository;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
 import com.ar.laboratory.baseapi.domain.model.Example;
 import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * JPA implementation of ExamplePersistencePort.
  * This is an output adapter that implements persistence using JPA.
  */
 @Component
+@ConditionalOnExamples
 public class ExampleJpaAdapter implements ExamplePersistencePort {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleJpaAdapter.class);
     
     private final ExampleJpaRepository exampleJpaRepository;
+    private final ExampleEntityMapper exampleEntityMapper;
 
-    public ExampleJpaAdapter(ExampleJpaRepository exampleJpaRepository) {
+    public ExampleJpaAdapter(ExampleJpaRepository exampleJpaRepository, ExampleEntityMapper exampleEntityMapper) {
         this.exampleJpaRepository = exampleJpaRepository;
+        this.exampleEntityMapper = exampleEntityMapper;
     }
 
     @Override
     public Example save(Example example) {
         logger.debug("Saving example with DNI: {}", example.getDni());
         
-        ExampleEntity entity = toEntity(example);
+        ExampleEntity entity = exampleEntityMapper.toEntity(example);
         ExampleEntity savedEntity = exampleJpaRepository.save(entity);
         
         logger.debug("Example saved with ID: {}", savedEntity.getId());
         
-        return toDomain(savedEntity);
+        return exampleEntityMapper.toDomain(savedEntity);
     }
 
     @Override
@@ -44,7 +50,7 @@ public class ExampleJpaAdapter implements ExamplePersistencePort {
         logger.debug("Finding example by ID: {}", id);
         
         return exampleJpaRepository.findById(id)
-                .map(this::toDomain);
+                .map(exampleEntityMapper::toDomain);
     }
 
     @Override
@@ -52,16 +58,34 @@ public class ExampleJpaAdapter implements ExamplePersistencePort {
         logger.debug("Finding example by DNI: {}", dni);
         
         return exampleJpaRepository.findByDni(dni)
-                .map(this::toDomain);
+                .map(exampleEntityMapper::toDomain);
+    }
+
+    @Override
+    public List<Example> findAllByDni(Collection<String> dnis) {
+        if (dnis.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Finding examples by {} DNIs", dnis.size());
+        
+        return exampleEntityMapper.toDomainList(exampleJpaRepository.findAllByDni(dnis.toArray(String[]::new)));
+    }
+
+    @Override
+    public List<Example> findAllByCuit(Collection<String> cuits) {
+        if (cuits.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Finding examples by {} CUITs", cuits.size());
+        
+        return exampleEntityMapper.toDomainList(exampleJpaRepository.findAllByCuit(cuits.toArray(String[]::new)));
     }
 
     @Override
     public List<Example> findAll() {
         logger.debug("Finding all examples");
         
-        return exampleJpaRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return exampleEntityMapper.toDomainList(exampleJpaRepository.findAll());
     }
 
     @Override
@@ -71,26 +95,23 @@ public class ExampleJpaAdapter implements ExamplePersistencePort {
         return exampleJpaRepository.existsByDni(dni);
     }
 
-    // Mapper methods
-    private ExampleEntity toEntity(Example example) {
-        return ExampleEntity.builder()
-                .id(example.getId())
-                .nombre(example.getNombre())
-                .apellido(example.getApellido())
-                .dni(example.getDni())
-                .createdAt(example.getCreatedAt())
-                .updatedAt(example.getUpdatedAt())
-                .build();
+    @Override
+    public void updateCuits(Map<Long, String> cuitsByExampleId) {
+        if (cuitsByExampleId.isEmpty()) {
+            return;
+        }
+        Long[] ids = new Long[cuitsByExampleId.size()];
+        String[] cuits = new String[cuitsByExampleId.size()];
+        int i = 0;
+        for (Map.Entry<Long, String> entry : cuitsByExampleId.entrySet()) {
+            ids[i] = entry.getKey();
+            cuits[i] = entry.getValue();
+            i++;
+        }
+        
+        int updated = exampleJpaRepository.updateCuits(ids, cuits);
+        logger.debug("Updated CUIT of {} examples", updated);
     }
 
-    private Example toDomain(ExampleEntity entity) {
-        return Example.builder()
-                .id(entity.getId())
-                .nombre(entity.getNombre())
-                .apellido(entity.getApellido())
-                .dni(entity.getDni())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .build();
-    }
+    // Mapper methods
 }
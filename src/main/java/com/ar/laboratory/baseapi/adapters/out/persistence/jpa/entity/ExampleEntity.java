@@ -1,5 +1,6 @@
 package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity;
 
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,8 +12,11 @@ import java.time.LocalDateTime;
 /**
  * JPA Entity for Example.
  * This is part of the persistence adapter (infrastructure layer).
+ * The hot lookups are declared as named queries so Hibernate compiles them once at
+ * startup instead of going through the query plan cache on every call.
  */
 @Entity
+@NamedQuery(name = ExampleEntity.FIND_BY_DNI, query = "SELECT e FROM ExampleEntity e WHERE e.dni = :dni")
 @Table(name = "examples", 
        uniqueConstraints = @UniqueConstraint(columnNames = "dni"))
 @Data
@@ -21,6 +25,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ExampleEntity {
     
+    /** Matches ExampleJpaRepository.findByDni by Spring Data naming convention. */
+    public static final String FIND_BY_DNI = "ExampleEntity.findByDni";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,6 +41,16 @@ public class ExampleEntity {
     @Column(nullable = false, unique = true, length = 20)
     private String dni;
     
+    @Column(nullable = false, length = 1)
+    private String genero;
+    
+    @Column(length = 15)
+    private String cuit;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cuit_status", nullable = false, length = 10)
+    private CuitStatus cuitStatus;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
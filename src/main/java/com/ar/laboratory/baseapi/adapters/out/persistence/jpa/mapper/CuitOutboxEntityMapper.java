@@ -0,0 +1,26 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.CuitOutboxEntity;
+import com.ar.laboratory.baseapi.config.MappingConfig;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import org.mapstruct.AnnotateWith;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper from CUIT outbox rows to enrichment tasks.
+ * The implementation is generated at compile time (see MappingConfig).
+ */
+@Mapper(config = MappingConfig.class)
+@AnnotateWith(ConditionalOnExamples.class)
+public interface CuitOutboxEntityMapper {
+
+    /** Scheduling columns are handled by the outbox queries, not by the workers. */
+    @BeanMapping(ignoreUnmappedSourceProperties = {"nextAttemptAt", "lastError"})
+    CuitEnrichmentTask toDomain(CuitOutboxEntity entity);
+
+    List<CuitEnrichmentTask> toDomainList(List<CuitOutboxEntity> entities);
+}
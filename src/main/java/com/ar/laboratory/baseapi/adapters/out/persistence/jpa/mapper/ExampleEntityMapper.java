@@ -0,0 +1,25 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.config.MappingConfig;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import org.mapstruct.AnnotateWith;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * Mapper between the Example domain model and its JPA entity.
+ * The implementation is generated at compile time (see MappingConfig).
+ */
+@Mapper(config = MappingConfig.class)
+@AnnotateWith(ConditionalOnExamples.class)
+public interface ExampleEntityMapper {
+
+    ExampleEntity toEntity(Example example);
+
+    Example toDomain(ExampleEntity entity);
+
+    List<Example> toDomainList(List<ExampleEntity> entities);
+}
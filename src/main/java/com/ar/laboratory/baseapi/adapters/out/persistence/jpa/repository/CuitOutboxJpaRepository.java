@@ -0,0 +1,76 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.repository;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.CuitOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository for CuitOutboxEntity.
+ * This interface extends Spring Data JPA repository.
+ */
+@Repository
+public interface CuitOutboxJpaRepository extends JpaRepository<CuitOutboxEntity, Long> {
+
+    /**
+     * Locks due entries, skipping the ones another worker already locked.
+     * Must run inside a transaction.
+     *
+     * @param now the current time
+     * @param limit maximum entries to lock
+     * @return the locked entries, oldest first
+     */
+    @Query(value = "SELECT * FROM cuit_outbox WHERE next_attempt_at <= :now ORDER BY id LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<CuitOutboxEntity> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Postpones entries until the given time.
+     *
+     * @param ids the entry IDs
+     * @param nextAttemptAt when the entries are due again
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE CuitOutboxEntity o SET o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    int postpone(@Param("ids") List<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Records a failed attempt of an entry.
+     *
+     * @param id the entry ID
+     * @param nextAttemptAt when the entry is due again
+     * @param lastError description of the failure
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE CuitOutboxEntity o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, "
+            + "o.lastError = :lastError WHERE o.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    /**
+     * Deletes entries by ID.
+     *
+     * @param ids the entry IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM CuitOutboxEntity o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Finds the creation time of the oldest entry.
+     *
+     * @return the creation time, or empty if there are no entries
+     */
+    @Query("SELECT MIN(o.createdAt) FROM CuitOutboxEntity o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
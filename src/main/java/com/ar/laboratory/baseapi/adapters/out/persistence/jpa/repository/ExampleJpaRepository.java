@@ -2,8 +2,13 @@ package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.repository;
 
 import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,17 +20,56 @@ public interface ExampleJpaRepository extends JpaRepository<ExampleEntity, Long>
     
     /**
      * Finds an Example by DNI.
+     * Resolved to the named query {@link ExampleEntity#FIND_BY_DNI}.
      *
      * @param dni the DNI to search for
      * @return an Optional containing the ExampleEntity if found
      */
-    Optional<ExampleEntity> findByDni(String dni);
+    Optional<ExampleEntity> findByDni(@Param("dni") String dni);
     
     /**
      * Checks if an Example exists by DNI.
+     * A single EXISTS statement with a fixed text, so the driver can keep it server-prepared.
      *
      * @param dni the DNI to check
      * @return true if exists, false otherwise
      */
-    boolean existsByDni(String dni);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM examples WHERE dni = :dni)", nativeQuery = true)
+    boolean existsByDni(@Param("dni") String dni);
+    
+    /**
+     * Finds the Examples with any of the given DNIs.
+     * The DNIs are bound as one array parameter, so the statement text and its plan are
+     * the same whatever the number of DNIs.
+     *
+     * @param dnis the DNIs to search for
+     * @return the matching entities
+     */
+    @Query(value = "SELECT * FROM examples WHERE dni = ANY(CAST(:dnis AS varchar[]))", nativeQuery = true)
+    List<ExampleEntity> findAllByDni(@Param("dnis") String[] dnis);
+    
+    /**
+     * Finds the Examples with any of the given CUITs, bound as one array parameter.
+     *
+     * @param cuits the CUITs to search for
+     * @return the matching entities
+     */
+    @Query(value = "SELECT * FROM examples WHERE cuit = ANY(CAST(:cuits AS varchar[]))", nativeQuery = true)
+    List<ExampleEntity> findAllByCuit(@Param("cuits") String[] cuits);
+    
+    /**
+     * Sets the CUIT of several examples in a single statement and marks them as ready.
+     * The arrays are matched by position.
+     *
+     * @param ids the example IDs
+     * @param cuits the CUIT of each example
+     * @return number of rows updated
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE examples e SET cuit = v.cuit, cuit_status = 'READY', updated_at = CURRENT_TIMESTAMP "
+            + "FROM unnest(CAST(:ids AS bigint[]), CAST(:cuits AS varchar[])) AS v(id, cuit) "
+            + "WHERE e.id = v.id",
+            nativeQuery = true)
+    int updateCuits(@Param("ids") Long[] ids, @Param("cuits") String[] cuits);
 }
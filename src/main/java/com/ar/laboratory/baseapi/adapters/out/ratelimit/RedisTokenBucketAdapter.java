@@ -0,0 +1,80 @@
+package com.ar.laboratory.baseapi.adapters.out.ratelimit;
+
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.domain.model.TokenReservation;
+import com.ar.laboratory.baseapi.domain.ports.out.TokenReservationPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis implementation of TokenReservationPort.
+ * The refill and the reservation run in a single Lua script (scripts/token_bucket.lua),
+ * so concurrent nodes never grant the same tokens twice, and unused tokens go back through
+ * scripts/token_release.lua. Time is taken from the Redis server to avoid clock skew
+ * between nodes.
+ */
+@Component
+public class RedisTokenBucketAdapter implements TokenReservationPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTokenBucketAdapter.class);
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token_bucket.lua"), List.class);
+    private static final RedisScript<Long> TOKEN_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token_release.lua"), Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisTokenBucketAdapter(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Optional<TokenReservation> reserve(String bucket, long requested, long capacity, double refillPerSecond) {
+        try {
+            // Arguments and results are plain strings/integers, not JSON values
+            List result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                    RedisSerializer.string(), (RedisSerializer) RedisSerializer.string(),
+                    List.of(KEY_PREFIX + bucket),
+                    Long.toString(requested), Long.toString(capacity), Double.toString(refillPerSecond));
+            if (result == null || result.size() < 3) {
+                PortOutcome.error();
+                return Optional.empty();
+            }
+            return Optional.of(TokenReservation.builder()
+                    .granted(((Number) result.get(0)).longValue())
+                    .remaining(((Number) result.get(1)).longValue())
+                    .resetMillis(((Number) result.get(2)).longValue())
+                    .build());
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.warn("Could not reserve tokens for bucket {}: {}", bucket, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void release(String bucket, long tokens, long capacity, double refillPerSecond) {
+        try {
+            redisTemplate.execute(TOKEN_RELEASE_SCRIPT,
+                    RedisSerializer.string(), (RedisSerializer) RedisSerializer.string(),
+                    List.of(KEY_PREFIX + bucket),
+                    Long.toString(tokens), Long.toString(capacity), Double.toString(refillPerSecond));
+        } catch (Exception e) {
+            PortOutcome.error();
+            logger.warn("Could not release {} tokens of bucket {}: {}", tokens, bucket, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ar.laboratory.baseapi.adapters.out.support;
+
+/**
+ * Lets output adapters report how a port call ended when the result alone does not tell.
+ * Adapters that swallow a failure and degrade (local calculation, cache miss on error)
+ * mark the call, and the port metrics interceptor reads the mark once the call returns.
+ * It is adapter-side support, so the domain ports stay free of metrics concerns. The mark
+ * is thread-bound and only applies to blocking calls; reactive adapters report failures
+ * through their error signal.
+ */
+public final class PortOutcome {
+
+    public static final String SUCCESS = "success";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String FALLBACK = "fallback";
+    public static final String ERROR = "error";
+
+    private static final ThreadLocal<String> MARK = new ThreadLocal<>();
+
+    private PortOutcome() {
+    }
+
+    /**
+     * Marks the current port call as served by a fallback path.
+     */
+    public static void fallback() {
+        MARK.set(FALLBACK);
+    }
+
+    /**
+     * Marks the current port call as failed even though no exception escaped it.
+     */
+    public static void error() {
+        MARK.set(ERROR);
+    }
+
+    /**
+     * Clears any mark left on the current thread, before a port call starts.
+     */
+    public static void reset() {
+        MARK.remove();
+    }
+
+    /**
+     * Returns and clears the mark of the port call that just returned, or null if none.
+     */
+    public static String consume() {
+        String mark = MARK.get();
+        if (mark != null) {
+            MARK.remove();
+        }
+        return mark;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.model.OutboxBacklog;
+import com.ar.laboratory.baseapi.domain.ports.in.CuitEnrichmentUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitOutboxPort;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitServicePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service implementation for resolving pending CUITs from the outbox.
+ * A batch is claimed, every CUIT is looked up outside any transaction, and the resolved
+ * ones are written with a single update. Failed lookups are retried with exponential
+ * backoff; the last attempt falls back to the local calculation so every example ends up
+ * with a CUIT, as in the synchronous flow. Processing is at least once: a task whose
+ * update succeeded but whose deletion failed is resolved again, which is harmless.
+ * Lookups have no upper bound shorter than the whole batch, so once half the lease has
+ * elapsed the tasks not yet looked up are leased again before going on; otherwise a slow
+ * CUIT service would let another worker claim the same tasks mid-batch.
+ */
+@Service
+@ConditionalOnExamples
+public class CuitEnrichmentService implements CuitEnrichmentUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CuitEnrichmentService.class);
+
+    private final CuitOutboxPort cuitOutboxPort;
+    private final CuitServicePort cuitServicePort;
+    private final ExamplePersistencePort examplePersistencePort;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public CuitEnrichmentService(CuitOutboxPort cuitOutboxPort,
+                                 CuitServicePort cuitServicePort,
+                                 ExamplePersistencePort examplePersistencePort,
+                                 @Value("${app.cuit-outbox.max-attempts:5}") int maxAttempts,
+                                 @Value("${app.cuit-outbox.initial-backoff:1s}") Duration initialBackoff,
+                                 @Value("${app.cuit-outbox.max-backoff:5m}") Duration maxBackoff,
+                                 @Value("${app.cuit-outbox.lease:30s}") Duration lease) {
+        this.cuitOutboxPort = cuitOutboxPort;
+        this.cuitServicePort = cuitServicePort;
+        this.examplePersistencePort = examplePersistencePort;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Override
+    public int processPendingCuits(int batchSize) {
+        List<CuitEnrichmentTask> tasks = cuitOutboxPort.claim(batchSize, lease);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> cuitsByExampleId = new LinkedHashMap<>();
+        List<Long> completedTaskIds = new ArrayList<>();
+        long leasedAt = System.nanoTime();
+        for (int i = 0; i < tasks.size(); i++) {
+            CuitEnrichmentTask task = tasks.get(i);
+            if (System.nanoTime() - leasedAt >= lease.toNanos() / 2) {
+                cuitOutboxPort.extendLease(tasks.subList(i, tasks.size()).stream()
+                        .map(CuitEnrichmentTask::getId)
+                        .toList(), lease);
+                leasedAt = System.nanoTime();
+            }
+            Optional<String> cuit = resolve(task);
+            if (cuit.isPresent()) {
+                cuitsByExampleId.put(task.getExampleId(), cuit.get());
+                completedTaskIds.add(task.getId());
+            } else {
+                Duration backoff = backoff(task.getAttempts());
+                logger.info("CUIT lookup for example {} failed (attempt {}), retrying in {}",
+                        task.getExampleId(), task.getAttempts() + 1, backoff);
+                cuitOutboxPort.reschedule(task.getId(), LocalDateTime.now().plus(backoff), "CUIT service unavailable");
+            }
+        }
+
+        if (!cuitsByExampleId.isEmpty()) {
+            examplePersistencePort.updateCuits(cuitsByExampleId);
+            cuitOutboxPort.delete(completedTaskIds);
+        }
+        logger.debug("Processed {} CUIT lookups, {} resolved", tasks.size(), cuitsByExampleId.size());
+        return tasks.size();
+    }
+
+    @Override
+    public OutboxBacklog getBacklog() {
+        return cuitOutboxPort.backlog();
+    }
+
+    private Optional<String> resolve(CuitEnrichmentTask task) {
+        if (task.getAttempts() + 1 >= maxAttempts) {
+            logger.warn("Last CUIT lookup attempt for example {}, falling back to local calculation if it fails",
+                    task.getExampleId());
+            return Optional.of(cuitServicePort.getCuit(task.getDni(), task.getGenero()));
+        }
+        return cuitServicePort.findCuit(task.getDni(), task.getGenero());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnPostgreSql;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupKey;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupResult;
+import com.ar.laboratory.baseapi.domain.ports.in.LookupExamplesUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation for multi-get lookups of examples.
+ * Each chunk of keys is read from the cache with one multi-get; only the misses reach the
+ * database, in one query per chunk, and the examples found there are cached. Examples with
+ * a pending CUIT are not cached, since they are about to change.
+ * The service is lazy: it is created on the first lookup, not at startup. The queries bind
+ * the keys as PostgreSQL arrays, so the service is only wired on PostgreSQL.
+ */
+@Service
+@ConditionalOnExamples
+@ConditionalOnPostgreSql
+@Lazy
+public class ExampleLookupService implements LookupExamplesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExampleLookupService.class);
+    
+    private final ExamplePersistencePort examplePersistencePort;
+    private final CachePort<Example> exampleCache;
+    private final int chunkSize;
+
+    public ExampleLookupService(ExamplePersistencePort examplePersistencePort,
+                                CachePort<Example> exampleCache,
+                                @Value("${app.examples.lookup.chunk-size:100}") int chunkSize) {
+        this.examplePersistencePort = examplePersistencePort;
+        this.exampleCache = exampleCache;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void lookupExamples(ExampleLookupKey keyType, List<String> keys,
+                               Consumer<ExampleLookupResult> resultConsumer) {
+        logger.info("Looking up {} examples by {}", keys.size(), keyType);
+        
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            List<String> chunk = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+            Map<String, Example> found = resolve(keyType, chunk);
+            for (String key : chunk) {
+                resultConsumer.accept(ExampleLookupResult.builder()
+                        .key(key)
+                        .example(found.get(key))
+                        .build());
+            }
+        }
+    }
+
+    private Map<String, Example> resolve(ExampleLookupKey keyType, List<String> chunk) {
+        Set<String> distinctKeys = new LinkedHashSet<>(chunk);
+        List<String> cacheKeys = distinctKeys.stream().map(key -> cacheKey(keyType, key)).toList();
+        
+        Map<String, Example> found = new HashMap<>();
+        exampleCache.getAll(cacheKeys).forEach((cacheKey, example) -> found.put(keyOf(keyType, example), example));
+        
+        List<String> misses = distinctKeys.stream().filter(key -> !found.containsKey(key)).toList();
+        if (misses.isEmpty()) {
+            return found;
+        }
+        
+        List<Example> loaded = keyType == ExampleLookupKey.DNI
+                ? examplePersistencePort.findAllByDni(misses)
+                : examplePersistencePort.findAllByCuit(misses);
+        logger.debug("Example lookup: {} cached, {} misses, {} loaded", found.size(), misses.size(), loaded.size());
+        
+        Map<String, Example> toCache = new HashMap<>();
+        for (Example example : loaded) {
+            String key = keyOf(keyType, example);
+            found.put(key, example);
+            if (example.getCuitStatus() == CuitStatus.READY) {
+                toCache.put(cacheKey(keyType, key), example);
+            }
+        }
+        exampleCache.putAll(toCache);
+        return found;
+    }
+
+    private static String cacheKey(ExampleLookupKey keyType, String key) {
+        return keyType.name().toLowerCase() + ":" + key;
+    }
+
+    private static String keyOf(ExampleLookupKey keyType, Example example) {
+        return keyType == ExampleLookupKey.DNI ? example.getDni() : example.getCuit();
+    }
+}
@@ -1,11 +1,16 @@
 package com.ar.laboratory.baseapi.application.service;
 
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExamples;
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
 import com.ar.laboratory.baseapi.domain.model.Example;
 import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitOutboxPort;
 import com.ar.laboratory.baseapi.domain.ports.out.CuitServicePort;
 import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,50 +19,83 @@ import java.time.LocalDateTime;
 /**
  * Service implementation for Example use cases.
  * This class implements the business logic for creating and managing examples.
+ * Transactions are declared per method and kept short: the remote CUIT call never runs
+ * while a database connection is checked out.
  */
 @Service
-@Transactional
+@ConditionalOnExamples
 public class ExampleService implements CreateExampleUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleService.class);
     
     private final ExamplePersistencePort examplePersistencePort;
     private final CuitServicePort cuitServicePort;
+    private final CuitOutboxPort cuitOutboxPort;
 
     public ExampleService(ExamplePersistencePort examplePersistencePort,
-                         CuitServicePort cuitServicePort) {
+                         CuitServicePort cuitServicePort,
+                         CuitOutboxPort cuitOutboxPort) {
         this.examplePersistencePort = examplePersistencePort;
         this.cuitServicePort = cuitServicePort;
+        this.cuitOutboxPort = cuitOutboxPort;
     }
 
     @Override
     public Example createExample(Example example) {
         logger.info("Creating example for DNI: {}", example.getDni());
         
-        // Validate business rules
-        if (examplePersistencePort.existsByDni(example.getDni())) {
-            logger.warn("Example with DNI {} already exists", example.getDni());
-            throw new IllegalArgumentException("Ya existe un ejemplo con el DNI: " + example.getDni());
-        }
+        // Runs in its own read-only transaction; the insert below still guards against races
+        validateDniIsUnique(example.getDni());
         
-        // Calculate CUIT using external service
+        // Calculate CUIT using external service, with no connection held
         String cuit = cuitServicePort.getCuit(example.getDni(), example.getGenero());
         example.setCuit(cuit);
+        example.setCuitStatus(CuitStatus.READY);
         logger.info("CUIT calculated: {}", cuit);
         
-        // Set timestamps
-        LocalDateTime now = LocalDateTime.now();
-        example.setCreatedAt(now);
-        example.setUpdatedAt(now);
+        setTimestamps(example);
         
-        // Save example
-        Example savedExample = examplePersistencePort.save(example);
+        // Single insert, committed by the repository's own transaction
+        Example savedExample = insert(example);
         
         logger.info("Example created successfully with ID: {}", savedExample.getId());
         
         return savedExample;
     }
 
+    @Override
+    @Transactional
+    public Example submitExample(Example example) {
+        logger.info("Submitting example for DNI: {}", example.getDni());
+        
+        validateDniIsUnique(example.getDni());
+        
+        example.setCuit(null);
+        example.setCuitStatus(CuitStatus.PENDING);
+        setTimestamps(example);
+        
+        // The example and its CUIT lookup are committed together
+        Example savedExample = insert(example);
+        cuitOutboxPort.enqueue(CuitEnrichmentTask.builder()
+                .exampleId(savedExample.getId())
+                .dni(savedExample.getDni())
+                .genero(savedExample.getGenero())
+                .build());
+        
+        logger.info("Example accepted with ID: {}, CUIT pending", savedExample.getId());
+        
+        return savedExample;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Example findById(Long id) {
+        logger.info("Finding example by ID: {}", id);
+        
+        return examplePersistencePort.findById(id)
+                .orElse(null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Example findByDni(String dni) {
@@ -66,4 +104,27 @@ public class ExampleService implements CreateExampleUseCase {
         return examplePersistencePort.findByDni(dni)
                 .orElse(null);
     }
+
+    private void validateDniIsUnique(String dni) {
+        if (examplePersistencePort.existsByDni(dni)) {
+            logger.warn("Example with DNI {} already exists", dni);
+            throw new IllegalArgumentException("Ya existe un ejemplo con el DNI: " + dni);
+        }
+    }
+
+    private Example insert(Example example) {
+        try {
+            return examplePersistencePort.save(example);
+        } catch (DataIntegrityViolationException e) {
+            // Another request inserted the same DNI after the existence check
+            logger.warn("Example with DNI {} was created concurrently", example.getDni());
+            throw new IllegalArgumentException("Ya existe un ejemplo con el DNI: " + example.getDni());
+        }
+    }
+
+    private void setTimestamps(Example example) {
+        LocalDateTime now = LocalDateTime.now();
+        example.setCreatedAt(now);
+        example.setUpdatedAt(now);
+    }
 }
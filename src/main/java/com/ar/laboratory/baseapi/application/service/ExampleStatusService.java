@@ -1,33 +1,50 @@
 package com.ar.laboratory.baseapi.application.service;
 
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusUpdate;
 import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import com.ar.laboratory.baseapi.domain.ports.in.UpdateExampleStatusUseCase;
 import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
 import com.ar.laboratory.baseapi.domain.ports.out.ExampleRepositoryPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service implementation for ExampleStatus use cases.
  * This class implements the business logic defined in ExampleStatusUseCase.
  * Integrates Redis caching for improved performance.
+ * Writes to the same id are serialized, saved to the repository and then handed to the
+ * cache, which acknowledges them immediately and persists them write-behind. Reads on
+ * this node see the acknowledged value at once; other nodes read Redis and may see the
+ * previous one until the next flush. Reads only fill the cache when the key is absent,
+ * so they never overwrite a newer write.
  */
 @Service
-public class ExampleStatusService implements ExampleStatusUseCase {
+@ConditionalOnExampleStatus
+public class ExampleStatusService implements ExampleStatusUseCase, UpdateExampleStatusUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(ExampleStatusService.class);
+    private static final int LOCK_STRIPES = 64;
     
     private final ExampleRepositoryPort exampleRepositoryPort;
     private final CachePort<ExampleStatus> cachePort;
+    private final Object[] writeLocks = new Object[LOCK_STRIPES];
 
     public ExampleStatusService(ExampleRepositoryPort exampleRepositoryPort,
                                CachePort<ExampleStatus> cachePort) {
         this.exampleRepositoryPort = exampleRepositoryPort;
         this.cachePort = cachePort;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            writeLocks[i] = new Object();
+        }
     }
 
     @Override
@@ -51,8 +68,8 @@ public class ExampleStatusService implements ExampleStatusUseCase {
         
         if (result.isPresent()) {
             logger.debug("Found example status in repository: {}", result.get().getName());
-            // Store in cache for future requests
-            cachePort.put(id, result.get());
+            // Store in cache for future requests, unless a newer write got there first
+            cachePort.putIfAbsent(id, result.get());
         } else {
             logger.debug("Example status not found for id: {}", id);
         }
@@ -64,7 +81,9 @@ public class ExampleStatusService implements ExampleStatusUseCase {
     public List<ExampleStatus> getAllExampleStatuses() {
         logger.info("Retrieving all example statuses");
         List<ExampleStatus> statuses = exampleRepositoryPort.findAll();
-        logger.debug("Found {} example statuses", statuses.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} example statuses", statuses.size());
+        }
         return statuses;
     }
 
@@ -72,7 +91,81 @@ public class ExampleStatusService implements ExampleStatusUseCase {
     public List<ExampleStatus> getActiveExampleStatuses() {
         logger.info("Retrieving active example statuses");
         List<ExampleStatus> activeStatuses = exampleRepositoryPort.findAllActive();
-        logger.debug("Found {} active example statuses", activeStatuses.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} active example statuses", activeStatuses.size());
+        }
         return activeStatuses;
     }
+
+    @Override
+    public void forEachExampleStatus(Consumer<ExampleStatus> consumer) {
+        logger.info("Streaming all example statuses");
+        exampleRepositoryPort.forEach(consumer);
+    }
+
+    @Override
+    public void forEachActiveExampleStatus(Consumer<ExampleStatus> consumer) {
+        logger.info("Streaming active example statuses");
+        exampleRepositoryPort.forEachActive(consumer);
+    }
+
+    @Override
+    public Optional<ExampleStatus> replaceExampleStatus(ExampleStatusUpdate update) {
+        logger.info("Replacing example status with id: {}", update.getId());
+        return applyUpdate(update, true);
+    }
+
+    @Override
+    public Optional<ExampleStatus> patchExampleStatus(ExampleStatusUpdate update) {
+        logger.info("Patching example status with id: {}", update.getId());
+        return applyUpdate(update, false);
+    }
+
+    @Override
+    public List<ExampleStatus> patchExampleStatuses(List<ExampleStatusUpdate> updates) {
+        logger.info("Patching {} example statuses", updates.size());
+        
+        List<ExampleStatus> updated = new ArrayList<>(updates.size());
+        for (ExampleStatusUpdate update : updates) {
+            applyUpdate(update, false).ifPresent(updated::add);
+        }
+        return updated;
+    }
+
+    private Optional<ExampleStatus> applyUpdate(ExampleStatusUpdate update, boolean replace) {
+        String id = update.getId();
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("El id del estado no puede estar vacío");
+        }
+        
+        synchronized (writeLocks[Math.floorMod(id.hashCode(), LOCK_STRIPES)]) {
+            Optional<ExampleStatus> current = exampleRepositoryPort.findById(id);
+            if (current.isEmpty()) {
+                logger.debug("Example status not found for update, id: {}", id);
+                return Optional.empty();
+            }
+            
+            ExampleStatus updated = merge(current.get(), update, replace);
+            ExampleStatus saved = exampleRepositoryPort.save(updated);
+            // Acknowledged once this node's cache has the value; it reaches Redis on the next flush
+            cachePort.put(id, saved);
+            
+            logger.debug("Example status {} updated to version {}", id, saved.getVersion());
+            return Optional.of(saved);
+        }
+    }
+
+    private ExampleStatus merge(ExampleStatus current, ExampleStatusUpdate update, boolean replace) {
+        return ExampleStatus.builder()
+                .id(current.getId())
+                .name(replace || update.getName() != null ? update.getName() : current.getName())
+                .status(replace || update.getStatus() != null ? update.getStatus() : current.getStatus())
+                .description(replace || update.getDescription() != null
+                        ? update.getDescription() : current.getDescription())
+                .active(update.getActive() != null ? update.getActive() : current.isActive())
+                .createdAt(current.getCreatedAt())
+                .updatedAt(LocalDateTime.now())
+                .version(current.getVersion() + 1)
+                .build();
+    }
 }
@@ -0,0 +1,87 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.IdempotencyClaim;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import com.ar.laboratory.baseapi.domain.ports.in.IdempotencyUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.IdempotencyStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service implementation for idempotent requests.
+ * The first request for a key takes an in-flight lock and executes; retries that arrive
+ * while it runs are told so at once instead of executing the operation a second time or
+ * holding a request thread (and a concurrency-limit slot) while they wait. Stored responses
+ * expire after the configured window.
+ */
+@Service
+@ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyService implements IdempotencyUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyStorePort idempotencyStorePort;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    public IdempotencyService(IdempotencyStorePort idempotencyStorePort,
+                              @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.lock-ttl:30s}") Duration lockTtl) {
+        this.idempotencyStorePort = idempotencyStorePort;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+    }
+
+    @Override
+    public IdempotencyClaim begin(String key, String fingerprint) {
+        Optional<IdempotentResponse> stored = idempotencyStorePort.find(key);
+        if (stored.isPresent()) {
+            return completed(key, fingerprint, stored.get());
+        }
+        String lockToken = UUID.randomUUID().toString();
+        if (idempotencyStorePort.tryLock(key, lockToken, lockTtl)) {
+            // The previous holder may have completed between the lookup and the lock
+            Optional<IdempotentResponse> completed = idempotencyStorePort.find(key);
+            if (completed.isPresent()) {
+                idempotencyStorePort.unlock(key, lockToken);
+                return completed(key, fingerprint, completed.get());
+            }
+            return IdempotencyClaim.builder()
+                    .outcome(IdempotencyClaim.Outcome.ACQUIRED)
+                    .lockToken(lockToken)
+                    .build();
+        }
+        logger.info("Request with idempotency key {} is still in progress", key);
+        return IdempotencyClaim.builder().outcome(IdempotencyClaim.Outcome.IN_PROGRESS).build();
+    }
+
+    @Override
+    public void complete(String key, String lockToken, IdempotentResponse response) {
+        idempotencyStorePort.save(key, response, ttl);
+        idempotencyStorePort.unlock(key, lockToken);
+    }
+
+    @Override
+    public void abandon(String key, String lockToken) {
+        idempotencyStorePort.unlock(key, lockToken);
+    }
+
+    private IdempotencyClaim completed(String key, String fingerprint, IdempotentResponse response) {
+        if (!fingerprint.equals(response.getFingerprint())) {
+            logger.warn("Idempotency key {} reused with a different request", key);
+            return IdempotencyClaim.builder().outcome(IdempotencyClaim.Outcome.MISMATCH).build();
+        }
+        logger.debug("Replaying stored response for idempotency key {}", key);
+        return IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.REPLAY)
+                .response(response)
+                .build();
+    }
+}
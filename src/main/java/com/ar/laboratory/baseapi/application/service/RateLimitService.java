@@ -0,0 +1,155 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.model.TokenReservation;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.TokenReservationPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for per-client rate limiting.
+ * Each client has a global token bucket in the shared store. Every node reserves tokens
+ * from it in batches and serves requests from that local allowance, so the shared store
+ * is called once per batch rather than once per request. Local tokens are held for a short
+ * lease; the ones left unused when it ends are returned to the shared bucket on the client's
+ * next request, or when the idle client is swept, instead of being dropped. If the shared
+ * store is unavailable, the node falls back to a local bucket with the same parameters.
+ */
+@Service
+public class RateLimitService implements RateLimitUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final TokenReservationPort tokenReservationPort;
+    private final long capacity;
+    private final double refillPerSecond;
+    private final long batchSize;
+    private final long leaseNanos;
+    private final Map<String, ClientAllowance> allowances = new ConcurrentHashMap<>();
+    private volatile long lastSweep = System.nanoTime();
+
+    public RateLimitService(TokenReservationPort tokenReservationPort,
+                            @Value("${app.rate-limit.capacity:100}") long capacity,
+                            @Value("${app.rate-limit.refill-per-second:50}") double refillPerSecond,
+                            @Value("${app.rate-limit.batch-size:10}") long batchSize,
+                            @Value("${app.rate-limit.lease:1s}") Duration lease) {
+        this.tokenReservationPort = tokenReservationPort;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.batchSize = Math.max(1, batchSize);
+        this.leaseNanos = lease.toNanos();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String clientId, int cost) {
+        long now = System.nanoTime();
+        sweepIdleClients(now);
+        return allowances.computeIfAbsent(clientId, id -> new ClientAllowance(now)).consume(clientId, cost, now);
+    }
+
+    private void sweepIdleClients(long now) {
+        if (now - lastSweep < SWEEP_INTERVAL_NANOS) {
+            return;
+        }
+        lastSweep = now;
+        allowances.entrySet().removeIf(entry -> entry.getValue().releaseIfIdle(entry.getKey(), now));
+        logger.debug("Rate limit allowances tracked: {}", allowances.size());
+    }
+
+    /**
+     * Tokens this node holds for one client, plus the local fallback bucket.
+     */
+    private final class ClientAllowance {
+
+        private long tokens;
+        private long leaseExpiry;
+        private long lastUsed;
+        private long globalRemaining;
+        private long globalResetMillis;
+        private double fallbackTokens;
+        private long fallbackRefilledAt;
+
+        ClientAllowance(long now) {
+            this.lastUsed = now;
+            this.leaseExpiry = now;
+            this.globalRemaining = capacity;
+            this.fallbackTokens = capacity;
+            this.fallbackRefilledAt = now;
+        }
+
+        synchronized RateLimitDecision consume(String clientId, int cost, long now) {
+            lastUsed = now;
+            if (now - leaseExpiry >= 0) {
+                releaseTokens(clientId);
+            }
+            if (tokens < cost) {
+                Optional<TokenReservation> reservation =
+                        tokenReservationPort.reserve(clientId, Math.max(batchSize, cost) - tokens, capacity, refillPerSecond);
+                if (reservation.isEmpty()) {
+                    return consumeFallback(cost, now);
+                }
+                tokens += reservation.get().getGranted();
+                leaseExpiry = now + leaseNanos;
+                globalRemaining = reservation.get().getRemaining();
+                globalResetMillis = reservation.get().getResetMillis();
+            }
+            if (tokens < cost) {
+                return decision(false, tokens + globalRemaining, secondsUntil(cost - tokens));
+            }
+            tokens -= cost;
+            return decision(true, tokens + globalRemaining, Math.ceilDiv(globalResetMillis, 1000));
+        }
+
+        /**
+         * Returns the held tokens of an idle client, whose lease has long expired.
+         *
+         * @return true if the client is idle and can be forgotten
+         */
+        synchronized boolean releaseIfIdle(String clientId, long now) {
+            if (now - lastUsed <= SWEEP_INTERVAL_NANOS) {
+                return false;
+            }
+            releaseTokens(clientId);
+            return true;
+        }
+
+        private void releaseTokens(String clientId) {
+            if (tokens > 0) {
+                tokenReservationPort.release(clientId, tokens, capacity, refillPerSecond);
+                tokens = 0;
+            }
+        }
+
+        private RateLimitDecision consumeFallback(int cost, long now) {
+            fallbackTokens = Math.min(capacity, fallbackTokens + (now - fallbackRefilledAt) / 1e9 * refillPerSecond);
+            fallbackRefilledAt = now;
+            if (fallbackTokens < cost) {
+                return decision(false, (long) fallbackTokens, secondsUntil(cost - (long) fallbackTokens));
+            }
+            fallbackTokens -= cost;
+            return decision(true, (long) fallbackTokens, secondsUntil(capacity - (long) fallbackTokens));
+        }
+
+        private long secondsUntil(long missingTokens) {
+            return Math.max(1, (long) Math.ceil(missingTokens / refillPerSecond));
+        }
+
+        private RateLimitDecision decision(boolean allowed, long remaining, long resetSeconds) {
+            return RateLimitDecision.builder()
+                    .allowed(allowed)
+                    .limit(capacity)
+                    .remaining(Math.max(0, remaining))
+                    .resetSeconds(resetSeconds)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.config.role.ConditionalOnReactiveExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ReactiveExampleStatusUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveCachePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveExampleRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking implementation of the ExampleStatus reads.
+ * Follows ExampleStatusService: cache first, then the repository, filling the cache only
+ * when the key is absent. A cache error is treated as a miss, as the blocking adapter does.
+ */
+@Service
+@ConditionalOnReactiveExampleStatus
+public class ReactiveExampleStatusService implements ReactiveExampleStatusUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExampleStatusService.class);
+    
+    private final ReactiveExampleRepositoryPort reactiveExampleRepositoryPort;
+    private final ReactiveCachePort<ExampleStatus> reactiveCachePort;
+
+    public ReactiveExampleStatusService(ReactiveExampleRepositoryPort reactiveExampleRepositoryPort,
+                                        ReactiveCachePort<ExampleStatus> reactiveCachePort) {
+        this.reactiveExampleRepositoryPort = reactiveExampleRepositoryPort;
+        this.reactiveCachePort = reactiveCachePort;
+    }
+
+    @Override
+    public Mono<ExampleStatus> getExampleStatusById(String id) {
+        logger.info("Retrieving example status by id: {}", id);
+        
+        if (id == null || id.trim().isEmpty()) {
+            logger.warn("Invalid id provided: {}", id);
+            return Mono.empty();
+        }
+        
+        return reactiveCachePort.get(id)
+                .doOnNext(cached -> logger.debug("Found example status in cache: {}", cached.getName()))
+                .onErrorResume(e -> {
+                    logger.warn("Cache read failed for id {}, falling back to the repository: {}", id, e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> loadAndCache(id)));
+    }
+
+    @Override
+    public Flux<ExampleStatus> getAllExampleStatuses() {
+        logger.info("Retrieving all example statuses");
+        return reactiveExampleRepositoryPort.findAll();
+    }
+
+    @Override
+    public Flux<ExampleStatus> getActiveExampleStatuses() {
+        logger.info("Retrieving active example statuses");
+        return reactiveExampleRepositoryPort.findAllActive();
+    }
+
+    private Mono<ExampleStatus> loadAndCache(String id) {
+        return reactiveExampleRepositoryPort.findById(id)
+                .flatMap(exampleStatus -> reactiveCachePort.putIfAbsent(id, exampleStatus)
+                        .onErrorResume(e -> {
+                            logger.warn("Cache fill failed for id {}: {}", id, e.getMessage());
+                            return Mono.just(false);
+                        })
+                        .thenReturn(exampleStatus))
+                .doOnNext(found -> logger.debug("Found example status in repository: {}", found.getName()))
+                .switchIfEmpty(Mono.fromRunnable(() -> logger.debug("Example status not found for id: {}", id)));
+    }
+}
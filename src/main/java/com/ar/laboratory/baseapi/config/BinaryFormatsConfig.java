@@ -0,0 +1,60 @@
+package com.ar.laboratory.baseapi.config;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.CreateExampleRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleStatusResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonBinaryHttpMessageConverter;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodecHttpMessageConverter;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodecs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Binary formats for high-volume internal clients: CBOR, Smile and protobuf.
+ * Spring Boot adds HttpMessageConverter beans to the MVC converters; the payloads covered
+ * are the ones with a protobuf codec (schema in {@code src/main/proto/base_api.proto}).
+ * Endpoints opt in by listing the media types in {@code produces}/{@code consumes}.
+ * The CBOR and Smile mappers are derived from the application's ObjectMapper.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatsConfig {
+
+    @Bean
+    public ProtobufCodecs protobufCodecs() {
+        return new ProtobufCodecs(List.of(
+                new ExampleStatusResponseCodec(),
+                new ExampleResponseCodec(),
+                new CreateExampleRequestCodec()));
+    }
+
+    @Bean
+    public HttpMessageConverter<Object> cborHttpMessageConverter(ProtobufCodecs protobufCodecs,
+                                                                 ObjectProvider<ObjectMapper> applicationMapper) {
+        ObjectMapper mapper = applicationMapper.getIfAvailable(JacksonMappers::applicationDefaults);
+        return new JacksonBinaryHttpMessageConverter(JacksonMappers.derive(mapper, new CBORFactory()),
+                MediaType.APPLICATION_CBOR, protobufCodecs.types());
+    }
+
+    @Bean
+    public HttpMessageConverter<Object> smileHttpMessageConverter(ProtobufCodecs protobufCodecs,
+                                                                  ObjectProvider<ObjectMapper> applicationMapper) {
+        ObjectMapper mapper = applicationMapper.getIfAvailable(JacksonMappers::applicationDefaults);
+        return new JacksonBinaryHttpMessageConverter(JacksonMappers.derive(mapper, new SmileFactory()),
+                BinaryMediaTypes.APPLICATION_SMILE, protobufCodecs.types());
+    }
+
+    @Bean
+    public HttpMessageConverter<Object> protobufHttpMessageConverter(ProtobufCodecs protobufCodecs) {
+        return new ProtobufCodecHttpMessageConverter(protobufCodecs);
+    }
+}
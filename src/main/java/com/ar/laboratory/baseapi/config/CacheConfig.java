@@ -0,0 +1,34 @@
+package com.ar.laboratory.baseapi.config;
+
+import com.ar.laboratory.baseapi.adapters.out.cache.RedisCacheAdapter;
+import com.ar.laboratory.baseapi.adapters.out.cache.WriteBehindCache;
+import com.ar.laboratory.baseapi.config.role.ConditionalOnExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Cache wiring for the application ports.
+ * The ExampleStatus cache is exposed through a write-behind decorator over Redis.
+ */
+@Configuration
+@ConditionalOnExampleStatus
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public WriteBehindCache<ExampleStatus> exampleStatusCache(
+            RedisCacheAdapter redisCacheAdapter,
+            @Value("${app.cache.write-behind.flush-interval:50ms}") Duration flushInterval,
+            @Value("${app.cache.write-behind.max-batch-size:256}") int maxBatchSize,
+            @Value("${app.cache.write-behind.max-pending:10000}") int maxPending,
+            MeterRegistry meterRegistry) {
+        return new WriteBehindCache<>("example-status", redisCacheAdapter, flushInterval, maxBatchSize,
+                maxPending, meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ar.laboratory.baseapi.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
+import org.springframework.boot.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP/2 limits of the embedded servers. HTTP/2 itself and response compression are turned on
+ * with server.http2 and server.compression; without TLS both servers speak h2c (prior knowledge
+ * or Upgrade), which is what internal clients and the gateway use.
+ * Here the streams a single connection may have open at once are capped, so one multiplexed
+ * client cannot take every request thread (Tomcat) or queue unbounded work (Netty).
+ */
+@Configuration(proxyBeanMethods = false)
+public class HttpServerConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public TomcatConnectorCustomizer http2StreamLimitsCustomizer(
+            @Value("${app.http2.max-concurrent-streams:100}") int maxConcurrentStreams,
+            @Value("${app.http2.max-concurrent-stream-execution:20}") int maxConcurrentStreamExecution) {
+        return connector -> {
+            for (UpgradeProtocol upgradeProtocol : connector.findUpgradeProtocols()) {
+                if (upgradeProtocol instanceof Http2Protocol http2Protocol) {
+                    http2Protocol.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2Protocol.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                }
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public NettyServerCustomizer http2StreamLimitsNettyCustomizer(
+            @Value("${app.http2.max-concurrent-streams:100}") int maxConcurrentStreams) {
+        return httpServer -> httpServer.http2Settings(settings -> settings.maxConcurrentStreams(maxConcurrentStreams));
+    }
+}
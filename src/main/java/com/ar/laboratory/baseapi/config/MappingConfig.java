@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueIterableMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for the MapStruct mappers.
+ * Implementations are generated at compile time as Spring beans that call constructors and
+ * setters directly: no reflection and no Lombok builder per mapped object. A property left
+ * unmapped on either side fails the build, so a field added to a domain model, DTO or entity
+ * has to be mapped or explicitly ignored.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        unmappedSourcePolicy = ReportingPolicy.ERROR,
+        builder = @Builder(disableBuilder = true),
+        nullValueIterableMappingStrategy = NullValueIterableMappingStrategy.RETURN_DEFAULT)
+public interface MappingConfig {
+}
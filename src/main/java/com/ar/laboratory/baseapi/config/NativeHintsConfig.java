@@ -0,0 +1,86 @@
+package com.ar.laboratory.baseapi.config;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupItemResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusChangeResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.CuitOutboxEntity;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.config.logging.DeduplicatingThrowableConverter;
+import com.ar.laboratory.baseapi.config.logging.RingBufferAppender;
+import com.ar.laboratory.baseapi.config.logging.SamplingTurboFilter;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * Reachability metadata for the native image.
+ * Spring derives hints for beans, controller payloads and auto-configurations; this adds
+ * what the application reaches by reflection or by resource name on its own: values stored
+ * in Redis with Jackson default typing, payloads serialized outside the message converters,
+ * JPA entities, Logback components declared in logback-spring.xml, classpath resources and
+ * the proxies behind {@code @Lazy} injection points.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.BaseApiRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class BaseApiRuntimeHints implements RuntimeHintsRegistrar {
+
+        /** Values written to Redis; their class names travel in the JSON (RedisConfig). */
+        static final Class<?>[] REDIS_VALUE_TYPES = {
+                ExampleStatus.class, Example.class, IdempotentResponse.class, ExampleStatusChange.class
+        };
+
+        /** Collection types default typing can name in a stored value. */
+        static final Class<?>[] REDIS_CONTAINER_TYPES = {
+                ArrayList.class, HashMap.class, LinkedHashMap.class
+        };
+
+        /** Payloads serialized with an ObjectMapper of their own. */
+        static final Class<?>[] STREAMED_PAYLOAD_TYPES = {
+                ExampleLookupItemResponse.class, ExampleStatusChangeResponse.class, ExampleStatusResponse.class
+        };
+
+        static final Class<?>[] ENTITY_TYPES = {
+                ExampleEntity.class, CuitOutboxEntity.class
+        };
+
+        /** Instantiated and configured by Logback through their setters. */
+        static final Class<?>[] LOGBACK_TYPES = {
+                SamplingTurboFilter.class, RingBufferAppender.class, DeduplicatingThrowableConverter.class
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            bindingRegistrar.registerReflectionHints(hints.reflection(), REDIS_VALUE_TYPES);
+            bindingRegistrar.registerReflectionHints(hints.reflection(), STREAMED_PAYLOAD_TYPES);
+
+            for (Class<?> type : REDIS_CONTAINER_TYPES) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            for (Class<?> type : ENTITY_TYPES) {
+                hints.reflection().registerType(type, MemberCategory.values());
+            }
+            for (Class<?> type : LOGBACK_TYPES) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            hints.resources().registerPattern("scripts/*.lua");
+            hints.resources().registerPattern("db/migration/*.sql");
+            hints.resources().registerPattern("logback-spring.xml");
+        }
+    }
+}
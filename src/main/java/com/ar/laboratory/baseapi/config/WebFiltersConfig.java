@@ -0,0 +1,59 @@
+package com.ar.laboratory.baseapi.config;
+
+import com.ar.laboratory.baseapi.adapters.in.web.filter.ConcurrencyLimitFilter;
+import com.ar.laboratory.baseapi.adapters.in.web.filter.IdempotencyFilter;
+import com.ar.laboratory.baseapi.adapters.in.web.filter.RateLimitFilter;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.ports.in.IdempotencyUseCase;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Servlet filters that gate the API endpoints: load shedding, rate limiting and idempotency.
+ * They are declared here rather than as components so that WebMvc test slices, which pick
+ * up Filter components but not configuration classes, test the controllers without them
+ * and without the use cases behind them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebFiltersConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${app.concurrency-limit.write-share:0.7}") double writeShare,
+            @Value("${app.concurrency-limit.retry-after:1s}") Duration retryAfter,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimitFilter(initialLimit, minLimit, maxLimit, tolerance, writeShare, retryAfter,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RateLimitFilter rateLimitFilter(RateLimitUseCase rateLimitUseCase,
+                                           ClientIdResolver clientIdResolver,
+                                           @Value("${app.rate-limit.write-cost:5}") int writeCost,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RateLimitFilter(rateLimitUseCase, clientIdResolver, writeCost, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+    public IdempotencyFilter idempotencyFilter(IdempotencyUseCase idempotencyUseCase,
+                                               ClientIdResolver clientIdResolver,
+                                               @Value("${app.idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+        return new IdempotencyFilter(idempotencyUseCase, clientIdResolver, maxBodyBytes);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acquire and hold times of connections since the last snapshot.
+ */
+final class ConnectionUsageWindow {
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+
+    void recordAcquire(long nanos) {
+        acquires.increment();
+        acquireNanos.add(nanos);
+    }
+
+    void recordHold(long nanos) {
+        releases.increment();
+        holdNanos.add(nanos);
+    }
+
+    /**
+     * Returns the totals recorded since the previous call and starts a new window.
+     */
+    Snapshot snapshotAndReset() {
+        return new Snapshot(acquires.sumThenReset(), acquireNanos.sumThenReset(),
+                releases.sumThenReset(), holdNanos.sumThenReset());
+    }
+
+    record Snapshot(long acquires, long acquireNanos, long releases, long holdNanos) {
+
+        double meanAcquireNanos() {
+            return acquires == 0 ? 0 : (double) acquireNanos / acquires;
+        }
+
+        double meanHoldNanos() {
+            return releases == 0 ? 0 : (double) holdNanos / releases;
+        }
+    }
+}
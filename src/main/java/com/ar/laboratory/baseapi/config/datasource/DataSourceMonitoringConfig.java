@@ -0,0 +1,85 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Connection pool telemetry and management.
+ * Hikari data sources are wrapped in a {@link MonitoredDataSource} to flag long-held
+ * connections, a {@link HikariPoolMonitor} samples the pool and optionally resizes it,
+ * and the database health check gets its own small pool. Naming the indicator
+ * dbHealthIndicator replaces the default one, which borrows from the main pool.
+ */
+@Configuration
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(name = "app.datasource.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor monitoredDataSourcePostProcessor(
+            @Value("${app.datasource.monitoring.long-held-threshold:1s}") Duration longHeldThreshold,
+            @Value("${app.datasource.monitoring.capture-origin:false}") boolean captureOrigin,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    String poolName = hikari.getPoolName() != null ? hikari.getPoolName() : beanName;
+                    return new MonitoredDataSource(hikari, poolName, longHeldThreshold, captureOrigin,
+                            meterRegistry.getIfAvailable());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariPoolMonitor hikariPoolMonitor(DataSource dataSource,
+                                               @Value("${app.datasource.auto-sizing.enabled:false}") boolean autoSizing,
+                                               @Value("${app.datasource.auto-sizing.min-size:5}") int minSize,
+                                               @Value("${app.datasource.auto-sizing.max-size:30}") int maxSize,
+                                               @Value("${app.datasource.auto-sizing.interval:10s}") Duration interval,
+                                               @Value("${app.datasource.auto-sizing.target-acquire-wait:10ms}") Duration targetAcquireWait,
+                                               @Value("${app.datasource.auto-sizing.saturation-ratio:2.0}") double saturationRatio,
+                                               ObjectProvider<MeterRegistry> meterRegistry) throws SQLException {
+        if (!dataSource.isWrapperFor(MonitoredDataSource.class)) {
+            throw new IllegalStateException("The primary data source is not a monitored Hikari pool");
+        }
+        MonitoredDataSource monitored = dataSource.unwrap(MonitoredDataSource.class);
+        PoolSizingPolicy sizingPolicy = autoSizing
+                ? new PoolSizingPolicy(minSize, maxSize, targetAcquireWait.toNanos(), saturationRatio)
+                : null;
+        return new HikariPoolMonitor(monitored.unwrap(HikariDataSource.class), monitored.getPoolName(),
+                monitored.getUsageWindow(),
+                sizingPolicy, interval, meterRegistry.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.datasource.health-pool.enabled", havingValue = "true", matchIfMissing = true)
+    public HealthCheckPoolIndicator dbHealthIndicator(DataSourceProperties dataSourceProperties,
+                                                      @Value("${app.datasource.health-pool.size:1}") int size,
+                                                      @Value("${app.datasource.health-pool.connection-timeout:1s}") Duration connectionTimeout) {
+        HikariDataSource healthPool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        healthPool.setPoolName("health");
+        healthPool.setMaximumPoolSize(size);
+        healthPool.setMinimumIdle(size);
+        healthPool.setConnectionTimeout(Math.max(250, connectionTimeout.toMillis()));
+        // Do not fail startup when the database is down; the indicator reports it instead
+        healthPool.setInitializationFailTimeout(-1);
+        return new HealthCheckPoolIndicator(healthPool, (int) Math.max(1, connectionTimeout.toSeconds()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health;
+
+import java.sql.Connection;
+
+/**
+ * Database health indicator backed by its own small pool.
+ * Probes never queue behind business traffic for a connection from the main pool, so a
+ * saturated pool does not make the instance look unhealthy, while an unreachable database
+ * still does.
+ */
+public class HealthCheckPoolIndicator extends AbstractHealthIndicator implements AutoCloseable {
+
+    private final HikariDataSource healthPool;
+    private final int validationTimeoutSeconds;
+
+    public HealthCheckPoolIndicator(HikariDataSource healthPool, int validationTimeoutSeconds) {
+        super("Database health check failed");
+        this.healthPool = healthPool;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) throws Exception {
+        try (Connection connection = healthPool.getConnection()) {
+            boolean valid = connection.isValid(validationTimeoutSeconds);
+            (valid ? builder.up() : builder.down())
+                    .withDetail("database", connection.getMetaData().getDatabaseProductName())
+                    .withDetail("pool", healthPool.getPoolName());
+        }
+    }
+
+    @Override
+    public void close() {
+        healthPool.close();
+    }
+}
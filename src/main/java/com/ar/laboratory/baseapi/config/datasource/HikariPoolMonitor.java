@@ -0,0 +1,101 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples a Hikari pool every second and, when a sizing policy is given, adjusts its
+ * maximum size once per interval.
+ * The number of threads waiting for a connection is recorded as a distribution, which
+ * complements the acquire and usage timers Hikari already publishes.
+ */
+public class HikariPoolMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolMonitor.class);
+
+    private final HikariDataSource pool;
+    private final String poolName;
+    private final ConnectionUsageWindow usageWindow;
+    private final PoolSizingPolicy sizingPolicy;
+    private final long samplesPerAdjustment;
+    private final DistributionSummary pendingSummary;
+    private final ScheduledExecutorService sampler;
+    private long samples;
+    private int peakActive;
+    private int peakPending;
+
+    HikariPoolMonitor(HikariDataSource pool, String poolName, ConnectionUsageWindow usageWindow,
+                      PoolSizingPolicy sizingPolicy, Duration adjustmentInterval, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.poolName = poolName;
+        this.usageWindow = usageWindow;
+        this.sizingPolicy = sizingPolicy;
+        this.samplesPerAdjustment = Math.max(1, adjustmentInterval.toSeconds());
+        this.pendingSummary = meterRegistry == null ? null : DistributionSummary.builder("baseapi.datasource.pending")
+                .description("Threads waiting for a connection, sampled every second")
+                .tag("pool", poolName)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry);
+        this.sampler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("pool-monitor-" + poolName).daemon().factory());
+        this.sampler.scheduleAtFixedRate(this::sample, 1, 1, TimeUnit.SECONDS);
+    }
+
+    private void sample() {
+        try {
+            HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+            if (poolBean == null) {
+                return;
+            }
+            int pending = poolBean.getThreadsAwaitingConnection();
+            peakPending = Math.max(peakPending, pending);
+            peakActive = Math.max(peakActive, poolBean.getActiveConnections());
+            if (pendingSummary != null) {
+                pendingSummary.record(pending);
+            }
+            if (++samples >= samplesPerAdjustment) {
+                endWindow();
+            }
+        } catch (Exception e) {
+            logger.debug("Could not sample pool {}: {}", poolName, e.getMessage());
+        }
+    }
+
+    private void endWindow() {
+        ConnectionUsageWindow.Snapshot window = usageWindow.snapshotAndReset();
+        if (sizingPolicy != null) {
+            int current = pool.getMaximumPoolSize();
+            int next = sizingPolicy.nextSize(current, window, peakActive, peakPending);
+            if (next != current) {
+                logger.info("Resizing pool {} from {} to {} (peak active {}, peak pending {}, mean acquire {} ms, mean hold {} ms)",
+                        poolName, current, next, peakActive, peakPending,
+                        String.format("%.1f", window.meanAcquireNanos() / 1e6),
+                        String.format("%.1f", window.meanHoldNanos() / 1e6));
+                // Runtime changes go through the config MXBean, the supported way to resize a running pool
+                HikariConfigMXBean config = pool.getHikariConfigMXBean();
+                if (config.getMinimumIdle() > next) {
+                    config.setMinimumIdle(next);
+                }
+                config.setMaximumPoolSize(next);
+            }
+        }
+        samples = 0;
+        peakActive = 0;
+        peakPending = 0;
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
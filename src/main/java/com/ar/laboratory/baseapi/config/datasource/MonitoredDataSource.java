@@ -0,0 +1,164 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DataSource decorator that measures how long connections are waited for and held.
+ * Connections held longer than the threshold are logged and counted together with the
+ * use case method that held them when captureOrigin is set. The origin is resolved by
+ * walking the stack when the connection is borrowed, since it is often closed elsewhere
+ * (a transaction manager, a pool callback or another thread) where the stack no longer
+ * shows who held it. The walk is paid on every borrow, so it is off by default and the
+ * origin is reported as unknown.
+ */
+public class MonitoredDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitoredDataSource.class);
+    private static final String BASE_PACKAGE = "com.ar.laboratory.baseapi.";
+    private static final String USE_CASE_PACKAGE = BASE_PACKAGE + "application.";
+    private static final String OWN_PACKAGE = MonitoredDataSource.class.getPackageName() + ".";
+    private static final String UNKNOWN_ORIGIN = "unknown";
+
+    private final String poolName;
+    private final long longHeldThresholdNanos;
+    private final boolean captureOrigin;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionUsageWindow usageWindow = new ConnectionUsageWindow();
+    private final Map<String, Counter> longHeldCounters = new ConcurrentHashMap<>();
+
+    public MonitoredDataSource(DataSource target, String poolName, Duration longHeldThreshold,
+                               boolean captureOrigin, MeterRegistry meterRegistry) {
+        super(target);
+        this.poolName = poolName;
+        this.longHeldThresholdNanos = longHeldThreshold.toNanos();
+        this.captureOrigin = captureOrigin;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        return monitor(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        return monitor(connection, start);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    ConnectionUsageWindow getUsageWindow() {
+        return usageWindow;
+    }
+
+    private Connection monitor(Connection connection, long start) {
+        long acquiredAt = System.nanoTime();
+        usageWindow.recordAcquire(acquiredAt - start);
+        String origin = captureOrigin ? findOrigin() : UNKNOWN_ORIGIN;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new UsageHandler(connection, acquiredAt, origin));
+    }
+
+    private void released(long heldNanos, String origin) {
+        usageWindow.recordHold(heldNanos);
+        if (heldNanos < longHeldThresholdNanos) {
+            return;
+        }
+        logger.warn("Connection from pool {} held for {} ms by {}", poolName, heldNanos / 1_000_000, origin);
+        if (meterRegistry != null) {
+            longHeldCounters.computeIfAbsent(origin, key -> Counter.builder("baseapi.datasource.connections.long-held")
+                    .description("Connections held longer than the configured threshold")
+                    .tag("pool", poolName)
+                    .tag("origin", key)
+                    .register(meterRegistry)).increment();
+        }
+    }
+
+    /**
+     * The innermost use case method on the stack, or else the innermost application frame.
+     */
+    private static String findOrigin() {
+        return StackWalker.getInstance().walk(frames -> {
+            String fallback = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(BASE_PACKAGE) || className.startsWith(OWN_PACKAGE)
+                        || className.contains("$$")) {
+                    continue;
+                }
+                String site = className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                if (className.startsWith(USE_CASE_PACKAGE)) {
+                    return site;
+                }
+                if (fallback == null) {
+                    fallback = site;
+                }
+            }
+            return fallback != null ? fallback : UNKNOWN_ORIGIN;
+        });
+    }
+
+    /**
+     * Records the hold time when the connection is closed; every other call goes straight
+     * to the pooled connection.
+     */
+    private final class UsageHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt;
+        private final String origin;
+        private boolean closed;
+
+        UsageHandler(Connection target, long acquiredAt, String origin) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+            this.origin = origin;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        released(System.nanoTime() - acquiredAt, origin);
+                    }
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+/**
+ * Decides the maximum size of a connection pool from one observation window.
+ * The pool grows while requests wait for connections and the database keeps up, which
+ * shows as stable hold times. When hold times rise well above their baseline the database
+ * is saturated and more connections would only add contention, so the pool shrinks
+ * instead. A pool that stays mostly idle for several windows gives connections back.
+ */
+final class PoolSizingPolicy {
+
+    static final int IDLE_WINDOWS_BEFORE_SHRINK = 6;
+    private static final double BASELINE_DRIFT = 1.01;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetAcquireNanos;
+    private final double saturationRatio;
+    private double baselineHoldNanos;
+    private int idleWindows;
+
+    PoolSizingPolicy(int minSize, int maxSize, long targetAcquireNanos, double saturationRatio) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetAcquireNanos = targetAcquireNanos;
+        this.saturationRatio = saturationRatio;
+    }
+
+    int nextSize(int currentSize, ConnectionUsageWindow.Snapshot window, int peakActive, int peakPending) {
+        boolean saturated = false;
+        if (window.releases() > 0) {
+            double hold = window.meanHoldNanos();
+            saturated = baselineHoldNanos > 0 && hold > baselineHoldNanos * saturationRatio;
+            // Lowest hold time seen, drifting up slowly so it follows lasting changes in the workload
+            baselineHoldNanos = baselineHoldNanos == 0 ? hold : Math.min(hold, baselineHoldNanos * BASELINE_DRIFT);
+        }
+        boolean waiting = peakPending > 0 || window.meanAcquireNanos() > targetAcquireNanos;
+
+        int next = currentSize;
+        if (saturated) {
+            idleWindows = 0;
+            next = currentSize - 1;
+        } else if (waiting) {
+            idleWindows = 0;
+            next = currentSize + Math.max(1, currentSize / 4);
+        } else if (peakActive <= currentSize / 2) {
+            if (++idleWindows >= IDLE_WINDOWS_BEFORE_SHRINK) {
+                idleWindows = 0;
+                next = currentSize - 1;
+            }
+        } else {
+            idleWindows = 0;
+        }
+        return Math.clamp(next, minSize, maxSize);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ar.laboratory.baseapi.config.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.CoreConstants;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throwable converter that prints each distinct stack trace once per interval.
+ * Repeated occurrences of the same exception type thrown from the same frames are
+ * reduced to a single line with the exception message, a signature and a counter.
+ * Registered in logback-spring.xml through a conversion rule.
+ * Every appender gets its own converter, so the occurrences are kept in static state and
+ * the verdict for an event is remembered: each event is counted once and all appenders
+ * print it the same way. Evaluators and options are handled by ThrowableProxyConverter.
+ */
+public class DeduplicatingThrowableConverter extends ThrowableProxyConverter {
+
+    private static final int SIGNATURE_FRAMES = 8;
+    private static final int MAX_TRACKED_SIGNATURES = 1024;
+    private static final long REPRINT_INTERVAL_MILLIS = 5 * 60 * 1000L;
+    private static final LongAdder SUPPRESSED = new LongAdder();
+    private static final Map<Integer, Occurrences> SEEN = new ConcurrentHashMap<>();
+    /** Verdicts by event throwable; entries go away with the event. */
+    private static final Map<IThrowableProxy, Verdict> VERDICTS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    protected String throwableProxyToString(IThrowableProxy throwableProxy) {
+        Verdict verdict = VERDICTS.computeIfAbsent(throwableProxy, DeduplicatingThrowableConverter::decide);
+        if (verdict.printInFull()) {
+            return super.throwableProxyToString(throwableProxy);
+        }
+        return "  [" + throwableProxy.getClassName() + ": " + throwableProxy.getMessage()
+                + " - stack trace " + Integer.toHexString(verdict.signature()) + " suppressed, seen "
+                + verdict.count() + " times]" + CoreConstants.LINE_SEPARATOR;
+    }
+
+    /**
+     * Total number of stack traces suppressed by every instance of this converter.
+     */
+    public static long suppressedCount() {
+        return SUPPRESSED.sum();
+    }
+
+    /**
+     * Forgets every signature seen so far; for tests.
+     */
+    static void reset() {
+        SEEN.clear();
+        VERDICTS.clear();
+    }
+
+    private static Verdict decide(IThrowableProxy throwableProxy) {
+        int signature = signature(throwableProxy);
+        long now = System.currentTimeMillis();
+        if (SEEN.size() >= MAX_TRACKED_SIGNATURES) {
+            SEEN.clear();
+        }
+        Occurrences occurrences = SEEN.computeIfAbsent(signature, key -> new Occurrences(now));
+        long count = occurrences.count.incrementAndGet();
+
+        boolean printInFull = count == 1 || occurrences.reprintDue(now);
+        if (!printInFull) {
+            SUPPRESSED.increment();
+        }
+        return new Verdict(signature, count, printInFull);
+    }
+
+    private static int signature(IThrowableProxy throwableProxy) {
+        int hash = 1;
+        for (IThrowableProxy current = throwableProxy; current != null; current = current.getCause()) {
+            hash = 31 * hash + current.getClassName().hashCode();
+            StackTraceElementProxy[] frames = current.getStackTraceElementProxyArray();
+            for (int i = 0; i < Math.min(SIGNATURE_FRAMES, frames.length); i++) {
+                hash = 31 * hash + frames[i].getStackTraceElement().hashCode();
+            }
+        }
+        return hash;
+    }
+
+    private record Verdict(int signature, long count, boolean printInFull) {
+    }
+
+    private static final class Occurrences {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong lastPrinted;
+
+        Occurrences(long now) {
+            this.lastPrinted = new AtomicLong(now);
+        }
+
+        boolean reprintDue(long now) {
+            long last = lastPrinted.get();
+            return now - last >= REPRINT_INTERVAL_MILLIS && lastPrinted.compareAndSet(last, now);
+        }
+    }
+}
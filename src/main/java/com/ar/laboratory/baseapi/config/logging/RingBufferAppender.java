@@ -0,0 +1,184 @@
+package com.ar.laboratory.baseapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Non-blocking asynchronous appender backed by a bounded buffer.
+ * Unlike AsyncAppender with discardingThreshold=0, a full buffer never blocks the
+ * logging thread: the event is dropped and counted. A background worker drains the
+ * buffer in batches into the attached appenders and periodically reports how many
+ * events were dropped since the last report.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final long DROP_REPORT_INTERVAL_MILLIS = 10_000;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder droppedSinceReport = new LongAdder();
+    private BlockingQueue<ILoggingEvent> buffer;
+    private Thread worker;
+    private int bufferSize = 8192;
+    private boolean includeCallerData;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (bufferSize < 1) {
+            addError("Invalid bufferSize " + bufferSize);
+            return;
+        }
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        worker = new Thread(this::drain, "logback-ring-buffer-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+        if (!buffer.offer(event)) {
+            DROPPED.increment();
+            droppedSinceReport.increment();
+        }
+    }
+
+    /**
+     * Total number of events dropped by every instance of this appender.
+     */
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+
+    private void drain() {
+        List<ILoggingEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        long lastReport = System.currentTimeMillis();
+        while (isStarted() || !buffer.isEmpty()) {
+            try {
+                ILoggingEvent first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+                    for (ILoggingEvent event : batch) {
+                        appenders.appendLoopOnAppenders(event);
+                    }
+                    batch.clear();
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastReport >= DROP_REPORT_INTERVAL_MILLIS) {
+                    reportDrops();
+                    lastReport = now;
+                }
+            } catch (InterruptedException e) {
+                if (!isStarted()) {
+                    flushRemaining(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flushRemaining(List<ILoggingEvent> batch) {
+        batch.clear();
+        buffer.drainTo(batch);
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        reportDrops();
+    }
+
+    private void reportDrops() {
+        long dropped = droppedSinceReport.sumThenReset();
+        if (dropped > 0) {
+            LoggingEvent report = new LoggingEvent();
+            report.setLoggerName(RingBufferAppender.class.getName());
+            report.setLevel(Level.WARN);
+            report.setThreadName(Thread.currentThread().getName());
+            report.setTimeStamp(System.currentTimeMillis());
+            report.setMessage("Dropped " + dropped + " log events because the buffer of appender ["
+                    + getName() + "] was full");
+            report.setLoggerContext((ch.qos.logback.classic.LoggerContext) getContext());
+            appenders.appendLoopOnAppenders(report);
+        }
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ar.laboratory.baseapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback turbo filter that rate limits per-request log lines.
+ * Each logger under the configured prefix may emit up to maxPerSecond events at INFO
+ * or below per second; beyond that only one in sampleEvery events passes. WARN and
+ * ERROR are never filtered. The decision is taken before the logging event is built,
+ * so rejected calls do not allocate. Level checks such as isInfoEnabled() reach the filter
+ * without a format and are left alone, so guarding a log call does not use its token.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SUPPRESSED = new LongAdder();
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private String loggerPrefix = "com.ar.laboratory";
+    private int maxPerSecond = 50;
+    private int sampleEvery = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, maxPerSecond, sampleEvery)) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPPRESSED.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Total number of events suppressed by every instance of this filter.
+     */
+    public static long suppressedCount() {
+        return SUPPRESSED.sum();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    /**
+     * One-second counting window. The second and the count are packed in a single long
+     * so the window can be reset and incremented with one CAS.
+     */
+    private static final class Window {
+
+        private final AtomicLong state = new AtomicLong();
+
+        boolean tryAcquire(long second, int maxPerSecond, int sampleEvery) {
+            while (true) {
+                long current = state.get();
+                long currentSecond = current >>> 32;
+                long count = currentSecond == (second & 0xFFFFFFFFL) ? current & 0xFFFFFFFFL : 0;
+                long next = ((second & 0xFFFFFFFFL) << 32) | Math.min(count + 1, 0xFFFFFFFFL);
+                if (state.compareAndSet(current, next)) {
+                    return count < maxPerSecond || (count - maxPerSecond) % sampleEvery == 0;
+                }
+            }
+        }
+    }
+}
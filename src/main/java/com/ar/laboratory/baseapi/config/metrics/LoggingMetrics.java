@@ -0,0 +1,35 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import com.ar.laboratory.baseapi.config.logging.DeduplicatingThrowableConverter;
+import com.ar.laboratory.baseapi.config.logging.RingBufferAppender;
+import com.ar.laboratory.baseapi.config.logging.SamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the counters of the logging pipeline, so dropped or sampled log events are
+ * visible in the metrics instead of silently missing from the logs.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("baseapi.logging.events.dropped", RingBufferAppender.class,
+                        type -> RingBufferAppender.droppedCount())
+                .description("Log events dropped because an async appender buffer was full")
+                .register(registry);
+        FunctionCounter.builder("baseapi.logging.events.suppressed", SamplingTurboFilter.class,
+                        type -> SamplingTurboFilter.suppressedCount())
+                .description("Log events or stack traces suppressed to reduce logging volume")
+                .tag("reason", "sampling")
+                .register(registry);
+        FunctionCounter.builder("baseapi.logging.events.suppressed", DeduplicatingThrowableConverter.class,
+                        type -> DeduplicatingThrowableConverter.suppressedCount())
+                .description("Log events or stack traces suppressed to reduce logging volume")
+                .tag("reason", "duplicate-stack-trace")
+                .register(registry);
+    }
+}
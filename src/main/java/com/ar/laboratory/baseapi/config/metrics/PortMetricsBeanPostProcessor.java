@@ -0,0 +1,45 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.function.Supplier;
+
+/**
+ * Wraps every port implementation and web mapper in a proxy that observes its calls.
+ * Class-based proxies are used because some adapters are injected by their concrete type.
+ * Beans that are already proxied get the advisor added in front of their existing ones.
+ */
+public class PortMetricsBeanPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public PortMetricsBeanPostProcessor(Supplier<ObservationRegistry> observationRegistrySupplier) {
+        this.advisor = new DefaultPointcutAdvisor(new PortMetricsPointcut(),
+                new PortMetricsInterceptor(observationRegistrySupplier));
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    /**
+     * Returns the bean behind the observing proxy, for calls made once per element of a stream
+     * (mapping each status of a list), where one observation per element would cost more than
+     * the call and flood the timer. The bean itself is returned when it is not proxied by this
+     * post processor or carries other advice that must keep applying.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T unobserved(T bean) {
+        if (bean instanceof Advised advised) {
+            Advisor[] advisors = advised.getAdvisors();
+            if (advisors.length == 1 && advisors[0].getAdvice() instanceof PortMetricsInterceptor) {
+                Object target = AopProxyUtils.getSingletonTarget(bean);
+                if (target != null) {
+                    return (T) target;
+                }
+            }
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Port latency and tracing instrumentation.
+ * Disabled with app.metrics.ports.enabled=false, in which case no proxies are created
+ * and port calls go straight to the adapters.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.ports.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsConfig {
+
+    @Bean
+    public static PortMetricsBeanPostProcessor portMetricsBeanPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        // Resolved on first call so the registry is not created while post processors are instantiated
+        return new PortMetricsBeanPostProcessor(observationRegistry::getIfAvailable);
+    }
+}
@@ -0,0 +1,194 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Observes every port call as baseapi.port.calls, which produces both the latency timer
+ * and, when tracing is enabled, a span named after the port method (e.g. CachePort.get).
+ * Tags are port (the port interface or mapper), adapter (the implementing class),
+ * method and outcome. The outcome is hit/miss for lookups returning Optional or for
+ * exists methods, fallback or error when the adapter marked the call through
+ * {@link PortOutcome}, error when an exception escapes, and success otherwise.
+ * The observation is put in scope while the call runs, so nested port calls and HTTP
+ * client calls become child spans.
+ * Reactive ports (returning Mono or Flux) are observed from subscription to termination
+ * instead, since the call itself only assembles the pipeline. A Mono of a value is a
+ * lookup: hit when it emits, miss when it completes empty.
+ * Tags are cached per adapter class and method, since a method inherited or defaulted
+ * from a shared port is the same Method on every adapter.
+ */
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "baseapi.port.calls";
+    static final String OUTCOME_KEY = "outcome";
+
+    private final Supplier<ObservationRegistry> observationRegistrySupplier;
+    private final Map<Class<?>, Map<Method, PortCall>> portCalls = new ConcurrentHashMap<>();
+    private volatile ObservationRegistry observationRegistry;
+
+    public PortMetricsInterceptor(Supplier<ObservationRegistry> observationRegistrySupplier) {
+        this.observationRegistrySupplier = observationRegistrySupplier;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ObservationRegistry registry = observationRegistry();
+        if (registry == null || registry.isNoop()) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        PortCall portCall = portCalls.computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(invocation.getMethod(), method -> new PortCall(method, targetClass));
+
+        if (portCall.reactive) {
+            Object result = invocation.proceed();
+            if (result instanceof Mono<?> mono) {
+                return observe(mono, portCall, registry);
+            }
+            if (result instanceof Flux<?> flux) {
+                return observe(flux, portCall, registry);
+            }
+            return result;
+        }
+
+        Observation observation = start(portCall, registry);
+        PortOutcome.reset();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = invocation.proceed();
+            observation.lowCardinalityKeyValue(OUTCOME_KEY, markedOutcomeOf(portCall, result));
+            return result;
+        } catch (Throwable ex) {
+            PortOutcome.reset();
+            observation.lowCardinalityKeyValue(OUTCOME_KEY, PortOutcome.ERROR);
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private static Mono<?> observe(Mono<?> mono, PortCall portCall, ObservationRegistry registry) {
+        return Mono.defer(() -> {
+            Observation observation = start(portCall, registry);
+            AtomicReference<String> outcome = new AtomicReference<>(
+                    portCall.optionalLike ? PortOutcome.MISS : PortOutcome.SUCCESS);
+            return mono
+                    .doOnNext(value -> outcome.set(outcomeOf(portCall, value)))
+                    .doOnError(ex -> {
+                        outcome.set(PortOutcome.ERROR);
+                        observation.error(ex);
+                    })
+                    .doFinally(signal -> {
+                        observation.lowCardinalityKeyValue(OUTCOME_KEY, outcome.get());
+                        observation.stop();
+                    });
+        });
+    }
+
+    private static Flux<?> observe(Flux<?> flux, PortCall portCall, ObservationRegistry registry) {
+        return Flux.defer(() -> {
+            Observation observation = start(portCall, registry);
+            AtomicReference<String> outcome = new AtomicReference<>(PortOutcome.SUCCESS);
+            return flux
+                    .doOnError(ex -> {
+                        outcome.set(PortOutcome.ERROR);
+                        observation.error(ex);
+                    })
+                    .doFinally(signal -> {
+                        observation.lowCardinalityKeyValue(OUTCOME_KEY, outcome.get());
+                        observation.stop();
+                    });
+        });
+    }
+
+    private static Observation start(PortCall portCall, ObservationRegistry registry) {
+        return Observation.createNotStarted(METRIC_NAME, registry)
+                .contextualName(portCall.spanName)
+                .lowCardinalityKeyValues(portCall.keyValues)
+                .start();
+    }
+
+    private ObservationRegistry observationRegistry() {
+        ObservationRegistry registry = observationRegistry;
+        if (registry == null) {
+            registry = observationRegistrySupplier.get();
+            observationRegistry = registry;
+        }
+        return registry;
+    }
+
+    private static String markedOutcomeOf(PortCall portCall, Object result) {
+        String marked = PortOutcome.consume();
+        if (marked != null) {
+            return marked;
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? PortOutcome.HIT : PortOutcome.MISS;
+        }
+        return outcomeOf(portCall, result);
+    }
+
+    private static String outcomeOf(PortCall portCall, Object result) {
+        if (result instanceof Boolean found) {
+            return portCall.lookup ? (found ? PortOutcome.HIT : PortOutcome.MISS) : PortOutcome.SUCCESS;
+        }
+        return portCall.optionalLike ? PortOutcome.HIT : PortOutcome.SUCCESS;
+    }
+
+    /**
+     * Tags and span name of one port method, computed once.
+     */
+    private static final class PortCall {
+
+        private final String spanName;
+        private final KeyValues keyValues;
+        private final boolean lookup;
+        private final boolean reactive;
+        private final boolean optionalLike;
+
+        PortCall(Method method, Class<?> targetClass) {
+            Class<?> portInterface = PortMetricsPointcut.portInterface(method, targetClass);
+            if (portInterface == null) {
+                portInterface = PortMetricsPointcut.mapperInterface(targetClass);
+            }
+            String adapter = targetClass.getSimpleName();
+            String port = portInterface != null ? portInterface.getSimpleName() : adapter;
+            this.spanName = port + "." + method.getName();
+            this.keyValues = KeyValues.of(
+                    KeyValue.of("port", port),
+                    KeyValue.of("adapter", adapter),
+                    KeyValue.of("method", method.getName()));
+            this.lookup = method.getName().startsWith("exists");
+            this.reactive = Mono.class.isAssignableFrom(method.getReturnType())
+                    || Flux.class.isAssignableFrom(method.getReturnType());
+            this.optionalLike = Mono.class.isAssignableFrom(method.getReturnType())
+                    && !isBooleanOrVoid(method.getGenericReturnType());
+        }
+
+        private static boolean isBooleanOrVoid(Type monoType) {
+            if (monoType instanceof ParameterizedType parameterized) {
+                Type element = parameterized.getActualTypeArguments()[0];
+                return element == Boolean.class || element == Void.class;
+            }
+            return false;
+        }
+    }
+}
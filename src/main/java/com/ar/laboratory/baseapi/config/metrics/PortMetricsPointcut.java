@@ -0,0 +1,91 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Matches the methods that make up a port: every method of a domain port interface
+ * (inbound use cases and outbound ports) on the beans implementing it, plus the public
+ * methods of the web mappers, so mapping time shows up next to the adapters.
+ */
+class PortMetricsPointcut extends StaticMethodMatcherPointcut {
+
+    private static final String PORTS_PACKAGE = "com.ar.laboratory.baseapi.domain.ports.";
+    private static final String MAPPERS_PACKAGE = "com.ar.laboratory.baseapi.adapters.in.web.mapper";
+
+    PortMetricsPointcut() {
+        setClassFilter(new PortClassFilter());
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+            return false;
+        }
+        return portInterface(method, targetClass) != null || isMapper(targetClass);
+    }
+
+    /**
+     * Finds the port interface that declares the given method, matching by name and
+     * arity so bridge methods of generic ports resolve to the same interface.
+     *
+     * @return the port interface, or null if the method is not part of a port
+     */
+    static Class<?> portInterface(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (!isPort(candidate)) {
+                continue;
+            }
+            for (Method portMethod : candidate.getMethods()) {
+                if (portMethod.getName().equals(method.getName())
+                        && portMethod.getParameterCount() == method.getParameterCount()) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the mapper interface a generated mapper implements, so the port tag stays the
+     * mapper name and not the name of its generated implementation.
+     *
+     * @return the mapper interface, or null if the class does not implement one
+     */
+    static Class<?> mapperInterface(Class<?> targetClass) {
+        for (Class<?> candidate : targetClass.getInterfaces()) {
+            if (isMapper(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPort(Class<?> type) {
+        return type.isInterface() && type.getName().startsWith(PORTS_PACKAGE);
+    }
+
+    private static boolean isMapper(Class<?> type) {
+        return MAPPERS_PACKAGE.equals(type.getPackageName());
+    }
+
+    private static final class PortClassFilter implements ClassFilter {
+
+        @Override
+        public boolean matches(Class<?> type) {
+            if (isMapper(type)) {
+                return true;
+            }
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (isPort(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a profiling top-N summary.
+ * The meaning of total depends on the summary: samples for CPU, bytes for
+ * allocations and nanoseconds for contention, pinning and socket I/O.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Hotspot {
+
+    private String site;
+    private long events;
+    private long total;
+    private double share;
+}
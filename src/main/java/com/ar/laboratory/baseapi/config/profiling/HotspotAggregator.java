@@ -0,0 +1,65 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates weighted events per site for one summary window.
+ * The number of distinct sites is capped; once full, events for new sites are added
+ * to a single overflow bucket so memory stays bounded whatever the workload.
+ */
+class HotspotAggregator {
+
+    static final String OVERFLOW_SITE = "(other)";
+
+    private final int maxSites;
+    private final Map<String, long[]> sites = new HashMap<>();
+
+    HotspotAggregator(int maxSites) {
+        this.maxSites = maxSites;
+    }
+
+    synchronized void add(String site, long weight) {
+        long[] counters = sites.get(site);
+        if (counters == null) {
+            if (sites.size() < maxSites) {
+                counters = new long[2];
+                sites.put(site, counters);
+            } else {
+                counters = sites.computeIfAbsent(OVERFLOW_SITE, key -> new long[2]);
+            }
+        }
+        counters[0]++;
+        counters[1] += weight;
+    }
+
+    synchronized void reset() {
+        sites.clear();
+    }
+
+    /**
+     * Returns the top sites by total weight and starts a new window.
+     */
+    synchronized List<Hotspot> drainTop(int limit) {
+        long grandTotal = 0;
+        for (long[] counters : sites.values()) {
+            grandTotal += counters[1];
+        }
+        List<Hotspot> hotspots = new ArrayList<>(sites.size());
+        for (Map.Entry<String, long[]> entry : sites.entrySet()) {
+            long total = entry.getValue()[1];
+            hotspots.add(Hotspot.builder()
+                    .site(entry.getKey())
+                    .events(entry.getValue()[0])
+                    .total(total)
+                    .share(grandTotal == 0 ? 0 : (double) total / grandTotal)
+                    .build());
+        }
+        sites.clear();
+        hotspots.sort(Comparator.comparingLong(Hotspot::getTotal).reversed());
+        return hotspots.size() > limit ? new ArrayList<>(hotspots.subList(0, limit)) : hotspots;
+    }
+}
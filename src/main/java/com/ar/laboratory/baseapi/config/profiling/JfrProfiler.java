@@ -0,0 +1,273 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-demand, bounded JFR profiling of the running application.
+ * A recording streams a small set of events through {@link RecordingStream} and folds
+ * them into per-window top-N summaries: hottest methods (CPU samples), allocation
+ * sites, contended monitors, virtual thread pinning and slow socket I/O. Only one
+ * recording runs at a time, it always stops after at most the configured maximum
+ * duration, and every event type is sampled, throttled or thresholded.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrProfiler.class);
+
+    static final String CPU = "cpu";
+    static final String ALLOCATION = "allocation";
+    static final String MONITOR = "monitor";
+    static final String PINNING = "pinning";
+    static final String SOCKET = "socket";
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final Duration samplingPeriod;
+    private final String allocationThrottle;
+    private final Duration eventThreshold;
+    private final Duration summaryWindow;
+    private final int topSize;
+    private final MultiGauge hotspotGauge;
+    private final Map<String, HotspotAggregator> aggregators = new LinkedHashMap<>();
+    private final Map<String, Counter> eventCounters = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("jfr-profiler").daemon().factory());
+    // Guards window rolling, which runs on the stream's flush thread and on stop()
+    private final Object windowLock = new Object();
+
+    private RecordingStream windowOwner;
+
+    private RecordingStream stream;
+    private ScheduledFuture<?> stopTask;
+    private Instant startedAt;
+    private Instant endsAt;
+    private volatile Instant windowStart;
+    private volatile Instant summaryWindowEnd;
+    private volatile Map<String, List<Hotspot>> summaries = Map.of();
+
+    public JfrProfiler(@Value("${app.profiling.default-duration:60s}") Duration defaultDuration,
+                       @Value("${app.profiling.max-duration:5m}") Duration maxDuration,
+                       @Value("${app.profiling.sampling-period:20ms}") Duration samplingPeriod,
+                       @Value("${app.profiling.allocation-throttle:100/s}") String allocationThrottle,
+                       @Value("${app.profiling.event-threshold:10ms}") Duration eventThreshold,
+                       @Value("${app.profiling.summary-window:10s}") Duration summaryWindow,
+                       @Value("${app.profiling.top-size:10}") int topSize,
+                       @Value("${app.profiling.max-sites:5000}") int maxSites,
+                       MeterRegistry meterRegistry) {
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        // Shorter periods make the sampler itself a hotspot
+        this.samplingPeriod = samplingPeriod.compareTo(Duration.ofMillis(10)) < 0 ? Duration.ofMillis(10) : samplingPeriod;
+        this.allocationThrottle = allocationThrottle;
+        this.eventThreshold = eventThreshold;
+        this.summaryWindow = summaryWindow;
+        this.topSize = topSize;
+        this.hotspotGauge = MultiGauge.builder("baseapi.profiling.hotspot.share")
+                .description("Share of the latest profiling window taken by each top-N rank; sites are in the report")
+                .register(meterRegistry);
+        for (String type : List.of(CPU, ALLOCATION, MONITOR, PINNING, SOCKET)) {
+            aggregators.put(type, new HotspotAggregator(maxSites));
+            eventCounters.put(type, Counter.builder("baseapi.profiling.events")
+                    .description("JFR events folded into the profiling summaries")
+                    .tag("type", type)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Starts a recording, or returns the current state if one is already running.
+     *
+     * @param requested requested duration, capped at the configured maximum; null for the default
+     * @return the profiler state after the call
+     */
+    public synchronized ProfilingReport start(Duration requested) {
+        if (!FlightRecorder.isAvailable()) {
+            return report("UNAVAILABLE");
+        }
+        if (stream != null) {
+            return report("RUNNING");
+        }
+        Duration duration = requested == null || requested.isNegative() || requested.isZero()
+                ? defaultDuration : requested;
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+
+        RecordingStream recording = new RecordingStream();
+        recording.setMaxAge(summaryWindow.multipliedBy(2));
+        recording.setReuse(true);
+        recording.enable("jdk.ExecutionSample").withPeriod(samplingPeriod).withStackTrace();
+        recording.enable("jdk.ObjectAllocationSample").with("throttle", allocationThrottle).withStackTrace();
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(eventThreshold).withStackTrace();
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(eventThreshold).withStackTrace();
+        recording.enable("jdk.SocketRead").withThreshold(eventThreshold).withoutStackTrace();
+        recording.enable("jdk.SocketWrite").withThreshold(eventThreshold).withoutStackTrace();
+
+        recording.onEvent("jdk.ExecutionSample", event -> record(CPU, topFrame(event), 1));
+        recording.onEvent("jdk.ObjectAllocationSample",
+                event -> record(ALLOCATION, applicationFrame(event), event.getLong("weight")));
+        recording.onEvent("jdk.JavaMonitorEnter", event -> record(MONITOR,
+                event.getClass("monitorClass").getName() + " @ " + applicationFrame(event), nanos(event)));
+        recording.onEvent("jdk.VirtualThreadPinned", event -> record(PINNING, applicationFrame(event), nanos(event)));
+        recording.onEvent("jdk.SocketRead", event -> record(SOCKET, "read " + endpoint(event), nanos(event)));
+        recording.onEvent("jdk.SocketWrite", event -> record(SOCKET, "write " + endpoint(event), nanos(event)));
+        recording.onFlush(() -> rollWindowIfDue(recording));
+
+        startedAt = Instant.now();
+        endsAt = startedAt.plus(duration);
+        synchronized (windowLock) {
+            aggregators.values().forEach(HotspotAggregator::reset);
+            windowStart = startedAt;
+            windowOwner = recording;
+        }
+        stream = recording;
+        recording.startAsync();
+        stopTask = scheduler.schedule(this::stop, duration.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("JFR profiling started for {}", duration);
+        return report("RUNNING");
+    }
+
+    /**
+     * Stops the running recording, publishing the summary of the last partial window.
+     */
+    public synchronized ProfilingReport stop() {
+        if (stream == null) {
+            return report("IDLE");
+        }
+        stopTask.cancel(false);
+        stream.close();
+        stream = null;
+        synchronized (windowLock) {
+            // A flush still in flight from the closed stream must not roll again
+            windowOwner = null;
+            rollWindow();
+        }
+        logger.info("JFR profiling stopped");
+        return report("IDLE");
+    }
+
+    public synchronized ProfilingReport status() {
+        if (!FlightRecorder.isAvailable()) {
+            return report("UNAVAILABLE");
+        }
+        return report(stream != null ? "RUNNING" : "IDLE");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+        scheduler.shutdownNow();
+    }
+
+    private void record(String type, String site, long weight) {
+        aggregators.get(type).add(site, weight);
+        eventCounters.get(type).increment();
+    }
+
+    private void rollWindowIfDue(RecordingStream recording) {
+        synchronized (windowLock) {
+            if (windowOwner == recording
+                    && Duration.between(windowStart, Instant.now()).compareTo(summaryWindow) >= 0) {
+                rollWindow();
+            }
+        }
+    }
+
+    /**
+     * Publishes the drained window. Gauges are tagged by rank only so the series count stays
+     * bounded by types x top-size; the sites go to the report and the debug log.
+     */
+
+    private void rollWindow() {
+        Map<String, List<Hotspot>> latest = new LinkedHashMap<>();
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        aggregators.forEach((type, aggregator) -> {
+            List<Hotspot> top = aggregator.drainTop(topSize);
+            latest.put(type, top);
+            for (int rank = 0; rank < top.size(); rank++) {
+                Hotspot hotspot = top.get(rank);
+                rows.add(MultiGauge.Row.of(Tags.of("type", type, "rank", Integer.toString(rank + 1)),
+                        hotspot.getShare()));
+                logger.debug("Profiling {} #{}: {} ({})", type, rank + 1, hotspot.getSite(), hotspot.getShare());
+            }
+        });
+        summaries = latest;
+        summaryWindowEnd = Instant.now();
+        windowStart = summaryWindowEnd;
+        hotspotGauge.register(rows, true);
+    }
+
+    private ProfilingReport report(String state) {
+        return ProfilingReport.builder()
+                .state(state)
+                .startedAt(startedAt)
+                .endsAt(endsAt)
+                .summaryWindowEnd(summaryWindowEnd)
+                .hotspots(summaries)
+                .build();
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    /**
+     * First frame outside the JDK, which is where the application can act.
+     */
+    private static String applicationFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "(unknown)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String endpoint(RecordedEvent event) {
+        return event.getString("host") + ":" + event.getInt("port");
+    }
+
+    private static long nanos(RecordedEvent event) {
+        return event.getDuration().toNanos();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint controlling the JFR profiler.
+ * GET returns the state and latest summaries, POST starts a bounded recording
+ * (optional body: {"durationSeconds": 60}) and DELETE stops it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true", matchIfMissing = true)
+@Endpoint(id = "profiling")
+public class ProfilingEndpoint {
+
+    private final JfrProfiler jfrProfiler;
+
+    public ProfilingEndpoint(JfrProfiler jfrProfiler) {
+        this.jfrProfiler = jfrProfiler;
+    }
+
+    @ReadOperation
+    public ProfilingReport status() {
+        return jfrProfiler.status();
+    }
+
+    @WriteOperation
+    public ProfilingReport start(@OptionalParameter Long durationSeconds) {
+        return jfrProfiler.start(durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null);
+    }
+
+    @DeleteOperation
+    public ProfilingReport stop() {
+        return jfrProfiler.stop();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of the in-process profiler and the latest top-N summaries, by summary type.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilingReport {
+
+    private String state;
+    private Instant startedAt;
+    private Instant endsAt;
+    private Instant summaryWindowEnd;
+    private Map<String, List<Hotspot>> hotspots;
+}
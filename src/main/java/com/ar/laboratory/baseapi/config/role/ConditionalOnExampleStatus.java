@@ -0,0 +1,20 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Wires a bean only on nodes that serve /example-status (app.example-status.enabled):
+ * the in-memory repository and its mock data, the status cache and the change stream.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@ConditionalOnProperty(name = "app.example-status.enabled", havingValue = "true", matchIfMissing = true)
+public @interface ConditionalOnExampleStatus {
+}
@@ -0,0 +1,21 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Wires a bean only on nodes that serve /examples (app.examples.enabled).
+ * Everything behind it depends on the database, so nodes without this subsystem can
+ * run without a DataSource, JPA or Flyway.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@ConditionalOnProperty(name = "app.examples.enabled", havingValue = "true", matchIfMissing = true)
+public @interface ConditionalOnExamples {
+}
@@ -0,0 +1,22 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.springframework.context.annotation.Conditional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Wires a bean only when the main data source is PostgreSQL (spring.datasource.url).
+ * Used by the features whose native queries are PostgreSQL specific (array parameters,
+ * UPDATE ... FROM unnest, FOR UPDATE SKIP LOCKED); they are left out on the embedded H2
+ * database of the default and training profiles.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@Conditional(OnPostgreSqlCondition.class)
+public @interface ConditionalOnPostgreSql {
+}
@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Wires a bean only on status nodes running the reactive web stack (the reactive profile
+ * sets spring.main.web-application-type=reactive): the non-blocking read path of
+ * /example-status, from the functional endpoint down to the reactive Redis adapter.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Documented
+@ConditionalOnProperty(name = "app.example-status.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public @interface ConditionalOnReactiveExampleStatus {
+}
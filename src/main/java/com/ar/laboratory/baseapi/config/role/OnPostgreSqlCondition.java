@@ -0,0 +1,30 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Matches when spring.datasource.url points to PostgreSQL.
+ */
+class OnPostgreSqlCondition extends SpringBootCondition {
+
+    private static final String URL_PREFIX = "jdbc:postgresql:";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return isPostgreSql(context.getEnvironment())
+                ? ConditionOutcome.match("spring.datasource.url is a PostgreSQL URL")
+                : ConditionOutcome.noMatch("spring.datasource.url is not a PostgreSQL URL");
+    }
+
+    /**
+     * Whether the main data source of the given environment is PostgreSQL.
+     */
+    static boolean isPostgreSql(Environment environment) {
+        String url = environment.getProperty("spring.datasource.url", "");
+        return url.startsWith(URL_PREFIX);
+    }
+}
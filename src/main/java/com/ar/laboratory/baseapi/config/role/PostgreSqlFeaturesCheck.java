@@ -0,0 +1,31 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the /examples features left out because the database is not PostgreSQL.
+ * The CUIT outbox poller and POST /examples/lookup are simply not wired there, but
+ * async-create would accept examples whose CUIT nobody resolves, so it fails at startup.
+ */
+@Component
+@ConditionalOnExamples
+public class PostgreSqlFeaturesCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgreSqlFeaturesCheck.class);
+
+    public PostgreSqlFeaturesCheck(Environment environment,
+                                   @Value("${app.examples.async-create:false}") boolean asyncCreate) {
+        if (OnPostgreSqlCondition.isPostgreSql(environment)) {
+            return;
+        }
+        if (asyncCreate) {
+            throw new IllegalStateException("app.examples.async-create requires PostgreSQL: the CUIT outbox "
+                    + "is drained with FOR UPDATE SKIP LOCKED, which the configured database does not support");
+        }
+        logger.info("Database is not PostgreSQL: the CUIT outbox poller and POST /examples/lookup are disabled");
+    }
+}
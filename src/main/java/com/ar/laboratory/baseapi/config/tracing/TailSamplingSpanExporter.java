@@ -0,0 +1,176 @@
+package com.ar.laboratory.baseapi.config.tracing;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Span exporter decorator that decides per trace, once the trace is complete, whether
+ * it is worth exporting. Spans are held until the local root span ends; the trace is
+ * then exported if any span failed, if the root took at least the latency threshold,
+ * or otherwise with the baseline probability. Traces whose root never arrives are
+ * decided on their own spans after the maximum pending age.
+ * Export is driven by a single span processor thread, so a trace is never completed
+ * while another batch is adding spans to it.
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final SpanExporter delegate;
+    private final long latencyThresholdNanos;
+    private final double baselineRatio;
+    private final int maxPendingTraces;
+    private final long maxPendingAgeNanos;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final LongAdder keptTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private volatile long lastSweep = System.nanoTime();
+
+    public TailSamplingSpanExporter(SpanExporter delegate, Duration latencyThreshold, double baselineRatio,
+                                    int maxPendingTraces, Duration maxPendingAge) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.baselineRatio = baselineRatio;
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxPendingAgeNanos = maxPendingAge.toNanos();
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        List<SpanData> toExport = new ArrayList<>();
+        for (SpanData span : spans) {
+            if (isLocalRoot(span)) {
+                PendingTrace trace = pending.remove(span.getTraceId());
+                List<SpanData> traceSpans = trace != null ? trace.spans() : new ArrayList<>();
+                traceSpans.add(span);
+                decide(traceSpans, span, toExport);
+            } else if (pending.size() < maxPendingTraces || pending.containsKey(span.getTraceId())) {
+                pending.computeIfAbsent(span.getTraceId(), id -> new PendingTrace(System.nanoTime())).add(span);
+            } else {
+                // Too many open traces: decide on the span alone rather than growing without bound
+                decide(new ArrayList<>(List.of(span)), span, toExport);
+            }
+        }
+        sweepExpired(toExport);
+        if (toExport.isEmpty()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        return delegate.export(toExport);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        List<SpanData> toExport = new ArrayList<>();
+        for (String traceId : List.copyOf(pending.keySet())) {
+            PendingTrace trace = pending.remove(traceId);
+            if (trace != null) {
+                List<SpanData> spans = trace.spans();
+                decide(spans, longest(spans), toExport);
+            }
+        }
+        if (!toExport.isEmpty()) {
+            delegate.export(toExport);
+        }
+        return delegate.shutdown();
+    }
+
+    public long getKeptTraceCount() {
+        return keptTraces.sum();
+    }
+
+    public long getDroppedTraceCount() {
+        return droppedTraces.sum();
+    }
+
+    public int getPendingTraceCount() {
+        return pending.size();
+    }
+
+    private void decide(List<SpanData> spans, SpanData root, List<SpanData> toExport) {
+        if (shouldKeep(spans, root)) {
+            keptTraces.increment();
+            toExport.addAll(spans);
+        } else {
+            droppedTraces.increment();
+        }
+    }
+
+    private boolean shouldKeep(List<SpanData> spans, SpanData root) {
+        for (SpanData span : spans) {
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                return true;
+            }
+        }
+        if (root.getEndEpochNanos() - root.getStartEpochNanos() >= latencyThresholdNanos) {
+            return true;
+        }
+        return baselineRatio > 0 && ThreadLocalRandom.current().nextDouble() < baselineRatio;
+    }
+
+    private void sweepExpired(List<SpanData> toExport) {
+        long now = System.nanoTime();
+        if (now - lastSweep < SWEEP_INTERVAL_NANOS) {
+            return;
+        }
+        lastSweep = now;
+        Iterator<Map.Entry<String, PendingTrace>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingTrace> entry = iterator.next();
+            if (now - entry.getValue().firstSeenNanos >= maxPendingAgeNanos) {
+                iterator.remove();
+                List<SpanData> spans = entry.getValue().spans();
+                decide(spans, longest(spans), toExport);
+            }
+        }
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        return !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote();
+    }
+
+    private static SpanData longest(List<SpanData> spans) {
+        SpanData longest = spans.get(0);
+        for (SpanData span : spans) {
+            if (span.getEndEpochNanos() - span.getStartEpochNanos()
+                    > longest.getEndEpochNanos() - longest.getStartEpochNanos()) {
+                longest = span;
+            }
+        }
+        return longest;
+    }
+
+    private static final class PendingTrace {
+
+        private final long firstSeenNanos;
+        private final List<SpanData> spans = new ArrayList<>();
+
+        PendingTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+
+        synchronized void add(SpanData span) {
+            spans.add(span);
+        }
+
+        synchronized List<SpanData> spans() {
+            return new ArrayList<>(spans);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ar.laboratory.baseapi.config.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Tail-based sampling for exported traces.
+ * Every request is traced, so trace ids are always in the logs. Each span exporter bean
+ * is wrapped in a {@link TailSamplingSpanExporter} that only ships slow or failed traces
+ * plus a small baseline.
+ */
+@Configuration
+@ConditionalOnClass(SpanExporter.class)
+@ConditionalOnProperty(name = "app.tracing.tail-sampling.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public static BeanPostProcessor tailSamplingSpanExporterPostProcessor(
+            @Value("${app.tracing.tail-sampling.latency-threshold:500ms}") Duration latencyThreshold,
+            @Value("${app.tracing.tail-sampling.baseline-ratio:0.01}") double baselineRatio,
+            @Value("${app.tracing.tail-sampling.max-pending-traces:10000}") int maxPendingTraces,
+            @Value("${app.tracing.tail-sampling.max-pending-age:30s}") Duration maxPendingAge) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SpanExporter exporter && !(bean instanceof TailSamplingSpanExporter)) {
+                    return new TailSamplingSpanExporter(exporter, latencyThreshold, baselineRatio,
+                            maxPendingTraces, maxPendingAge);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending CUIT lookup for an Example, stored in the outbox.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CuitEnrichmentTask {
+
+    private Long id;
+    private Long exampleId;
+    private String dni;
+    private String genero;
+
+    /** Failed lookups so far. */
+    private int attempts;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+/**
+ * State of the CUIT of an Example.
+ */
+public enum CuitStatus {
+    /** The example was accepted and its CUIT is still being resolved. */
+    PENDING,
+    /** The CUIT is known. */
+    READY
+}
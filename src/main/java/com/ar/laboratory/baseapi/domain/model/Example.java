@@ -26,6 +26,7 @@ public class Example implements Serializable {
     private String dni;
     private String genero;
     private String cuit;
+    private CuitStatus cuitStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,9 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+/**
+ * Attribute used to look up several examples at once.
+ */
+public enum ExampleLookupKey {
+    DNI,
+    CUIT
+}
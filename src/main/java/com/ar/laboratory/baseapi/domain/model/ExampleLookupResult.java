@@ -0,0 +1,26 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of looking up one key of a multi-get.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleLookupResult {
+
+    /** The DNI or CUIT as requested. */
+    private String key;
+
+    /** The matching example, null when none exists. */
+    private Example example;
+
+    public boolean isFound() {
+        return example != null;
+    }
+}
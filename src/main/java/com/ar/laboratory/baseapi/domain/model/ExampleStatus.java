@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
  * Implements Serializable to support Redis caching.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExampleStatus implements Serializable {
@@ -26,5 +26,11 @@ public class ExampleStatus implements Serializable {
     private String status;
     private String description;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private boolean active;
+    
+    /**
+     * Monotonic version, incremented on every change. Used to derive ETags.
+     */
+    private long version;
 }
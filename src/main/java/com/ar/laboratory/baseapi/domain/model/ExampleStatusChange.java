@@ -0,0 +1,29 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event describing a change applied to an ExampleStatus.
+ * A null origin means the change happened on this node; changes relayed from
+ * other nodes carry the id of the node where they were produced.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleStatusChange implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private String statusId;
+    private String previousStatus;
+    private ExampleStatus current;
+    private LocalDateTime changedAt;
+    private String origin;
+}
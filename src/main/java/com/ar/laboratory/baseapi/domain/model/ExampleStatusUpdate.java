@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Domain command describing the changes to apply to an ExampleStatus.
+ * When patching, null fields are left unchanged.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExampleStatusUpdate {
+    
+    private String id;
+    private String name;
+    private String status;
+    private String description;
+    private Boolean active;
+}
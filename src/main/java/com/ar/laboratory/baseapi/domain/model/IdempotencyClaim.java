@@ -0,0 +1,35 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of starting a request that carries an idempotency key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyClaim {
+
+    private Outcome outcome;
+
+    /** Token identifying the lock holder, set when the outcome is ACQUIRED. */
+    private String lockToken;
+
+    /** Stored response, set when the outcome is REPLAY. */
+    private IdempotentResponse response;
+
+    public enum Outcome {
+        /** First request for the key: it must be executed and then completed. */
+        ACQUIRED,
+        /** A previous request already completed: its response must be returned. */
+        REPLAY,
+        /** The key was already used with a different request body. */
+        MISMATCH,
+        /** Another request with the key is still running. */
+        IN_PROGRESS
+    }
+}
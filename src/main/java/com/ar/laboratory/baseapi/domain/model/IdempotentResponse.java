@@ -0,0 +1,31 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response stored for an idempotency key, replayed as-is to later retries.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentResponse {
+
+    /** Hash of the request body that produced this response. */
+    private String fingerprint;
+
+    private int status;
+
+    private String contentType;
+
+    /** Headers that describe the result, such as Location and ETag, replayed with the body. */
+    private Map<String, String> headers;
+
+    /** Response body exactly as it was written. */
+    private byte[] body;
+}
@@ -0,0 +1,23 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and age of the pending work in an outbox.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxBacklog {
+
+    private long pending;
+
+    /** Creation time of the oldest pending entry, null when the outbox is empty. */
+    private LocalDateTime oldestCreatedAt;
+}
@@ -0,0 +1,27 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a rate limit check for one request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitDecision {
+
+    private boolean allowed;
+
+    /** Bucket capacity for the client. */
+    private long limit;
+
+    /** Approximate tokens left for the client. */
+    private long remaining;
+
+    /** Seconds until the client has capacity again. */
+    private long resetSeconds;
+}
@@ -0,0 +1,25 @@
+package com.ar.laboratory.baseapi.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of reserving tokens from a shared token bucket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenReservation {
+
+    /** Tokens granted, between zero and the requested amount. */
+    private long granted;
+
+    /** Tokens left in the shared bucket after the reservation. */
+    private long remaining;
+
+    /** Milliseconds until the shared bucket is full again. */
+    private long resetMillis;
+}
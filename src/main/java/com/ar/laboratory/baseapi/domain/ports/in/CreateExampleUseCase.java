@@ -16,6 +16,23 @@ public interface CreateExampleUseCase {
      */
     Example createExample(Example example);
     
+    /**
+     * Accepts a new Example and resolves its CUIT in the background.
+     * The example is stored with a pending CUIT, together with the task that resolves it.
+     *
+     * @param example the example to create
+     * @return the stored example, with a pending CUIT
+     */
+    Example submitExample(Example example);
+    
+    /**
+     * Finds an Example by ID.
+     *
+     * @param id the ID to search for
+     * @return the Example if found, null otherwise
+     */
+    Example findById(Long id);
+    
     /**
      * Finds an Example by DNI.
      *
@@ -0,0 +1,24 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.OutboxBacklog;
+
+/**
+ * Input port for resolving the CUIT of examples accepted asynchronously.
+ */
+public interface CuitEnrichmentUseCase {
+
+    /**
+     * Resolves one batch of pending CUITs.
+     *
+     * @param batchSize maximum examples to resolve
+     * @return number of tasks claimed, so callers can keep going while batches are full
+     */
+    int processPendingCuits(int batchSize);
+
+    /**
+     * Returns the pending CUIT lookups.
+     *
+     * @return the outbox backlog
+     */
+    OutboxBacklog getBacklog();
+}
@@ -4,6 +4,7 @@ import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Input port defining use cases for ExampleStatus operations.
@@ -32,4 +33,19 @@ public interface ExampleStatusUseCase {
      * @return a list of active ExampleStatus entities
      */
     List<ExampleStatus> getActiveExampleStatuses();
+    
+    /**
+     * Streams all ExampleStatus entities to the consumer as they are read, so callers
+     * can write large results without holding them in memory.
+     *
+     * @param consumer receives each entity
+     */
+    void forEachExampleStatus(Consumer<ExampleStatus> consumer);
+    
+    /**
+     * Streams the active ExampleStatus entities to the consumer as they are read.
+     *
+     * @param consumer receives each active entity
+     */
+    void forEachActiveExampleStatus(Consumer<ExampleStatus> consumer);
 }
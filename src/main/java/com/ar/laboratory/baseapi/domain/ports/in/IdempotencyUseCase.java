@@ -0,0 +1,38 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.IdempotencyClaim;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+
+/**
+ * Input port for requests made idempotent through a client-supplied key.
+ */
+public interface IdempotencyUseCase {
+
+    /**
+     * Starts a request for the given key. If another request with the same key is running,
+     * waits for it to complete so its response can be replayed.
+     *
+     * @param key the idempotency key, scoped to the operation
+     * @param fingerprint hash of the request body
+     * @return how the request must be handled
+     */
+    IdempotencyClaim begin(String key, String fingerprint);
+
+    /**
+     * Stores the response of an acquired request and releases its lock.
+     *
+     * @param key the idempotency key
+     * @param lockToken the token returned by begin
+     * @param response the response to replay to later retries
+     */
+    void complete(String key, String lockToken, IdempotentResponse response);
+
+    /**
+     * Releases the lock of an acquired request without storing a response,
+     * so a retry executes the operation again.
+     *
+     * @param key the idempotency key
+     * @param lockToken the token returned by begin
+     */
+    void abandon(String key, String lockToken);
+}
@@ -0,0 +1,24 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupKey;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupResult;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Input port for looking up many examples in one call.
+ */
+public interface LookupExamplesUseCase {
+
+    /**
+     * Looks up the examples matching each key.
+     * One result is emitted per key, in input order and including repeated keys. Keys are
+     * resolved in chunks, so the first results are emitted before the last are loaded.
+     *
+     * @param keyType whether the keys are DNIs or CUITs
+     * @param keys the keys to look up
+     * @param resultConsumer receives the result of each key
+     */
+    void lookupExamples(ExampleLookupKey keyType, List<String> keys, Consumer<ExampleLookupResult> resultConsumer);
+}
@@ -0,0 +1,18 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+
+/**
+ * Input port for per-client rate limiting.
+ */
+public interface RateLimitUseCase {
+
+    /**
+     * Consumes tokens for one request of a client.
+     *
+     * @param clientId the client identifier (API key or address)
+     * @param cost tokens the request costs
+     * @return whether the request is allowed, with the client's current quota
+     */
+    RateLimitDecision tryConsume(String clientId, int cost);
+}
@@ -0,0 +1,35 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking input port for ExampleStatus reads.
+ * Same behavior as the reads of ExampleStatusUseCase, without holding a thread while
+ * Redis or the repository answer.
+ */
+public interface ReactiveExampleStatusUseCase {
+    
+    /**
+     * Retrieves an ExampleStatus by its ID, from the cache when present.
+     *
+     * @param id the ID to search for
+     * @return the ExampleStatus, or an empty Mono if not found
+     */
+    Mono<ExampleStatus> getExampleStatusById(String id);
+    
+    /**
+     * Retrieves all ExampleStatus entities.
+     *
+     * @return all ExampleStatus entities
+     */
+    Flux<ExampleStatus> getAllExampleStatuses();
+    
+    /**
+     * Retrieves the active ExampleStatus entities.
+     *
+     * @return the active ExampleStatus entities
+     */
+    Flux<ExampleStatus> getActiveExampleStatuses();
+}
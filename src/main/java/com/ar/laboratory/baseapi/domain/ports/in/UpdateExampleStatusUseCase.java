@@ -0,0 +1,37 @@
+package com.ar.laboratory.baseapi.domain.ports.in;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusUpdate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Input port defining write use cases for ExampleStatus operations.
+ */
+public interface UpdateExampleStatusUseCase {
+    
+    /**
+     * Replaces every mutable field of an existing ExampleStatus.
+     *
+     * @param update the new values, including the id of the status to replace
+     * @return an Optional containing the updated ExampleStatus, empty if it does not exist
+     */
+    Optional<ExampleStatus> replaceExampleStatus(ExampleStatusUpdate update);
+    
+    /**
+     * Applies the non-null fields of the update to an existing ExampleStatus.
+     *
+     * @param update the changes, including the id of the status to patch
+     * @return an Optional containing the updated ExampleStatus, empty if it does not exist
+     */
+    Optional<ExampleStatus> patchExampleStatus(ExampleStatusUpdate update);
+    
+    /**
+     * Applies several patches. Updates targeting unknown ids are skipped.
+     *
+     * @param updates the changes to apply, in order
+     * @return the updated ExampleStatus entities
+     */
+    List<ExampleStatus> patchExampleStatuses(List<ExampleStatusUpdate> updates);
+}
@@ -1,5 +1,8 @@
 package com.ar.laboratory.baseapi.domain.ports.out;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,6 +19,20 @@ public interface CachePort<T> {
      */
     Optional<T> get(String key);
     
+    /**
+     * Retrieves several values from the cache.
+     *
+     * @param keys the cache keys
+     * @return the cached values, by key; missing keys are absent from the map
+     */
+    default Map<String, T> getAll(Collection<String> keys) {
+        Map<String, T> values = new HashMap<>();
+        for (String key : keys) {
+            get(key).ifPresent(value -> values.put(key, value));
+        }
+        return values;
+    }
+    
     /**
      * Stores a value in the cache.
      *
@@ -24,6 +41,33 @@ public interface CachePort<T> {
      */
     void put(String key, T value);
     
+    /**
+     * Stores a value in the cache only if the key is not already present.
+     * Used to fill the cache from reads without overwriting a newer write.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @return true if the value was stored
+     */
+    default boolean putIfAbsent(String key, T value) {
+        if (exists(key)) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+    
+    /**
+     * Stores several values in the cache.
+     *
+     * @param values the values to cache, by key
+     * @return true if every value was stored
+     */
+    default boolean putAll(Map<String, T> values) {
+        values.forEach(this::put);
+        return true;
+    }
+    
     /**
      * Removes a value from the cache.
      *
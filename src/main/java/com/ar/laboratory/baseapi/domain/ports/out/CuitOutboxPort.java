@@ -0,0 +1,62 @@
+package com.ar.laboratory.baseapi.domain.ports.out;
+
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.model.OutboxBacklog;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output port for the outbox of pending CUIT lookups.
+ */
+public interface CuitOutboxPort {
+
+    /**
+     * Adds a task to the outbox, within the caller's transaction.
+     *
+     * @param task the task to add
+     */
+    void enqueue(CuitEnrichmentTask task);
+
+    /**
+     * Claims due tasks for processing. Claimed tasks are hidden from other workers
+     * until the lease expires, so a worker that dies leaves them for another one.
+     *
+     * @param limit maximum tasks to claim
+     * @param lease how long the tasks stay claimed
+     * @return the claimed tasks, oldest first
+     */
+    List<CuitEnrichmentTask> claim(int limit, Duration lease);
+
+    /**
+     * Extends the lease of tasks still being processed, from now.
+     *
+     * @param taskIds the IDs of the tasks
+     * @param lease how long the tasks stay claimed from now
+     */
+    void extendLease(List<Long> taskIds, Duration lease);
+
+    /**
+     * Removes completed tasks.
+     *
+     * @param taskIds the IDs of the tasks
+     */
+    void delete(List<Long> taskIds);
+
+    /**
+     * Records a failed attempt and schedules the next one.
+     *
+     * @param taskId the ID of the task
+     * @param nextAttemptAt when the task is due again
+     * @param error description of the failure
+     */
+    void reschedule(Long taskId, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Returns the size and age of the pending tasks.
+     *
+     * @return the outbox backlog
+     */
+    OutboxBacklog backlog();
+}
@@ -1,5 +1,7 @@
 package com.ar.laboratory.baseapi.domain.ports.out;
 
+import java.util.Optional;
+
 /**
  * Output port for CUIT service operations.
  */
@@ -13,4 +15,14 @@ public interface CuitServicePort {
      * @return calculated CUIT
      */
     String getCuit(String dni, String genero);
+    
+    /**
+     * Gets CUIT from the remote service only, without the local fallback.
+     * Used by callers that retry on their own.
+     *
+     * @param dni DNI number
+     * @param genero Gender (H for male, M for female)
+     * @return the CUIT, or empty if the service did not answer
+     */
+    Optional<String> findCuit(String dni, String genero);
 }
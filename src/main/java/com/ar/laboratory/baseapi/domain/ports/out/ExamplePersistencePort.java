@@ -2,7 +2,9 @@ package com.ar.laboratory.baseapi.domain.ports.out;
 
 import com.ar.laboratory.baseapi.domain.model.Example;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +37,22 @@ public interface ExamplePersistencePort {
      */
     Optional<Example> findByDni(String dni);
     
+    /**
+     * Finds the Examples with any of the given DNIs in a single query.
+     *
+     * @param dnis the DNIs to search for
+     * @return the examples found, in no particular order
+     */
+    List<Example> findAllByDni(Collection<String> dnis);
+    
+    /**
+     * Finds the Examples with any of the given CUITs in a single query.
+     *
+     * @param cuits the CUITs to search for
+     * @return the examples found, in no particular order
+     */
+    List<Example> findAllByCuit(Collection<String> cuits);
+    
     /**
      * Retrieves all Example entities.
      *
@@ -49,4 +67,11 @@ public interface ExamplePersistencePort {
      * @return true if exists, false otherwise
      */
     boolean existsByDni(String dni);
+    
+    /**
+     * Sets the CUIT of several examples in one statement and marks them as ready.
+     *
+     * @param cuitsByExampleId the CUIT of each example, by example ID
+     */
+    void updateCuits(Map<Long, String> cuitsByExampleId);
 }
@@ -4,6 +4,7 @@ import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Output port for ExampleStatus repository operations.
@@ -34,6 +35,22 @@ public interface ExampleRepositoryPort {
      */
     List<ExampleStatus> findAllActive();
     
+    /**
+     * Passes every ExampleStatus entity to the consumer, one at a time, without
+     * collecting them first.
+     *
+     * @param consumer receives each entity
+     */
+    void forEach(Consumer<ExampleStatus> consumer);
+    
+    /**
+     * Passes every active ExampleStatus entity to the consumer, one at a time, without
+     * collecting them first.
+     *
+     * @param consumer receives each active entity
+     */
+    void forEachActive(Consumer<ExampleStatus> consumer);
+    
     /**
      * Saves an ExampleStatus entity.
      *
@@ -0,0 +1,47 @@
+package com.ar.laboratory.baseapi.domain.ports.out;
+
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Output port for storing idempotent responses shared by every node.
+ */
+public interface IdempotencyStorePort {
+
+    /**
+     * Finds the response stored for a key.
+     *
+     * @param key the idempotency key
+     * @return the stored response, or empty if none is stored or the store is not available
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Stores the response for a key.
+     *
+     * @param key the idempotency key
+     * @param response the response
+     * @param ttl how long the response is kept
+     */
+    void save(String key, IdempotentResponse response, Duration ttl);
+
+    /**
+     * Takes the in-flight lock for a key.
+     *
+     * @param key the idempotency key
+     * @param lockToken value identifying the holder
+     * @param ttl how long the lock is held if it is never released
+     * @return true if the lock was taken or the store is not available
+     */
+    boolean tryLock(String key, String lockToken, Duration ttl);
+
+    /**
+     * Releases the in-flight lock for a key if it is still held with the given token.
+     *
+     * @param key the idempotency key
+     * @param lockToken value identifying the holder
+     */
+    void unlock(String key, String lockToken);
+}
@@ -0,0 +1,28 @@
+package com.ar.laboratory.baseapi.domain.ports.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port for cache operations, used by the reactive read path.
+ * Failures are signalled as errors; callers decide whether a cache error is a miss.
+ */
+public interface ReactiveCachePort<T> {
+    
+    /**
+     * Retrieves a value from the cache.
+     *
+     * @param key the cache key
+     * @return the cached value, or an empty Mono on a miss
+     */
+    Mono<T> get(String key);
+    
+    /**
+     * Stores a value in the cache only if the key is not already present.
+     * Used to fill the cache from reads without overwriting a newer write.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @return true if the value was stored
+     */
+    Mono<Boolean> putIfAbsent(String key, T value);
+}
@@ -0,0 +1,34 @@
+package com.ar.laboratory.baseapi.domain.ports.out;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking output port for ExampleStatus reads, used by the reactive read path.
+ * Implementations must not block the calling thread, which is an event loop thread.
+ */
+public interface ReactiveExampleRepositoryPort {
+    
+    /**
+     * Finds an ExampleStatus by its ID.
+     *
+     * @param id the ID to search for
+     * @return the ExampleStatus, or an empty Mono if not found
+     */
+    Mono<ExampleStatus> findById(String id);
+    
+    /**
+     * Retrieves all ExampleStatus entities, emitted as the subscriber requests them.
+     *
+     * @return all ExampleStatus entities
+     */
+    Flux<ExampleStatus> findAll();
+    
+    /**
+     * Retrieves the active ExampleStatus entities, emitted as the subscriber requests them.
+     *
+     * @return the active ExampleStatus entities
+     */
+    Flux<ExampleStatus> findAllActive();
+}
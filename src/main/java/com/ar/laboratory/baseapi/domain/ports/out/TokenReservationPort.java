@@ -0,0 +1,33 @@
+package com.ar.laboratory.baseapi.domain.ports.out;
+
+import com.ar.laboratory.baseapi.domain.model.TokenReservation;
+
+import java.util.Optional;
+
+/**
+ * Output port for a token bucket shared by every node.
+ */
+public interface TokenReservationPort {
+
+    /**
+     * Atomically refills the bucket and takes up to the requested number of tokens.
+     *
+     * @param bucket the bucket identifier
+     * @param requested tokens wanted
+     * @param capacity maximum tokens the bucket holds
+     * @param refillPerSecond tokens added per second
+     * @return the reservation, or empty if the shared store is not available
+     */
+    Optional<TokenReservation> reserve(String bucket, long requested, long capacity, double refillPerSecond);
+
+    /**
+     * Returns reserved tokens that were not used, never filling the bucket past its capacity.
+     * Best effort: tokens that cannot be returned are lost until the bucket refills.
+     *
+     * @param bucket the bucket identifier
+     * @param tokens unused tokens
+     * @param capacity maximum tokens the bucket holds
+     * @param refillPerSecond tokens added per second
+     */
+    void release(String bucket, long tokens, long capacity, double refillPerSecond);
+}
@@ -0,0 +1,116 @@
+package com.ar.laboratory.baseapi.domain.validation;
+
+/**
+ * Format checks for the identity documents of an Example: DNI, genero and CUIT.
+ * The checks walk the characters once, with no regular expression and no allocation, so they
+ * can run per row in bulk imports as well as behind the constraint annotations of the web DTOs.
+ */
+public final class DocumentValidator {
+
+    /** Weights of the first ten CUIT digits for the modulo 11 check digit. */
+    private static final int[] CUIT_WEIGHTS = {5, 4, 3, 2, 7, 6, 5, 4, 3, 2};
+    private static final int CUIT_DIGITS = 11;
+    private static final int CUIT_FORMATTED_LENGTH = 13;
+
+    private DocumentValidator() {
+    }
+
+    /**
+     * @return true for 7 or 8 ASCII digits
+     */
+    public static boolean isValidDni(CharSequence dni) {
+        if (dni == null) {
+            return false;
+        }
+        int length = dni.length();
+        if (length != 7 && length != 8) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(dni.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true for H (Hombre) or M (Mujer)
+     */
+    public static boolean isValidGenero(CharSequence genero) {
+        if (genero == null || genero.length() != 1) {
+            return false;
+        }
+        char value = genero.charAt(0);
+        return value == 'H' || value == 'M';
+    }
+
+    /**
+     * Checks an 11 digit CUIT, plain (20123456786) or with dashes (20-12345678-6): the prefix
+     * must be one AFIP assigns (20, 23, 24, 27 for people, 30, 33, 34 for companies) and the
+     * last digit must match the modulo 11 check digit of the first ten.
+     *
+     * @return true when the format, prefix and check digit are valid
+     */
+    public static boolean isValidCuit(CharSequence cuit) {
+        if (cuit == null) {
+            return false;
+        }
+        int length = cuit.length();
+        boolean formatted = length == CUIT_FORMATTED_LENGTH;
+        if (!formatted && length != CUIT_DIGITS) {
+            return false;
+        }
+        if (formatted && (cuit.charAt(2) != '-' || cuit.charAt(11) != '-')) {
+            return false;
+        }
+
+        int sum = 0;
+        int prefix = 0;
+        int checkDigit = 0;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            if (formatted && (i == 2 || i == 11)) {
+                continue;
+            }
+            char c = cuit.charAt(i);
+            if (!isDigit(c)) {
+                return false;
+            }
+            int digit = c - '0';
+            if (position < 2) {
+                prefix = prefix * 10 + digit;
+            }
+            if (position < CUIT_WEIGHTS.length) {
+                sum += digit * CUIT_WEIGHTS[position];
+            } else {
+                checkDigit = digit;
+            }
+            position++;
+        }
+        return isValidCuitPrefix(prefix) && checkDigit(sum) == checkDigit;
+    }
+
+    /**
+     * Modulo 11 check digit for the weighted sum of the first ten digits. A remainder that
+     * would give 10 has no valid digit: AFIP assigns prefix 23 instead, so it never matches.
+     */
+    private static int checkDigit(int weightedSum) {
+        int digit = 11 - weightedSum % 11;
+        if (digit == 11) {
+            return 0;
+        }
+        return digit == 10 ? -1 : digit;
+    }
+
+    private static boolean isValidCuitPrefix(int prefix) {
+        return switch (prefix) {
+            case 20, 23, 24, 27, 30, 33, 34 -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
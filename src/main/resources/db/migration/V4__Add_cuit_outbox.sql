@@ -0,0 +1,30 @@
+-- Migration V4: Asynchronous CUIT enrichment through a transactional outbox
+
+-- Examples created in async mode are stored before their CUIT is known
+ALTER TABLE examples
+ALTER COLUMN cuit DROP NOT NULL;
+
+ALTER TABLE examples
+ADD COLUMN cuit_status VARCHAR(10) NOT NULL DEFAULT 'READY';
+
+ALTER TABLE examples
+ADD CONSTRAINT chk_cuit_status CHECK (cuit_status IN ('PENDING', 'READY'));
+
+-- Pending CUIT lookups, written in the same transaction as the example
+CREATE TABLE IF NOT EXISTS cuit_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    example_id BIGINT NOT NULL REFERENCES examples(id) ON DELETE CASCADE,
+    dni VARCHAR(20) NOT NULL,
+    genero VARCHAR(1) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Workers claim due rows ordered by id
+CREATE INDEX idx_cuit_outbox_next_attempt ON cuit_outbox(next_attempt_at, id);
+
+-- Comments
+COMMENT ON TABLE cuit_outbox IS 'Consultas de CUIT pendientes para ejemplos creados en modo asíncrono';
+COMMENT ON COLUMN examples.cuit_status IS 'Estado del CUIT: PENDING (en cálculo) o READY';
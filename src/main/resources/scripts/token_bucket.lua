@@ -0,0 +1,32 @@
+-- Token bucket refill-and-take, executed atomically in Redis.
+-- KEYS[1]  bucket hash (fields: tokens, ts)
+-- ARGV[1]  tokens requested
+-- ARGV[2]  bucket capacity
+-- ARGV[3]  refill rate in tokens per second
+-- Returns {granted, remaining, millis until full}
+
+local key = KEYS[1]
+local requested = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local rate = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+local full_in = math.ceil((capacity - tokens) / rate * 1000)
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', key, full_in + 1000)
+
+return {granted, math.floor(tokens), full_in}
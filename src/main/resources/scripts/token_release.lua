@@ -0,0 +1,30 @@
+-- Returns unused reserved tokens to a token bucket, executed atomically in Redis.
+-- KEYS[1]  bucket hash (fields: tokens, ts)
+-- ARGV[1]  tokens returned
+-- ARGV[2]  bucket capacity
+-- ARGV[3]  refill rate in tokens per second
+-- Returns the whole tokens in the bucket after the release
+
+local key = KEYS[1]
+local released = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local rate = tonumber(ARGV[3])
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    -- The bucket expired because it refilled completely; there is nothing to return to
+    return capacity
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000 + released)
+
+local full_in = math.ceil((capacity - tokens) / rate * 1000)
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', key, full_in + 1000)
+
+return math.floor(tokens)
@@ -3,7 +3,8 @@ package com.ar.laboratory.baseapi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Random gRPC port so the test does not clash with a running instance
+@SpringBootTest(properties = "app.grpc.port=0")
 class BaseApiApplicationTests {
 
     @Test
@@ -0,0 +1,208 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleMapperImpl;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExampleGrpcService over an in-process channel.
+ */
+class ExampleGrpcServiceTest {
+
+    private CreateExampleUseCase createExampleUseCase;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createExampleUseCase = mock(CreateExampleUseCase.class);
+        start(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getExample_ShouldReturnExample_WhenIdExists() {
+        // Arrange
+        when(createExampleUseCase.findById(1L)).thenReturn(example(1L, "12345678"));
+
+        // Act
+        ExampleResponse response = ClientCalls.blockingUnaryCall(channel, ExampleGrpcService.GET_EXAMPLE,
+                CallOptions.DEFAULT.withDeadlineAfter(5, TimeUnit.SECONDS), GetExampleRequest.builder().id(1L).build());
+
+        // Assert
+        assertEquals(1L, response.getId());
+        assertEquals("12345678", response.getDni());
+        assertEquals("READY", response.getCuitStatus());
+    }
+
+    @Test
+    void getExample_ShouldReturnExample_WhenDniExists() {
+        // Arrange
+        when(createExampleUseCase.findByDni("12345678")).thenReturn(example(1L, "12345678"));
+
+        // Act
+        ExampleResponse response = ClientCalls.blockingUnaryCall(channel, ExampleGrpcService.GET_EXAMPLE,
+                CallOptions.DEFAULT, GetExampleRequest.builder().dni("12345678").build());
+
+        // Assert
+        assertEquals(1L, response.getId());
+        verify(createExampleUseCase, never()).findById(any());
+    }
+
+    @Test
+    void getExample_ShouldFailWithNotFound_WhenExampleDoesNotExist() {
+        // Arrange
+        when(createExampleUseCase.findById(999L)).thenReturn(null);
+
+        // Act
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, ExampleGrpcService.GET_EXAMPLE,
+                        CallOptions.DEFAULT, GetExampleRequest.builder().id(999L).build()));
+
+        // Assert
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+    }
+
+    @Test
+    void getExample_ShouldFailWithInvalidArgument_WhenNoKeyIsGiven() {
+        // Act
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, ExampleGrpcService.GET_EXAMPLE,
+                        CallOptions.DEFAULT, new GetExampleRequest()));
+
+        // Assert
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verifyNoInteractions(createExampleUseCase);
+    }
+
+    @Test
+    void createExamples_ShouldReportInvalidAndDuplicateItems() throws Exception {
+        // Arrange
+        when(createExampleUseCase.createExample(argThat(e -> e != null && "11111111".equals(e.getDni()))))
+                .thenReturn(example(1L, "11111111"));
+        when(createExampleUseCase.createExample(argThat(e -> e != null && "22222222".equals(e.getDni()))))
+                .thenThrow(new IllegalArgumentException("Ya existe un ejemplo con DNI: 22222222"));
+
+        // Act
+        CreateExamplesResponse response = createExamples(List.of(
+                request("11111111"),
+                request("abc"),
+                request("22222222")));
+
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getErrors().size());
+        assertEquals(1, response.getErrors().get(0).getIndex());
+        assertEquals("El DNI debe tener 7 u 8 dígitos numéricos", response.getErrors().get(0).getMessage());
+        assertEquals(2, response.getErrors().get(1).getIndex());
+        assertEquals("Ya existe un ejemplo con DNI: 22222222", response.getErrors().get(1).getMessage());
+        verify(createExampleUseCase, times(2)).createExample(any(Example.class));
+    }
+
+    @Test
+    void createExamples_ShouldFailWithResourceExhausted_WhenStreamExceedsMaxItems() throws IOException {
+        // Arrange
+        tearDown();
+        start(2);
+        when(createExampleUseCase.createExample(any(Example.class))).thenReturn(example(1L, "11111111"));
+
+        // Act
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> createExamples(List.of(request("11111111"), request("22222222"), request("33333333"))));
+
+        // Assert
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(exception.getCause()).getCode());
+        verify(createExampleUseCase, times(2)).createExample(any(Example.class));
+    }
+
+    private void start(int maxItems) throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        ExampleGrpcService service = new ExampleGrpcService(createExampleUseCase, new ExampleMapperImpl(),
+                Validation.buildDefaultValidatorFactory().getValidator(), false, maxItems);
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(service)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    private CreateExamplesResponse createExamples(List<CreateExampleRequest> requests) throws Exception {
+        CompletableFuture<CreateExamplesResponse> result = new CompletableFuture<>();
+        StreamObserver<CreateExampleRequest> requestObserver = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(ExampleGrpcService.CREATE_EXAMPLES, CallOptions.DEFAULT),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(CreateExamplesResponse value) {
+                        result.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        requests.forEach(requestObserver::onNext);
+        requestObserver.onCompleted();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static CreateExampleRequest request(String dni) {
+        return CreateExampleRequest.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni(dni)
+                .genero("H")
+                .build();
+    }
+
+    private static Example example(Long id, String dni) {
+        return Example.builder()
+                .id(id)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni(dni)
+                .genero("H")
+                .cuit("20-" + dni + "-6")
+                .cuitStatus(CuitStatus.READY)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.StreamStatusesRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Stubber;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExampleStatusGrpcService over an in-process channel.
+ */
+class ExampleStatusGrpcServiceTest {
+
+    private ExampleStatusUseCase exampleStatusUseCase;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        exampleStatusUseCase = mock(ExampleStatusUseCase.class);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new ExampleStatusGrpcService(exampleStatusUseCase, new ExampleStatusMapperImpl()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getStatus_ShouldReturnStatus_WhenIdExists() {
+        // Arrange
+        when(exampleStatusUseCase.getExampleStatusById("1")).thenReturn(Optional.of(status(1)));
+
+        // Act
+        ExampleStatusResponse response = ClientCalls.blockingUnaryCall(channel, ExampleStatusGrpcService.GET_STATUS,
+                CallOptions.DEFAULT.withDeadlineAfter(5, TimeUnit.SECONDS), new GetStatusRequest("1"));
+
+        // Assert
+        assertEquals("1", response.getId());
+        assertEquals("Service 1", response.getName());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), response.getCreatedAt());
+    }
+
+    @Test
+    void getStatus_ShouldFailWithNotFound_WhenIdDoesNotExist() {
+        // Arrange
+        when(exampleStatusUseCase.getExampleStatusById("999")).thenReturn(Optional.empty());
+
+        // Act
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, ExampleStatusGrpcService.GET_STATUS,
+                        CallOptions.DEFAULT, new GetStatusRequest("999")));
+
+        // Assert
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+    }
+
+    @Test
+    void getStatus_ShouldFailWithInvalidArgument_WhenIdIsMissing() {
+        // Act
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, ExampleStatusGrpcService.GET_STATUS,
+                        CallOptions.DEFAULT, new GetStatusRequest()));
+
+        // Assert
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verifyNoInteractions(exampleStatusUseCase);
+    }
+
+    @Test
+    void streamStatuses_ShouldStreamActiveStatuses_WhenActiveOnlyIsSet() {
+        // Arrange
+        streamStatuses(2).when(exampleStatusUseCase).forEachActiveExampleStatus(any());
+
+        // Act
+        Iterator<ExampleStatusResponse> responses = ClientCalls.blockingServerStreamingCall(channel,
+                ExampleStatusGrpcService.STREAM_STATUSES, CallOptions.DEFAULT.withDeadlineAfter(5, TimeUnit.SECONDS),
+                new StreamStatusesRequest(true));
+        List<String> ids = new ArrayList<>();
+        responses.forEachRemaining(response -> ids.add(response.getId()));
+
+        // Assert
+        assertEquals(List.of("1", "2"), ids);
+        verify(exampleStatusUseCase, never()).forEachExampleStatus(any());
+    }
+
+    @Test
+    void streamStatuses_ShouldStopProducing_WhenSlowClientCancels() throws InterruptedException {
+        // Arrange
+        int total = 10_000;
+        AtomicInteger produced = new AtomicInteger();
+        CountDownLatch producerDone = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Consumer<ExampleStatus> consumer = invocation.getArgument(0);
+            try {
+                for (int i = 1; i <= total; i++) {
+                    consumer.accept(status(i));
+                    produced.incrementAndGet();
+                }
+            } finally {
+                producerDone.countDown();
+            }
+            return null;
+        }).when(exampleStatusUseCase).forEachExampleStatus(any());
+
+        BlockingQueue<ExampleStatusResponse> received = new LinkedBlockingQueue<>();
+        ClientCall<StreamStatusesRequest, ExampleStatusResponse> call =
+                channel.newCall(ExampleStatusGrpcService.STREAM_STATUSES, CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<>() {
+            @Override
+            public void onMessage(ExampleStatusResponse message) {
+                received.add(message);
+            }
+        }, new Metadata());
+        call.sendMessage(new StreamStatusesRequest(false));
+        call.halfClose();
+
+        // Act
+        call.request(1);
+        ExampleStatusResponse first = received.poll(5, TimeUnit.SECONDS);
+        call.cancel("Client is done", null);
+
+        // Assert
+        assertNotNull(first);
+        assertTrue(producerDone.await(5, TimeUnit.SECONDS), "Producer did not stop after cancellation");
+        assertTrue(produced.get() < 10, "Produced " + produced.get() + " statuses for a client that took one");
+    }
+
+    private static Stubber streamStatuses(int count) {
+        return doAnswer(invocation -> {
+            Consumer<ExampleStatus> consumer = invocation.getArgument(0);
+            for (int i = 1; i <= count; i++) {
+                consumer.accept(status(i));
+            }
+            return null;
+        });
+    }
+
+    private static ExampleStatus status(int id) {
+        return ExampleStatus.builder()
+                .id(String.valueOf(id))
+                .name("Service " + id)
+                .status("RUNNING")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import io.grpc.CallOptions;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GrpcRateLimitInterceptor over an in-process channel.
+ */
+class GrpcRateLimitInterceptorTest {
+
+    private CreateExampleUseCase createExampleUseCase;
+    private RateLimitUseCase rateLimitUseCase;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createExampleUseCase = mock(CreateExampleUseCase.class);
+        rateLimitUseCase = mock(RateLimitUseCase.class);
+        ExampleGrpcService service = new ExampleGrpcService(createExampleUseCase, new ExampleMapperImpl(),
+                Validation.buildDefaultValidatorFactory().getValidator(), false, 100);
+        GrpcRateLimitInterceptor interceptor = new GrpcRateLimitInterceptor(rateLimitUseCase,
+                new ClientIdResolver("X-API-Key", new String[]{"partner-key"}), 5);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, interceptor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void interceptCall_ShouldChargeApiKeyClient_WhenKeyIsInMetadata() {
+        // Arrange
+        when(rateLimitUseCase.tryConsume(startsWith("key:"), eq(1))).thenReturn(decision(true, 0));
+        when(createExampleUseCase.findById(1L)).thenReturn(example(1L));
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER), "partner-key");
+
+        // Act
+        ExampleResponse response = ClientCalls.blockingUnaryCall(
+                ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers)),
+                ExampleGrpcService.GET_EXAMPLE, CallOptions.DEFAULT, GetExampleRequest.builder().id(1L).build());
+
+        // Assert
+        assertEquals(1L, response.getId());
+    }
+
+    @Test
+    void interceptCall_ShouldFailWithResourceExhausted_WhenLimitIsExceeded() {
+        // Arrange
+        when(rateLimitUseCase.tryConsume(startsWith("ip:"), eq(1))).thenReturn(decision(false, 3));
+
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> ClientCalls.blockingUnaryCall(channel, ExampleGrpcService.GET_EXAMPLE,
+                        CallOptions.DEFAULT, GetExampleRequest.builder().id(1L).build()));
+
+        // Assert
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, error.getStatus().getCode());
+        assertEquals("3", error.getTrailers().get(GrpcRateLimitInterceptor.RETRY_AFTER));
+        verifyNoInteractions(createExampleUseCase);
+    }
+
+    @Test
+    void interceptCall_ShouldChargeWriteCostPerCreatedExample() {
+        // Arrange
+        when(rateLimitUseCase.tryConsume(anyString(), eq(5))).thenReturn(decision(true, 0), decision(false, 1));
+        when(createExampleUseCase.createExample(any())).thenReturn(example(1L));
+
+        // Act
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> createExamples(List.of(request("12345678"), request("23456789"))));
+
+        // Assert
+        StatusRuntimeException cause = assertInstanceOf(StatusRuntimeException.class, error.getCause());
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, cause.getStatus().getCode());
+        verify(rateLimitUseCase, times(2)).tryConsume(anyString(), eq(5));
+        verify(createExampleUseCase, times(1)).createExample(any());
+    }
+
+    private CreateExamplesResponse createExamples(List<CreateExampleRequest> requests) throws Exception {
+        CompletableFuture<CreateExamplesResponse> result = new CompletableFuture<>();
+        StreamObserver<CreateExampleRequest> requestObserver = ClientCalls.asyncClientStreamingCall(
+                channel.newCall(ExampleGrpcService.CREATE_EXAMPLES, CallOptions.DEFAULT),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(CreateExamplesResponse value) {
+                        result.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        requests.forEach(requestObserver::onNext);
+        requestObserver.onCompleted();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static RateLimitDecision decision(boolean allowed, long resetSeconds) {
+        return RateLimitDecision.builder()
+                .allowed(allowed)
+                .limit(100)
+                .remaining(allowed ? 99 : 0)
+                .resetSeconds(resetSeconds)
+                .build();
+    }
+
+    private static CreateExampleRequest request(String dni) {
+        return CreateExampleRequest.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni(dni)
+                .genero("H")
+                .build();
+    }
+
+    private static Example example(Long id) {
+        return Example.builder()
+                .id(id)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni("12345678")
+                .genero("H")
+                .cuit("20-12345678-6")
+                .cuitStatus(CuitStatus.READY)
+                .build();
+    }
+}
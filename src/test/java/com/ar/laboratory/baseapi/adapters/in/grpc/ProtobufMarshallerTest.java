@@ -0,0 +1,90 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.CreateExamplesResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.GetExampleRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.codec.StreamStatusesRequestCodec;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExampleError;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.StreamStatusesRequest;
+import com.google.protobuf.UnknownFieldSet;
+import io.grpc.KnownLength;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProtobufMarshaller and the codecs of the gRPC messages.
+ */
+class ProtobufMarshallerTest {
+
+    @Test
+    void createExamplesResponse_ShouldRoundTrip_WithNestedErrors() throws IOException {
+        // Arrange
+        ProtobufMarshaller<CreateExamplesResponse> marshaller = ProtobufMarshaller.of(new CreateExamplesResponseCodec());
+        CreateExamplesResponse response = CreateExamplesResponse.builder()
+                .created(3)
+                .errors(List.of(
+                        CreateExampleError.builder().index(0).message("El DNI no puede estar vacío").build(),
+                        CreateExampleError.builder().index(4).message("Ya existe un ejemplo con DNI: 1234567").build()))
+                .build();
+
+        // Act
+        InputStream stream = marshaller.stream(response);
+        int length = stream.available();
+        CreateExamplesResponse decoded = marshaller.parse(stream);
+
+        // Assert
+        assertInstanceOf(KnownLength.class, stream);
+        assertEquals(new CreateExamplesResponseCodec().serializedSize(response), length);
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void getExampleRequest_ShouldWriteOnlyTheKeyThatIsSet() throws IOException {
+        // Arrange
+        ProtobufMarshaller<GetExampleRequest> marshaller = ProtobufMarshaller.of(new GetExampleRequestCodec());
+
+        // Act
+        byte[] bytes = marshaller.stream(GetExampleRequest.builder().dni("12345678").build()).readAllBytes();
+        GetExampleRequest decoded = marshaller.parse(new ByteArrayInputStream(bytes));
+
+        // Assert
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(bytes);
+        assertFalse(fields.hasField(1));
+        assertEquals("12345678", fields.getField(2).getLengthDelimitedList().get(0).toStringUtf8());
+        assertNull(decoded.getId());
+        assertEquals("12345678", decoded.getDni());
+    }
+
+    @Test
+    void streamStatusesRequest_ShouldBeEmpty_WhenActiveOnlyIsFalse() throws IOException {
+        // Arrange
+        ProtobufMarshaller<StreamStatusesRequest> marshaller = ProtobufMarshaller.of(new StreamStatusesRequestCodec());
+
+        // Act & Assert
+        assertEquals(0, marshaller.stream(new StreamStatusesRequest(false)).available());
+        assertTrue(marshaller.parse(marshaller.stream(new StreamStatusesRequest(true))).isActiveOnly());
+    }
+
+    @Test
+    void parse_ShouldFailWithInternal_WhenMessageIsTruncated() {
+        // Arrange
+        ProtobufMarshaller<GetExampleRequest> marshaller = ProtobufMarshaller.of(new GetExampleRequestCodec());
+        byte[] truncated = {0x12, 0x08, '1', '2'};
+
+        // Act
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> marshaller.parse(new ByteArrayInputStream(truncated)));
+
+        // Assert
+        assertEquals(Status.Code.INTERNAL, exception.getStatus().getCode());
+    }
+}
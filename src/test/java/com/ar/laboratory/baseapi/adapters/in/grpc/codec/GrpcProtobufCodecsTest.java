@@ -0,0 +1,130 @@
+package com.ar.laboratory.baseapi.adapters.in.grpc.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExampleError;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.CreateExamplesResponse;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.GetStatusRequest;
+import com.ar.laboratory.baseapi.adapters.in.grpc.dto.StreamStatusesRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the hand-written codecs of the gRPC messages against the classes protoc generates
+ * from base_api.proto (test scope only), in both directions.
+ */
+class GrpcProtobufCodecsTest {
+
+    @Test
+    void getStatusRequest_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        GetStatusRequestCodec codec = new GetStatusRequestCodec();
+        com.ar.laboratory.baseapi.client.proto.GetStatusRequest generated =
+                com.ar.laboratory.baseapi.client.proto.GetStatusRequest.newBuilder().setId("svc-1").build();
+
+        // Act
+        com.ar.laboratory.baseapi.client.proto.GetStatusRequest parsed =
+                com.ar.laboratory.baseapi.client.proto.GetStatusRequest.parseFrom(
+                        encode(codec, GetStatusRequest.builder().id("svc-1").build()));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertEquals("svc-1", decode(codec, generated).getId());
+    }
+
+    @Test
+    void streamStatusesRequest_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        StreamStatusesRequestCodec codec = new StreamStatusesRequestCodec();
+        com.ar.laboratory.baseapi.client.proto.StreamStatusesRequest generated =
+                com.ar.laboratory.baseapi.client.proto.StreamStatusesRequest.newBuilder().setActiveOnly(true).build();
+
+        // Act
+        com.ar.laboratory.baseapi.client.proto.StreamStatusesRequest parsed =
+                com.ar.laboratory.baseapi.client.proto.StreamStatusesRequest.parseFrom(
+                        encode(codec, new StreamStatusesRequest(true)));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertTrue(decode(codec, generated).isActiveOnly());
+    }
+
+    @Test
+    void getExampleRequest_ShouldMatchGeneratedOneof() throws IOException {
+        // Arrange
+        GetExampleRequestCodec codec = new GetExampleRequestCodec();
+        com.ar.laboratory.baseapi.client.proto.GetExampleRequest byId =
+                com.ar.laboratory.baseapi.client.proto.GetExampleRequest.newBuilder().setId(42L).build();
+        com.ar.laboratory.baseapi.client.proto.GetExampleRequest byDni =
+                com.ar.laboratory.baseapi.client.proto.GetExampleRequest.newBuilder().setDni("12345678").build();
+
+        // Act
+        com.ar.laboratory.baseapi.client.proto.GetExampleRequest parsedById =
+                com.ar.laboratory.baseapi.client.proto.GetExampleRequest.parseFrom(
+                        encode(codec, GetExampleRequest.builder().id(42L).build()));
+        com.ar.laboratory.baseapi.client.proto.GetExampleRequest parsedByDni =
+                com.ar.laboratory.baseapi.client.proto.GetExampleRequest.parseFrom(
+                        encode(codec, GetExampleRequest.builder().dni("12345678").build()));
+
+        // Assert
+        assertEquals(byId, parsedById);
+        assertEquals(com.ar.laboratory.baseapi.client.proto.GetExampleRequest.KeyCase.ID, parsedById.getKeyCase());
+        assertEquals(byDni, parsedByDni);
+        assertEquals(com.ar.laboratory.baseapi.client.proto.GetExampleRequest.KeyCase.DNI, parsedByDni.getKeyCase());
+        assertEquals(GetExampleRequest.builder().id(42L).build(), decode(codec, byId));
+        assertEquals(GetExampleRequest.builder().dni("12345678").build(), decode(codec, byDni));
+    }
+
+    @Test
+    void createExamplesResponse_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        CreateExamplesResponseCodec codec = new CreateExamplesResponseCodec();
+        CreateExamplesResponse response = CreateExamplesResponse.builder()
+                .created(3)
+                .errors(List.of(
+                        CreateExampleError.builder().index(0).message("El DNI no puede estar vacío").build(),
+                        CreateExampleError.builder().index(4).message("Ya existe un ejemplo con DNI: 1234567").build()))
+                .build();
+        com.ar.laboratory.baseapi.client.proto.CreateExamplesResponse generated =
+                com.ar.laboratory.baseapi.client.proto.CreateExamplesResponse.newBuilder()
+                        .setCreated(3)
+                        .addErrors(com.ar.laboratory.baseapi.client.proto.CreateExampleError.newBuilder()
+                                .setIndex(0).setMessage("El DNI no puede estar vacío"))
+                        .addErrors(com.ar.laboratory.baseapi.client.proto.CreateExampleError.newBuilder()
+                                .setIndex(4).setMessage("Ya existe un ejemplo con DNI: 1234567"))
+                        .build();
+
+        // Act
+        com.ar.laboratory.baseapi.client.proto.CreateExamplesResponse parsed =
+                com.ar.laboratory.baseapi.client.proto.CreateExamplesResponse.parseFrom(encode(codec, response));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertTrue(parsed.getErrors(1).getUnknownFields().asMap().isEmpty());
+        assertEquals(response, decode(codec, generated));
+    }
+
+    private static <T> byte[] encode(ProtobufCodec<T> codec, T value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        codec.write(value, output);
+        output.flush();
+        assertEquals(codec.serializedSize(value), bytes.size());
+        return bytes.toByteArray();
+    }
+
+    private static <T> T decode(ProtobufCodec<T> codec, MessageLite message) throws IOException {
+        return codec.read(CodedInputStream.newInstance(message.toByteArray()));
+    }
+}
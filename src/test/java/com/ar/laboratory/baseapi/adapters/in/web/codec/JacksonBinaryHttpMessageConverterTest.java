@@ -0,0 +1,79 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JacksonBinaryHttpMessageConverter.
+ */
+class JacksonBinaryHttpMessageConverterTest {
+
+    private static final Set<Class<?>> TYPES = Set.of(ExampleStatusResponse.class, CreateExampleRequest.class);
+
+    private final JacksonBinaryHttpMessageConverter cbor = new JacksonBinaryHttpMessageConverter(
+            JacksonMappers.create(new CBORFactory()), MediaType.APPLICATION_CBOR, TYPES);
+    private final JacksonBinaryHttpMessageConverter smile = new JacksonBinaryHttpMessageConverter(
+            JacksonMappers.create(new SmileFactory()), BinaryMediaTypes.APPLICATION_SMILE, TYPES);
+
+    @Test
+    void canWrite_ShouldRequireExplicitMediaTypeAndKnownType() {
+        // Act & Assert
+        assertTrue(cbor.canWrite(ExampleStatusResponse.class, MediaType.APPLICATION_CBOR));
+        assertFalse(cbor.canWrite(ExampleStatusResponse.class, null));
+        assertFalse(cbor.canWrite(ExampleStatusResponse.class, MediaType.ALL));
+        assertFalse(cbor.canWrite(String.class, MediaType.APPLICATION_CBOR));
+        assertTrue(smile.canRead(CreateExampleRequest.class, BinaryMediaTypes.APPLICATION_SMILE));
+    }
+
+    @Test
+    void write_ShouldRoundTripAndBeSmallerThanJson() throws IOException {
+        // Arrange
+        ExampleStatusResponse response = ExampleStatusResponse.builder()
+                .id("1")
+                .name("Service A")
+                .status("RUNNING")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .active(true)
+                .version(2)
+                .build();
+        byte[] json = JacksonMappers.create(new JsonFactory()).writeValueAsBytes(response);
+
+        for (JacksonBinaryHttpMessageConverter converter : new JacksonBinaryHttpMessageConverter[] {cbor, smile}) {
+            MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            // Act
+            converter.write(response, null, outputMessage);
+            Object decoded = converter.read(ExampleStatusResponse.class,
+                    new MockHttpInputMessage(outputMessage.getBodyAsBytes()));
+
+            // Assert
+            assertEquals(converter.getSupportedMediaTypes().get(0), outputMessage.getHeaders().getContentType());
+            assertEquals(response, decoded);
+            assertTrue(outputMessage.getBodyAsBytes().length < json.length);
+        }
+    }
+
+    @Test
+    void read_ShouldThrowNotReadable_WhenPayloadIsInvalid() {
+        // Arrange
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new byte[] {(byte) 0xFF, 0x00});
+
+        // Act & Assert
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> cbor.read(CreateExampleRequest.class, inputMessage));
+    }
+}
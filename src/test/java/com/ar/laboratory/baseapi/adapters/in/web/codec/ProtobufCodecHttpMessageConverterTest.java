@@ -0,0 +1,64 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProtobufCodecHttpMessageConverter.
+ */
+class ProtobufCodecHttpMessageConverterTest {
+
+    private final ProtobufCodecHttpMessageConverter converter =
+            new ProtobufCodecHttpMessageConverter(new BinaryFormatsConfig().protobufCodecs());
+
+    @Test
+    void canWrite_ShouldRequireExplicitMediaType() {
+        // Act & Assert
+        assertTrue(converter.canWrite(ExampleResponse.class, BinaryMediaTypes.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(ExampleResponse.class, null));
+        assertFalse(converter.canWrite(ExampleResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(String.class, BinaryMediaTypes.APPLICATION_PROTOBUF));
+    }
+
+    @Test
+    void write_ShouldSetContentLengthAndRoundTrip() throws IOException {
+        // Arrange
+        ExampleResponse response = ExampleResponse.builder()
+                .id(1L)
+                .nombre("Juan")
+                .dni("12345678")
+                .build();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(response, BinaryMediaTypes.APPLICATION_PROTOBUF, outputMessage);
+        Object decoded = converter.read(ExampleResponse.class, new MockHttpInputMessage(outputMessage.getBodyAsBytes()));
+
+        // Assert
+        assertEquals(BinaryMediaTypes.APPLICATION_PROTOBUF, outputMessage.getHeaders().getContentType());
+        assertEquals(outputMessage.getBodyAsBytes().length, outputMessage.getHeaders().getContentLength());
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void read_ShouldThrowNotReadable_WhenPayloadIsInvalid() {
+        // Arrange
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new byte[] {0x0A, 0x7F, 0x01});
+        inputMessage.getHeaders().set(HttpHeaders.CONTENT_TYPE, BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE);
+
+        // Act & Assert
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(CreateExampleRequest.class, inputMessage));
+    }
+}
@@ -0,0 +1,294 @@
+package com.ar.laboratory.baseapi.adapters.in.web.codec;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.client.proto.Example;
+import com.ar.laboratory.baseapi.client.proto.ExampleStatus;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the hand-written protobuf codecs.
+ * The schema tests check them against the classes protoc generates from base_api.proto
+ * (test scope only), so a wrong field number or wire type fails here.
+ */
+class ProtobufCodecsTest {
+
+    private final ProtobufCodecs codecs = new BinaryFormatsConfig().protobufCodecs();
+
+    @Test
+    void exampleStatusResponse_ShouldRoundTrip() throws IOException {
+        // Arrange
+        ExampleStatusResponse response = ExampleStatusResponse.builder()
+                .id("1")
+                .name("Service A")
+                .status("RUNNING")
+                .description("Descripción con acentos")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600_000_000))
+                .updatedAt(LocalDateTime.of(2024, 2, 3, 4, 5, 6))
+                .active(true)
+                .version(7)
+                .build();
+
+        // Act
+        ExampleStatusResponse decoded = roundTrip(ExampleStatusResponse.class, response);
+
+        // Assert
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void exampleResponse_ShouldRoundTrip() throws IOException {
+        // Arrange
+        ExampleResponse response = ExampleResponse.builder()
+                .id(42L)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni("12345678")
+                .genero("H")
+                .cuit("20-12345678-9")
+                .cuitStatus("READY")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 6))
+                .build();
+
+        // Act
+        ExampleResponse decoded = roundTrip(ExampleResponse.class, response);
+
+        // Assert
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void createExampleRequest_ShouldRoundTrip() throws IOException {
+        // Arrange
+        CreateExampleRequest request = CreateExampleRequest.builder()
+                .nombre("Ana")
+                .apellido("García")
+                .dni("87654321")
+                .genero("M")
+                .build();
+
+        // Act
+        CreateExampleRequest decoded = roundTrip(CreateExampleRequest.class, request);
+
+        // Assert
+        assertEquals(request, decoded);
+    }
+
+    @Test
+    void write_ShouldLeaveNullFieldsOut() throws IOException {
+        // Arrange
+        ExampleResponse response = ExampleResponse.builder()
+                .dni("12345678")
+                .build();
+
+        // Act
+        byte[] bytes = encode(ExampleResponse.class, response);
+        ExampleResponse decoded = codecs.codecFor(ExampleResponse.class).read(CodedInputStream.newInstance(bytes));
+
+        // Assert
+        assertEquals(1, UnknownFieldSet.parseFrom(bytes).asMap().size());
+        assertNull(decoded.getId());
+        assertNull(decoded.getNombre());
+        assertNull(decoded.getCreatedAt());
+        assertEquals("12345678", decoded.getDni());
+    }
+
+    @Test
+    void write_ShouldFollowSchemaFieldNumbers() throws IOException {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6);
+        ExampleStatusResponse response = ExampleStatusResponse.builder()
+                .id("1")
+                .createdAt(createdAt)
+                .active(true)
+                .version(3)
+                .build();
+
+        // Act
+        UnknownFieldSet fields = UnknownFieldSet.parseFrom(encode(ExampleStatusResponse.class, response));
+
+        // Assert
+        assertEquals("1", fields.getField(1).getLengthDelimitedList().get(0).toStringUtf8());
+        UnknownFieldSet timestamp = UnknownFieldSet.parseFrom(fields.getField(5).getLengthDelimitedList().get(0));
+        assertEquals(createdAt.toEpochSecond(ZoneOffset.UTC), timestamp.getField(1).getVarintList().get(0));
+        assertEquals(6L, timestamp.getField(2).getVarintList().get(0));
+        assertEquals(1L, fields.getField(7).getVarintList().get(0));
+        assertEquals(3L, fields.getField(8).getVarintList().get(0));
+    }
+
+    @Test
+    void read_ShouldSkipUnknownFields() throws IOException {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(99, "added by a newer client");
+        output.writeString(3, "12345678");
+        output.writeInt64(100, 1L);
+        output.flush();
+
+        // Act
+        CreateExampleRequest decoded = codecs.codecFor(CreateExampleRequest.class)
+                .read(CodedInputStream.newInstance(bytes.toByteArray()));
+
+        // Assert
+        assertEquals("12345678", decoded.getDni());
+        assertNull(decoded.getNombre());
+    }
+
+    @Test
+    void exampleStatusResponse_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 600_000_000);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 2, 3, 4, 5, 6);
+        ExampleStatusResponse response = ExampleStatusResponse.builder()
+                .id("1")
+                .name("Service A")
+                .status("RUNNING")
+                .description("Descripción")
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .active(true)
+                .version(7)
+                .build();
+        ExampleStatus generated = ExampleStatus.newBuilder()
+                .setId("1")
+                .setName("Service A")
+                .setStatus("RUNNING")
+                .setDescription("Descripción")
+                .setCreatedAt(timestamp(createdAt))
+                .setUpdatedAt(timestamp(updatedAt))
+                .setActive(true)
+                .setVersion(7)
+                .build();
+
+        // Act
+        ExampleStatus parsed = ExampleStatus.parseFrom(encode(ExampleStatusResponse.class, response));
+        ExampleStatusResponse decoded = codecs.codecFor(ExampleStatusResponse.class)
+                .read(CodedInputStream.newInstance(generated.toByteArray()));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void exampleResponse_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        ExampleResponse response = ExampleResponse.builder()
+                .id(42L)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni("12345678")
+                .genero("H")
+                .cuit("20-12345678-9")
+                .cuitStatus("READY")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+        Example generated = Example.newBuilder()
+                .setId(42L)
+                .setNombre("Juan")
+                .setApellido("Pérez")
+                .setDni("12345678")
+                .setGenero("H")
+                .setCuit("20-12345678-9")
+                .setCuitStatus("READY")
+                .setCreatedAt(timestamp(createdAt))
+                .setUpdatedAt(timestamp(createdAt))
+                .build();
+
+        // Act
+        Example parsed = Example.parseFrom(encode(ExampleResponse.class, response));
+        ExampleResponse decoded = codecs.codecFor(ExampleResponse.class)
+                .read(CodedInputStream.newInstance(generated.toByteArray()));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void exampleResponse_ShouldKeepOptionalIdAbsent_WhenNull() throws IOException {
+        // Act
+        Example parsed = Example.parseFrom(encode(ExampleResponse.class, ExampleResponse.builder().dni("1").build()));
+
+        // Assert
+        assertFalse(parsed.hasId());
+        assertFalse(parsed.hasCreatedAt());
+    }
+
+    @Test
+    void createExampleRequest_ShouldMatchGeneratedSchema() throws IOException {
+        // Arrange
+        CreateExampleRequest request = CreateExampleRequest.builder()
+                .nombre("Ana")
+                .apellido("García")
+                .dni("87654321")
+                .genero("M")
+                .build();
+        com.ar.laboratory.baseapi.client.proto.CreateExampleRequest generated =
+                com.ar.laboratory.baseapi.client.proto.CreateExampleRequest.newBuilder()
+                        .setNombre("Ana")
+                        .setApellido("García")
+                        .setDni("87654321")
+                        .setGenero("M")
+                        .build();
+
+        // Act
+        com.ar.laboratory.baseapi.client.proto.CreateExampleRequest parsed =
+                com.ar.laboratory.baseapi.client.proto.CreateExampleRequest.parseFrom(
+                        encode(CreateExampleRequest.class, request));
+        CreateExampleRequest decoded = codecs.codecFor(CreateExampleRequest.class)
+                .read(CodedInputStream.newInstance(generated.toByteArray()));
+
+        // Assert
+        assertEquals(generated, parsed);
+        assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+        assertEquals(request, decoded);
+    }
+
+    @Test
+    void codecFor_ShouldThrow_WhenTypeHasNoCodec() {
+        // Act & Assert
+        assertFalse(codecs.supports(String.class));
+        assertThrows(IllegalArgumentException.class, () -> codecs.codecFor(String.class));
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return Timestamp.newBuilder()
+                .setSeconds(value.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(value.getNano())
+                .build();
+    }
+
+    private <T> T roundTrip(Class<T> type, T value) throws IOException {
+        byte[] bytes = encode(type, value);
+        assertEquals(codecs.codecFor(type).serializedSize(value), bytes.length);
+        return codecs.codecFor(type).read(CodedInputStream.newInstance(bytes));
+    }
+
+    private <T> byte[] encode(Class<T> type, T value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        codecs.codecFor(type).write(value, output);
+        output.flush();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ar.laboratory.baseapi.adapters.in.web.controller;
+
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.ports.in.CreateExampleUseCase;
+import com.ar.laboratory.baseapi.domain.ports.in.LookupExamplesUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ExampleController using MockMvc, with asynchronous creation enabled.
+ */
+@WebMvcTest(controllers = ExampleController.class, properties = "app.examples.async-create=true")
+@Import({ConditionalGetSupport.class, JsonStreamingSupport.class, BinaryFormatsConfig.class, ExampleMapperImpl.class})
+class ExampleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateExampleUseCase createExampleUseCase;
+
+    @MockBean
+    private LookupExamplesUseCase lookupExamplesUseCase;
+
+    @Test
+    void createExample_ShouldAcceptWithLocation_WhenAsyncCreateIsEnabled() throws Exception {
+        // Arrange
+        when(createExampleUseCase.submitExample(any(Example.class))).thenReturn(Example.builder()
+                .id(42L)
+                .nombre("Juan")
+                .apellido("Perez")
+                .dni("12345678")
+                .genero("H")
+                .cuitStatus(CuitStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/examples")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":\"Juan\",\"apellido\":\"Perez\",\"dni\":\"12345678\",\"genero\":\"H\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/examples/42")))
+                .andExpect(jsonPath("$.id", is(42)))
+                .andExpect(jsonPath("$.cuitStatus", is("PENDING")));
+
+        verify(createExampleUseCase, never()).createExample(any());
+    }
+
+    @Test
+    void findById_ShouldAskToPollAgain_WhileCuitIsPending() throws Exception {
+        // Arrange
+        when(createExampleUseCase.findById(42L)).thenReturn(Example.builder()
+                .id(42L)
+                .dni("12345678")
+                .cuitStatus(CuitStatus.PENDING)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/examples/42").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void findByDni_ShouldReturnExampleWithValidators() throws Exception {
+        // Arrange
+        Example example = readyExample();
+        when(createExampleUseCase.findByDni("12345678")).thenReturn(example);
+        String etag = conditionalGetSupport().etagFor(example);
+
+        // Act & Assert
+        mockMvc.perform(get("/examples/dni/{dni}", "12345678").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.cuit", is("20-12345678-7")));
+    }
+
+    @Test
+    void findByDni_ShouldReturn304_WhenEtagMatches() throws Exception {
+        // Arrange
+        Example example = readyExample();
+        when(createExampleUseCase.findByDni("12345678")).thenReturn(example);
+        String etag = conditionalGetSupport().etagFor(example);
+
+        // Act & Assert
+        mockMvc.perform(get("/examples/dni/{dni}", "12345678")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    private static Example readyExample() {
+        return Example.builder()
+                .id(7L)
+                .nombre("Juan")
+                .apellido("Perez")
+                .dni("12345678")
+                .genero("H")
+                .cuit("20-12345678-7")
+                .cuitStatus(CuitStatus.READY)
+                .createdAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5))
+                .build();
+    }
+
+    private static ConditionalGetSupport conditionalGetSupport() {
+        return new ConditionalGetSupport(Duration.ofSeconds(5), Duration.ZERO, false);
+    }
+}
@@ -1,24 +1,39 @@
 package com.ar.laboratory.baseapi.adapters.in.web.controller;
 
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleStatusResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
 import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
 import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import com.google.protobuf.CodedInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Stubber;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Unit tests for ExampleStatusController using MockMvc.
  */
 @WebMvcTest(ExampleStatusController.class)
+@Import({ConditionalGetSupport.class, JsonStreamingSupport.class, BinaryFormatsConfig.class, ExampleStatusMapperImpl.class})
 class ExampleStatusControllerTest {
 
     @Autowired
@@ -34,7 +50,7 @@ class ExampleStatusControllerTest {
     @MockBean
     private ExampleStatusUseCase exampleStatusUseCase;
 
-    @MockBean
+    @SpyBean
     private ExampleStatusMapper exampleStatusMapper;
 
     private ExampleStatus testStatus1;
@@ -64,14 +80,16 @@ class ExampleStatusControllerTest {
     @Test
     void getAllStatuses_ShouldReturnListOfStatuses() throws Exception {
         // Arrange
-        List<ExampleStatus> statuses = Arrays.asList(testStatus1, testStatus2);
-        when(exampleStatusUseCase.getAllExampleStatuses()).thenReturn(statuses);
-        when(exampleStatusMapper.toResponseList(statuses)).thenCallRealMethod();
-        when(exampleStatusMapper.toResponse(any())).thenCallRealMethod();
+        streamStatuses(testStatus1, testStatus2).when(exampleStatusUseCase).forEachExampleStatus(any());
 
-        // Act & Assert
-        mockMvc.perform(get("/example-status")
-                        .contentType(MediaType.APPLICATION_JSON))
+        // Act
+        MvcResult result = mockMvc.perform(get("/example-status")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
@@ -82,27 +100,72 @@ class ExampleStatusControllerTest {
                 .andExpect(jsonPath("$[1].id", is("2")))
                 .andExpect(jsonPath("$[1].name", is("Test Service B")));
 
-        verify(exampleStatusUseCase, times(1)).getAllExampleStatuses();
+        verify(exampleStatusUseCase, times(1)).forEachExampleStatus(any());
+        verify(exampleStatusUseCase, never()).getAllExampleStatuses();
+    }
+
+    @Test
+    void getAllStatuses_ShouldReturnOneStatusPerLine_WhenNdjsonIsAccepted() throws Exception {
+        // Arrange
+        streamStatuses(testStatus1, testStatus2).when(exampleStatusUseCase).forEachExampleStatus(any());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/example-status")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"1\""));
+        assertTrue(lines[1].startsWith("{\"id\":\"2\""));
+        assertTrue(body.endsWith("\n"));
     }
 
     @Test
     void getActiveStatuses_ShouldReturnOnlyActiveStatuses() throws Exception {
         // Arrange
-        List<ExampleStatus> activeStatuses = List.of(testStatus1, testStatus2);
-        when(exampleStatusUseCase.getActiveExampleStatuses()).thenReturn(activeStatuses);
-        when(exampleStatusMapper.toResponseList(activeStatuses)).thenCallRealMethod();
-        when(exampleStatusMapper.toResponse(any())).thenCallRealMethod();
+        streamStatuses(testStatus1, testStatus2).when(exampleStatusUseCase).forEachActiveExampleStatus(any());
 
-        // Act & Assert
-        mockMvc.perform(get("/example-status/active")
-                        .contentType(MediaType.APPLICATION_JSON))
+        // Act
+        MvcResult result = mockMvc.perform(get("/example-status/active")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].active", is(true)))
                 .andExpect(jsonPath("$[1].active", is(true)));
 
-        verify(exampleStatusUseCase, times(1)).getActiveExampleStatuses();
+        verify(exampleStatusUseCase, times(1)).forEachActiveExampleStatus(any());
+    }
+
+    @Test
+    void getActiveStatuses_ShouldReturnEmptyArray_WhenNoStatusIsActive() throws Exception {
+        // Arrange
+        streamStatuses().when(exampleStatusUseCase).forEachActiveExampleStatus(any());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/example-status/active"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[]"));
     }
 
     @Test
@@ -110,7 +173,6 @@ class ExampleStatusControllerTest {
         // Arrange
         String id = "1";
         when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
-        when(exampleStatusMapper.toResponse(testStatus1)).thenCallRealMethod();
 
         // Act & Assert
         mockMvc.perform(get("/example-status/{id}", id)
@@ -121,11 +183,109 @@ class ExampleStatusControllerTest {
                 .andExpect(jsonPath("$.name", is("Test Service A")))
                 .andExpect(jsonPath("$.status", is("RUNNING")))
                 .andExpect(jsonPath("$.description", is("Test description A")))
-                .andExpect(jsonPath("$.active", is(true)));
+                .andExpect(jsonPath("$.active", is(true)))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL));
 
         verify(exampleStatusUseCase, times(1)).getExampleStatusById(id);
     }
 
+    @Test
+    void getStatusById_ShouldReturnProtobuf_WhenRequested() throws Exception {
+        // Arrange
+        String id = "1";
+        when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
+
+        // Act
+        byte[] body = mockMvc.perform(get("/example-status/{id}", id)
+                        .accept(BinaryMediaTypes.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryMediaTypes.APPLICATION_PROTOBUF))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        ExampleStatusResponse decoded = new ExampleStatusResponseCodec().read(CodedInputStream.newInstance(body));
+        assertEquals(exampleStatusMapper.toResponse(testStatus1), decoded);
+    }
+
+    @Test
+    void getStatusById_ShouldReturnJson_WhenAcceptIsWildcard() throws Exception {
+        // Arrange
+        String id = "1";
+        when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
+
+        // Act & Assert
+        mockMvc.perform(get("/example-status/{id}", id)
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id", is("1")));
+    }
+
+    @Test
+    void getStatusById_ShouldReturn304WithoutMapping_WhenEtagMatches() throws Exception {
+        // Arrange
+        String id = "1";
+        when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
+        String etag = new ConditionalGetSupport(Duration.ofSeconds(5), Duration.ZERO, false)
+                .etagFor(testStatus1);
+
+        // Act & Assert
+        mockMvc.perform(get("/example-status/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(exampleStatusMapper, never()).toResponse(any());
+    }
+
+    @Test
+    void getStatusById_ShouldReturn200_WhenEtagChangedAfterNewVersion() throws Exception {
+        // Arrange
+        String id = "1";
+        ConditionalGetSupport support = new ConditionalGetSupport(
+                Duration.ofSeconds(5), Duration.ZERO, false);
+        String staleEtag = support.etagFor(testStatus1);
+        testStatus1.setVersion(testStatus1.getVersion() + 1);
+        when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
+
+        // Act & Assert
+        mockMvc.perform(get("/example-status/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, support.etagFor(testStatus1)));
+    }
+
+    @Test
+    void getStatusById_ShouldTagEachFormat_AndVaryByAccept() throws Exception {
+        // Arrange
+        String id = "1";
+        when(exampleStatusUseCase.getExampleStatusById(id)).thenReturn(Optional.of(testStatus1));
+        String jsonEtag = new ConditionalGetSupport(Duration.ofSeconds(5), Duration.ZERO, false)
+                .etagFor(testStatus1);
+
+        // Act
+        MvcResult cbor = mockMvc.perform(get("/example-status/{id}", id)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonEtag))
+                .andReturn();
+        MvcResult json = mockMvc.perform(get("/example-status/{id}", id)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        // Assert
+        assertEquals(200, cbor.getResponse().getStatus());
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, cbor.getResponse().getContentType());
+        assertNotEquals(jsonEtag, cbor.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(cbor.getResponse().getHeader(HttpHeaders.ETAG).endsWith("-cbor\""));
+        assertEquals(jsonEtag, json.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(cbor.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        assertTrue(json.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+    }
+
     @Test
     void getStatusById_ShouldReturn404_WhenIdDoesNotExist() throws Exception {
         // Arrange
@@ -139,4 +299,15 @@ class ExampleStatusControllerTest {
 
         verify(exampleStatusUseCase, times(1)).getExampleStatusById(id);
     }
+
+    @SuppressWarnings("unchecked")
+    private static Stubber streamStatuses(ExampleStatus... statuses) {
+        return doAnswer(invocation -> {
+            Consumer<ExampleStatus> consumer = invocation.getArgument(0);
+            for (ExampleStatus exampleStatus : statuses) {
+                consumer.accept(exampleStatus);
+            }
+            return null;
+        });
+    }
 }
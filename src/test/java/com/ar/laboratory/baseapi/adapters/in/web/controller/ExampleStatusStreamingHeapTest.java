@@ -0,0 +1,194 @@
+package com.ar.laboratory.baseapi.adapters.in.web.controller;
+
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.adapters.in.web.support.JsonStreamingSupport;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsConfig;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streams one million statuses through the real controller, mapper and port metrics proxies.
+ * Tagged small-heap: the build runs it in its own JVM with -Xmx64m, a heap smaller than the
+ * payload, so a body built in memory fails with OutOfMemoryError instead of passing.
+ */
+@Tag("small-heap")
+@SpringJUnitWebConfig(classes = {
+        PortMetricsConfig.class,
+        BinaryFormatsConfig.class,
+        JsonStreamingSupport.class,
+        ConditionalGetSupport.class,
+        ExampleStatusMapperImpl.class,
+        ExampleStatusController.class,
+        ExampleStatusStreamingHeapTest.TestConfig.class
+})
+class ExampleStatusStreamingHeapTest {
+
+    private static final int TOTAL = 1_000_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+    private static final String METRIC_NAME = "baseapi.port.calls";
+
+    @Autowired
+    private ExampleStatusController controller;
+
+    @Autowired
+    private GeneratedExampleStatusUseCase exampleStatusUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Compares the heap in use after 100k and after 1M elements; a body built in memory would
+     * grow by hundreds of megabytes in between. The use case is observed once for the whole
+     * stream and the mapper not at all.
+     */
+    @Test
+    void getAllStatuses_ShouldKeepHeapFlat_AndObserveTheStreamOnce() throws IOException {
+        // Arrange
+        ResponseEntity<StreamingResponseBody> response = controller.getAllStatuses(null);
+        CountingOutputStream output = new CountingOutputStream();
+
+        // Act
+        response.getBody().writeTo(output);
+
+        // Assert
+        assertTrue(output.count > 100L * TOTAL, "Expected the whole payload, got " + output.count + " bytes");
+        long growth = exampleStatusUseCase.heapGrowth();
+        assertTrue(growth < MAX_HEAP_GROWTH_BYTES, "Heap grew by " + growth + " bytes while streaming");
+        assertNull(meterRegistry.find(METRIC_NAME).tag("port", "ExampleStatusMapper").timer(),
+                "Mapper calls of the streamed elements were observed");
+        Timer streamCalls = meterRegistry.find(METRIC_NAME)
+                .tag("port", "ExampleStatusUseCase")
+                .tag("method", "forEachExampleStatus")
+                .timer();
+        assertNotNull(streamCalls);
+        assertEquals(1, streamCalls.count());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class TestConfig {
+
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObservationRegistry observationRegistry(MeterRegistry meterRegistry) {
+            ObservationRegistry observationRegistry = ObservationRegistry.create();
+            observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+            return observationRegistry;
+        }
+
+        @Bean
+        GeneratedExampleStatusUseCase exampleStatusUseCase() {
+            return new GeneratedExampleStatusUseCase();
+        }
+    }
+
+    /**
+     * Generates the statuses as they are streamed and records the heap in use along the way.
+     */
+    static class GeneratedExampleStatusUseCase implements ExampleStatusUseCase {
+
+        private final long[] usedHeap = new long[2];
+
+        /**
+         * Heap in use after the last element minus the heap in use after the first 10%.
+         */
+        public long heapGrowth() {
+            return usedHeap[1] - usedHeap[0];
+        }
+
+        @Override
+        public Optional<ExampleStatus> getExampleStatusById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<ExampleStatus> getAllExampleStatuses() {
+            throw new UnsupportedOperationException("Only the streamed reads are used");
+        }
+
+        @Override
+        public List<ExampleStatus> getActiveExampleStatuses() {
+            throw new UnsupportedOperationException("Only the streamed reads are used");
+        }
+
+        @Override
+        public void forEachExampleStatus(Consumer<ExampleStatus> consumer) {
+            for (int i = 1; i <= TOTAL; i++) {
+                consumer.accept(status(i));
+                if (i == TOTAL / 10) {
+                    usedHeap[0] = usedHeapAfterGc();
+                }
+            }
+            usedHeap[1] = usedHeapAfterGc();
+        }
+
+        @Override
+        public void forEachActiveExampleStatus(Consumer<ExampleStatus> consumer) {
+            forEachExampleStatus(exampleStatus -> {
+                if (exampleStatus.isActive()) {
+                    consumer.accept(exampleStatus);
+                }
+            });
+        }
+
+        private static ExampleStatus status(int id) {
+            return ExampleStatus.builder()
+                    .id(String.valueOf(id))
+                    .name("Service " + id)
+                    .status("RUNNING")
+                    .description("Generated status " + id)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                    .active(id % 2 == 0)
+                    .build();
+        }
+
+        private static long usedHeapAfterGc() {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ar.laboratory.baseapi.adapters.in.web.controller;
+
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.UpdateExampleStatusUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ExampleStatusUpdateController using MockMvc.
+ */
+@WebMvcTest(ExampleStatusUpdateController.class)
+@Import({ConditionalGetSupport.class, ExampleStatusMapperImpl.class})
+class ExampleStatusUpdateControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UpdateExampleStatusUseCase updateExampleStatusUseCase;
+
+    @SpyBean
+    private ExampleStatusMapper exampleStatusMapper;
+
+    private ExampleStatus testStatus1;
+
+    @BeforeEach
+    void setUp() {
+        testStatus1 = ExampleStatus.builder()
+                .id("1")
+                .name("Test Service A")
+                .status("RUNNING")
+                .description("Test description A")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build();
+    }
+
+    @Test
+    void patchStatus_ShouldReturnUpdatedStatus_WhenIdExists() throws Exception {
+        // Arrange
+        ExampleStatus updated = testStatus1.toBuilder().status("STOPPED").version(1).build();
+        when(updateExampleStatusUseCase.patchExampleStatus(any())).thenReturn(Optional.of(updated));
+
+        // Act & Assert
+        mockMvc.perform(patch("/example-status/{id}", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"STOPPED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("STOPPED")))
+                .andExpect(jsonPath("$.version", is(1)))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        verify(updateExampleStatusUseCase, times(1)).patchExampleStatus(argThat(update ->
+                "1".equals(update.getId()) && "STOPPED".equals(update.getStatus()) && update.getName() == null));
+    }
+
+    @Test
+    void replaceStatus_ShouldReturn400_WhenRequiredFieldsAreMissing() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/example-status/{id}", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"STOPPED\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(updateExampleStatusUseCase, never()).replaceExampleStatus(any());
+    }
+
+    @Test
+    void replaceStatus_ShouldReturn404_WhenIdDoesNotExist() throws Exception {
+        // Arrange
+        when(updateExampleStatusUseCase.replaceExampleStatus(any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(put("/example-status/{id}", "999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Service\",\"status\":\"RUNNING\",\"active\":true}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchStatuses_ShouldReportUnknownIds() throws Exception {
+        // Arrange
+        when(updateExampleStatusUseCase.patchExampleStatuses(any())).thenReturn(List.of(testStatus1));
+
+        // Act & Assert
+        mockMvc.perform(patch("/example-status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"updates\":[{\"id\":\"1\",\"active\":false},{\"id\":\"999\",\"active\":false}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", hasSize(1)))
+                .andExpect(jsonPath("$.updated[0].id", is("1")))
+                .andExpect(jsonPath("$.notFound", hasSize(1)))
+                .andExpect(jsonPath("$.notFound[0]", is("999")));
+    }
+}
@@ -0,0 +1,146 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConcurrencyLimitFilter.
+ */
+class ConcurrencyLimitFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        filter = new ConcurrencyLimitFilter(1, 1, 10, 1.5, 0.5, Duration.ofSeconds(2),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void doFilter_ShouldReject_WhenGroupIsAtLimit() throws Exception {
+        // Arrange - a second request arrives while the first one is still in progress
+        MockHttpServletResponse concurrentResponse = new MockHttpServletResponse();
+        MockFilterChain slowChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    filter.doFilter(request("GET", "/base-api/example-status/2"), concurrentResponse, new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/base-api/example-status/1"), response, slowChain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(503, concurrentResponse.getStatus());
+        assertEquals("2", concurrentResponse.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("baseapi.concurrency.rejected")
+                .tag("group", "/example-status").tag("priority", "read").counter().count());
+    }
+
+    @Test
+    void doFilter_ShouldNotLimitUnmanagedPaths() throws Exception {
+        // Arrange
+        MockHttpServletResponse healthResponse = new MockHttpServletResponse();
+        MockHttpServletResponse streamResponse = new MockHttpServletResponse();
+        MockFilterChain slowChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    filter.doFilter(request("GET", "/base-api/health"), healthResponse, new MockFilterChain());
+                    filter.doFilter(request("GET", "/base-api/example-status/stream"), streamResponse, new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        // Act
+        filter.doFilter(request("GET", "/base-api/example-status/1"), new MockHttpServletResponse(), slowChain);
+
+        // Assert
+        assertEquals(200, healthResponse.getStatus());
+        assertEquals(200, streamResponse.getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldShedWritesBeforeReads_AcrossGroups() throws Exception {
+        // Arrange - limit 2, writes get half of it; a status read is in flight
+        filter = new ConcurrencyLimitFilter(2, 2, 10, 1.5, 0.5, Duration.ofSeconds(2),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockHttpServletResponse lookupResponse = new MockHttpServletResponse();
+        MockFilterChain slowChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    filter.doFilter(request("POST", "/base-api/examples"), writeResponse, new MockFilterChain());
+                    filter.doFilter(request("POST", "/base-api/examples/lookup"), lookupResponse, new MockFilterChain());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        // Act
+        filter.doFilter(request("GET", "/base-api/example-status/1"), new MockHttpServletResponse(), slowChain);
+
+        // Assert - the write is over its share of the shared limit, the lookup is a read
+        assertEquals(503, writeResponse.getStatus());
+        assertEquals(200, lookupResponse.getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldHoldSlotUntilAsyncDispatchCompletes_WhenResponseIsStreamed() throws Exception {
+        // Arrange - the controller hands the body to an async dispatch
+        MockHttpServletRequest streamed = request("GET", "/base-api/example-status");
+        streamed.setAsyncSupported(true);
+        MockFilterChain asyncChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                request.startAsync();
+            }
+        };
+
+        // Act
+        filter.doFilter(streamed, new MockHttpServletResponse(), asyncChain);
+        MockHttpServletResponse duringStream = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/base-api/example-status/1"), duringStream, new MockFilterChain());
+        ((MockAsyncContext) streamed.getAsyncContext()).complete();
+        MockHttpServletResponse afterStream = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/base-api/example-status/1"), afterStream, new MockFilterChain());
+
+        // Assert
+        assertEquals(503, duringStream.getStatus());
+        assertEquals(200, afterStream.getStatus());
+        assertEquals(0.0, meterRegistry.get("baseapi.concurrency.inflight").gauge().value());
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/base-api");
+        return request;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GradientConcurrencyLimit.
+ */
+class GradientConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryAcquire_ShouldRejectLowPriorityBeforeHighPriority() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(true));
+        }
+
+        // Act & Assert
+        assertFalse(limit.tryAcquire(true));
+        assertTrue(limit.tryAcquire(false));
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWhenLimitIsReached() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 100, 1.5, 0.5);
+        limit.tryAcquire(false);
+        limit.tryAcquire(false);
+
+        // Act & Assert
+        assertFalse(limit.tryAcquire(false));
+        limit.onSample(FAST);
+        assertTrue(limit.tryAcquire(false));
+    }
+
+    @Test
+    void onSample_ShouldGrowLimit_WhenSaturatedAndLatencyIsStable() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.5);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            saturate(limit);
+            limit.onSample(FAST);
+            release(limit);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 10, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldShrinkLimit_WhenLatencyRises() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 1, 100, 1.5, 0.5);
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire(false);
+            limit.onSample(FAST);
+        }
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire(false);
+            limit.onSample(SLOW);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < 50, "limit was " + limit.getLimit());
+    }
+
+    @Test
+    void onDropped_ShouldBackOffButNotBelowMinimum() {
+        // Arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(5, 4, 100, 1.5, 0.5);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire(false);
+            limit.onDropped();
+        }
+
+        // Assert
+        assertEquals(4, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    private static void saturate(GradientConcurrencyLimit limit) {
+        while (limit.tryAcquire(false)) {
+            // fill every slot
+        }
+    }
+
+    private static void release(GradientConcurrencyLimit limit) {
+        while (limit.getInFlight() > 0) {
+            limit.onSample(FAST);
+        }
+    }
+}
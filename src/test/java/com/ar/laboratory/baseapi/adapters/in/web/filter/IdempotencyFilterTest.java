@@ -0,0 +1,260 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.IdempotencyClaim;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import com.ar.laboratory.baseapi.domain.ports.in.IdempotencyUseCase;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyFilter.
+ */
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"nombre\":\"Juan\",\"apellido\":\"Perez\",\"dni\":\"12345678\",\"genero\":\"M\"}";
+    private static final String RESPONSE_BODY = "{\"id\":1,\"cuit\":\"20123456786\"}";
+    private static final String KEY = "POST:/examples:ip:10.0.0.1:abc";
+
+    private IdempotencyUseCase idempotencyUseCase;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyUseCase = mock(IdempotencyUseCase.class);
+        filter = new IdempotencyFilter(idempotencyUseCase, new ClientIdResolver("X-API-Key", new String[]{"partner-key"}), 1024);
+    }
+
+    @Test
+    void doFilter_ShouldStoreResponse_WhenKeyIsNew() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(eq(KEY), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.ACQUIRED)
+                .lockToken("token")
+                .build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("abc"), response, new CreatingChain());
+
+        // Assert
+        ArgumentCaptor<IdempotentResponse> stored = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(idempotencyUseCase).complete(eq(KEY), eq("token"), stored.capture());
+        assertEquals(201, stored.getValue().getStatus());
+        assertEquals(Map.of("Location", "/base-api/examples/1", "ETag", "\"ex-1\""), stored.getValue().getHeaders());
+        assertEquals("application/json", stored.getValue().getContentType());
+        assertArrayEquals(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8), stored.getValue().getBody());
+        assertEquals(201, response.getStatus());
+        assertEquals(RESPONSE_BODY, response.getContentAsString());
+        verify(idempotencyUseCase, never()).abandon(anyString(), anyString());
+    }
+
+    @Test
+    void doFilter_ShouldReplayStoredResponse_WithoutExecuting() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.REPLAY)
+                .response(IdempotentResponse.builder()
+                        .status(201)
+                        .contentType("application/json")
+                        .headers(Map.of("Location", "/base-api/examples/1"))
+                        .body(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8))
+                        .build())
+                .build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("abc"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(201, response.getStatus());
+        assertEquals("true", response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("/base-api/examples/1", response.getHeader("Location"));
+        assertArrayEquals(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8), response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_ShouldReleaseLock_WhenResponseIsServerError() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.ACQUIRED)
+                .lockToken("token")
+                .build());
+        MockFilterChain failingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                ((HttpServletResponse) response).setStatus(503);
+            }
+        };
+
+        // Act
+        filter.doFilter(request("abc"), new MockHttpServletResponse(), failingChain);
+
+        // Assert
+        verify(idempotencyUseCase).abandon(KEY, "token");
+        verify(idempotencyUseCase, never()).complete(anyString(), anyString(), any());
+    }
+
+    @Test
+    void doFilter_ShouldRejectReusedKey_WithDifferentBody() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.MISMATCH)
+                .build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("abc"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldAskToRetry_WhenFirstRequestIsStillRunning() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.IN_PROGRESS)
+                .build());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("abc"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(409, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void doFilter_ShouldScopeKeyToClient() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.MISMATCH)
+                .build());
+        MockHttpServletRequest partnerRequest = request("abc");
+        partnerRequest.addHeader("X-API-Key", "partner-key");
+        MockHttpServletRequest otherAddressRequest = request("abc");
+        otherAddressRequest.setRemoteAddr("10.0.0.9");
+
+        // Act
+        filter.doFilter(request("abc"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(partnerRequest, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(otherAddressRequest, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyUseCase, times(3)).begin(keys.capture(), anyString());
+        assertEquals(KEY, keys.getAllValues().get(0));
+        assertTrue(keys.getAllValues().get(1).startsWith("POST:/examples:key:"));
+        assertEquals("POST:/examples:ip:10.0.0.9:abc", keys.getAllValues().get(2));
+    }
+
+    @Test
+    void doFilter_ShouldServeCachedBody_ToAsynchronousReaders() throws Exception {
+        // Arrange
+        when(idempotencyUseCase.begin(anyString(), anyString())).thenReturn(IdempotencyClaim.builder()
+                .outcome(IdempotencyClaim.Outcome.ACQUIRED)
+                .lockToken("token")
+                .build());
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allDataRead = new boolean[1];
+        MockFilterChain asyncReadingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                ServletInputStream input = request.getInputStream();
+                input.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        byte[] buffer = new byte[16];
+                        while (input.isReady() && !input.isFinished()) {
+                            int length = input.read(buffer);
+                            if (length > 0) {
+                                read.write(buffer, 0, length);
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        allDataRead[0] = true;
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail(throwable);
+                    }
+                });
+                ((HttpServletResponse) response).setStatus(201);
+            }
+        };
+
+        // Act
+        filter.doFilter(request("abc"), new MockHttpServletResponse(), asyncReadingChain);
+
+        // Assert
+        assertEquals(BODY, read.toString(StandardCharsets.UTF_8));
+        assertTrue(allDataRead[0]);
+    }
+
+    @Test
+    void doFilter_ShouldSkipRequests_WithoutKey() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request(null), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(idempotencyUseCase);
+    }
+
+    private MockHttpServletRequest request(String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/base-api/examples");
+        request.setContextPath("/base-api");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader("Idempotency-Key", idempotencyKey);
+        }
+        return request;
+    }
+
+    /**
+     * Chain standing in for the controller: reads the whole body and writes a 201.
+     */
+    private static final class CreatingChain extends MockFilterChain {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+            assertEquals(BODY, new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setHeader("Location", "/base-api/examples/1");
+            httpResponse.setHeader("ETag", "\"ex-1\"");
+            response.setContentType("application/json");
+            response.getOutputStream().write(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrecompressedResponseFilter.
+ */
+class PrecompressedResponseFilterTest {
+
+    private static final String BODY = "[" + "{\"id\":\"1\",\"name\":\"Service\",\"status\":\"RUNNING\"},".repeat(50)
+            + "{\"id\":\"2\",\"name\":\"Service\",\"status\":\"IDLE\"}]";
+
+    private PrecompressedResponseFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PrecompressedResponseFilter(new String[]{"/example-status", "/api-docs"}, 9, 256, 65536);
+    }
+
+    @Test
+    void doFilter_ShouldWriteGzip_WhenClientAcceptsIt() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/example-status", "gzip, deflate, br"), response, new WritingChain(BODY));
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals("application/json", response.getContentType());
+        assertEquals("\"v1\"", response.getHeader("ETag"));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertTrue(response.getContentAsByteArray().length < BODY.length());
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_ShouldReuseStoredGzip_WhenBodyIsUnchanged() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockHttpServletResponse changed = new MockHttpServletResponse();
+        String changedBody = BODY.replace("IDLE", "STOPPED");
+
+        // Act
+        filter.doFilter(request("/example-status", "gzip"), first, new WritingChain(BODY));
+        filter.doFilter(request("/example-status", "gzip"), second, new WritingChain(BODY));
+        filter.doFilter(request("/example-status", "gzip"), changed, new WritingChain(changedBody));
+
+        // Assert
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(changedBody, gunzip(changed.getContentAsByteArray()));
+    }
+
+    @Test
+    void doFilter_ShouldPassThrough_WhenGzipIsNotAccepted() throws Exception {
+        // Arrange
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/example-status", null), missing, new WritingChain(BODY));
+        filter.doFilter(request("/example-status", "gzip;q=0, identity"), refused, new WritingChain(BODY));
+
+        // Assert
+        assertNull(missing.getHeader("Content-Encoding"));
+        assertEquals(BODY, missing.getContentAsString());
+        assertNull(refused.getHeader("Content-Encoding"));
+        assertEquals(BODY, refused.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldPassThrough_WhenPathIsNotConfigured() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/examples", "gzip"), response, new WritingChain(BODY));
+
+        // Assert
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldSendUncompressedBody_WhenBodyIsSmallOrNotOk() throws Exception {
+        // Arrange
+        MockHttpServletResponse small = new MockHttpServletResponse();
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        MockFilterChain notModifiedChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                ((HttpServletResponse) response).setStatus(304);
+            }
+        };
+
+        // Act
+        filter.doFilter(request("/example-status", "gzip"), small, new WritingChain("[]"));
+        filter.doFilter(request("/example-status", "gzip"), notModified, notModifiedChain);
+
+        // Assert
+        assertNull(small.getHeader("Content-Encoding"));
+        assertEquals("[]", small.getContentAsString());
+        assertEquals(304, notModified.getStatus());
+        assertNull(notModified.getHeader("Content-Encoding"));
+        assertEquals(0, notModified.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_ShouldPassLargeBodyThrough_WithoutBufferingIt() throws Exception {
+        // Arrange: 10,000 elements of about 50 bytes, far above max-body-bytes
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] element = "{\"id\":\"1\",\"name\":\"Service\",\"status\":\"RUNNING\"}\n".getBytes(StandardCharsets.UTF_8);
+        int total = 10_000;
+        int[] bytesSentWhileWriting = new int[1];
+        MockFilterChain streamingChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse filteredResponse) throws IOException {
+                filteredResponse.setContentType("application/x-ndjson");
+                for (int i = 0; i < total; i++) {
+                    filteredResponse.getOutputStream().write(element);
+                }
+                bytesSentWhileWriting[0] = response.getContentAsByteArray().length;
+            }
+        };
+
+        // Act
+        filter.doFilter(request("/example-status", "gzip"), response, streamingChain);
+
+        // Assert
+        assertTrue(bytesSentWhileWriting[0] > (total - 100) * element.length,
+                "Only " + bytesSentWhileWriting[0] + " bytes reached the client before the handler returned");
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(total * element.length, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void doFilter_ShouldSendFirstElement_WhenStreamedHandlerFlushes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/example-status", "gzip");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] sentAfterFlush = new String[1];
+        MockFilterChain asyncChain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest filteredRequest, ServletResponse filteredResponse) throws IOException {
+                filteredRequest.startAsync();
+                filteredResponse.setContentType("application/x-ndjson");
+                filteredResponse.getOutputStream().write("{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8));
+                filteredResponse.getOutputStream().flush();
+                sentAfterFlush[0] = response.getContentAsString();
+            }
+        };
+
+        // Act
+        filter.doFilter(request, response, asyncChain);
+
+        // Assert
+        assertEquals("{\"id\":\"1\"}\n", sentAfterFlush[0]);
+        assertNull(response.getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void doFilter_ShouldKeepBuffering_WhenSynchronousHandlerFlushes() throws Exception {
+        // Arrange: message converters flush the body after writing it
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/api-docs", "gzip"), response, new WritingChain(BODY));
+
+        // Assert
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void acceptsGzip_ShouldFollowQualityValues() {
+        // Act & Assert
+        assertTrue(PrecompressedResponseFilter.acceptsGzip("gzip"));
+        assertTrue(PrecompressedResponseFilter.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(PrecompressedResponseFilter.acceptsGzip("*"));
+        assertFalse(PrecompressedResponseFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(PrecompressedResponseFilter.acceptsGzip("br, identity"));
+        assertFalse(PrecompressedResponseFilter.acceptsGzip(null));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidLevel() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrecompressedResponseFilter(new String[]{"/api-docs"}, 0, 256, 65536));
+    }
+
+    private static MockHttpServletRequest request(String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/base-api" + path);
+        request.setContextPath("/base-api");
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    private static String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Writes a 200 JSON response with the given body, as the controllers do.
+     */
+    private static final class WritingChain extends MockFilterChain {
+
+        private final String body;
+
+        private WritingChain(String body) {
+            this.body = body;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(200);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader("ETag", "\"v1\"");
+            httpResponse.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            httpResponse.getOutputStream().flush();
+        }
+    }
+}
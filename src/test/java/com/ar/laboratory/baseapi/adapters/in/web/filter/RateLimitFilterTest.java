@@ -0,0 +1,126 @@
+package com.ar.laboratory.baseapi.adapters.in.web.filter;
+
+import com.ar.laboratory.baseapi.adapters.in.web.support.ClientIdResolver;
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.ports.in.RateLimitUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitFilter.
+ */
+class RateLimitFilterTest {
+
+    private RateLimitUseCase rateLimitUseCase;
+    private MeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitUseCase = mock(RateLimitUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        filter = new RateLimitFilter(rateLimitUseCase,
+                new ClientIdResolver("X-API-Key", new String[]{"partner-key"}), 5,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void doFilter_ShouldReject_WithRetryAfterAndRateLimitHeaders() throws Exception {
+        // Arrange
+        when(rateLimitUseCase.tryConsume("ip:10.0.0.1", 1)).thenReturn(decision(false, 0, 3));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("GET", null), response, chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertEquals("100", response.getHeader("RateLimit-Limit"));
+        assertEquals("0", response.getHeader("RateLimit-Remaining"));
+        assertEquals("3", response.getHeader("RateLimit-Reset"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("baseapi.ratelimit.requests")
+                .tag("client", "anonymous").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void doFilter_ShouldPassAndChargeWriteCost_WhenAllowed() throws Exception {
+        // Arrange
+        when(rateLimitUseCase.tryConsume(startsWith("key:"), eq(5))).thenReturn(decision(true, 95, 1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("POST", "partner-key"), response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertNull(response.getHeader("Retry-After"));
+        assertEquals("95", response.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    void doFilter_ShouldUseRemoteAddress_WhenApiKeyIsUnknown() throws Exception {
+        // Arrange
+        when(rateLimitUseCase.tryConsume("ip:10.0.0.1", 1)).thenReturn(decision(true, 99, 1));
+
+        // Act
+        filter.doFilter(request("GET", "made-up-key"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verify(rateLimitUseCase).tryConsume("ip:10.0.0.1", 1);
+    }
+
+    @Test
+    void doFilter_ShouldOnlyLimitWholePathSegments() throws Exception {
+        // Arrange
+        when(rateLimitUseCase.tryConsume(anyString(), anyInt())).thenReturn(decision(true, 99, 1));
+
+        // Act
+        for (String path : new String[]{"/examplesX", "/example-statuses", "/example-status/stream", "/actuator/health"}) {
+            filter.doFilter(request("GET", path, null), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        filter.doFilter(request("GET", "/examples/1", null), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("GET", "/example-status", null), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        verify(rateLimitUseCase, times(2)).tryConsume(anyString(), anyInt());
+    }
+
+    private static MockHttpServletRequest request(String method, String apiKey) {
+        return request(method, "/examples", apiKey);
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/base-api" + path);
+        request.setContextPath("/base-api");
+        request.setRemoteAddr("10.0.0.1");
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    private static RateLimitDecision decision(boolean allowed, long remaining, long resetSeconds) {
+        return RateLimitDecision.builder()
+                .allowed(allowed)
+                .limit(100)
+                .remaining(remaining)
+                .resetSeconds(resetSeconds)
+                .build();
+    }
+}
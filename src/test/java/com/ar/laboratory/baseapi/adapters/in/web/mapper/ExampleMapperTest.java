@@ -0,0 +1,75 @@
+package com.ar.laboratory.baseapi.adapters.in.web.mapper;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupItemResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleResponse;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the generated ExampleMapper.
+ */
+class ExampleMapperTest {
+
+    private final ExampleMapper mapper = new ExampleMapperImpl();
+
+    @Test
+    void toDomain_ShouldCopyRequestAndLeaveServiceFieldsEmpty() {
+        // Arrange
+        CreateExampleRequest request = CreateExampleRequest.builder()
+                .nombre("Juan")
+                .apellido("Perez")
+                .dni("12345678")
+                .genero("M")
+                .build();
+
+        // Act
+        Example example = mapper.toDomain(request);
+
+        // Assert
+        assertEquals("Juan", example.getNombre());
+        assertEquals("Perez", example.getApellido());
+        assertEquals("12345678", example.getDni());
+        assertEquals("M", example.getGenero());
+        assertNull(example.getId());
+        assertNull(example.getCuit());
+        assertNull(example.getCuitStatus());
+    }
+
+    @Test
+    void toResponse_ShouldIncludeGeneroCuitAndStatusName() {
+        // Arrange
+        Example example = Example.builder()
+                .id(1L)
+                .dni("12345678")
+                .genero("F")
+                .cuit("27123456784")
+                .cuitStatus(CuitStatus.READY)
+                .build();
+
+        // Act
+        ExampleResponse response = mapper.toResponse(example);
+
+        // Assert
+        assertEquals(1L, response.getId());
+        assertEquals("F", response.getGenero());
+        assertEquals("27123456784", response.getCuit());
+        assertEquals("READY", response.getCuitStatus());
+    }
+
+    @Test
+    void toLookupItemResponse_ShouldOmitExample_WhenNotFound() {
+        // Act
+        ExampleLookupItemResponse response = mapper.toLookupItemResponse(
+                ExampleLookupResult.builder().key("12345678").build());
+
+        // Assert
+        assertEquals("12345678", response.getKey());
+        assertFalse(response.isFound());
+        assertNull(response.getExample());
+    }
+}
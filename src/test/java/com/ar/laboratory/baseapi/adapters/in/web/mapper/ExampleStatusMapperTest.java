@@ -0,0 +1,100 @@
+package com.ar.laboratory.baseapi.adapters.in.web.mapper;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusChangeResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.PatchExampleStatusRequest;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusUpdate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the generated ExampleStatusMapper.
+ */
+class ExampleStatusMapperTest {
+
+    private final ExampleStatusMapper mapper = new ExampleStatusMapperImpl();
+
+    @Test
+    void toResponse_ShouldCopyEveryField() {
+        // Arrange
+        ExampleStatus status = status();
+
+        // Act
+        ExampleStatusResponse response = mapper.toResponse(status);
+
+        // Assert
+        assertEquals("1", response.getId());
+        assertEquals("Service A", response.getName());
+        assertEquals("RUNNING", response.getStatus());
+        assertEquals("Description", response.getDescription());
+        assertEquals(status.getCreatedAt(), response.getCreatedAt());
+        assertEquals(status.getUpdatedAt(), response.getUpdatedAt());
+        assertTrue(response.isActive());
+        assertEquals(3, response.getVersion());
+    }
+
+    @Test
+    void toResponseList_ShouldReturnEmptyList_WhenSourceIsNull() {
+        // Act
+        List<ExampleStatusResponse> responses = mapper.toResponseList(null);
+
+        // Assert
+        assertNotNull(responses);
+        assertTrue(responses.isEmpty());
+    }
+
+    @Test
+    void toUpdate_ShouldTakeIdFromPathAndKeepMissingFieldsNull() {
+        // Arrange
+        PatchExampleStatusRequest request = PatchExampleStatusRequest.builder().status("STOPPED").build();
+
+        // Act
+        ExampleStatusUpdate update = mapper.toUpdate("7", request);
+
+        // Assert
+        assertEquals("7", update.getId());
+        assertEquals("STOPPED", update.getStatus());
+        assertNull(update.getName());
+        assertNull(update.getActive());
+    }
+
+    @Test
+    void toChangeResponse_ShouldMapCurrentStatus() {
+        // Arrange
+        ExampleStatusChange change = ExampleStatusChange.builder()
+                .statusId("1")
+                .previousStatus("IDLE")
+                .current(status())
+                .changedAt(LocalDateTime.now())
+                .origin("node-a")
+                .build();
+
+        // Act
+        ExampleStatusChangeResponse response = mapper.toChangeResponse(change);
+
+        // Assert
+        assertEquals("1", response.getStatusId());
+        assertEquals("IDLE", response.getPreviousStatus());
+        assertEquals("RUNNING", response.getCurrent().getStatus());
+        assertEquals(change.getChangedAt(), response.getChangedAt());
+    }
+
+    private ExampleStatus status() {
+        return ExampleStatus.builder()
+                .id("1")
+                .name("Service A")
+                .status("RUNNING")
+                .description("Description")
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now())
+                .active(true)
+                .version(3)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ar.laboratory.baseapi.adapters.in.web.reactive;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.in.web.support.ConditionalGetSupport;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ReactiveExampleStatusUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExampleStatusHandler through the routes of ExampleStatusRoutes.
+ */
+class ExampleStatusHandlerTest {
+
+    private ReactiveExampleStatusUseCase reactiveExampleStatusUseCase;
+    private ConditionalGetSupport conditionalGetSupport;
+    private WebTestClient webTestClient;
+
+    private ExampleStatus testStatus1;
+    private ExampleStatus testStatus2;
+
+    @BeforeEach
+    void setUp() {
+        reactiveExampleStatusUseCase = mock(ReactiveExampleStatusUseCase.class);
+        conditionalGetSupport = new ConditionalGetSupport(Duration.ofSeconds(5), Duration.ZERO, false);
+        ExampleStatusHandler handler = new ExampleStatusHandler(reactiveExampleStatusUseCase,
+                new ExampleStatusMapperImpl(), conditionalGetSupport);
+        webTestClient = WebTestClient
+                .bindToRouterFunction(new ExampleStatusRoutes().exampleStatusRouterFunction(handler))
+                .build();
+
+        testStatus1 = ExampleStatus.builder()
+                .id("1")
+                .name("Test Service A")
+                .status("RUNNING")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .active(true)
+                .build();
+
+        testStatus2 = ExampleStatus.builder()
+                .id("2")
+                .name("Test Service B")
+                .status("IDLE")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+                .active(true)
+                .build();
+    }
+
+    @Test
+    void getStatusById_ShouldReturnStatusWithConditionalHeaders_WhenIdExists() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getExampleStatusById("1")).thenReturn(Mono.just(testStatus1));
+
+        // Act & Assert
+        webTestClient.get().uri("/example-status/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, conditionalGetSupport.etagFor(testStatus1))
+                .expectHeader().lastModified(conditionalGetSupport.lastModified(testStatus1))
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=5, private")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("1")
+                .jsonPath("$.name").isEqualTo("Test Service A")
+                .jsonPath("$.createdAt").isEqualTo("2024-01-01T10:00:00");
+    }
+
+    @Test
+    void getStatusById_ShouldReturnNotModified_WhenEtagMatches() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getExampleStatusById("1")).thenReturn(Mono.just(testStatus1));
+        String etag = conditionalGetSupport.etagFor(testStatus1);
+
+        // Act & Assert
+        webTestClient.get().uri("/example-status/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=5, private")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getStatusById_ShouldReturnNotFound_WhenIdDoesNotExist() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getExampleStatusById("999")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.get().uri("/example-status/999")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllStatuses_ShouldReturnJsonArray_WhenAcceptIsWildcard() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getAllExampleStatuses()).thenReturn(Flux.just(testStatus1, testStatus2));
+
+        // Act & Assert
+        webTestClient.get().uri("/example-status")
+                .accept(MediaType.ALL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo("1")
+                .jsonPath("$[1].id").isEqualTo("2");
+    }
+
+    @Test
+    void getAllStatuses_ShouldFollowQualityValues_LikeTheServletController() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getAllExampleStatuses()).thenReturn(Flux.just(testStatus1));
+
+        // Act & Assert
+        webTestClient.get().uri("/example-status")
+                .header(HttpHeaders.ACCEPT, "application/x-ndjson;q=0.5, application/json")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON);
+        webTestClient.get().uri("/example-status")
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-ndjson")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    void getActiveStatuses_ShouldReturnNdjson_WhenRequested() {
+        // Arrange
+        when(reactiveExampleStatusUseCase.getActiveExampleStatuses()).thenReturn(Flux.just(testStatus1, testStatus2));
+
+        // Act
+        List<ExampleStatusResponse> body = webTestClient.get().uri("/example-status/active")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ExampleStatusResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertNotNull(body);
+        assertEquals(2, body.size());
+        assertEquals("1", body.get(0).getId());
+        verify(reactiveExampleStatusUseCase, never()).getAllExampleStatuses();
+    }
+}
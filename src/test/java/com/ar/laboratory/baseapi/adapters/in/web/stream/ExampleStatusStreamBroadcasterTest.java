@@ -0,0 +1,103 @@
+package com.ar.laboratory.baseapi.adapters.in.web.stream;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.controller.ExampleStatusStreamController;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for ExampleStatusStreamBroadcaster.
+ */
+class ExampleStatusStreamBroadcasterTest {
+
+    private ExampleStatusStreamBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void onStatusChange_ShouldSendTheSameFrameToEverySubscriber() throws Exception {
+        // Arrange
+        broadcaster = new ExampleStatusStreamBroadcaster(new ExampleStatusMapperImpl(), JacksonMappers.applicationDefaults(),
+                16, 16, Duration.ofMinutes(1), Executors.newVirtualThreadPerTaskExecutor());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ExampleStatusStreamController(broadcaster)).build();
+        MvcResult first = mockMvc.perform(get("/example-status/stream")).andExpect(request().asyncStarted()).andReturn();
+        MvcResult second = mockMvc.perform(get("/example-status/stream")).andExpect(request().asyncStarted()).andReturn();
+
+        // Act
+        broadcaster.onStatusChange(change("1"));
+
+        // Assert
+        String firstFrame = awaitContent(first, "\"statusId\":\"1\"");
+        String secondFrame = awaitContent(second, "\"statusId\":\"1\"");
+        assertEquals(firstFrame, secondFrame);
+        assertTrue(firstFrame.contains("event:status-change"));
+        assertTrue(firstFrame.contains("\"changedAt\":\"2026-01-02T03:04:05\""));
+        assertEquals(2, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void onStatusChange_ShouldDropSubscriber_WhenItsBufferIsFull() {
+        // Arrange - the only sender thread is busy, so the subscriber never drains its buffer
+        CountDownLatch busy = new CountDownLatch(1);
+        ExecutorService senders = Executors.newSingleThreadExecutor();
+        senders.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        broadcaster = new ExampleStatusStreamBroadcaster(new ExampleStatusMapperImpl(), JacksonMappers.applicationDefaults(),
+                16, 2, Duration.ofMinutes(1), senders);
+        broadcaster.subscribe(null);
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            broadcaster.onStatusChange(change(Integer.toString(i)));
+        }
+
+        // Assert
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(1, broadcaster.getDroppedSubscriberCount());
+        busy.countDown();
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Stream did not receive " + expected + ": " + content);
+        return content;
+    }
+
+    private static ExampleStatusChange change(String id) {
+        return ExampleStatusChange.builder()
+                .statusId(id)
+                .previousStatus("IDLE")
+                .current(ExampleStatus.builder().id(id).name("Service " + id).status("RUNNING").active(true).build())
+                .changedAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ar.laboratory.baseapi.adapters.in.web.stream;
+
+import com.ar.laboratory.baseapi.adapters.in.web.stream.StatusChangeRingBuffer.StreamEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StatusChangeRingBuffer.
+ */
+class StatusChangeRingBufferTest {
+
+    @Test
+    void eventsAfter_ShouldReturnMissedEventsInOrder() {
+        // Arrange
+        StatusChangeRingBuffer buffer = new StatusChangeRingBuffer(4);
+        for (long id = 1; id <= 3; id++) {
+            buffer.append(new StreamEvent(id, "status-change", "{}"));
+        }
+
+        // Act
+        List<StreamEvent> missed = buffer.eventsAfter(1);
+
+        // Assert
+        assertNotNull(missed);
+        assertEquals(List.of(2L, 3L), missed.stream().map(StreamEvent::id).toList());
+    }
+
+    @Test
+    void eventsAfter_ShouldReturnEmpty_WhenClientIsUpToDate() {
+        // Arrange
+        StatusChangeRingBuffer buffer = new StatusChangeRingBuffer(4);
+        buffer.append(new StreamEvent(1, "status-change", "{}"));
+
+        // Act
+        List<StreamEvent> missed = buffer.eventsAfter(1);
+
+        // Assert
+        assertNotNull(missed);
+        assertTrue(missed.isEmpty());
+    }
+
+    @Test
+    void eventsAfter_ShouldReturnNull_WhenMissedEventsWereOverwritten() {
+        // Arrange
+        StatusChangeRingBuffer buffer = new StatusChangeRingBuffer(2);
+        for (long id = 1; id <= 5; id++) {
+            buffer.append(new StreamEvent(id, "status-change", "{}"));
+        }
+
+        // Act & Assert
+        assertNull(buffer.eventsAfter(1));
+        assertEquals(List.of(4L, 5L), buffer.eventsAfter(3).stream().map(StreamEvent::id).toList());
+    }
+
+    @Test
+    void eventsAfter_ShouldReturnNull_WhenIdIsAheadOfBuffer() {
+        // Arrange
+        StatusChangeRingBuffer buffer = new StatusChangeRingBuffer(2);
+        buffer.append(new StreamEvent(1, "status-change", "{}"));
+
+        // Act & Assert
+        assertNull(buffer.eventsAfter(42));
+    }
+}
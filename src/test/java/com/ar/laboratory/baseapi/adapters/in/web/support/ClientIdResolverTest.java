@@ -0,0 +1,51 @@
+package com.ar.laboratory.baseapi.adapters.in.web.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientIdResolver.
+ */
+class ClientIdResolverTest {
+
+    private final ClientIdResolver resolver = new ClientIdResolver("X-API-Key", new String[]{"partner-key", " "});
+
+    @Test
+    void clientId_ShouldUseHashedKey_WhenKeyIsConfigured() {
+        // Arrange
+        MockHttpServletRequest request = request("partner-key");
+
+        // Act
+        String clientId = resolver.clientId(request);
+
+        // Assert
+        assertTrue(ClientIdResolver.isApiKeyClient(clientId));
+        assertFalse(clientId.contains("partner-key"));
+        assertEquals(clientId, resolver.clientId("partner-key", "10.0.0.2"));
+    }
+
+    @Test
+    void clientId_ShouldUseRemoteAddress_WhenKeyIsUnknownOrMissing() {
+        // Act
+        String unknown = resolver.clientId(request("random-" + System.nanoTime()));
+        String missing = resolver.clientId(request(null));
+        String blank = resolver.clientId(request(" "));
+
+        // Assert
+        assertEquals("ip:10.0.0.1", unknown);
+        assertEquals("ip:10.0.0.1", missing);
+        assertEquals("ip:10.0.0.1", blank);
+        assertFalse(ClientIdResolver.isApiKeyClient(unknown));
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/base-api/examples");
+        request.setRemoteAddr("10.0.0.1");
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,194 @@
+package com.ar.laboratory.baseapi.adapters.in.web.support;
+
+import com.ar.laboratory.baseapi.adapters.in.web.codec.BinaryMediaTypes;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ExampleStatusResponseCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.JacksonMappers;
+import com.ar.laboratory.baseapi.adapters.in.web.codec.ProtobufCodec;
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleStatusResponse;
+import com.ar.laboratory.baseapi.config.BinaryFormatsConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JsonStreamingSupport.
+ */
+class JsonStreamingSupportTest {
+
+    private final JsonStreamingSupport support = new JsonStreamingSupport(JacksonMappers.applicationDefaults(),
+            new BinaryFormatsConfig().protobufCodecs());
+
+    @Test
+    void stream_ShouldWriteJsonArray_WhenAcceptIsMissingOrWildcard() throws IOException {
+        // Act
+        ResponseEntity<StreamingResponseBody> missing = support.stream(null, ExampleStatusResponse.class,
+                sink -> List.of(response("1"), response("2")).forEach(sink));
+        ResponseEntity<StreamingResponseBody> wildcard = support.stream("*/*", ExampleStatusResponse.class,
+                sink -> List.of(response("1")).forEach(sink));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON, missing.getHeaders().getContentType());
+        assertEquals(MediaType.APPLICATION_JSON, wildcard.getHeaders().getContentType());
+        String body = write(missing);
+        assertTrue(body.startsWith("[{\"id\":\"1\""));
+        assertTrue(body.contains("},{\"id\":\"2\""));
+        assertTrue(body.endsWith("}]"));
+    }
+
+    @Test
+    void stream_ShouldWriteOneDocumentPerLine_WhenNdjsonIsAccepted() throws IOException {
+        // Act
+        ResponseEntity<StreamingResponseBody> response = support.stream("application/x-ndjson",
+                ExampleStatusResponse.class, sink -> List.of(response("1"), response("2")).forEach(sink));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = write(response).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"1\""));
+        assertTrue(lines[1].startsWith("{\"id\":\"2\""));
+    }
+
+    @Test
+    void stream_ShouldWriteDatesAsIsoStrings() throws IOException {
+        // Arrange
+        ExampleStatusResponse item = response("1");
+        item.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+
+        // Act
+        String body = write(support.stream(null, ExampleStatusResponse.class, sink -> sink.accept(item)));
+
+        // Assert
+        assertTrue(body.contains("\"createdAt\":\"2024-01-02T03:04:05\""));
+    }
+
+    @Test
+    void stream_ShouldApplyApplicationMapperSettings_ToEveryFormat() throws IOException {
+        // Arrange
+        ObjectMapper applicationMapper = JacksonMappers.applicationDefaults()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        JsonStreamingSupport configured = new JsonStreamingSupport(applicationMapper,
+                new BinaryFormatsConfig().protobufCodecs());
+        ExampleStatusResponse item = response("1");
+        item.setCreatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+
+        // Act
+        String json = write(configured.stream(null, ExampleStatusResponse.class, sink -> sink.accept(item)));
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        configured.stream(MediaType.APPLICATION_CBOR_VALUE, ExampleStatusResponse.class, sink -> sink.accept(item))
+                .getBody().writeTo(cbor);
+
+        // Assert
+        assertTrue(json.contains("\"created_at\":\"2024-01-02T03:04:05\""));
+        JsonNode decoded = JacksonMappers.create(new CBORFactory()).readTree(cbor.toByteArray());
+        assertEquals("2024-01-02T03:04:05", decoded.get(0).get("created_at").asText());
+    }
+
+    @Test
+    void stream_ShouldWriteCborArray_WhenCborIsAccepted() throws IOException {
+        // Act
+        ResponseEntity<StreamingResponseBody> response = support.stream(MediaType.APPLICATION_CBOR_VALUE,
+                ExampleStatusResponse.class, sink -> List.of(response("1"), response("2")).forEach(sink));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_CBOR, response.getHeaders().getContentType());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        List<ExampleStatusResponse> decoded = JacksonMappers.create(new CBORFactory())
+                .readValue(output.toByteArray(), new TypeReference<>() { });
+        assertEquals(List.of(response("1"), response("2")), decoded);
+    }
+
+    @Test
+    void stream_ShouldWriteDelimitedMessages_WhenProtobufIsAccepted() throws IOException {
+        // Arrange
+        ProtobufCodec<ExampleStatusResponse> codec = new ExampleStatusResponseCodec();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = support.stream(BinaryMediaTypes.APPLICATION_PROTOBUF_VALUE,
+                ExampleStatusResponse.class, sink -> List.of(response("1"), response("2")).forEach(sink));
+
+        // Assert
+        assertEquals(BinaryMediaTypes.APPLICATION_PROTOBUF, response.getHeaders().getContentType());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        CodedInputStream input = CodedInputStream.newInstance(output.toByteArray());
+        for (String id : List.of("1", "2")) {
+            int limit = input.pushLimit(input.readRawVarint32());
+            assertEquals(response(id), codec.read(input));
+            input.popLimit(limit);
+        }
+        assertTrue(input.isAtEnd());
+    }
+
+    @Test
+    void selectMediaType_ShouldFollowQualityValues() {
+        // Act & Assert
+        assertEquals(MediaType.APPLICATION_NDJSON,
+                support.selectMediaType("application/json;q=0.5, application/x-ndjson", false));
+        assertEquals(MediaType.APPLICATION_NDJSON,
+                support.selectMediaType("application/x-ndjson, */*", false));
+        assertEquals(MediaType.APPLICATION_JSON,
+                support.selectMediaType("application/x-ndjson;q=0.5, application/json", false));
+        assertEquals(MediaType.APPLICATION_JSON, support.selectMediaType("not a media type", false));
+        assertEquals(BinaryMediaTypes.APPLICATION_SMILE,
+                support.selectMediaType("application/cbor;q=0.8, application/x-jackson-smile", true));
+    }
+
+    @Test
+    void selectMediaType_ShouldIgnoreBinaryFormats_WhenTypeHasNoCodec() {
+        // Act & Assert
+        assertEquals(MediaType.APPLICATION_JSON,
+                support.selectMediaType("application/x-protobuf, application/json;q=0.5", false));
+        assertEquals(BinaryMediaTypes.APPLICATION_PROTOBUF,
+                support.selectMediaType("application/x-protobuf, application/json;q=0.5", true));
+    }
+
+    @Test
+    void stream_ShouldRethrowIOException_WhenClientGoesAway() {
+        // Arrange
+        ResponseEntity<StreamingResponseBody> response = support.stream(null, ExampleStatusResponse.class,
+                sink -> sink.accept(response("1")));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> response.getBody().writeTo(broken));
+        assertEquals("Broken pipe", exception.getMessage());
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ExampleStatusResponse response(String id) {
+        return ExampleStatusResponse.builder()
+                .id(id)
+                .name("Service " + id)
+                .status("RUNNING")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ar.laboratory.baseapi.adapters.in.web.validation;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.CreateExampleRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Dni, Genero and Cuit constraints.
+ */
+class DocumentConstraintsTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void validate_ShouldAcceptValidRequest() {
+        // Act
+        Set<ConstraintViolation<CreateExampleRequest>> violations = validator.validate(request("12345678", "M"));
+
+        // Assert
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void validate_ShouldReportDniAndGeneroMessages() {
+        // Act
+        Set<ConstraintViolation<CreateExampleRequest>> violations = validator.validate(request("12.345.678", "X"));
+
+        // Assert
+        assertEquals(2, violations.size());
+        assertTrue(hasViolation(violations, "dni", "El DNI debe tener 7 u 8 dígitos numéricos"));
+        assertTrue(hasViolation(violations, "genero", "El género debe ser H (Hombre) o M (Mujer)"));
+    }
+
+    @Test
+    void validate_ShouldLeaveNullToNotBlank() {
+        // Act
+        Set<ConstraintViolation<CreateExampleRequest>> violations = validator.validate(request(null, null));
+
+        // Assert
+        assertEquals(2, violations.size());
+        assertTrue(hasViolation(violations, "dni", "El DNI no puede estar vacío"));
+        assertTrue(hasViolation(violations, "genero", "El género no puede estar vacío"));
+    }
+
+    @Test
+    void validate_ShouldCheckCuitOfEachElement() {
+        // Arrange
+        CuitList cuits = new CuitList(List.of("20-12345678-6", "20-12345678-7"));
+
+        // Act
+        Set<ConstraintViolation<CuitList>> violations = validator.validate(cuits);
+
+        // Assert
+        assertEquals(1, violations.size());
+        ConstraintViolation<CuitList> violation = violations.iterator().next();
+        assertEquals("cuits[1].<list element>", violation.getPropertyPath().toString());
+        assertEquals("El CUIT debe tener 11 dígitos, con o sin guiones, y un dígito verificador válido",
+                violation.getMessage());
+    }
+
+    private static boolean hasViolation(Set<? extends ConstraintViolation<?>> violations, String field, String message) {
+        return violations.stream().anyMatch(violation ->
+                violation.getPropertyPath().toString().equals(field) && violation.getMessage().equals(message));
+    }
+
+    private static CreateExampleRequest request(String dni, String genero) {
+        return CreateExampleRequest.builder()
+                .nombre("Juan")
+                .apellido("Perez")
+                .dni(dni)
+                .genero(genero)
+                .build();
+    }
+
+    private static final class CuitList {
+
+        private final List<@Cuit String> cuits;
+
+        private CuitList(List<String> cuits) {
+            this.cuits = cuits;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveRedisCacheAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveRedisCacheAdapterTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private ReactiveRedisCacheAdapter reactiveRedisCacheAdapter;
+
+    private ExampleStatus testStatus;
+
+    @BeforeEach
+    void setUp() {
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        testStatus = ExampleStatus.builder()
+                .id("1")
+                .name("Test Service")
+                .status("RUNNING")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build();
+    }
+
+    @Test
+    void get_ShouldReturnValue_WhenKeyExists() {
+        // Arrange
+        when(valueOperations.get("example-status:1")).thenReturn(Mono.just(testStatus));
+
+        // Act & Assert
+        StepVerifier.create(reactiveRedisCacheAdapter.get("1"))
+                .expectNext(testStatus)
+                .verifyComplete();
+    }
+
+    @Test
+    void get_ShouldCompleteEmpty_WhenValueHasAnotherType() {
+        // Arrange
+        when(valueOperations.get("example-status:1")).thenReturn(Mono.just("stale"));
+
+        // Act & Assert
+        StepVerifier.create(reactiveRedisCacheAdapter.get("1"))
+                .verifyComplete();
+    }
+
+    @Test
+    void get_ShouldPropagateError_WhenRedisFails() {
+        // Arrange
+        when(valueOperations.get("example-status:1")).thenReturn(Mono.error(new IllegalStateException("Redis down")));
+
+        // Act & Assert
+        StepVerifier.create(reactiveRedisCacheAdapter.get("1"))
+                .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    void putIfAbsent_ShouldUseSameKeyAndTtlAsBlockingAdapter() {
+        // Arrange
+        when(valueOperations.setIfAbsent("example-status:1", testStatus, Duration.ofMinutes(10)))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(reactiveRedisCacheAdapter.putIfAbsent("1", testStatus))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
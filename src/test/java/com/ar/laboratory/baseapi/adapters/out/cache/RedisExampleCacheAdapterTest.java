@@ -0,0 +1,83 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.domain.model.Example;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RedisExampleCacheAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisExampleCacheAdapterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private RedisExampleCacheAdapter redisExampleCacheAdapter;
+
+    private Example example;
+
+    @BeforeEach
+    void setUp() {
+        example = Example.builder()
+                .id(1L)
+                .dni("12345678")
+                .build();
+    }
+
+    @Test
+    void getAll_ShouldUseSingleMultiGet() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("example:dni:12345678", "example:dni:87654321")))
+                .thenReturn(Arrays.asList(example, null));
+
+        // Act
+        Map<String, Example> result = redisExampleCacheAdapter.getAll(List.of("dni:12345678", "dni:87654321"));
+
+        // Assert
+        assertEquals(Map.of("dni:12345678", example), result);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void getAll_ShouldReturnEmpty_WhenRedisFails() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyCollection())).thenThrow(new RuntimeException("Redis down"));
+
+        // Act
+        Map<String, Example> result = redisExampleCacheAdapter.getAll(List.of("dni:12345678"));
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void getAll_ShouldNotCallRedis_WhenNoKeys() {
+        // Act
+        Map<String, Example> result = redisExampleCacheAdapter.getAll(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,179 @@
+package com.ar.laboratory.baseapi.adapters.out.cache;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WriteBehindCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindCacheTest {
+
+    @Mock
+    private CachePort<ExampleStatus> delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteBehindCache<ExampleStatus> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Long interval so flushes only happen when the tests trigger them
+        cache = new WriteBehindCache<>("test", delegate, Duration.ofHours(1), 1000, 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void get_ShouldReturnPendingValue_BeforeFlush() {
+        // Arrange
+        ExampleStatus status = status("1", 1);
+
+        // Act
+        cache.put("1", status);
+
+        // Assert
+        assertEquals(Optional.of(status), cache.get("1"));
+        verify(delegate, never()).get(anyString());
+    }
+
+    @Test
+    void put_ShouldOnlyReachOtherNodes_AfterFlush() {
+        // Arrange - other nodes read the delegate (Redis) directly
+        Map<String, ExampleStatus> redis = new HashMap<>(Map.of("1", status("1", 1)));
+        when(delegate.putAll(anyMap())).thenAnswer(invocation -> {
+            redis.putAll(invocation.getArgument(0));
+            return true;
+        });
+
+        // Act
+        cache.put("1", status("1", 2));
+        long thisNodeBeforeFlush = cache.get("1").orElseThrow().getVersion();
+        long otherNodeBeforeFlush = redis.get("1").getVersion();
+        cache.flush();
+
+        // Assert - acknowledged and visible on this node at once, elsewhere after the flush
+        assertEquals(2, thisNodeBeforeFlush);
+        assertEquals(1, otherNodeBeforeFlush);
+        assertEquals(2, redis.get("1").getVersion());
+    }
+
+    @Test
+    void getAll_ShouldServePendingValuesAndAskDelegateForTheRest() {
+        // Arrange
+        cache.put("1", status("1", 2));
+        when(delegate.getAll(List.of("2", "3"))).thenReturn(Map.of("2", status("2", 1)));
+
+        // Act
+        Map<String, ExampleStatus> result = cache.getAll(List.of("1", "2", "3"));
+
+        // Assert
+        assertEquals(Map.of("1", status("1", 2), "2", status("2", 1)), result);
+    }
+
+    @Test
+    void flush_ShouldCoalesceWritesToTheSameKey() {
+        // Arrange
+        when(delegate.putAll(anyMap())).thenReturn(true);
+        cache.put("1", status("1", 1));
+        cache.put("1", status("1", 2));
+        cache.put("2", status("2", 1));
+
+        // Act
+        cache.flush();
+
+        // Assert
+        verify(delegate, times(1)).putAll(Map.of("1", status("1", 2), "2", status("2", 1)));
+        assertEquals(0, cache.getPendingCount());
+    }
+
+    @Test
+    void flush_ShouldKeepEntriesPending_WhenDelegateFails() {
+        // Arrange
+        when(delegate.putAll(anyMap())).thenReturn(false);
+        cache.put("1", status("1", 1));
+
+        // Act
+        cache.flush();
+
+        // Assert
+        assertEquals(1, cache.getPendingCount());
+        assertEquals(Optional.of(status("1", 1)), cache.get("1"));
+    }
+
+    @Test
+    void put_ShouldWriteThroughAndCountDrops_WhenBufferIsFull() {
+        // Arrange
+        when(delegate.putAll(anyMap())).thenReturn(false);
+        cache.put("1", status("1", 1));
+        cache.put("2", status("2", 1));
+
+        // Act
+        cache.put("3", status("3", 1));
+        cache.put("1", status("1", 2));
+
+        // Assert
+        verify(delegate, times(1)).putAll(Map.of("3", status("3", 1)));
+        assertEquals(2, cache.getPendingCount());
+        assertEquals(2, cache.get("1").orElseThrow().getVersion());
+        assertEquals(1.0, meterRegistry.get("baseapi.cache.write-behind.dropped")
+                .tag("cache", "test").counter().count());
+    }
+
+    @Test
+    void putIfAbsent_ShouldNotReachDelegate_WhenWriteIsPending() {
+        // Arrange
+        cache.put("1", status("1", 2));
+
+        // Act
+        boolean stored = cache.putIfAbsent("1", status("1", 1));
+
+        // Assert
+        assertFalse(stored);
+        verify(delegate, never()).putIfAbsent(anyString(), any());
+        assertEquals(2, cache.get("1").orElseThrow().getVersion());
+    }
+
+    @Test
+    void evict_ShouldDropPendingValueAndEvictDelegate() {
+        // Arrange
+        cache.put("1", status("1", 1));
+
+        // Act
+        cache.evict("1");
+
+        // Assert
+        assertEquals(0, cache.getPendingCount());
+        verify(delegate, times(1)).evict("1");
+    }
+
+    private ExampleStatus status(String id, long version) {
+        return ExampleStatus.builder()
+                .id(id)
+                .name("Service " + id)
+                .status("RUNNING")
+                .active(true)
+                .version(version)
+                .build();
+    }
+}
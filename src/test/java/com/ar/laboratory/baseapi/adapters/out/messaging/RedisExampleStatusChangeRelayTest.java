@@ -0,0 +1,101 @@
+package com.ar.laboratory.baseapi.adapters.out.messaging;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RedisExampleStatusChangeRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisExampleStatusChangeRelayTest {
+
+    private static final String CHANNEL = "example-status-changes";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisSerializer<Object> valueSerializer;
+
+    private RedisExampleStatusChangeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisExampleStatusChangeRelay(redisTemplate, listenerContainer, eventPublisher, CHANNEL, "node-a");
+    }
+
+    @Test
+    void onLocalChange_ShouldPublishTaggedWithThisNode() {
+        // Act
+        relay.onLocalChange(ExampleStatusChange.builder().statusId("1").previousStatus("IDLE").build());
+
+        // Assert
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+        ExampleStatusChange change = assertInstanceOf(ExampleStatusChange.class, published.getValue());
+        assertEquals("1", change.getStatusId());
+        assertEquals("node-a", change.getOrigin());
+    }
+
+    @Test
+    void onLocalChange_ShouldNotThrow_WhenRedisIsUnavailable() {
+        // Arrange
+        when(redisTemplate.convertAndSend(eq(CHANNEL), any())).thenThrow(new IllegalStateException("Connection refused"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> relay.onLocalChange(ExampleStatusChange.builder().statusId("1").build()));
+    }
+
+    @Test
+    void onMessage_ShouldRepublishChangesFromOtherNodes() {
+        // Arrange
+        ExampleStatusChange remote = ExampleStatusChange.builder().statusId("1").origin("node-b").build();
+        doReturn(valueSerializer).when(redisTemplate).getValueSerializer();
+        when(valueSerializer.deserialize(any())).thenReturn(remote);
+
+        // Act
+        relay.onMessage(message(), null);
+
+        // Assert
+        verify(eventPublisher).publishEvent(remote);
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreOwnChanges() {
+        // Arrange
+        doReturn(valueSerializer).when(redisTemplate).getValueSerializer();
+        when(valueSerializer.deserialize(any()))
+                .thenReturn(ExampleStatusChange.builder().statusId("1").origin("node-a").build());
+
+        // Act
+        relay.onMessage(message(), null);
+
+        // Assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static DefaultMessage message() {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), "{}".getBytes(StandardCharsets.UTF_8));
+    }
+}
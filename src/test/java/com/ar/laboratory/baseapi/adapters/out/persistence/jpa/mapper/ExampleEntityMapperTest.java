@@ -0,0 +1,53 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.mapper;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the generated ExampleEntityMapper.
+ */
+class ExampleEntityMapperTest {
+
+    private final ExampleEntityMapper mapper = new ExampleEntityMapperImpl();
+
+    @Test
+    void toEntityAndBack_ShouldKeepEveryField() {
+        // Arrange
+        Example example = Example.builder()
+                .id(1L)
+                .nombre("Juan")
+                .apellido("Perez")
+                .dni("12345678")
+                .genero("M")
+                .cuit("20123456786")
+                .cuitStatus(CuitStatus.READY)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        // Act
+        ExampleEntity entity = mapper.toEntity(example);
+        Example mapped = mapper.toDomain(entity);
+
+        // Assert
+        assertEquals("M", entity.getGenero());
+        assertEquals("20123456786", entity.getCuit());
+        assertEquals(example, mapped);
+    }
+
+    @Test
+    void toDomainList_ShouldReturnEmptyList_WhenSourceIsNull() {
+        // Act
+        List<Example> examples = mapper.toDomainList(null);
+
+        // Assert
+        assertTrue(examples.isEmpty());
+    }
+}
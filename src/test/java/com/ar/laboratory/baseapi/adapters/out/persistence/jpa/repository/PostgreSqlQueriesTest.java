@@ -0,0 +1,175 @@
+package com.ar.laboratory.baseapi.adapters.out.persistence.jpa.repository;
+
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.CuitOutboxEntity;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the PostgreSQL specific native queries of the JPA repositories against a real
+ * PostgreSQL, with the schema built by the Flyway migrations. Skipped without Docker.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgreSqlQueriesTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private CuitOutboxJpaRepository cuitOutboxJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findAllByDni_ShouldReturnOnlyMatchingExamples() {
+        // Act - the migrations seed 12345678, 87654321 and 11223344
+        List<ExampleEntity> found = exampleJpaRepository.findAllByDni(new String[] {"12345678", "11223344", "00000000"});
+
+        // Assert
+        assertEquals(List.of("11223344", "12345678"), found.stream().map(ExampleEntity::getDni).sorted().toList());
+    }
+
+    @Test
+    void findAllByCuit_ShouldReturnOnlyMatchingExamples() {
+        // Act
+        List<ExampleEntity> found = exampleJpaRepository.findAllByCuit(new String[] {"20-87654321-7", "20-00000000-0"});
+
+        // Assert
+        assertEquals(1, found.size());
+        assertEquals("87654321", found.get(0).getDni());
+    }
+
+    @Test
+    void updateCuits_ShouldSetEachCuitByPositionAndMarkReady() {
+        // Arrange
+        ExampleEntity first = entityManager.persistAndFlush(pendingExample("30111222"));
+        ExampleEntity second = entityManager.persistAndFlush(pendingExample("30111333"));
+        entityManager.clear();
+
+        // Act
+        int updated = exampleJpaRepository.updateCuits(new Long[] {first.getId(), second.getId()},
+                new String[] {"20-30111222-1", "27-30111333-2"});
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, updated);
+        ExampleEntity firstAfter = exampleJpaRepository.findById(first.getId()).orElseThrow();
+        ExampleEntity secondAfter = exampleJpaRepository.findById(second.getId()).orElseThrow();
+        assertEquals("20-30111222-1", firstAfter.getCuit());
+        assertEquals(CuitStatus.READY, firstAfter.getCuitStatus());
+        assertEquals("27-30111333-2", secondAfter.getCuit());
+        assertEquals(CuitStatus.READY, secondAfter.getCuitStatus());
+    }
+
+    @Test
+    void lockDueAndPostpone_ShouldClaimDueEntriesOnlyUntilTheirLeaseExpires() {
+        // Arrange
+        Long exampleId = exampleJpaRepository.findByDni("12345678").orElseThrow().getId();
+        LocalDateTime now = LocalDateTime.now();
+        CuitOutboxEntity due = entityManager.persistAndFlush(outboxEntry(exampleId, now.minusSeconds(1)));
+        entityManager.persistAndFlush(outboxEntry(exampleId, now.plusMinutes(5)));
+
+        // Act
+        List<CuitOutboxEntity> claimed = cuitOutboxJpaRepository.lockDue(now, 10);
+        int postponed = cuitOutboxJpaRepository.postpone(List.of(due.getId()), now.plusSeconds(30));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(List.of(due.getId()), claimed.stream().map(CuitOutboxEntity::getId).toList());
+        assertEquals(1, postponed);
+        assertTrue(cuitOutboxJpaRepository.lockDue(now, 10).isEmpty());
+        assertEquals(1, cuitOutboxJpaRepository.lockDue(now.plusSeconds(31), 10).size());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void lockDue_ShouldSkipEntriesLockedByAnotherTransaction() throws Exception {
+        // Arrange - two committed due entries
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long exampleId = exampleJpaRepository.findByDni("12345678").orElseThrow().getId();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = transaction.execute(status -> cuitOutboxJpaRepository.saveAll(List.of(
+                outboxEntry(exampleId, now.minusSeconds(2)),
+                outboxEntry(exampleId, now.minusSeconds(1)))).stream().map(CuitOutboxEntity::getId).toList());
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+
+        try {
+            // Act - a first worker holds the oldest entry while a second one claims
+            CompletableFuture<List<Long>> firstWorker = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+                List<Long> claimed = cuitOutboxJpaRepository.lockDue(now, 1).stream().map(CuitOutboxEntity::getId).toList();
+                locked.countDown();
+                await(checked);
+                return claimed;
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+            List<Long> secondClaim = transaction.execute(status -> cuitOutboxJpaRepository.lockDue(now, 10).stream()
+                    .map(CuitOutboxEntity::getId).toList());
+            checked.countDown();
+
+            // Assert
+            assertEquals(List.of(ids.get(0)), firstWorker.get(10, TimeUnit.SECONDS));
+            assertEquals(List.of(ids.get(1)), secondClaim);
+        } finally {
+            checked.countDown();
+            transaction.executeWithoutResult(status -> cuitOutboxJpaRepository.deleteByIds(ids));
+        }
+    }
+
+    private static ExampleEntity pendingExample(String dni) {
+        return ExampleEntity.builder()
+                .nombre("Ana")
+                .apellido("Diaz")
+                .dni(dni)
+                .genero("M")
+                .cuitStatus(CuitStatus.PENDING)
+                .build();
+    }
+
+    private static CuitOutboxEntity outboxEntry(Long exampleId, LocalDateTime nextAttemptAt) {
+        return CuitOutboxEntity.builder()
+                .exampleId(exampleId)
+                .dni("12345678")
+                .genero("H")
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitOutboxPort;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitServicePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CuitEnrichmentService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CuitEnrichmentServiceTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private CuitOutboxPort cuitOutboxPort;
+
+    @Mock
+    private CuitServicePort cuitServicePort;
+
+    @Mock
+    private ExamplePersistencePort examplePersistencePort;
+
+    private CuitEnrichmentService cuitEnrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        cuitEnrichmentService = new CuitEnrichmentService(cuitOutboxPort, cuitServicePort, examplePersistencePort,
+                3, Duration.ofSeconds(1), Duration.ofSeconds(3), LEASE);
+    }
+
+    @Test
+    void processPendingCuits_ShouldUpdateResolvedExamplesInOneCall() {
+        // Arrange
+        when(cuitOutboxPort.claim(10, LEASE)).thenReturn(List.of(task(1L, 100L, "12345678", 0),
+                task(2L, 200L, "87654321", 0)));
+        when(cuitServicePort.findCuit("12345678", "H")).thenReturn(Optional.of("20-12345678-7"));
+        when(cuitServicePort.findCuit("87654321", "H")).thenReturn(Optional.of("20-87654321-7"));
+
+        // Act
+        int processed = cuitEnrichmentService.processPendingCuits(10);
+
+        // Assert
+        assertEquals(2, processed);
+        verify(examplePersistencePort).updateCuits(Map.of(100L, "20-12345678-7", 200L, "20-87654321-7"));
+        verify(cuitOutboxPort).delete(List.of(1L, 2L));
+        verify(cuitOutboxPort, never()).reschedule(any(), any(), any());
+    }
+
+    @Test
+    void processPendingCuits_ShouldRescheduleWithBackoff_WhenLookupFails() {
+        // Arrange
+        when(cuitOutboxPort.claim(10, LEASE)).thenReturn(List.of(task(1L, 100L, "12345678", 1)));
+        when(cuitServicePort.findCuit("12345678", "H")).thenReturn(Optional.empty());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        cuitEnrichmentService.processPendingCuits(10);
+
+        // Assert - second failure waits twice the initial backoff
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(cuitOutboxPort).reschedule(eq(1L), nextAttempt.capture(), anyString());
+        assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(2)));
+        verify(examplePersistencePort, never()).updateCuits(any());
+    }
+
+    @Test
+    void processPendingCuits_ShouldFallBackLocally_OnLastAttempt() {
+        // Arrange
+        when(cuitOutboxPort.claim(10, LEASE)).thenReturn(List.of(task(1L, 100L, "12345678", 2)));
+        when(cuitServicePort.getCuit("12345678", "H")).thenReturn("20-12345678-7");
+
+        // Act
+        cuitEnrichmentService.processPendingCuits(10);
+
+        // Assert
+        verify(cuitServicePort, never()).findCuit(anyString(), anyString());
+        verify(examplePersistencePort).updateCuits(Map.of(100L, "20-12345678-7"));
+        verify(cuitOutboxPort).delete(List.of(1L));
+    }
+
+    @Test
+    void processPendingCuits_ShouldExtendLeaseOfRemainingTasks_WhenHalfTheLeaseElapsed() {
+        // Arrange - a zero lease is always half elapsed
+        CuitEnrichmentService shortLease = new CuitEnrichmentService(cuitOutboxPort, cuitServicePort,
+                examplePersistencePort, 3, Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ZERO);
+        when(cuitOutboxPort.claim(10, Duration.ZERO)).thenReturn(List.of(task(1L, 100L, "12345678", 0),
+                task(2L, 200L, "87654321", 0)));
+        when(cuitServicePort.findCuit(anyString(), eq("H"))).thenReturn(Optional.of("20-12345678-7"));
+
+        // Act
+        shortLease.processPendingCuits(10);
+
+        // Assert
+        verify(cuitOutboxPort).extendLease(List.of(1L, 2L), Duration.ZERO);
+        verify(cuitOutboxPort).extendLease(List.of(2L), Duration.ZERO);
+    }
+
+    @Test
+    void processPendingCuits_ShouldDoNothing_WhenOutboxIsEmpty() {
+        // Arrange
+        when(cuitOutboxPort.claim(10, LEASE)).thenReturn(List.of());
+
+        // Act
+        int processed = cuitEnrichmentService.processPendingCuits(10);
+
+        // Assert
+        assertEquals(0, processed);
+        verifyNoInteractions(cuitServicePort, examplePersistencePort);
+    }
+
+    private CuitEnrichmentTask task(Long id, Long exampleId, String dni, int attempts) {
+        return CuitEnrichmentTask.builder()
+                .id(id)
+                .exampleId(exampleId)
+                .dni(dni)
+                .genero("H")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupKey;
+import com.ar.laboratory.baseapi.domain.model.ExampleLookupResult;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExampleLookupService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExampleLookupServiceTest {
+
+    @Mock
+    private ExamplePersistencePort examplePersistencePort;
+
+    @Mock
+    private CachePort<Example> exampleCache;
+
+    private ExampleLookupService exampleLookupService;
+
+    @BeforeEach
+    void setUp() {
+        exampleLookupService = new ExampleLookupService(examplePersistencePort, exampleCache, 100);
+    }
+
+    @Test
+    void lookupExamples_ShouldEmitOneResultPerKeyInInputOrder() {
+        // Arrange
+        when(exampleCache.getAll(anyCollection())).thenReturn(Map.of());
+        when(examplePersistencePort.findAllByDni(anyCollection()))
+                .thenReturn(List.of(example("222", CuitStatus.READY), example("111", CuitStatus.READY)));
+
+        // Act
+        List<ExampleLookupResult> results = lookup(ExampleLookupKey.DNI, List.of("111", "999", "222", "111"));
+
+        // Assert
+        assertEquals(List.of("111", "999", "222", "111"), results.stream().map(ExampleLookupResult::getKey).toList());
+        assertEquals(List.of(true, false, true, true), results.stream().map(ExampleLookupResult::isFound).toList());
+        assertEquals("111", results.get(3).getExample().getDni());
+        verify(examplePersistencePort).findAllByDni(List.of("111", "999", "222"));
+    }
+
+    @Test
+    void lookupExamples_ShouldOnlyQueryCacheMisses() {
+        // Arrange
+        when(exampleCache.getAll(List.of("dni:111", "dni:222")))
+                .thenReturn(Map.of("dni:111", example("111", CuitStatus.READY)));
+        when(examplePersistencePort.findAllByDni(List.of("222"))).thenReturn(List.of(example("222", CuitStatus.READY)));
+
+        // Act
+        List<ExampleLookupResult> results = lookup(ExampleLookupKey.DNI, List.of("111", "222"));
+
+        // Assert
+        assertTrue(results.stream().allMatch(ExampleLookupResult::isFound));
+        verify(examplePersistencePort).findAllByDni(List.of("222"));
+        verify(exampleCache).putAll(Map.of("dni:222", results.get(1).getExample()));
+    }
+
+    @Test
+    void lookupExamples_ShouldSkipDatabase_WhenEveryKeyIsCached() {
+        // Arrange
+        when(exampleCache.getAll(List.of("dni:111"))).thenReturn(Map.of("dni:111", example("111", CuitStatus.READY)));
+
+        // Act
+        List<ExampleLookupResult> results = lookup(ExampleLookupKey.DNI, List.of("111"));
+
+        // Assert
+        assertTrue(results.get(0).isFound());
+        verifyNoInteractions(examplePersistencePort);
+    }
+
+    @Test
+    void lookupExamples_ShouldNotCacheExamplesWithPendingCuit() {
+        // Arrange
+        Example pending = example("333", CuitStatus.PENDING);
+        pending.setCuit("20-00000333-0");
+        when(exampleCache.getAll(anyCollection())).thenReturn(Map.of());
+        when(examplePersistencePort.findAllByCuit(List.of("20-00000333-0"))).thenReturn(List.of(pending));
+
+        // Act
+        List<ExampleLookupResult> results = lookup(ExampleLookupKey.CUIT, List.of("20-00000333-0"));
+
+        // Assert
+        assertTrue(results.get(0).isFound());
+        verify(exampleCache).putAll(Map.of());
+    }
+
+    @Test
+    void lookupExamples_ShouldResolveKeysInChunks() {
+        // Arrange
+        exampleLookupService = new ExampleLookupService(examplePersistencePort, exampleCache, 2);
+        when(exampleCache.getAll(anyCollection())).thenReturn(Map.of());
+        when(examplePersistencePort.findAllByDni(anyCollection())).thenReturn(List.of());
+
+        // Act
+        List<ExampleLookupResult> results = lookup(ExampleLookupKey.DNI, List.of("1", "2", "3", "4", "5"));
+
+        // Assert
+        assertEquals(5, results.size());
+        verify(examplePersistencePort).findAllByDni(List.of("1", "2"));
+        verify(examplePersistencePort).findAllByDni(List.of("3", "4"));
+        verify(examplePersistencePort).findAllByDni(List.of("5"));
+    }
+
+    private List<ExampleLookupResult> lookup(ExampleLookupKey keyType, List<String> keys) {
+        List<ExampleLookupResult> results = new ArrayList<>();
+        exampleLookupService.lookupExamples(keyType, keys, results::add);
+        return results;
+    }
+
+    private Example example(String dni, CuitStatus cuitStatus) {
+        return Example.builder()
+                .id(Long.valueOf(dni))
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni(dni)
+                .genero("H")
+                .cuit("20-" + dni + "-7")
+                .cuitStatus(cuitStatus)
+                .build();
+    }
+}
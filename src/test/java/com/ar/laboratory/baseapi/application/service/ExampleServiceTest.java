@@ -0,0 +1,113 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.CuitEnrichmentTask;
+import com.ar.laboratory.baseapi.domain.model.CuitStatus;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitOutboxPort;
+import com.ar.laboratory.baseapi.domain.ports.out.CuitServicePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ExamplePersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExampleService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExampleServiceTest {
+
+    @Mock
+    private ExamplePersistencePort examplePersistencePort;
+
+    @Mock
+    private CuitServicePort cuitServicePort;
+
+    @Mock
+    private CuitOutboxPort cuitOutboxPort;
+
+    @InjectMocks
+    private ExampleService exampleService;
+
+    private Example example;
+
+    @BeforeEach
+    void setUp() {
+        example = Example.builder()
+                .nombre("Juan")
+                .apellido("Pérez")
+                .dni("12345678")
+                .genero("H")
+                .build();
+    }
+
+    @Test
+    void createExample_ShouldResolveCuitBeforeSaving() {
+        // Arrange
+        when(examplePersistencePort.existsByDni("12345678")).thenReturn(false);
+        when(cuitServicePort.getCuit("12345678", "H")).thenReturn("20-12345678-7");
+        when(examplePersistencePort.save(any(Example.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Example created = exampleService.createExample(example);
+
+        // Assert
+        assertEquals("20-12345678-7", created.getCuit());
+        assertEquals(CuitStatus.READY, created.getCuitStatus());
+        verifyNoInteractions(cuitOutboxPort);
+    }
+
+    @Test
+    void createExample_ShouldReportDuplicate_WhenDniIsInsertedConcurrently() {
+        // Arrange - the existence check passes but another request wins the insert
+        when(examplePersistencePort.existsByDni("12345678")).thenReturn(false);
+        when(cuitServicePort.getCuit("12345678", "H")).thenReturn("20-12345678-7");
+        when(examplePersistencePort.save(any(Example.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> exampleService.createExample(example));
+        assertEquals("Ya existe un ejemplo con el DNI: 12345678", exception.getMessage());
+    }
+
+    @Test
+    void submitExample_ShouldSaveWithPendingCuitAndQueueLookup() {
+        // Arrange
+        when(examplePersistencePort.existsByDni("12345678")).thenReturn(false);
+        when(examplePersistencePort.save(any(Example.class))).thenAnswer(invocation -> {
+            Example saved = invocation.getArgument(0);
+            saved.setId(42L);
+            return saved;
+        });
+
+        // Act
+        Example submitted = exampleService.submitExample(example);
+
+        // Assert
+        assertEquals(CuitStatus.PENDING, submitted.getCuitStatus());
+        assertNull(submitted.getCuit());
+        ArgumentCaptor<CuitEnrichmentTask> task = ArgumentCaptor.forClass(CuitEnrichmentTask.class);
+        verify(cuitOutboxPort).enqueue(task.capture());
+        assertEquals(42L, task.getValue().getExampleId());
+        assertEquals("12345678", task.getValue().getDni());
+        verifyNoInteractions(cuitServicePort);
+    }
+
+    @Test
+    void submitExample_ShouldReject_WhenDniExists() {
+        // Arrange
+        when(examplePersistencePort.existsByDni("12345678")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> exampleService.submitExample(example));
+        verifyNoInteractions(cuitOutboxPort);
+    }
+}
@@ -1,6 +1,8 @@
 package com.ar.laboratory.baseapi.application.service;
 
 import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatusUpdate;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
 import com.ar.laboratory.baseapi.domain.ports.out.ExampleRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,9 @@ class ExampleStatusServiceTest {
     @Mock
     private ExampleRepositoryPort exampleRepositoryPort;
 
+    @Mock
+    private CachePort<ExampleStatus> cachePort;
+
     @InjectMocks
     private ExampleStatusService exampleStatusService;
 
@@ -178,4 +183,89 @@ class ExampleStatusServiceTest {
         assertTrue(result.isEmpty());
         verify(exampleRepositoryPort, times(1)).findAllActive();
     }
+
+    @Test
+    void getExampleStatusById_ShouldFillCacheOnlyIfAbsent_WhenLoadedFromRepository() {
+        // Arrange
+        when(cachePort.get("1")).thenReturn(Optional.empty());
+        when(exampleRepositoryPort.findById("1")).thenReturn(Optional.of(testStatus1));
+
+        // Act
+        exampleStatusService.getExampleStatusById("1");
+
+        // Assert
+        verify(cachePort, times(1)).putIfAbsent("1", testStatus1);
+        verify(cachePort, never()).put(anyString(), any());
+    }
+
+    @Test
+    void patchExampleStatus_ShouldApplyNonNullFieldsAndBumpVersion() {
+        // Arrange
+        when(exampleRepositoryPort.findById("1")).thenReturn(Optional.of(testStatus1));
+        when(exampleRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        ExampleStatusUpdate update = ExampleStatusUpdate.builder().id("1").status("STOPPED").build();
+
+        // Act
+        Optional<ExampleStatus> result = exampleStatusService.patchExampleStatus(update);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("STOPPED", result.get().getStatus());
+        assertEquals("Test Service A", result.get().getName());
+        assertTrue(result.get().isActive());
+        assertEquals(testStatus1.getVersion() + 1, result.get().getVersion());
+        assertNotNull(result.get().getUpdatedAt());
+        verify(cachePort, times(1)).put("1", result.get());
+    }
+
+    @Test
+    void replaceExampleStatus_ShouldOverwriteAllFields() {
+        // Arrange
+        when(exampleRepositoryPort.findById("1")).thenReturn(Optional.of(testStatus1));
+        when(exampleRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        ExampleStatusUpdate update = ExampleStatusUpdate.builder()
+                .id("1").name("Renamed").status("IDLE").active(false).build();
+
+        // Act
+        Optional<ExampleStatus> result = exampleStatusService.replaceExampleStatus(update);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("Renamed", result.get().getName());
+        assertNull(result.get().getDescription());
+        assertFalse(result.get().isActive());
+        assertEquals(testStatus1.getCreatedAt(), result.get().getCreatedAt());
+    }
+
+    @Test
+    void patchExampleStatus_ShouldReturnEmptyAndNotTouchCache_WhenIdDoesNotExist() {
+        // Arrange
+        when(exampleRepositoryPort.findById("999")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<ExampleStatus> result = exampleStatusService.patchExampleStatus(
+                ExampleStatusUpdate.builder().id("999").status("STOPPED").build());
+
+        // Assert
+        assertFalse(result.isPresent());
+        verify(exampleRepositoryPort, never()).save(any());
+        verifyNoInteractions(cachePort);
+    }
+
+    @Test
+    void patchExampleStatuses_ShouldSkipUnknownIds() {
+        // Arrange
+        when(exampleRepositoryPort.findById("1")).thenReturn(Optional.of(testStatus1));
+        when(exampleRepositoryPort.findById("999")).thenReturn(Optional.empty());
+        when(exampleRepositoryPort.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<ExampleStatus> result = exampleStatusService.patchExampleStatuses(List.of(
+                ExampleStatusUpdate.builder().id("1").active(false).build(),
+                ExampleStatusUpdate.builder().id("999").active(false).build()));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertFalse(result.get(0).isActive());
+    }
 }
@@ -0,0 +1,130 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.IdempotencyClaim;
+import com.ar.laboratory.baseapi.domain.model.IdempotentResponse;
+import com.ar.laboratory.baseapi.domain.ports.out.IdempotencyStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyService.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "POST:/examples:abc";
+
+    @Mock
+    private IdempotencyStorePort idempotencyStorePort;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyStorePort, Duration.ofHours(24), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void begin_ShouldAcquire_WhenKeyIsNew() {
+        // Arrange
+        when(idempotencyStorePort.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyStorePort.tryLock(eq(KEY), anyString(), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        // Act
+        IdempotencyClaim claim = idempotencyService.begin(KEY, "hash");
+
+        // Assert
+        assertEquals(IdempotencyClaim.Outcome.ACQUIRED, claim.getOutcome());
+        assertNotNull(claim.getLockToken());
+    }
+
+    @Test
+    void begin_ShouldReplay_WhenResponseIsStored() {
+        // Arrange
+        IdempotentResponse stored = response("hash");
+        when(idempotencyStorePort.find(KEY)).thenReturn(Optional.of(stored));
+
+        // Act
+        IdempotencyClaim claim = idempotencyService.begin(KEY, "hash");
+
+        // Assert
+        assertEquals(IdempotencyClaim.Outcome.REPLAY, claim.getOutcome());
+        assertSame(stored, claim.getResponse());
+        verify(idempotencyStorePort, never()).tryLock(anyString(), anyString(), any());
+    }
+
+    @Test
+    void begin_ShouldReportMismatch_WhenBodyDiffers() {
+        // Arrange
+        when(idempotencyStorePort.find(KEY)).thenReturn(Optional.of(response("other")));
+
+        // Act
+        IdempotencyClaim claim = idempotencyService.begin(KEY, "hash");
+
+        // Assert
+        assertEquals(IdempotencyClaim.Outcome.MISMATCH, claim.getOutcome());
+    }
+
+    @Test
+    void begin_ShouldReplay_WhenRunningRequestCompletesBeforeTheLock() {
+        // Arrange - the first request completes between the lookup and the lock
+        IdempotentResponse stored = response("hash");
+        when(idempotencyStorePort.find(KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+        when(idempotencyStorePort.tryLock(eq(KEY), anyString(), any())).thenReturn(true);
+
+        // Act
+        IdempotencyClaim claim = idempotencyService.begin(KEY, "hash");
+
+        // Assert
+        assertEquals(IdempotencyClaim.Outcome.REPLAY, claim.getOutcome());
+        verify(idempotencyStorePort).unlock(eq(KEY), anyString());
+    }
+
+    @Test
+    void begin_ShouldReportInProgress_AtOnce_WhenAnotherRequestHoldsTheLock() {
+        // Arrange
+        when(idempotencyStorePort.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyStorePort.tryLock(eq(KEY), anyString(), any())).thenReturn(false);
+
+        // Act
+        IdempotencyClaim claim = idempotencyService.begin(KEY, "hash");
+
+        // Assert
+        assertEquals(IdempotencyClaim.Outcome.IN_PROGRESS, claim.getOutcome());
+        verify(idempotencyStorePort, times(1)).find(KEY);
+        verify(idempotencyStorePort, times(1)).tryLock(eq(KEY), anyString(), any());
+    }
+
+    @Test
+    void complete_ShouldStoreResponseAndReleaseLock() {
+        // Arrange
+        IdempotentResponse response = response("hash");
+
+        // Act
+        idempotencyService.complete(KEY, "token", response);
+
+        // Assert
+        verify(idempotencyStorePort).save(KEY, response, Duration.ofHours(24));
+        verify(idempotencyStorePort).unlock(KEY, "token");
+    }
+
+    private IdempotentResponse response(String fingerprint) {
+        return IdempotentResponse.builder()
+                .fingerprint(fingerprint)
+                .status(201)
+                .contentType("application/json")
+                .body("{\"id\":1}".getBytes())
+                .build();
+    }
+}
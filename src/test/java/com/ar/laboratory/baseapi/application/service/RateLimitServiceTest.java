@@ -0,0 +1,120 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.RateLimitDecision;
+import com.ar.laboratory.baseapi.domain.model.TokenReservation;
+import com.ar.laboratory.baseapi.domain.ports.out.TokenReservationPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitService.
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitServiceTest {
+
+    @Mock
+    private TokenReservationPort tokenReservationPort;
+
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RateLimitService(tokenReservationPort, 100, 50, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void tryConsume_ShouldReserveTokensInBatches() {
+        // Arrange
+        when(tokenReservationPort.reserve("ip:10.0.0.1", 10, 100, 50.0))
+                .thenReturn(Optional.of(reservation(10, 90)));
+
+        // Act
+        RateLimitDecision last = null;
+        for (int i = 0; i < 10; i++) {
+            last = rateLimitService.tryConsume("ip:10.0.0.1", 1);
+        }
+
+        // Assert
+        assertTrue(last.isAllowed());
+        assertEquals(90, last.getRemaining());
+        verify(tokenReservationPort, times(1)).reserve(anyString(), anyLong(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void tryConsume_ShouldReject_WhenGlobalBucketIsEmpty() {
+        // Arrange
+        when(tokenReservationPort.reserve("key:abc", 10, 100, 50.0))
+                .thenReturn(Optional.of(reservation(0, 0)));
+
+        // Act
+        RateLimitDecision decision = rateLimitService.tryConsume("key:abc", 1);
+
+        // Assert
+        assertFalse(decision.isAllowed());
+        assertEquals(0, decision.getRemaining());
+        assertEquals(1, decision.getResetSeconds());
+    }
+
+    @Test
+    void tryConsume_ShouldReserveWholeCost_WhenCostExceedsBatch() {
+        // Arrange
+        when(tokenReservationPort.reserve("ip:10.0.0.2", 20, 100, 50.0))
+                .thenReturn(Optional.of(reservation(20, 80)));
+
+        // Act
+        RateLimitDecision decision = rateLimitService.tryConsume("ip:10.0.0.2", 20);
+
+        // Assert
+        assertTrue(decision.isAllowed());
+        assertEquals(80, decision.getRemaining());
+    }
+
+    @Test
+    void tryConsume_ShouldUseLocalBucket_WhenStoreIsUnavailable() {
+        // Arrange
+        when(tokenReservationPort.reserve(anyString(), anyLong(), anyLong(), anyDouble()))
+                .thenReturn(Optional.empty());
+
+        // Act
+        RateLimitDecision first = rateLimitService.tryConsume("ip:10.0.0.3", 60);
+        RateLimitDecision second = rateLimitService.tryConsume("ip:10.0.0.3", 60);
+
+        // Assert
+        assertTrue(first.isAllowed());
+        assertEquals(40, first.getRemaining());
+        assertFalse(second.isAllowed());
+    }
+
+    @Test
+    void tryConsume_ShouldReturnUnusedTokens_WhenLeaseExpires() {
+        // Arrange
+        RateLimitService shortLease = new RateLimitService(tokenReservationPort, 100, 50, 10, Duration.ZERO);
+        when(tokenReservationPort.reserve("ip:10.0.0.4", 10, 100, 50.0))
+                .thenReturn(Optional.of(reservation(10, 90)));
+
+        // Act
+        shortLease.tryConsume("ip:10.0.0.4", 1);
+        shortLease.tryConsume("ip:10.0.0.4", 1);
+
+        // Assert
+        verify(tokenReservationPort).release("ip:10.0.0.4", 9, 100, 50.0);
+        verify(tokenReservationPort, times(2)).reserve("ip:10.0.0.4", 10, 100, 50.0);
+    }
+
+    private TokenReservation reservation(long granted, long remaining) {
+        return TokenReservation.builder()
+                .granted(granted)
+                .remaining(remaining)
+                .resetMillis(200)
+                .build();
+    }
+}
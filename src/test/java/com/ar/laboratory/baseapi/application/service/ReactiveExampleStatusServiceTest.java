@@ -0,0 +1,132 @@
+package com.ar.laboratory.baseapi.application.service;
+
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveCachePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveExampleRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveExampleStatusService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveExampleStatusServiceTest {
+
+    @Mock
+    private ReactiveExampleRepositoryPort reactiveExampleRepositoryPort;
+
+    @Mock
+    private ReactiveCachePort<ExampleStatus> reactiveCachePort;
+
+    @InjectMocks
+    private ReactiveExampleStatusService reactiveExampleStatusService;
+
+    private ExampleStatus testStatus1;
+    private ExampleStatus testStatus2;
+
+    @BeforeEach
+    void setUp() {
+        testStatus1 = ExampleStatus.builder()
+                .id("1")
+                .name("Test Service A")
+                .status("RUNNING")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build();
+
+        testStatus2 = ExampleStatus.builder()
+                .id("2")
+                .name("Test Service B")
+                .status("STOPPED")
+                .createdAt(LocalDateTime.now())
+                .active(false)
+                .build();
+    }
+
+    @Test
+    void getExampleStatusById_ShouldReturnCachedValue_WhenPresentInCache() {
+        // Arrange
+        when(reactiveCachePort.get("1")).thenReturn(Mono.just(testStatus1));
+
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getExampleStatusById("1"))
+                .expectNext(testStatus1)
+                .verifyComplete();
+        verifyNoInteractions(reactiveExampleRepositoryPort);
+    }
+
+    @Test
+    void getExampleStatusById_ShouldLoadAndFillCache_WhenNotCached() {
+        // Arrange
+        when(reactiveCachePort.get("1")).thenReturn(Mono.empty());
+        when(reactiveExampleRepositoryPort.findById("1")).thenReturn(Mono.just(testStatus1));
+        when(reactiveCachePort.putIfAbsent("1", testStatus1)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getExampleStatusById("1"))
+                .expectNext(testStatus1)
+                .verifyComplete();
+        verify(reactiveCachePort).putIfAbsent("1", testStatus1);
+    }
+
+    @Test
+    void getExampleStatusById_ShouldFallBackToRepository_WhenCacheFails() {
+        // Arrange
+        when(reactiveCachePort.get("1")).thenReturn(Mono.error(new RedisConnectionFailureException("Redis down")));
+        when(reactiveExampleRepositoryPort.findById("1")).thenReturn(Mono.just(testStatus1));
+        when(reactiveCachePort.putIfAbsent("1", testStatus1))
+                .thenReturn(Mono.error(new RedisConnectionFailureException("Redis down")));
+
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getExampleStatusById("1"))
+                .expectNext(testStatus1)
+                .verifyComplete();
+    }
+
+    @Test
+    void getExampleStatusById_ShouldCompleteEmpty_WhenNotFound() {
+        // Arrange
+        when(reactiveCachePort.get("999")).thenReturn(Mono.empty());
+        when(reactiveExampleRepositoryPort.findById("999")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getExampleStatusById("999"))
+                .verifyComplete();
+        verify(reactiveCachePort, never()).putIfAbsent(any(), any());
+    }
+
+    @Test
+    void getExampleStatusById_ShouldCompleteEmpty_WhenIdIsBlank() {
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getExampleStatusById(" "))
+                .verifyComplete();
+        verifyNoInteractions(reactiveCachePort, reactiveExampleRepositoryPort);
+    }
+
+    @Test
+    void getActiveExampleStatuses_ShouldEmitRepositoryResults() {
+        // Arrange
+        when(reactiveExampleRepositoryPort.findAllActive()).thenReturn(Flux.just(testStatus1));
+        when(reactiveExampleRepositoryPort.findAll()).thenReturn(Flux.just(testStatus1, testStatus2));
+
+        // Act & Assert
+        StepVerifier.create(reactiveExampleStatusService.getActiveExampleStatuses())
+                .expectNext(testStatus1)
+                .verifyComplete();
+        StepVerifier.create(reactiveExampleStatusService.getAllExampleStatuses())
+                .expectNext(testStatus1, testStatus2)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,61 @@
+package com.ar.laboratory.baseapi.config;
+
+import com.ar.laboratory.baseapi.adapters.in.web.dto.ExampleLookupItemResponse;
+import com.ar.laboratory.baseapi.adapters.out.persistence.jpa.entity.ExampleEntity;
+import com.ar.laboratory.baseapi.config.logging.DeduplicatingThrowableConverter;
+import com.ar.laboratory.baseapi.config.logging.RingBufferAppender;
+import com.ar.laboratory.baseapi.domain.model.Example;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the native image hints declared in NativeHintsConfig.
+ */
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.BaseApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldCoverTypesStoredInRedis() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ExampleStatus.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Example.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ArrayList.class).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldCoverEntitiesPayloadsAndLogbackComponents() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ExampleEntity.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ExampleLookupItemResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RingBufferAppender.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DeduplicatingThrowableConverter.class).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldIncludeScriptsAndMigrations() {
+        // Arrange
+        String script = "scripts/token_bucket.lua";
+        String migration = "db/migration/V1__Create_examples_table.sql";
+
+        // Assert - the resources exist and are included in the image
+        assertTrue(new ClassPathResource(script).exists());
+        assertTrue(new ClassPathResource(migration).exists());
+        assertTrue(RuntimeHintsPredicates.resource().forResource(script).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(migration).test(hints));
+    }
+}
@@ -0,0 +1,105 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MonitoredDataSource.
+ */
+class MonitoredDataSourceTest {
+
+    private Connection pooledConnection;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pooledConnection = mock(Connection.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void getConnection_ShouldRecordAcquireAndHoldTimes() throws Exception {
+        // Arrange
+        MonitoredDataSource dataSource = monitored(Duration.ofMinutes(1));
+
+        // Act
+        try (Connection connection = dataSource.getConnection()) {
+            connection.isValid(1);
+        }
+
+        // Assert
+        ConnectionUsageWindow.Snapshot window = dataSource.getUsageWindow().snapshotAndReset();
+        assertEquals(1, window.acquires());
+        assertEquals(1, window.releases());
+        verify(pooledConnection).isValid(1);
+        verify(pooledConnection).close();
+        assertNull(meterRegistry.find("baseapi.datasource.connections.long-held").counter());
+    }
+
+    @Test
+    void close_ShouldCountLongHeldConnections() throws Exception {
+        // Arrange
+        MonitoredDataSource dataSource = monitored(Duration.ZERO);
+
+        // Act
+        dataSource.getConnection().close();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("baseapi.datasource.connections.long-held")
+                .tag("pool", "main").counter().count());
+    }
+
+    @Test
+    void close_ShouldReportUnknownOrigin_WhenOriginCaptureIsOff() throws Exception {
+        // Arrange
+        MonitoredDataSource dataSource = monitored(Duration.ZERO);
+
+        // Act
+        dataSource.getConnection().close();
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("baseapi.datasource.connections.long-held")
+                .tag("origin", "unknown").counter().count());
+    }
+
+    @Test
+    void close_ShouldOnlyRecordFirstClose() throws Exception {
+        // Arrange
+        MonitoredDataSource dataSource = monitored(Duration.ofMinutes(1));
+        Connection connection = dataSource.getConnection();
+
+        // Act
+        connection.close();
+        connection.close();
+
+        // Assert
+        assertEquals(1, dataSource.getUsageWindow().snapshotAndReset().releases());
+    }
+
+    @Test
+    void connectionProxy_ShouldUseIdentityEquality() throws Exception {
+        // Arrange
+        MonitoredDataSource dataSource = monitored(Duration.ofMinutes(1));
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertEquals(connection, connection);
+        assertNotEquals(connection, dataSource.getConnection());
+    }
+
+    private MonitoredDataSource monitored(Duration longHeldThreshold) throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(pooledConnection);
+        return new MonitoredDataSource(target, "main", longHeldThreshold, false, meterRegistry);
+    }
+}
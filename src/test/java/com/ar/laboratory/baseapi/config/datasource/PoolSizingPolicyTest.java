@@ -0,0 +1,82 @@
+package com.ar.laboratory.baseapi.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PoolSizingPolicy.
+ */
+class PoolSizingPolicyTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private PoolSizingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new PoolSizingPolicy(5, 20, 10 * MS, 2.0);
+    }
+
+    @Test
+    void nextSize_ShouldGrow_WhenThreadsWaitAndHoldTimeIsStable() {
+        // Arrange
+        policy.nextSize(10, window(100, 1 * MS, 5 * MS), 10, 0);
+
+        // Act
+        int next = policy.nextSize(10, window(100, 50 * MS, 5 * MS), 10, 4);
+
+        // Assert
+        assertEquals(12, next);
+    }
+
+    @Test
+    void nextSize_ShouldShrink_WhenHoldTimeShowsDatabaseSaturation() {
+        // Arrange
+        policy.nextSize(10, window(100, 1 * MS, 5 * MS), 10, 0);
+
+        // Act - threads are waiting, but every connection is held four times longer
+        int next = policy.nextSize(10, window(100, 50 * MS, 20 * MS), 10, 4);
+
+        // Assert
+        assertEquals(9, next);
+    }
+
+    @Test
+    void nextSize_ShouldShrink_AfterSeveralIdleWindows() {
+        // Arrange
+        int size = 10;
+        for (int i = 1; i < PoolSizingPolicy.IDLE_WINDOWS_BEFORE_SHRINK; i++) {
+            assertEquals(10, policy.nextSize(size, window(10, MS / 10, 5 * MS), 2, 0));
+        }
+
+        // Act
+        int next = policy.nextSize(size, window(10, MS / 10, 5 * MS), 2, 0);
+
+        // Assert
+        assertEquals(9, next);
+    }
+
+    @Test
+    void nextSize_ShouldStayWithinBounds() {
+        // Act
+        int grown = policy.nextSize(20, window(100, 50 * MS, 5 * MS), 20, 10);
+        PoolSizingPolicy idle = new PoolSizingPolicy(5, 20, 10 * MS, 2.0);
+        int shrunk = 5;
+        for (int i = 0; i < PoolSizingPolicy.IDLE_WINDOWS_BEFORE_SHRINK; i++) {
+            shrunk = idle.nextSize(shrunk, window(0, 0, 0), 0, 0);
+        }
+
+        // Assert
+        assertEquals(20, grown);
+        assertEquals(5, shrunk);
+    }
+
+    private ConnectionUsageWindow.Snapshot window(long connections, long meanAcquireNanos, long meanHoldNanos) {
+        return new ConnectionUsageWindow.Snapshot(connections, connections * meanAcquireNanos,
+                connections, connections * meanHoldNanos);
+    }
+}
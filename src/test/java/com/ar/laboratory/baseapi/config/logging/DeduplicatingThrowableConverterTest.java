@@ -0,0 +1,109 @@
+package com.ar.laboratory.baseapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeduplicatingThrowableConverter.
+ */
+class DeduplicatingThrowableConverterTest {
+
+    private LoggerContext loggerContext;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        DeduplicatingThrowableConverter.reset();
+    }
+
+    @Test
+    void convert_ShouldCountEventOnce_WhenSeveralAppendersFormatIt() {
+        // Arrange - one converter per appender, as logback builds them
+        DeduplicatingThrowableConverter console = newConverter(List.of());
+        DeduplicatingThrowableConverter file = newConverter(List.of());
+        ILoggingEvent event = events(1).get(0);
+        long suppressedBefore = DeduplicatingThrowableConverter.suppressedCount();
+
+        // Act
+        String consoleOutput = console.convert(event);
+        String fileOutput = file.convert(event);
+
+        // Assert
+        assertTrue(consoleOutput.contains("\tat "));
+        assertEquals(consoleOutput, fileOutput);
+        assertEquals(suppressedBefore, DeduplicatingThrowableConverter.suppressedCount());
+    }
+
+    @Test
+    void convert_ShouldSuppressRepeatedTrace_WhenFirstSeenByAnotherAppender() {
+        // Arrange
+        DeduplicatingThrowableConverter console = newConverter(List.of());
+        DeduplicatingThrowableConverter file = newConverter(List.of());
+        List<ILoggingEvent> events = events(2);
+        long suppressedBefore = DeduplicatingThrowableConverter.suppressedCount();
+
+        // Act
+        console.convert(events.get(0));
+        String repeated = file.convert(events.get(1));
+        String repeatedOnConsole = console.convert(events.get(1));
+
+        // Assert
+        assertTrue(repeated.contains("suppressed, seen 2 times"));
+        assertFalse(repeated.contains("\tat "));
+        assertEquals(repeated, repeatedOnConsole);
+        assertEquals(suppressedBefore + 1, DeduplicatingThrowableConverter.suppressedCount());
+    }
+
+    @Test
+    void convert_ShouldHonourDepthOption_WhenPrintingInFull() {
+        // Arrange - %dEx{1} prints a single frame
+        DeduplicatingThrowableConverter converter = newConverter(List.of("1"));
+        ILoggingEvent event = events(1).get(0);
+
+        // Act
+        String output = converter.convert(event);
+
+        // Assert
+        assertEquals(1, output.split("\tat ", -1).length - 1);
+    }
+
+    @Test
+    void convert_ShouldReturnEmpty_WhenEventHasNoThrowable() {
+        // Arrange
+        DeduplicatingThrowableConverter converter = newConverter(List.of());
+        ILoggingEvent event = new LoggingEvent(getClass().getName(),
+                loggerContext.getLogger("com.ar.laboratory.Plain"), Level.INFO, "message", null, null);
+
+        // Act
+        String output = converter.convert(event);
+
+        // Assert
+        assertEquals("", output);
+    }
+
+    private List<ILoggingEvent> events(int count) {
+        List<ILoggingEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new LoggingEvent(getClass().getName(), loggerContext.getLogger("com.ar.laboratory.Failing"),
+                    Level.ERROR, "failed", new IllegalStateException("boom " + i), null));
+        }
+        return events;
+    }
+
+    private DeduplicatingThrowableConverter newConverter(List<String> options) {
+        DeduplicatingThrowableConverter converter = new DeduplicatingThrowableConverter();
+        converter.setContext(loggerContext);
+        converter.setOptionList(options);
+        converter.start();
+        return converter;
+    }
+}
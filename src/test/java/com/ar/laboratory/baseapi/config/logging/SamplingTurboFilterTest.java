@@ -0,0 +1,123 @@
+package com.ar.laboratory.baseapi.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SamplingTurboFilter.
+ */
+class SamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger("com.ar.laboratory").setLevel(Level.INFO);
+        filter = newFilter();
+    }
+
+    @Test
+    void decide_ShouldSampleInfoEvents_WhenRateIsExceeded() {
+        // Arrange
+        Logger logger = loggerContext.getLogger("com.ar.laboratory.Sampled");
+        List<FilterReply> replies;
+
+        // Act - retry if the calls straddled a second boundary and reset the window
+        do {
+            long second = System.currentTimeMillis() / 1000;
+            replies = decideTimes(logger, Level.INFO, 8);
+            if (second == System.currentTimeMillis() / 1000) {
+                break;
+            }
+            filter = newFilter();
+        } while (true);
+
+        // Assert - two pass within the limit, then one in three
+        assertEquals(List.of(
+                FilterReply.NEUTRAL, FilterReply.NEUTRAL,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY), replies);
+    }
+
+    @Test
+    void decide_ShouldNeverFilterWarnings() {
+        // Arrange
+        Logger logger = loggerContext.getLogger("com.ar.laboratory.Warnings");
+
+        // Act
+        List<FilterReply> replies = decideTimes(logger, Level.WARN, 10);
+
+        // Assert
+        assertTrue(replies.stream().allMatch(reply -> reply == FilterReply.NEUTRAL));
+    }
+
+    @Test
+    void decide_ShouldIgnoreLoggersOutsidePrefix() {
+        // Arrange
+        Logger logger = loggerContext.getLogger("org.springframework.web");
+        logger.setLevel(Level.INFO);
+
+        // Act
+        List<FilterReply> replies = decideTimes(logger, Level.INFO, 10);
+
+        // Assert
+        assertTrue(replies.stream().allMatch(reply -> reply == FilterReply.NEUTRAL));
+    }
+
+    @Test
+    void decide_ShouldNotCountEventsBelowEffectiveLevel() {
+        // Arrange
+        Logger logger = loggerContext.getLogger("com.ar.laboratory.Debug");
+
+        // Act
+        decideTimes(logger, Level.DEBUG, 10);
+        FilterReply reply = filter.decide(null, logger, Level.INFO, "message", null, null);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, reply);
+    }
+
+    @Test
+    void decide_ShouldNotCountLevelChecks() {
+        // Arrange - isInfoEnabled() asks the filter without a format
+        Logger logger = loggerContext.getLogger("com.ar.laboratory.Guarded");
+
+        // Act
+        List<FilterReply> checks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            checks.add(filter.decide(null, logger, Level.INFO, null, null, null));
+        }
+        FilterReply reply = filter.decide(null, logger, Level.INFO, "message", null, null);
+
+        // Assert
+        assertTrue(checks.stream().allMatch(check -> check == FilterReply.NEUTRAL));
+        assertEquals(FilterReply.NEUTRAL, reply);
+    }
+
+    private List<FilterReply> decideTimes(Logger logger, Level level, int times) {
+        List<FilterReply> replies = new ArrayList<>();
+        for (int i = 0; i < times; i++) {
+            replies.add(filter.decide(null, logger, level, "message", null, null));
+        }
+        return replies;
+    }
+
+    private SamplingTurboFilter newFilter() {
+        SamplingTurboFilter fresh = new SamplingTurboFilter();
+        fresh.setLoggerPrefix("com.ar.laboratory");
+        fresh.setMaxPerSecond(2);
+        fresh.setSampleEvery(3);
+        return fresh;
+    }
+}
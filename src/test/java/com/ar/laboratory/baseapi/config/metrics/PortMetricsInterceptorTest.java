@@ -0,0 +1,230 @@
+package com.ar.laboratory.baseapi.config.metrics;
+
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapper;
+import com.ar.laboratory.baseapi.adapters.in.web.mapper.ExampleStatusMapperImpl;
+import com.ar.laboratory.baseapi.adapters.out.support.PortOutcome;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import com.ar.laboratory.baseapi.domain.ports.out.ReactiveCachePort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PortMetricsInterceptor.
+ */
+class PortMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+    private CachePort<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        @SuppressWarnings("unchecked")
+        CachePort<String> proxy = (CachePort<String>) instrument(new MapCache());
+        cache = proxy;
+    }
+
+    @Test
+    void invoke_ShouldTagLookupsAsHitOrMiss() {
+        // Arrange
+        cache.put("1", "value");
+
+        // Act
+        cache.get("1");
+        cache.get("2");
+        cache.exists("2");
+
+        // Assert
+        assertEquals(1, timer("get", "hit").count());
+        assertEquals(1, timer("get", "miss").count());
+        assertEquals(1, timer("exists", "miss").count());
+        assertEquals(1, timer("put", "success").count());
+    }
+
+    @Test
+    void invoke_ShouldUseOutcomeMarkedByAdapter() {
+        // Act
+        cache.evict("1");
+
+        // Assert
+        assertEquals(1, timer("evict", "fallback").count());
+    }
+
+    @Test
+    void invoke_ShouldTagErrorAndRethrow_WhenAdapterThrows() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cache.clear());
+        assertEquals(1, timer("clear", "error").count());
+    }
+
+    @Test
+    void invoke_ShouldTagEachAdapter_WhenTheyShareAnInheritedMethod() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        CachePort<String> otherCache = (CachePort<String>) instrument(new OtherMapCache());
+
+        // Act
+        cache.getAll(List.of("1"));
+        otherCache.getAll(List.of("1"));
+
+        // Assert
+        assertEquals(1, timer("CachePort", "MapCache", "getAll", "success").count());
+        assertEquals(1, timer("CachePort", "OtherMapCache", "getAll", "success").count());
+    }
+
+    @Test
+    void invoke_ShouldTagGeneratedMappersWithMapperInterface() {
+        // Arrange
+        ExampleStatusMapper mapper = (ExampleStatusMapper) instrument(new ExampleStatusMapperImpl());
+
+        // Act
+        mapper.toResponse(ExampleStatus.builder().id("1").build());
+
+        // Assert
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tag("port", "ExampleStatusMapper")
+                .tag("adapter", "ExampleStatusMapperImpl")
+                .tag("method", "toResponse")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void unobserved_ShouldMapWithoutObservation_WhenOnlyPortMetricsAdvisesTheMapper() {
+        // Arrange
+        ExampleStatusMapper mapper = (ExampleStatusMapper) instrument(new ExampleStatusMapperImpl());
+        ExampleStatusMapper plainMapper = new ExampleStatusMapperImpl();
+
+        // Act
+        ExampleStatusMapper elementMapper = PortMetricsBeanPostProcessor.unobserved(mapper);
+        elementMapper.toResponse(ExampleStatus.builder().id("1").build());
+
+        // Assert
+        assertInstanceOf(ExampleStatusMapperImpl.class, elementMapper);
+        assertNotSame(mapper, elementMapper);
+        assertSame(plainMapper, PortMetricsBeanPostProcessor.unobserved(plainMapper));
+        assertNull(meterRegistry.find(PortMetricsInterceptor.METRIC_NAME).tag("port", "ExampleStatusMapper").timer());
+    }
+
+    @Test
+    void invoke_ShouldTagReactiveLookupsWhenTheyComplete() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        ReactiveCachePort<String> reactiveCache = (ReactiveCachePort<String>) instrument(new ReactiveMapCache());
+        Mono<String> miss = reactiveCache.get("1");
+
+        // Act
+        StepVerifier.create(miss).verifyComplete();
+        StepVerifier.create(reactiveCache.putIfAbsent("1", "value")).expectNext(true).verifyComplete();
+        StepVerifier.create(reactiveCache.get("1")).expectNext("value").verifyComplete();
+
+        // Assert
+        assertEquals(1, timer("ReactiveCachePort", "ReactiveMapCache", "get", "hit").count());
+        assertEquals(1, timer("ReactiveCachePort", "ReactiveMapCache", "get", "miss").count());
+        assertEquals(1, timer("ReactiveCachePort", "ReactiveMapCache", "putIfAbsent", "success").count());
+    }
+
+    @Test
+    void invoke_ShouldNotRecordReactiveCall_UntilSubscribed() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        ReactiveCachePort<String> reactiveCache = (ReactiveCachePort<String>) instrument(new ReactiveMapCache());
+
+        // Act
+        reactiveCache.get("1");
+
+        // Assert
+        assertNull(meterRegistry.find(PortMetricsInterceptor.METRIC_NAME).tag("port", "ReactiveCachePort").timer());
+    }
+
+    private Object instrument(Object target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new PortMetricsPointcut(),
+                new PortMetricsInterceptor(() -> observationRegistry)));
+        return proxyFactory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return timer("CachePort", "MapCache", method, outcome);
+    }
+
+    private Timer timer(String port, String adapter, String method, String outcome) {
+        Timer timer = meterRegistry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tag("port", port)
+                .tag("adapter", adapter)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+        assertNotNull(timer, "No timer for " + method + "/" + outcome);
+        return timer;
+    }
+
+    static class MapCache implements CachePort<String> {
+
+        private final Map<String, String> values = new HashMap<>();
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(values.get(key));
+        }
+
+        @Override
+        public void put(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void evict(String key) {
+            PortOutcome.fallback();
+        }
+
+        @Override
+        public void clear() {
+            throw new IllegalStateException("Cache unavailable");
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return values.containsKey(key);
+        }
+    }
+
+    static class OtherMapCache extends MapCache {
+    }
+
+    static class ReactiveMapCache implements ReactiveCachePort<String> {
+
+        private final Map<String, String> values = new HashMap<>();
+
+        @Override
+        public Mono<String> get(String key) {
+            return Mono.fromSupplier(() -> values.get(key));
+        }
+
+        @Override
+        public Mono<Boolean> putIfAbsent(String key, String value) {
+            return Mono.fromSupplier(() -> values.putIfAbsent(key, value) == null);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ar.laboratory.baseapi.config.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HotspotAggregator.
+ */
+class HotspotAggregatorTest {
+
+    @Test
+    void drainTop_ShouldReturnSitesOrderedByTotalWeight() {
+        // Arrange
+        HotspotAggregator aggregator = new HotspotAggregator(10);
+        aggregator.add("A.small:1", 10);
+        aggregator.add("B.big:2", 60);
+        aggregator.add("B.big:2", 20);
+        aggregator.add("C.medium:3", 10);
+
+        // Act
+        List<Hotspot> top = aggregator.drainTop(2);
+
+        // Assert
+        assertEquals(2, top.size());
+        assertEquals("B.big:2", top.get(0).getSite());
+        assertEquals(2, top.get(0).getEvents());
+        assertEquals(80, top.get(0).getTotal());
+        assertEquals(0.8, top.get(0).getShare(), 0.0001);
+    }
+
+    @Test
+    void drainTop_ShouldStartNewWindow() {
+        // Arrange
+        HotspotAggregator aggregator = new HotspotAggregator(10);
+        aggregator.add("A.method:1", 1);
+        aggregator.drainTop(5);
+
+        // Act
+        List<Hotspot> top = aggregator.drainTop(5);
+
+        // Assert
+        assertTrue(top.isEmpty());
+    }
+
+    @Test
+    void add_ShouldFoldNewSitesIntoOverflow_WhenCapIsReached() {
+        // Arrange
+        HotspotAggregator aggregator = new HotspotAggregator(2);
+        aggregator.add("A.one:1", 1);
+        aggregator.add("B.two:2", 1);
+
+        // Act
+        aggregator.add("C.three:3", 5);
+        aggregator.add("D.four:4", 5);
+        List<Hotspot> top = aggregator.drainTop(10);
+
+        // Assert
+        assertEquals(3, top.size());
+        assertEquals(HotspotAggregator.OVERFLOW_SITE, top.get(0).getSite());
+        assertEquals(10, top.get(0).getTotal());
+    }
+}
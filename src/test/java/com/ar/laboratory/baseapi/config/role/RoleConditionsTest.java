@@ -0,0 +1,127 @@
+package com.ar.laboratory.baseapi.config.role;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the subsystem conditions used by the deployment roles.
+ */
+class RoleConditionsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SubsystemBeans.class);
+
+    @Test
+    void conditions_ShouldWireEverySubsystem_WhenNoRoleIsSet() {
+        // Act & Assert
+        contextRunner.run(context -> {
+            assertThat(context).hasBean("examplesBean");
+            assertThat(context).hasBean("exampleStatusBean");
+            assertThat(context).hasBean("exampleStatusWritesBean");
+        });
+    }
+
+    @Test
+    void conditions_ShouldLeaveOutExamplesAndWrites_ForStatusRole() {
+        // Act & Assert
+        contextRunner
+                .withPropertyValues("app.examples.enabled=false", "app.example-status.writes-enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("examplesBean");
+                    assertThat(context).hasBean("exampleStatusBean");
+                    assertThat(context).doesNotHaveBean("exampleStatusWritesBean");
+                });
+    }
+
+    @Test
+    void conditions_ShouldLeaveOutExampleStatus_ForWriteRole() {
+        // Act & Assert
+        contextRunner
+                .withPropertyValues("app.example-status.enabled=false")
+                .run(context -> {
+                    assertThat(context).hasBean("examplesBean");
+                    assertThat(context).doesNotHaveBean("exampleStatusBean");
+                    assertThat(context).doesNotHaveBean("exampleStatusWritesBean");
+                });
+    }
+
+    @Test
+    void reactiveCondition_ShouldOnlyMatchReactiveWebApplications() {
+        // Act & Assert
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("reactiveExampleStatusBean"));
+        new ReactiveWebApplicationContextRunner()
+                .withUserConfiguration(SubsystemBeans.class)
+                .run(context -> assertThat(context).hasBean("reactiveExampleStatusBean"));
+        new ReactiveWebApplicationContextRunner()
+                .withUserConfiguration(SubsystemBeans.class)
+                .withPropertyValues("app.example-status.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean("reactiveExampleStatusBean"));
+    }
+
+    @Test
+    void postgreSqlCondition_ShouldOnlyMatchPostgreSqlUrls() {
+        // Act & Assert
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean("postgreSqlBean"));
+        contextRunner
+                .withPropertyValues("spring.datasource.url=jdbc:h2:mem:test;MODE=PostgreSQL")
+                .run(context -> assertThat(context).doesNotHaveBean("postgreSqlBean"));
+        contextRunner
+                .withPropertyValues("spring.datasource.url=jdbc:postgresql://localhost:5432/baseapi")
+                .run(context -> assertThat(context).hasBean("postgreSqlBean"));
+    }
+
+    @Test
+    void postgreSqlFeaturesCheck_ShouldFailStartup_WhenAsyncCreateRunsWithoutPostgreSql() {
+        // Act & Assert
+        contextRunner
+                .withBean(PostgreSqlFeaturesCheck.class)
+                .withPropertyValues("app.examples.async-create=true")
+                .run(context -> assertThat(context).hasFailed());
+        contextRunner
+                .withBean(PostgreSqlFeaturesCheck.class)
+                .withPropertyValues("app.examples.async-create=true",
+                        "spring.datasource.url=jdbc:postgresql://localhost:5432/baseapi")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SubsystemBeans {
+
+        @Bean
+        @ConditionalOnExamples
+        String examplesBean() {
+            return "examples";
+        }
+
+        @Bean
+        @ConditionalOnExampleStatus
+        String exampleStatusBean() {
+            return "example-status";
+        }
+
+        @Bean
+        @ConditionalOnExampleStatus
+        @ConditionalOnProperty(name = "app.example-status.writes-enabled", havingValue = "true", matchIfMissing = true)
+        String exampleStatusWritesBean() {
+            return "example-status-writes";
+        }
+
+        @Bean
+        @ConditionalOnReactiveExampleStatus
+        String reactiveExampleStatusBean() {
+            return "reactive-example-status";
+        }
+
+        @Bean
+        @ConditionalOnPostgreSql
+        String postgreSqlBean() {
+            return "postgresql";
+        }
+    }
+}
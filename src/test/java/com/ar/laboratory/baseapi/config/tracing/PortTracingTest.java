@@ -0,0 +1,158 @@
+package com.ar.laboratory.baseapi.config.tracing;
+
+import com.ar.laboratory.baseapi.config.metrics.PortMetricsBeanPostProcessor;
+import com.ar.laboratory.baseapi.domain.model.ExampleStatus;
+import com.ar.laboratory.baseapi.domain.ports.in.ExampleStatusUseCase;
+import com.ar.laboratory.baseapi.domain.ports.out.CachePort;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the span structure produced by the port instrumentation, using an
+ * in-memory exporter instead of a collector.
+ */
+class PortTracingTest {
+
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private ExampleStatusUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), currentTraceContext, event -> { },
+                new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+
+        PortMetricsBeanPostProcessor postProcessor = new PortMetricsBeanPostProcessor(() -> observationRegistry);
+        @SuppressWarnings("unchecked")
+        CachePort<ExampleStatus> cache = (CachePort<ExampleStatus>)
+                postProcessor.postProcessAfterInitialization(new MapCache(), "cache");
+        useCase = (ExampleStatusUseCase) postProcessor.postProcessAfterInitialization(new CachedUseCase(cache), "useCase");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void portCalls_ShouldCreateNestedSpans() {
+        // Act
+        useCase.getExampleStatusById("1");
+
+        // Assert
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        SpanData useCaseSpan = span(spans, "ExampleStatusUseCase.getExampleStatusById");
+        SpanData cacheSpan = span(spans, "CachePort.get");
+        assertEquals(useCaseSpan.getTraceId(), cacheSpan.getTraceId());
+        assertEquals(useCaseSpan.getSpanId(), cacheSpan.getParentSpanId());
+        assertEquals("miss", cacheSpan.getAttributes().get(AttributeKey.stringKey("outcome")));
+    }
+
+    @Test
+    void portCalls_ShouldMarkSpanAsError_WhenAdapterThrows() {
+        // Act
+        assertThrows(IllegalStateException.class, () -> useCase.getAllExampleStatuses());
+
+        // Assert
+        SpanData span = span(spanExporter.getFinishedSpanItems(), "ExampleStatusUseCase.getAllExampleStatuses");
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+        assertEquals("error", span.getAttributes().get(AttributeKey.stringKey("outcome")));
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+
+    static class CachedUseCase implements ExampleStatusUseCase {
+
+        private final CachePort<ExampleStatus> cache;
+
+        CachedUseCase(CachePort<ExampleStatus> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Optional<ExampleStatus> getExampleStatusById(String id) {
+            return cache.get(id);
+        }
+
+        @Override
+        public List<ExampleStatus> getAllExampleStatuses() {
+            throw new IllegalStateException("Repository unavailable");
+        }
+
+        @Override
+        public List<ExampleStatus> getActiveExampleStatuses() {
+            return List.of();
+        }
+
+        @Override
+        public void forEachExampleStatus(Consumer<ExampleStatus> consumer) {
+        }
+
+        @Override
+        public void forEachActiveExampleStatus(Consumer<ExampleStatus> consumer) {
+        }
+    }
+
+    static class MapCache implements CachePort<ExampleStatus> {
+
+        private final Map<String, ExampleStatus> values = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<ExampleStatus> get(String key) {
+            return Optional.ofNullable(values.get(key));
+        }
+
+        @Override
+        public void put(String key, ExampleStatus value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void evict(String key) {
+            values.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+        }
+
+        @Override
+        public boolean exists(String key) {
+            return values.containsKey(key);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ar.laboratory.baseapi.config.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TailSamplingSpanExporter.
+ */
+class TailSamplingSpanExporterTest {
+
+    private InMemorySpanExporter delegate;
+    private TailSamplingSpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        delegate = InMemorySpanExporter.create();
+        exporter = new TailSamplingSpanExporter(delegate, Duration.ofMillis(500), 0.0, 100, Duration.ofSeconds(30));
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void export_ShouldDropFastSuccessfulTraces() {
+        // Act
+        recordTrace(10, false);
+
+        // Assert
+        assertTrue(delegate.getFinishedSpanItems().isEmpty());
+        assertEquals(1, exporter.getDroppedTraceCount());
+        assertEquals(0, exporter.getPendingTraceCount());
+    }
+
+    @Test
+    void export_ShouldKeepWholeTrace_WhenRootIsSlow() {
+        // Act
+        recordTrace(800, false);
+
+        // Assert
+        assertEquals(2, delegate.getFinishedSpanItems().size());
+        assertEquals(1, exporter.getKeptTraceCount());
+    }
+
+    @Test
+    void export_ShouldKeepWholeTrace_WhenAnySpanFailed() {
+        // Act
+        recordTrace(10, true);
+
+        // Assert
+        assertEquals(2, delegate.getFinishedSpanItems().size());
+        assertEquals(1, exporter.getKeptTraceCount());
+    }
+
+    private void recordTrace(long rootMillis, boolean childFails) {
+        long start = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        Span root = tracer.spanBuilder("POST /examples")
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS)
+                .startSpan();
+        Span child = tracer.spanBuilder("CuitServicePort.getCuit")
+                .setParent(Context.current().with(root))
+                .setStartTimestamp(start, TimeUnit.NANOSECONDS)
+                .startSpan();
+        if (childFails) {
+            child.setStatus(StatusCode.ERROR);
+        }
+        child.end(start + TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+        root.end(start + TimeUnit.MILLISECONDS.toNanos(rootMillis), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ar.laboratory.baseapi.domain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DocumentValidator.
+ */
+class DocumentValidatorTest {
+
+    @Test
+    void isValidDni_ShouldAcceptSevenOrEightDigits() {
+        // Act & Assert
+        assertTrue(DocumentValidator.isValidDni("1234567"));
+        assertTrue(DocumentValidator.isValidDni("12345678"));
+        assertTrue(DocumentValidator.isValidDni(new StringBuilder("30123456")));
+    }
+
+    @Test
+    void isValidDni_ShouldRejectOtherLengthsAndNonDigits() {
+        // Act & Assert
+        assertFalse(DocumentValidator.isValidDni(null));
+        assertFalse(DocumentValidator.isValidDni(""));
+        assertFalse(DocumentValidator.isValidDni("123456"));
+        assertFalse(DocumentValidator.isValidDni("123456789"));
+        assertFalse(DocumentValidator.isValidDni("1234567a"));
+        assertFalse(DocumentValidator.isValidDni("12.345.678"));
+        assertFalse(DocumentValidator.isValidDni("1234567\n"));
+        assertFalse(DocumentValidator.isValidDni("１２３４５６７８"));
+    }
+
+    @Test
+    void isValidGenero_ShouldAcceptOnlyHOrM() {
+        // Act & Assert
+        assertTrue(DocumentValidator.isValidGenero("H"));
+        assertTrue(DocumentValidator.isValidGenero("M"));
+        assertFalse(DocumentValidator.isValidGenero("h"));
+        assertFalse(DocumentValidator.isValidGenero("F"));
+        assertFalse(DocumentValidator.isValidGenero("HM"));
+        assertFalse(DocumentValidator.isValidGenero(""));
+        assertFalse(DocumentValidator.isValidGenero(null));
+    }
+
+    @Test
+    void isValidCuit_ShouldAcceptValidCheckDigit_WithOrWithoutDashes() {
+        // Act & Assert
+        assertTrue(DocumentValidator.isValidCuit("20-12345678-6"));
+        assertTrue(DocumentValidator.isValidCuit("20123456786"));
+        assertTrue(DocumentValidator.isValidCuit("27-30123456-8"));
+        assertTrue(DocumentValidator.isValidCuit("30-71234567-1"));
+        assertTrue(DocumentValidator.isValidCuit("20-01234567-5"));
+    }
+
+    @Test
+    void isValidCuit_ShouldAcceptZeroCheckDigit_WhenRemainderIsZero() {
+        // Act & Assert
+        assertTrue(DocumentValidator.isValidCuit("20-10000013-0"));
+        assertFalse(DocumentValidator.isValidCuit("20-10000013-1"));
+    }
+
+    @Test
+    void isValidCuit_ShouldRejectWrongCheckDigit() {
+        // Act & Assert
+        assertFalse(DocumentValidator.isValidCuit("20-12345678-7"));
+        assertFalse(DocumentValidator.isValidCuit("20123456780"));
+    }
+
+    @Test
+    void isValidCuit_ShouldRejectEveryDigit_WhenRemainderGivesTen() {
+        // Act & Assert
+        for (char digit = '0'; digit <= '9'; digit++) {
+            assertFalse(DocumentValidator.isValidCuit("20-10000005-" + digit));
+        }
+    }
+
+    @Test
+    void isValidCuit_ShouldRejectUnknownPrefixAndBadFormat() {
+        // Act & Assert
+        assertFalse(DocumentValidator.isValidCuit("21-12345678-6"));
+        assertFalse(DocumentValidator.isValidCuit("20-1234567-86"));
+        assertFalse(DocumentValidator.isValidCuit("20_12345678_6"));
+        assertFalse(DocumentValidator.isValidCuit("20-12345678-"));
+        assertFalse(DocumentValidator.isValidCuit("2012345678"));
+        assertFalse(DocumentValidator.isValidCuit("20-1234a678-6"));
+        assertFalse(DocumentValidator.isValidCuit(""));
+        assertFalse(DocumentValidator.isValidCuit(null));
+    }
+}